@@ -1,10 +1,46 @@
 plugins {
     id("java")
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.melt"
 version = "1.0-SNAPSHOT"
 
+// 부하 테스트 (src/loadtest) - 서버를 띄워 실제 HTTP로 측정
+val loadtest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadtest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadtest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+// AOT 부트스트랩: 빌드 시점에 컴포넌트 분석 → 직접 호출 코드 생성 (build/generated/sources/aot)
+// 생성된 클래스는 aot 소스셋으로 컴파일해 jar에 함께 넣고, 실행 시점에 있으면 스캔 대신 사용 (끄기: -Dmelt.aot=false)
+val aotSourceDir = layout.buildDirectory.dir("generated/sources/aot/java")
+
+val generateAot by tasks.registering(JavaExec::class) {
+    group = "build"
+    description = "컴포넌트 스캔/Bean 생성/핸들러 등록을 직접 호출하는 부트스트랩 소스 생성 (-PaotBasePackage=com.melt)"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("com.melt.aot.BootstrapGenerator")
+    jvmArgs("-Dfile.encoding=UTF-8")
+    val basePackage = providers.gradleProperty("aotBasePackage").getOrElse("com.melt")
+    inputs.property("basePackage", basePackage)
+    outputs.dir(aotSourceDir)
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(aotSourceDir.get().asFile.absolutePath, basePackage)
+    })
+}
+
+val aot: SourceSet by sourceSets.creating {
+    java.srcDir(generateAot)
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[aot.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+
 repositories {
     mavenCentral()
 }
@@ -15,10 +51,67 @@ dependencies {
 
     implementation("javax.servlet:javax.servlet-api:4.0.1")
 
+    // 컴파일 시점에 META-INF/melt.components 인덱스 생성
+    annotationProcessor(project(":melt-processor"))
+    "loadtestAnnotationProcessor"(project(":melt-processor"))
+
     implementation("org.eclipse.jetty:jetty-server:9.4.53.v20231009")
     implementation("org.eclipse.jetty:jetty-servlet:9.4.53.v20231009")
+    // melt.jetty.h2c=true 일 때 HTTP/2 cleartext
+    implementation("org.eclipse.jetty.http2:http2-server:9.4.53.v20231009")
+
+    // 클래스 타입 지연 로딩 프록시 (인터페이스는 JDK Proxy)
+    implementation("net.bytebuddy:byte-buddy:1.14.18")
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+tasks.jar {
+    from(aot.output)
+}
+
+// 블로킹 핸들러 부하 테스트: ./gradlew loadTest -Pthreads=16 -Pconcurrency=200 -Prequests=1000
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "블로킹 핸들러 처리량을 워커 스레드 / 가상 스레드 / CompletableFuture 실행별로 비교"
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("com.melt.loadtest.BlockingHandlerLoadTest")
+    jvmArgs("-Dfile.encoding=UTF-8")
+    listOf("threads", "concurrency", "requests").forEach { name ->
+        providers.gradleProperty(name).orNull?.let { systemProperty("loadtest.$name", it) }
+    }
+}
+
+// 열린 모델 HTTP 부하 테스트: ./gradlew httpLoadTest -Pscenario=crud -Prate=2000 -Pduration=20 -Pwarmup=5
+// Main과 같은 서버를 루프백에 띄워 일정한 도착률로 요청하고 라우트별 처리량/p50/p99/p99.9를 기록한다
+// (결과: build/results/loadtest/<scenario>.json, 커밋 간 비교용으로 커밋 해시 포함)
+tasks.register<JavaExec>("httpLoadTest") {
+    group = "verification"
+    description = "일정한 도착률로 UserController 요청을 보내 라우트별 지연 시간 백분위수를 측정"
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("com.melt.loadtest.OpenModelLoadTest")
+    jvmArgs("-Dfile.encoding=UTF-8")
+    systemProperty("loadtest.outputDir", layout.buildDirectory.dir("results/loadtest").get().asFile.path)
+    val commit = providers.exec {
+        commandLine("git", "rev-parse", "--short", "HEAD")
+        isIgnoreExitValue = true
+    }.standardOutput.asText.map { it.trim() }
+    // 설정 단계가 아니라 실행할 때만 git을 부른다 (git이 없으면 빈 값)
+    jvmArgumentProviders.add(CommandLineArgumentProvider {
+        listOf("-Dloadtest.commit=" + runCatching { commit.get() }.getOrDefault(""))
+    })
+    listOf("scenario", "rate", "duration", "warmup", "maxInFlight").forEach { name ->
+        providers.gradleProperty(name).orNull?.let { systemProperty("loadtest.$name", it) }
+    }
+}
+
+// 성능 측정: ./gradlew jmh (-PjmhIncludes=HandlerMapping 으로 일부만 실행)
+// 처리량과 함께 gc 프로파일러로 op당 할당량(gc.alloc.rate.norm)을 기록한다 (결과: build/results/jmh/results.json)
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    includes.addAll(providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(emptyList()))
+}
@@ -0,0 +1,119 @@
+package com.melt.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 컴파일 시점에 Component 클래스 목록을 META-INF/melt.components 로 기록하는 어노테이션 프로세서
+ *
+ * @Component 가 직접 붙었거나, @Component 를 메타 어노테이션으로 가진 어노테이션
+ * (@Service, @Repository, 사용자 정의 스테레오타입 등)이 붙은 구체 클래스만 기록한다.
+ * @Controller / @RestController 는 @Component 메타 어노테이션이 없으므로 이름으로 직접 확인한다.
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentIndexProcessor extends AbstractProcessor {
+    static final String INDEX_LOCATION = "META-INF/melt.components";
+
+    private static final String COMPONENT = "com.melt.annotation.Component";
+    private static final Set<String> STEREOTYPES = Set.of(
+            COMPONENT,
+            "com.melt.annotation.Service",
+            "com.melt.annotation.Repository",
+            "com.melt.annotation.Controller",
+            "com.melt.annotation.RestController"
+    );
+
+    private final Set<String> components = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collect(type);
+        }
+        return false;
+    }
+
+    // 중첩 클래스까지 재귀적으로 확인
+    private void collect(TypeElement type) {
+        if (isComponent(type)) {
+            components.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collect(nested);
+        }
+    }
+
+    private boolean isComponent(TypeElement type) {
+        // 어노테이션, 인터페이스, 추상 클래스는 Bean이 될 수 없음
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        // 내부(non-static) 클래스는 기본 생성자로 만들 수 없음
+        if (type.getEnclosingElement().getKind() != ElementKind.PACKAGE
+                && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        return hasStereotype(type, new HashSet<>());
+    }
+
+    private boolean hasStereotype(Element element, Set<String> visited) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            String name = annotationType.getQualifiedName().toString();
+
+            if (STEREOTYPES.contains(name)) {
+                return true;
+            }
+            // java.lang.annotation.* 등 순환 방지
+            if (visited.add(name) && !name.startsWith("java.") && hasStereotype(annotationType, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# melt component index (generated)\n");
+                for (String component : components) {
+                    writer.write(component);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "melt.components 인덱스 생성 실패: " + e.getMessage());
+        }
+    }
+}
@@ -1 +1,3 @@
-rootProject.name = "project-melt"
\ No newline at end of file
+rootProject.name = "project-melt"
+
+include("melt-processor")
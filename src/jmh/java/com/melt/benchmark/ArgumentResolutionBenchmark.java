@@ -0,0 +1,90 @@
+package com.melt.benchmark;
+
+import com.melt.annotation.PostMapping;
+import com.melt.annotation.RequestBody;
+import com.melt.annotation.RestController;
+import com.melt.benchmark.mock.MockHttpServletRequest;
+import com.melt.benchmark.mock.MockHttpServletResponse;
+import com.melt.controller.UserController;
+import com.melt.web.mapping.HandlerMapping;
+import com.melt.web.mapping.RouteMatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HandlerMapping.prepareMethodArguments - 파라미터 종류별 인자 준비 비용
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArgumentResolutionBenchmark {
+    private HandlerMapping handlerMapping;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private Call pathVariable;
+    private Call requestParams;
+    private Call stringBody;
+    private Call jsonBody;
+
+    @Setup
+    public void setUp() {
+        handlerMapping = new HandlerMapping();
+        handlerMapping.scanControllers(List.of(new UserController(), new JsonBodyController()));
+
+        pathVariable = new Call(new MockHttpServletRequest("GET", "/api/users/123"));
+        requestParams = new Call(new MockHttpServletRequest("GET", "/api/users")
+                .parameter("name", "john").parameter("age", "25"));
+        stringBody = new Call(new MockHttpServletRequest("POST", "/api/users")
+                .body("{\"name\":\"John\",\"age\":30}", "application/json"));
+        jsonBody = new Call(new MockHttpServletRequest("POST", "/bench/users")
+                .body("{\"name\":\"John\",\"age\":30}", "application/json"));
+    }
+
+    @Benchmark
+    public Object[] pathVariable() throws Exception {
+        return pathVariable.prepare();
+    }
+
+    @Benchmark
+    public Object[] requestParams() throws Exception {
+        return requestParams.prepare();
+    }
+
+    @Benchmark
+    public Object[] stringBody() throws Exception {
+        return stringBody.prepare();
+    }
+
+    @Benchmark
+    public Object[] jsonBody() throws Exception {
+        return jsonBody.prepare();
+    }
+
+    private final class Call {
+        private final MockHttpServletRequest request;
+        private final RouteMatch match;
+
+        private Call(MockHttpServletRequest request) {
+            this.request = request;
+            this.match = handlerMapping.match(request.getRequestURI(), request.getMethod());
+        }
+
+        private Object[] prepare() throws Exception {
+            request.prepare();
+            return handlerMapping.prepareMethodArguments(match, request, response);
+        }
+    }
+
+    @RestController
+    public static class JsonBodyController {
+        @PostMapping("/bench/users")
+        public UserController.User create(@RequestBody UserController.User user) {
+            return user;
+        }
+    }
+}
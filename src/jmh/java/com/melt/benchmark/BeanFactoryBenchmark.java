@@ -0,0 +1,102 @@
+package com.melt.benchmark;
+
+import com.melt.annotation.Component;
+import com.melt.annotation.Repository;
+import com.melt.annotation.Service;
+import com.melt.context.BeanFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BeanFactory.findBeanByType - 구체 타입 조회와 인터페이스(상위 타입) 조회, 어노테이션 조회
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanFactoryBenchmark {
+    private BeanFactory beanFactory;
+
+    @Setup
+    public void setUp() {
+        beanFactory = new BeanFactory();
+        beanFactory.createAndRegisterBeans(List.of(
+                FillerA.class, FillerB.class, FillerC.class, FillerD.class,
+                FillerE.class, FillerF.class, FillerG.class, FillerH.class,
+                OrderRepository.class, DefaultGreetingService.class));
+    }
+
+    @Benchmark
+    public Object exactType() {
+        return beanFactory.findBeanByType(DefaultGreetingService.class);
+    }
+
+    @Benchmark
+    public Object interfaceType() {
+        return beanFactory.findBeanByType(GreetingService.class);
+    }
+
+    // 없는 타입
+    @Benchmark
+    public Object missingType() {
+        return beanFactory.findBeanByType(Runnable.class);
+    }
+
+    // @Component 메타 어노테이션까지 포함한 조회 (@Service, @Repository 포함)
+    @Benchmark
+    public Object annotatedBeans() {
+        return beanFactory.getBeansWithAnnotation(Component.class);
+    }
+
+    public interface GreetingService {
+        String greet(String name);
+    }
+
+    @Service
+    public static class DefaultGreetingService implements GreetingService {
+        @Override
+        public String greet(String name) {
+            return "hello " + name;
+        }
+    }
+
+    @Repository
+    public static class OrderRepository {
+    }
+
+    @Component
+    public static class FillerA {
+    }
+
+    @Component
+    public static class FillerB {
+    }
+
+    @Component
+    public static class FillerC {
+    }
+
+    @Component
+    public static class FillerD {
+    }
+
+    @Component
+    public static class FillerE {
+    }
+
+    @Component
+    public static class FillerF {
+    }
+
+    @Component
+    public static class FillerG {
+    }
+
+    @Component
+    public static class FillerH {
+    }
+}
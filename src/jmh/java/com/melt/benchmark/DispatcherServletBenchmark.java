@@ -0,0 +1,87 @@
+package com.melt.benchmark;
+
+import com.melt.benchmark.mock.MockHttpServletRequest;
+import com.melt.benchmark.mock.MockHttpServletResponse;
+import com.melt.benchmark.mock.MockServletConfig;
+import com.melt.web.servlet.DispatcherServlet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DispatcherServlet.service 전체 경로 (라우팅 → 인자 준비 → 호출 → 응답 쓰기)
+ * 컨테이너 없이 mock 요청/응답으로 호출하므로 네트워크/Jetty 비용은 빠져 있다.
+ * GET /api/users, /api/users/{id}는 @ResponseCache 핸들러라 첫 호출 이후로는 캐시 적중 경로를 잰다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatcherServletBenchmark {
+    private DispatcherServlet servlet;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private MockHttpServletRequest pathVariable;
+    private MockHttpServletRequest requestParams;
+    private MockHttpServletRequest postBody;
+    private MockHttpServletRequest notFound;
+    private MockHttpServletRequest notModified;
+
+    @Setup
+    public void setUp() throws Exception {
+        servlet = new DispatcherServlet();
+        servlet.init(new MockServletConfig());
+
+        pathVariable = new MockHttpServletRequest("GET", "/api/users/123");
+        requestParams = new MockHttpServletRequest("GET", "/api/users")
+                .parameter("name", "john").parameter("age", "25");
+        postBody = new MockHttpServletRequest("POST", "/api/users")
+                .body("{\"name\":\"John\",\"age\":30}", "application/json");
+        notFound = new MockHttpServletRequest("GET", "/api/unknown");
+
+        // 한 번 호출해서 캐시를 채우고 ETag를 받아 둔다
+        service(pathVariable);
+        notModified = new MockHttpServletRequest("GET", "/api/users/123")
+                .header("If-None-Match", response.getHeader("ETag"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        servlet.destroy();
+    }
+
+    @Benchmark
+    public int pathVariable() throws Exception {
+        return service(pathVariable);
+    }
+
+    @Benchmark
+    public int requestParams() throws Exception {
+        return service(requestParams);
+    }
+
+    @Benchmark
+    public int postBody() throws Exception {
+        return service(postBody);
+    }
+
+    // If-None-Match가 맞는 조건부 GET - 본문 없이 304
+    @Benchmark
+    public int notModified() throws Exception {
+        return service(notModified);
+    }
+
+    @Benchmark
+    public int notFound() throws Exception {
+        return service(notFound);
+    }
+
+    private int service(MockHttpServletRequest request) throws Exception {
+        request.prepare();
+        response.prepare();
+        servlet.service(request, response);
+        return response.getStatus() + response.getContentSize();
+    }
+}
@@ -0,0 +1,64 @@
+package com.melt.benchmark;
+
+import com.melt.controller.UserController;
+import com.melt.web.method.support.HandlerInvoker;
+import com.melt.web.method.support.HandlerInvokers;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 호출 방식 비교: Method.invoke vs 리플렉션 호출기 vs MethodHandle 호출기 vs 생성된 호출기 클래스
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandlerInvokerBenchmark {
+    private UserController controller;
+    private Method method;
+    private HandlerInvoker reflectiveInvoker;
+    private HandlerInvoker methodHandleInvoker;
+    private HandlerInvoker generatedInvoker;
+    private Object[] args;
+
+    @Setup
+    public void setUp() throws Exception {
+        controller = new UserController();
+        method = UserController.class.getMethod("getUserById", Long.class);
+        reflectiveInvoker = HandlerInvokers.reflective(controller, method);
+        methodHandleInvoker = HandlerInvokers.methodHandle(controller, method);
+        generatedInvoker = HandlerInvokers.generated(controller, method);
+        args = new Object[]{123L};
+    }
+
+    // 기존 DispatcherServlet 경로
+    @Benchmark
+    public Object methodInvoke() throws Exception {
+        return method.invoke(controller, args);
+    }
+
+    @Benchmark
+    public Object reflectiveInvoker() throws Exception {
+        return reflectiveInvoker.invoke(args);
+    }
+
+    @Benchmark
+    public Object methodHandleInvoker() throws Exception {
+        return methodHandleInvoker.invoke(args);
+    }
+
+    @Benchmark
+    public Object generatedInvoker() throws Exception {
+        return generatedInvoker.invoke(args);
+    }
+
+    // 기준선: 직접 호출
+    @Benchmark
+    public Object directCall() {
+        return controller.getUserById((Long) args[0]);
+    }
+}
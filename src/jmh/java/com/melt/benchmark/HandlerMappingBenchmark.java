@@ -0,0 +1,83 @@
+package com.melt.benchmark;
+
+import com.melt.annotation.PathVariable;
+import com.melt.web.mapping.HandlerMapping;
+import com.melt.web.mapping.RouteMatch;
+import com.melt.web.method.HandlerMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핸들러 탐색 비용 - 등록된 라우트 수(10/100/1000)와 라우트 종류(고정 경로 / PathVariable)별
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandlerMappingBenchmark {
+    private static final int URL_COUNT = 1024;
+
+    @Param({"10", "100", "1000"})
+    private int routes;
+
+    @Param({"exact", "variable"})
+    private String kind;
+
+    private HandlerMapping handlerMapping;
+    private String[] urls;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        handlerMapping = new HandlerMapping();
+        RouteTarget target = new RouteTarget();
+        boolean variable = "variable".equals(kind);
+        Method method = variable
+                ? RouteTarget.class.getMethod("byId", String.class)
+                : RouteTarget.class.getMethod("list");
+
+        for (int i = 0; i < routes; i++) {
+            String pattern = "/api/resource" + i + "/items" + (variable ? "/{id}" : "");
+            handlerMapping.registerMapping("GET", pattern, target, method);
+        }
+
+        // 등록된 라우트 중 임의로 고른 요청 URL (매 호출 다른 라우트)
+        Random random = new Random(42);
+        urls = new String[URL_COUNT];
+        for (int i = 0; i < URL_COUNT; i++) {
+            int route = random.nextInt(routes);
+            urls[i] = "/api/resource" + route + "/items" + (variable ? "/" + random.nextInt(100_000) : "");
+        }
+    }
+
+    @Benchmark
+    public HandlerMethod getHandler() {
+        return handlerMapping.getHandler(urls[next++ & (URL_COUNT - 1)], "GET");
+    }
+
+    // 핸들러 + PathVariable 값까지
+    @Benchmark
+    public RouteMatch match() {
+        return handlerMapping.match(urls[next++ & (URL_COUNT - 1)], "GET");
+    }
+
+    @Benchmark
+    public HandlerMethod miss() {
+        return handlerMapping.getHandler("/api/unknown/items", "GET");
+    }
+
+    public static class RouteTarget {
+        public String list() {
+            return "[]";
+        }
+
+        public String byId(@PathVariable("id") String id) {
+            return id;
+        }
+    }
+}
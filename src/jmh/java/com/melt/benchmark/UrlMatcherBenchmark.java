@@ -0,0 +1,48 @@
+package com.melt.benchmark;
+
+import com.melt.util.UrlMatcher;
+import com.melt.web.mapping.RouteMatch;
+import com.melt.web.mapping.RouteTrie;
+import com.melt.web.method.HandlerMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정규식 기반 UrlMatcher와 라우트 트라이의 패턴 매칭 비교
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UrlMatcherBenchmark {
+    private static final String PATTERN = "/api/users/{id}/orders/{orderId}";
+    private static final String URL = "/api/users/123/orders/456";
+
+    private RouteTrie trie;
+
+    @Setup
+    public void setUp() throws Exception {
+        trie = new RouteTrie();
+        trie.insert(PATTERN, new HandlerMethod(new Object(), Object.class.getMethod("toString")));
+    }
+
+    @Benchmark
+    public boolean urlMatcherMatches() {
+        return UrlMatcher.matches(PATTERN, URL);
+    }
+
+    @Benchmark
+    public Map<String, String> urlMatcherExtractPathVariables() {
+        return UrlMatcher.extractPathVariables(PATTERN, URL);
+    }
+
+    // 같은 일을 트라이로 (매칭 + 변수 추출)
+    @Benchmark
+    public RouteMatch routeTrieMatch() {
+        return trie.match(URL);
+    }
+}
@@ -0,0 +1,37 @@
+package com.melt.benchmark.mock;
+
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+public class MockServletConfig implements ServletConfig {
+    private final Map<String, String> initParameters = new HashMap<>();
+
+    public MockServletConfig initParameter(String name, String value) {
+        initParameters.put(name, value);
+        return this;
+    }
+
+    @Override
+    public String getServletName() {
+        return "dispatcher";
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return null;
+    }
+
+    @Override
+    public String getInitParameter(String name) {
+        return initParameters.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getInitParameterNames() {
+        return Collections.enumeration(initParameters.keySet());
+    }
+}
@@ -0,0 +1,40 @@
+package com.melt.loadtest;
+
+import com.melt.annotation.GetMapping;
+import com.melt.annotation.RestController;
+import com.melt.annotation.VirtualThread;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트용 - 블로킹 I/O(DB, 외부 API)를 sleep으로 흉내 내는 핸들러
+ */
+@RestController
+public class BlockingController {
+    static final long LATENCY_MILLIS = 100;
+
+    private static final Executor DELAYED = CompletableFuture.delayedExecutor(LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+
+    // Jetty 워커 스레드에서 그대로 블로킹
+    @GetMapping("/loadtest/blocking")
+    public String blocking() throws InterruptedException {
+        Thread.sleep(LATENCY_MILLIS);
+        return "{\"mode\": \"worker\"}";
+    }
+
+    // 가상 스레드에서 블로킹 - 워커 스레드는 바로 반납
+    @VirtualThread
+    @GetMapping("/loadtest/blocking-virtual")
+    public String blockingOnVirtualThread() throws InterruptedException {
+        Thread.sleep(LATENCY_MILLIS);
+        return "{\"mode\": \"virtual\"}";
+    }
+
+    // 블로킹 없이 CompletableFuture로 응답
+    @GetMapping("/loadtest/async")
+    public CompletableFuture<String> async() {
+        return CompletableFuture.supplyAsync(() -> "{\"mode\": \"async\"}", DELAYED);
+    }
+}
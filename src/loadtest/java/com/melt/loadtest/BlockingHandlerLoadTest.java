@@ -0,0 +1,139 @@
+package com.melt.loadtest;
+
+import com.melt.logging.LoggerFactory;
+import com.melt.web.servlet.DispatcherServlet;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 블로킹 핸들러 부하 테스트
+ *
+ * 워커 스레드가 적은 Jetty(기본 16개)를 띄우고 100ms 블로킹 핸들러에 동시 요청을 보내
+ * 워커 스레드에서 실행할 때와 가상 스레드/CompletableFuture로 실행할 때의 처리량을 비교한다.
+ * 워커 스레드에서 블로킹하면 처리량이 (워커 수 / 지연 시간)에 묶이고,
+ * 나머지 두 방식은 그 한계를 넘어야 한다.
+ *
+ * 실행: ./gradlew loadTest  (-Pthreads=16 -Pconcurrency=200 -Prequests=1000)
+ */
+public class BlockingHandlerLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int threads = Integer.getInteger("loadtest.threads", 16);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 200);
+        int requests = Integer.getInteger("loadtest.requests", 1000);
+
+        Server server = startServer(threads);
+        int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+        try {
+            // 워밍업 (JIT, 커넥션)
+            run(client, port, "/loadtest/async", concurrency, concurrency);
+
+            LoggerFactory.flush(); // 서버 로그와 결과 출력이 섞이지 않게
+
+            double ceiling = threads * 1000.0 / BlockingController.LATENCY_MILLIS;
+            System.out.println();
+            System.out.println("=".repeat(70));
+            System.out.printf("Jetty 스레드 %d개, 핸들러 지연 %dms → 워커 블로킹 처리량 상한 ≈ %.0f req/s%n",
+                    threads, BlockingController.LATENCY_MILLIS, ceiling);
+            System.out.printf("동시 요청 %d, 총 요청 %d%n", concurrency, requests);
+            System.out.println("=".repeat(70));
+
+            for (String path : new String[]{"/loadtest/blocking", "/loadtest/blocking-virtual", "/loadtest/async"}) {
+                Result result = run(client, port, path, concurrency, requests);
+                System.out.printf("%-28s %8.0f req/s  (성공 %d, 실패 %d, %.2fs)  상한 대비 x%.1f%n",
+                        path, result.throughput(), result.ok, result.failed, result.seconds,
+                        result.throughput() / ceiling);
+            }
+            System.out.println("=".repeat(70));
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static Server startServer(int threads) throws Exception {
+        QueuedThreadPool threadPool = new QueuedThreadPool(threads, Math.min(8, threads));
+        Server server = new Server(threadPool);
+        ServerConnector connector = new ServerConnector(server, 1, 1);
+        connector.setPort(0);
+        connector.setAcceptQueueSize(1024);
+        server.addConnector(connector);
+
+        ServletContextHandler context = new ServletContextHandler();
+        context.setContextPath("/");
+        ServletHolder holder = new ServletHolder(new DispatcherServlet());
+        holder.setInitOrder(1);
+        holder.setAsyncSupported(true);
+        context.addServlet(holder, "/*");
+        server.setHandler(context);
+        server.start();
+        return server;
+    }
+
+    // 닫힌 모델: 동시에 concurrency개씩 요청을 유지하며 총 requests개 전송
+    private static Result run(HttpClient client, int port, String path, int concurrency, int requests)
+            throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+        AtomicInteger remaining = new AtomicInteger(requests);
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(next(client, request, remaining, ok, failed));
+        }
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(ok.get(), failed.get(), seconds);
+    }
+
+    private static CompletableFuture<Void> next(HttpClient client, HttpRequest request, AtomicInteger remaining,
+                                                AtomicInteger ok, AtomicInteger failed) {
+        if (remaining.getAndDecrement() <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error == null && response.statusCode() == 200) {
+                        ok.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> next(client, request, remaining, ok, failed));
+    }
+
+    private static final class Result {
+        private final int ok;
+        private final int failed;
+        private final double seconds;
+
+        private Result(int ok, int failed, double seconds) {
+            this.ok = ok;
+            this.failed = failed;
+            this.seconds = seconds;
+        }
+
+        private double throughput() {
+            return ok / seconds;
+        }
+    }
+}
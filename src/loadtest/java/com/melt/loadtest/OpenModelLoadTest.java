@@ -0,0 +1,245 @@
+package com.melt.loadtest;
+
+import com.melt.Main;
+import com.melt.config.Environment;
+import com.melt.json.Json;
+import com.melt.logging.LoggerFactory;
+import com.melt.web.metrics.LatencyHistogram;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델(일정한 도착률) HTTP 부하 테스트
+ *
+ * Main과 같은 구성(Main.createServer)으로 Jetty + DispatcherServlet을 루프백 빈 포트에 띄우고
+ * 응답을 기다리지 않고 정해진 간격마다 요청을 보낸다. 지연 시간은 실제로 보낸 시각이 아니라
+ * 보냈어야 할 시각부터 재므로, 서버가 멈춘 동안 밀린 요청의 대기 시간까지 들어간다 (coordinated omission 방지).
+ * 라우트별 처리량과 p50/p90/p99/p99.9를 출력하고 JSON(커밋 간 비교용)으로도 남긴다.
+ *
+ * 실행: ./gradlew httpLoadTest  (-Pscenario=crud -Prate=2000 -Pduration=20 -Pwarmup=5 -PmaxInFlight=10000)
+ * 결과: build/results/loadtest/<scenario>.json
+ */
+public class OpenModelLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Scenario scenario = Scenario.named(System.getProperty("loadtest.scenario", "crud"));
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "2000"));
+        int duration = Integer.getInteger("loadtest.duration", 20);
+        int warmup = Integer.getInteger("loadtest.warmup", 5);
+        int maxInFlight = Integer.getInteger("loadtest.maxInFlight", 10_000);
+        Path output = Path.of(System.getProperty("loadtest.outputDir", "build/results/loadtest"))
+                .resolve(scenario.getName() + ".json");
+
+        // 따로 정하지 않았으면 루프백 빈 포트, 관리용 서블릿 없이
+        setDefault("melt.host", "127.0.0.1");
+        setDefault("melt.port", "0");
+        setDefault("melt.admin.port", "0");
+        Server server = Main.createServer(Environment.getDefault());
+        server.start();
+        int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+        String baseUrl = "http://127.0.0.1:" + port;
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        try {
+            // 워밍업 (JIT, 커넥션) - 결과는 버린다
+            if (warmup > 0) {
+                run(client, baseUrl, scenario, rate, warmup, maxInFlight);
+            }
+            String startedAt = Instant.now().toString();
+            Run result = run(client, baseUrl, scenario, rate, duration, maxInFlight);
+
+            LoggerFactory.flush(); // 서버 로그와 결과 출력이 섞이지 않게
+            Report report = result.report(scenario, System.getProperty("loadtest.commit", ""), startedAt, rate,
+                    duration);
+            print(report);
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            try (OutputStream out = Files.newOutputStream(output)) {
+                Json.write(out, report);
+            }
+            System.out.println("📝 결과: " + output.toAbsolutePath());
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static void setDefault(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    /**
+     * seconds 동안 rate개/초 간격으로 요청을 보내고, 보낸 요청이 모두 끝날 때까지 기다린다
+     * 처리 중인 요청이 maxInFlight개면 그 차례는 보내지 않고 dropped로 센다 (클라이언트 메모리 보호)
+     */
+    private static Run run(HttpClient client, String baseUrl, Scenario scenario, double rate, int seconds,
+                           int maxInFlight) throws InterruptedException {
+        Run run = new Run(scenario);
+        AtomicInteger inFlight = new AtomicInteger();
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) (rate * seconds);
+        long start = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            run.schedulerLag.accumulate(now - intended);
+
+            Scenario.Operation operation = scenario.pick(ThreadLocalRandom.current());
+            RouteStats stats = run.routes.get(operation);
+            if (inFlight.get() >= maxInFlight) {
+                run.dropped.increment();
+                continue;
+            }
+            inFlight.incrementAndGet();
+            run.sent.increment();
+            HttpRequest request = operation.newRequest(baseUrl, ThreadLocalRandom.current());
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        // 보냈어야 할 시각부터 - 밀려서 늦게 보낸 시간도 지연에 포함
+                        long latency = System.nanoTime() - intended;
+                        boolean ok = error == null && response.statusCode() / 100 == 2;
+                        stats.record(latency, ok);
+                        run.total.record(latency, ok);
+                        inFlight.decrementAndGet();
+                    });
+        }
+        run.elapsedNanos = System.nanoTime() - start;
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        if (inFlight.get() > 0) {
+            System.out.println("⚠️ 60초 안에 끝나지 않은 요청 " + inFlight.get() + "개");
+        }
+        return run;
+    }
+
+    private static void print(Report report) {
+        System.out.println();
+        System.out.println("=".repeat(110));
+        System.out.printf("시나리오 %s, 목표 %.0f req/s × %ds → 전송 %d, 버림 %d, 실제 도착률 %.0f req/s, "
+                        + "스케줄 최대 지연 %.2fms%n",
+                report.scenario(), report.targetRate(), report.durationSeconds(), report.sent(), report.dropped(),
+                report.achievedRate(), report.maxSchedulerLagMillis());
+        System.out.println("=".repeat(110));
+        System.out.printf("%-26s %9s %7s %10s %9s %9s %9s %9s %9s %9s%n", "route", "requests", "errors",
+                "req/s", "mean", "p50", "p90", "p99", "p99.9", "max");
+        for (RouteResult route : report.routes()) {
+            printRoute(route);
+        }
+        System.out.println("-".repeat(110));
+        printRoute(report.total());
+        System.out.println("=".repeat(110));
+        System.out.println("(지연 시간 단위 ms, 예정 전송 시각 기준)");
+    }
+
+    private static void printRoute(RouteResult route) {
+        System.out.printf("%-26s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                route.method() + " " + route.route(), route.requests(), route.errors(), route.throughput(),
+                route.meanMillis(), route.p50Millis(), route.p90Millis(), route.p99Millis(), route.p999Millis(),
+                route.maxMillis());
+    }
+
+    private static double millis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // 한 번의 실행(워밍업 또는 측정) 동안 모은 값
+    private static final class Run {
+        private final Map<Scenario.Operation, RouteStats> routes = new LinkedHashMap<>();
+        private final RouteStats total = new RouteStats("ALL", "*");
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAccumulator schedulerLag = new LongAccumulator(Math::max, 0);
+        private long elapsedNanos;
+
+        private Run(Scenario scenario) {
+            for (Scenario.Operation operation : scenario.getOperations()) {
+                routes.put(operation, new RouteStats(operation.getMethod(), operation.getRoute()));
+            }
+        }
+
+        private Report report(Scenario scenario, String commit, String startedAt, double rate, int duration) {
+            double seconds = elapsedNanos / 1e9;
+            List<RouteResult> results = new ArrayList<>();
+            for (RouteStats stats : routes.values()) {
+                results.add(stats.result(seconds));
+            }
+            return new Report(scenario.getName(), commit, startedAt, rate, duration, sent.sum(), dropped.sum(),
+                    sent.sum() / seconds, millis(schedulerLag.get()), Runtime.version().toString(),
+                    Runtime.getRuntime().availableProcessors(), results, total.result(seconds));
+        }
+    }
+
+    // 라우트 하나의 완료 수, 오류 수(2xx가 아니거나 연결 실패), 지연 시간 히스토그램 (/metrics와 같은 히스토그램)
+    private static final class RouteStats {
+        private final String method;
+        private final String route;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private RouteStats(String method, String route) {
+            this.method = method;
+            this.route = route;
+        }
+
+        private void record(long nanos, boolean ok) {
+            latency.record(nanos);
+            requests.increment();
+            if (!ok) {
+                errors.increment();
+            }
+        }
+
+        private RouteResult result(double seconds) {
+            LatencyHistogram.Snapshot snapshot = latency.snapshot();
+            long completed = requests.sum();
+            long failed = errors.sum();
+            return new RouteResult(method, route, completed, failed, (completed - failed) / seconds,
+                    millis(snapshot.getMean()), millis(snapshot.getValueAtQuantile(0.5)),
+                    millis(snapshot.getValueAtQuantile(0.9)), millis(snapshot.getValueAtQuantile(0.99)),
+                    millis(snapshot.getValueAtQuantile(0.999)), millis(snapshot.getMax()));
+        }
+    }
+
+    /**
+     * 결과 파일 (시간 단위는 밀리초, throughput은 성공한 요청/초)
+     */
+    public record Report(String scenario, String commit, String startedAt, double targetRate, int durationSeconds,
+                         long sent, long dropped, double achievedRate, double maxSchedulerLagMillis,
+                         String javaVersion, int cpus, List<RouteResult> routes, RouteResult total) {
+    }
+
+    public record RouteResult(String method, String route, long requests, long errors, double throughput,
+                              double meanMillis, double p50Millis, double p90Millis, double p99Millis,
+                              double p999Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.melt.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트 요청 구성 - 라우트별 가중치대로 섞어서 보낸다
+ *
+ *   crud   UserController 조회/생성/수정/삭제 (조회 70%)
+ *   reads  UserController 조회만
+ */
+final class Scenario {
+    // {id}에 넣을 사용자 번호 범위 (응답 캐시 maxEntries보다 작게)
+    private static final int ID_RANGE = 1_000;
+
+    private final String name;
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    private Scenario(String name, List<Operation> operations) {
+        this.name = name;
+        this.operations = operations;
+        int total = 0;
+        for (Operation operation : operations) {
+            total += operation.weight;
+        }
+        this.totalWeight = total;
+    }
+
+    static Scenario named(String name) {
+        switch (name) {
+            case "crud":
+                return new Scenario(name, List.of(
+                        new Operation("GET", "/api/users/{id}", 50),
+                        new Operation("GET", "/api/users", 20),
+                        new Operation("POST", "/api/users", 10),
+                        new Operation("PUT", "/api/users/{id}", 8),
+                        new Operation("PATCH", "/api/users/{id}", 7),
+                        new Operation("DELETE", "/api/users/{id}", 5)));
+            case "reads":
+                return new Scenario(name, List.of(
+                        new Operation("GET", "/api/users/{id}", 80),
+                        new Operation("GET", "/api/users", 20)));
+            default:
+                throw new IllegalArgumentException("알 수 없는 시나리오: " + name + " (crud, reads)");
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    List<Operation> getOperations() {
+        return operations;
+    }
+
+    Operation pick(ThreadLocalRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            value -= operation.weight;
+            if (value < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    /**
+     * 라우트 하나 - 결과는 요청 URL이 아니라 이 라우트(패턴) 단위로 모은다
+     */
+    static final class Operation {
+        private final String method;
+        private final String route;
+        private final int weight;
+
+        private Operation(String method, String route, int weight) {
+            this.method = method;
+            this.route = route;
+            this.weight = weight;
+        }
+
+        String getMethod() {
+            return method;
+        }
+
+        String getRoute() {
+            return route;
+        }
+
+        HttpRequest newRequest(String baseUrl, ThreadLocalRandom random) {
+            int id = random.nextInt(1, ID_RANGE + 1);
+            URI uri = URI.create(baseUrl + route.replace("{id}", String.valueOf(id)));
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30));
+            if (method.equals("POST") || method.equals("PUT") || method.equals("PATCH")) {
+                String body = "{\"name\": \"user-" + id + "\", \"age\": " + random.nextInt(18, 80) + "}";
+                builder.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofString(body));
+            } else {
+                builder.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+            return builder.build();
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + route;
+        }
+    }
+}
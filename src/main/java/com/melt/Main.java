@@ -1,46 +1,195 @@
 package com.melt;
 
+import com.melt.config.Environment;
+import com.melt.context.ApplicationContext;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import com.melt.util.VirtualThreads;
+import com.melt.web.context.WebApplicationContext;
 import com.melt.web.servlet.DispatcherServlet;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 
+/**
+ * Jetty 서버 실행
+ *
+ * 모든 값은 application.properties → 환경 변수 → -D 시스템 프로퍼티 순으로 덮어쓴다 (Environment).
+ *   melt.port                      포트 (기본 8080)
+ *   melt.host                      바인드할 주소 (기본: 모든 인터페이스)
+ *   melt.threads.max / min         워커 스레드 수 (기본 200 / 8)
+ *   melt.threads.idle-timeout      남는 워커 스레드를 정리할 때까지 (ms, 기본 60000)
+ *   melt.jetty.virtual-threads     워커 스레드를 가상 스레드로 (기본 false)
+ *   melt.jetty.acceptors           accept 스레드 수 (-1이면 Jetty가 CPU 수로 결정)
+ *   melt.jetty.selectors           selector 스레드 수 (-1이면 Jetty가 결정)
+ *   melt.jetty.accept-queue        listen backlog (0이면 OS 기본값)
+ *   melt.jetty.idle-timeout        연결 유휴 타임아웃 (ms, 기본 30000)
+ *   melt.jetty.output-buffer-size  응답 출력 버퍼 (바이트, 기본 32768)
+ *   melt.jetty.h2c                 HTTP/2 cleartext(h2c) 함께 사용 (기본 false)
+ *   melt.sessions                  HttpSession 사용 (기본 false - 세션을 쓰는 코드가 없음)
+ *   melt.admin.port                관리용 커넥터 포트 (0이면 없음) - 같은 루트 컨텍스트를 쓰는 서블릿을 하나 더 띄운다
+ *   melt.admin.controller-package  관리용 서블릿의 컨트롤러 패키지 (기본 <base package>.admin, 공개 포트에서는 빠짐)
+ * DispatcherServlet init-param으로 넘기는 값은 SERVLET_PARAMETERS 참고
+ */
 public class Main {
-    public static void main(String[] args) {
-        // Jetty 서버 생성
-        Server server = new Server(8080);
+    private static final Logger log = LoggerFactory.getLogger(Main.class);
 
-        // ServletContext 설정
-        ServletContextHandler context = new ServletContextHandler(ServletContextHandler.SESSIONS);
-        context.setContextPath("/");
+    // init-param 이름 → 설정 키 (설정이 있을 때만 넘기고, 없으면 DispatcherServlet 기본값)
+    private static final String[][] SERVLET_PARAMETERS = {
+            {"virtualThreads", "melt.virtual-threads"},
+            {"handlerThreads", "melt.handler.threads"},
+            {"handlerQueueSize", "melt.handler.queue-size"},
+            {"maxRequestBodySize", "melt.servlet.max-request-body-size"},
+            {"asyncTimeout", "melt.servlet.async-timeout"},
+            {"compression", "melt.compression"},
+            {"compressionMinSize", "melt.compression.min-size"},
+            {"compressionLevel", "melt.compression.level"},
+            {"compressionCacheVariants", "melt.compression.cache-variants"},
+            {"staticLocations", "melt.static.locations"},
+            {"staticPathPrefix", "melt.static.path-prefix"},
+            {"staticHotFileMaxSize", "melt.static.hot-file-max-size"},
+            {"staticCacheMaxBytes", "melt.static.cache-max-bytes"},
+            {"batchPath", "melt.batch.path"},
+            {"batchMaxRequests", "melt.batch.max-requests"},
+            {"batchMaxConcurrency", "melt.batch.max-concurrency"},
+            {"batchThreads", "melt.batch.threads"},
+    };
 
-        //DispatcherServlet 등록
-        ServletHolder servletHolder = new ServletHolder(new DispatcherServlet());
-        servletHolder.setInitOrder(1);
-        context.addServlet(servletHolder, "/*");
-        server.setHandler(context);
+    public static void main(String[] args) {
+        Environment environment = Environment.getDefault();
+        Server server = createServer(environment);
+        ServerConnector connector = (ServerConnector) server.getConnectors()[0];
 
         try {
-            System.out.println("=".repeat(50));
-            System.out.println("🚀 DispatcherServlet 서버 시작! (Jetty)");
-            System.out.println("=".repeat(50));
-            System.out.println("📍 REST API 테스트 URL:");
-            System.out.println("   GET  http://localhost:8080/api/users");
-            System.out.println("   GET  http://localhost:8080/api/users/123");
-            System.out.println("   POST http://localhost:8080/api/users");
-            System.out.println("   PUT  http://localhost:8080/api/users/123");
-            System.out.println("   DELETE http://localhost:8080/api/users/123");
-            System.out.println("=".repeat(50));
-            System.out.println("⏹️  서버 중지: Ctrl+C");
-            System.out.println("=".repeat(50));
+            String base = "http://localhost:" + connector.getPort();
+            log.info(String.join(System.lineSeparator(),
+                    "🚀 DispatcherServlet 서버 시작! (Jetty)",
+                    "📍 REST API 테스트 URL:",
+                    "   GET  " + base + "/api/users",
+                    "   GET  " + base + "/api/users/123",
+                    "   POST " + base + "/api/users",
+                    "   PUT  " + base + "/api/users/123",
+                    "   DELETE " + base + "/api/users/123",
+                    "⏹️  서버 중지: Ctrl+C"));
 
             server.start();
             server.join();
 
         } catch (Exception e) {
-            System.err.println("❌ 서버 시작 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ 서버 시작 실패: " + e.getMessage(), e);
+        }
+
+    }
+
+    /**
+     * 설정대로 구성한 서버 (시작 전) - 첫 번째 커넥터가 공개 포트
+     * 부하 테스트도 이걸로 같은 서버를 띄운다 (melt.port=0이면 빈 포트, 시작 후 getLocalPort)
+     */
+    public static Server createServer(Environment environment) {
+        // 서비스/리포지토리 Bean 그래프는 한 번만 만들고 서블릿들이 같이 쓴다
+        ApplicationContext rootContext = WebApplicationContext.createRootContext(environment);
+        String basePackage = environment.getProperty(WebApplicationContext.BASE_PACKAGE_PROPERTY,
+                WebApplicationContext.DEFAULT_BASE_PACKAGE);
+        int adminPort = environment.getInt("melt.admin.port", 0);
+        String adminPackage = environment.getProperty("melt.admin.controller-package", basePackage + ".admin");
+
+        // Jetty 서버 생성
+        Server server = new Server(createThreadPool(environment));
+        ServerConnector connector = createConnector(server, environment, environment.getInt("melt.port", 8080),
+                "public");
+        server.addConnector(connector);
+
+        //DispatcherServlet 등록 (관리용 서블릿이 있으면 그쪽 컨트롤러 패키지는 뺀다)
+        ServletHolder servletHolder = createServletHolder(rootContext, environment);
+        if (adminPort > 0) {
+            servletHolder.setInitParameter("excludedControllerPackages", adminPackage);
+        }
+        ServletContextHandler context = createContext(environment, servletHolder, connector);
+
+        ContextHandlerCollection contexts = new ContextHandlerCollection();
+        contexts.addHandler(context);
+        if (adminPort > 0) {
+            ServerConnector adminConnector = createConnector(server, environment, adminPort, "admin");
+            server.addConnector(adminConnector);
+            ServletHolder adminHolder = createServletHolder(rootContext, environment);
+            adminHolder.setInitParameter("controllerPackage", adminPackage);
+            adminHolder.setInitParameter("staticLocations", "");
+            contexts.addHandler(createContext(environment, adminHolder, adminConnector));
+            log.info("🛠️ 관리용 서블릿: 포트 " + adminPort + ", 컨트롤러 " + adminPackage);
+        }
+        server.setHandler(contexts);
+        return server;
+    }
+
+    private static ServletHolder createServletHolder(ApplicationContext rootContext, Environment environment) {
+        ServletHolder servletHolder = new ServletHolder(new DispatcherServlet(rootContext));
+        servletHolder.setInitOrder(1);
+        servletHolder.setAsyncSupported(true); // 요청 본문 논블로킹 읽기(ReadListener), CompletableFuture 반환에 필요
+        for (String[] parameter : SERVLET_PARAMETERS) {
+            String value = environment.getProperty(parameter[1]);
+            if (value != null) {
+                servletHolder.setInitParameter(parameter[0], value);
+            }
+        }
+        return servletHolder;
+    }
+
+    // 커넥터 하나에만 묶인 ServletContext ("@커넥터 이름" 가상 호스트)
+    private static ServletContextHandler createContext(Environment environment, ServletHolder servletHolder,
+                                                       ServerConnector connector) {
+        boolean sessions = environment.getBoolean("melt.sessions", false);
+        ServletContextHandler context = new ServletContextHandler(
+                sessions ? ServletContextHandler.SESSIONS : ServletContextHandler.NO_SESSIONS);
+        context.setContextPath("/");
+        context.setVirtualHosts(new String[]{"@" + connector.getName()});
+        context.addServlet(servletHolder, "/*");
+        return context;
+    }
+
+    // Jetty 워커 스레드 풀 (melt.jetty.virtual-threads=true 이면 가상 스레드로 생성)
+    // Jetty 9.4는 가상 스레드 전용 실행기가 없어 ThreadFactory로 풀 스레드 자체를 가상 스레드로 만든다
+    private static QueuedThreadPool createThreadPool(Environment environment) {
+        int maxThreads = environment.getInt("melt.threads.max", 200);
+        int minThreads = Math.min(environment.getInt("melt.threads.min", 8), maxThreads);
+        int idleTimeout = environment.getInt("melt.threads.idle-timeout", 60_000);
+        if (environment.getBoolean("melt.jetty.virtual-threads", false)) {
+            if (!VirtualThreads.isSupported()) {
+                log.warn("⚠️ 이 JVM은 가상 스레드를 지원하지 않아 플랫폼 스레드를 사용합니다");
+            }
+            return new QueuedThreadPool(maxThreads, minThreads, idleTimeout, -1, null, null,
+                    VirtualThreads.threadFactory("melt-jetty-"));
         }
+        return new QueuedThreadPool(maxThreads, minThreads, idleTimeout);
+    }
+
+    // HTTP/1.1 커넥터 (melt.jetty.h2c=true면 같은 포트에서 h2c 업그레이드/prior knowledge도 받음)
+    private static ServerConnector createConnector(Server server, Environment environment, int port, String name) {
+        HttpConfiguration httpConfig = new HttpConfiguration();
+        httpConfig.setOutputBufferSize(environment.getInt("melt.jetty.output-buffer-size", 32 * 1024));
+        httpConfig.setSendServerVersion(false);
 
+        int acceptors = environment.getInt("melt.jetty.acceptors", -1);
+        int selectors = environment.getInt("melt.jetty.selectors", -1);
+        ConnectionFactory[] factories = environment.getBoolean("melt.jetty.h2c", false)
+                ? new ConnectionFactory[]{new HttpConnectionFactory(httpConfig), new HTTP2CServerConnectionFactory(httpConfig)}
+                : new ConnectionFactory[]{new HttpConnectionFactory(httpConfig)};
+        ServerConnector connector = new ServerConnector(server, acceptors, selectors, factories);
+        connector.setName(name);
+        String host = environment.getProperty("melt.host");
+        connector.setHost(host == null || host.isBlank() ? null : host.trim()); // 없으면 모든 인터페이스
+        connector.setPort(port);
+        connector.setAcceptQueueSize(environment.getInt("melt.jetty.accept-queue", 0));
+        connector.setIdleTimeout(environment.getLong("melt.jetty.idle-timeout", 30_000));
+        log.info("🔌 커넥터(" + name + "): 포트 " + connector.getPort() + ", acceptor " + connector.getAcceptors()
+                + ", selector " + connector.getSelectorManager().getSelectorCount()
+                + (factories.length > 1 ? ", HTTP/1.1 + h2c" : ", HTTP/1.1"));
+        return connector;
     }
-}
\ No newline at end of file
+}
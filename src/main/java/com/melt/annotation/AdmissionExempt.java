@@ -0,0 +1,12 @@
+package com.melt.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 유입 제한(melt.admission.default.* 포함)을 적용하지 않는 핸들러 - 헬스 체크, 지표처럼
+ * 사용자 라우트가 요청을 거절하고 있을 때도 항상 응답해야 하는 곳
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissionExempt {
+}
@@ -0,0 +1,19 @@
+package com.melt.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 메서드가 정상적으로 끝나면 캐시 항목을 지움 (키: 메서드 인자들, @Cacheable과 같은 규칙)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheEvict {
+    // 지울 캐시 이름
+    String value();
+
+    // true면 인자와 상관없이 캐시 전체를 비움
+    boolean allEntries() default false;
+
+    // true면 메서드 실행 전에 지움 (메서드가 예외를 던져도 지워짐)
+    boolean beforeInvocation() default false;
+}
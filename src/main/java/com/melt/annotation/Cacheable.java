@@ -0,0 +1,29 @@
+package com.melt.annotation;
+
+import com.melt.cache.EvictionPolicy;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메서드 결과를 캐시 (키: 메서드 인자들)
+ *
+ * Bean을 만들 때 이 메서드만 오버라이드한 하위 클래스로 생성하므로,
+ * 같은 인자로 다시 호출하면 원래 메서드를 실행하지 않고 저장된 결과를 돌려준다.
+ * 같은 Bean 안에서 this로 부르는 호출도 캐시를 거친다. (private/final/static 메서드는 적용 불가)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cacheable {
+    // 캐시 이름 (비어 있으면 "클래스명.메서드명") - 같은 이름이면 처음 선언한 설정을 쓴다
+    String value() default "";
+
+    // 저장 후 유효 시간 (0이면 만료 없음)
+    long ttl() default 0;
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    int maxEntries() default 1000;
+
+    EvictionPolicy eviction() default EvictionPolicy.SEGMENTED_LRU;
+}
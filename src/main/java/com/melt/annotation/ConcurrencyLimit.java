@@ -0,0 +1,27 @@
+package com.melt.annotation;
+
+import com.melt.web.admission.LimitAlgorithm;
+
+import java.lang.annotation.*;
+
+/**
+ * 핸들러의 동시 처리 요청 수 제한 - 넘치면 핸들러를 실행하지 않고 바로 503 + Retry-After
+ * (컨트롤러 클래스에 붙이면 모든 핸들러에 각각 적용, 설정 melt.admission.HTTP메소드.라우트.*가 있으면 설정이 우선)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimit {
+    // 동시 처리 요청 수 (적응형이면 시작 값)
+    int value();
+
+    // FIXED: 고정, AIMD/GRADIENT: 관측한 지연 시간에 따라 한도를 조절
+    LimitAlgorithm algorithm() default LimitAlgorithm.FIXED;
+
+    // 적응형 한도의 하한 / 상한 (0이면 value의 4배)
+    int minLimit() default 1;
+
+    int maxLimit() default 0;
+
+    // AIMD: 이 지연 시간을 넘으면 한도를 줄임 (0이면 관측한 최소 지연의 2배)
+    long targetLatencyMillis() default 0;
+}
@@ -0,0 +1,16 @@
+package com.melt.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Bean을 시작 시점이 아니라 처음 쓰일 때 생성
+ * (getBean으로 처음 조회하거나, 주입된 지연 프록시의 메서드를 처음 호출할 때)
+ *
+ * -Dmelt.beans.lazy=true 로 컨트롤러를 제외한 모든 Bean을 지연 생성할 수 있고,
+ * 그 모드에서 특정 Bean만 바로 만들려면 @Lazy(false)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Lazy {
+    boolean value() default true;
+}
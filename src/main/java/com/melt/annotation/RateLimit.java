@@ -0,0 +1,17 @@
+package com.melt.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 핸들러의 초당 요청 수 제한 (토큰 버킷) - 넘치면 핸들러를 실행하지 않고 바로 429 + Retry-After
+ * (컨트롤러 클래스에 붙이면 모든 핸들러에 각각 적용, 설정 melt.admission.HTTP메소드.라우트.*가 있으면 설정이 우선)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+    // 초당 허용 요청 수
+    double value();
+
+    // 한꺼번에 몰려도 받아 줄 요청 수 (0이면 초당 요청 수만큼)
+    int burst() default 0;
+}
@@ -5,6 +5,11 @@ import java.lang.annotation.*;
 @Target(ElementType.PARAMETER)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface RequestParam {
+    // defaultValue를 지정하지 않았다는 표시 (빈 문자열도 기본값이 될 수 있어서 따로 둠)
+    String NO_DEFAULT = "\u0000melt.no-default\u0000";
+
     String value();
     boolean required() default true;
-}
\ No newline at end of file
+    // 파라미터가 없거나 빈 값일 때 쓸 값 (지정하면 required는 무시)
+    String defaultValue() default NO_DEFAULT;
+}
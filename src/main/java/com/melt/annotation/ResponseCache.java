@@ -0,0 +1,31 @@
+package com.melt.annotation;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET 핸들러의 응답을 캐시 (키: 라우트 + PathVariable 값 + 선택한 쿼리 파라미터)
+ *
+ * 캐시에 있으면 핸들러를 실행하지 않고 저장된 바이트를 그대로 쓰고,
+ * 요청의 If-None-Match가 ETag와 같으면 본문 없이 304로 응답한다.
+ *
+ * 같은 경로(접두사 관계, 예: PUT /api/users/{id} → GET /api/users, GET /api/users/{id})의 POST/PUT/PATCH/DELETE
+ * 핸들러가 이 서버에서 실행되면 캐시를 비운다. 그 밖의 경로로 데이터가 바뀌면(다른 서버, 배치 작업 등)
+ * ttl 동안 이전 응답이 나갈 수 있으므로 ttl은 그만큼 오래된 값을 보여도 되는 시간으로 정한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ResponseCache {
+    // 저장 후 유효 시간
+    long ttl() default 60;
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    int maxEntries() default 1000;
+
+    // 저장된 응답 본문 바이트 합계 상한 (미리 압축해 둔 본문 포함)
+    long maxBytes() default 16 * 1024 * 1024;
+
+    // 키에 넣을 쿼리 파라미터 (비어 있으면 핸들러의 @RequestParam 이름 전부)
+    String[] queryParams() default {};
+}
@@ -0,0 +1,14 @@
+package com.melt.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 설정 값 주입 - "${키}" 또는 "${키:기본값}" (application.properties, 환경 변수, -D 시스템 프로퍼티)
+ *
+ * 필드와 생성자 파라미터에 쓸 수 있고, Bean을 만들 때 한 번만 읽어 넣는다.
+ */
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Value {
+    String value();
+}
@@ -0,0 +1,12 @@
+package com.melt.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 핸들러를 Jetty 워커 스레드 대신 요청당 가상 스레드에서 실행
+ * (컨트롤러 클래스에 붙이면 모든 핸들러에 적용)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VirtualThread {
+}
@@ -0,0 +1,52 @@
+package com.melt.aot;
+
+import com.melt.context.ApplicationContext;
+import com.melt.context.BeanFactory;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import com.melt.web.mapping.HandlerMapping;
+
+import java.util.function.Predicate;
+
+/**
+ * 빌드 시점에 생성한 부트스트랩 (./gradlew generateAot → GeneratedBootstrap)
+ *
+ * 컴포넌트 스캔, 생성자 선택, 어노테이션 해석을 빌드할 때 미리 해 두고
+ * 실행 시점에는 생성된 코드가 new로 Bean을 만들고 컨트롤러 메소드를 직접 부르는 호출기로 핸들러를 등록한다.
+ */
+public interface AotBootstrap {
+    String CLASS_NAME = "com.melt.aot.GeneratedBootstrap";
+
+    // 생성할 때 스캔한 패키지 (실행 시점 melt.base-package와 다르면 쓰지 않는다)
+    String basePackage();
+
+    /**
+     * filter를 통과한 Bean 생성 + 등록 + 필드 주입 (지연 Bean은 자리 표시자만)
+     * 걸러진 Bean에 대한 의존성은 beanFactory(와 그 부모)에서 찾는다.
+     */
+    void registerBeans(BeanFactory beanFactory, Predicate<Class<?>> filter);
+
+    /**
+     * 컨트롤러 핸들러 등록 - registerBeans 이후 호출 (applicationContext에 없는 컨트롤러는 건너뜀)
+     */
+    void registerHandlers(HandlerMapping handlerMapping, ApplicationContext applicationContext);
+
+    /**
+     * 클래스패스에 생성된 부트스트랩이 있으면 그 인스턴스, 없으면 null
+     */
+    static AotBootstrap load(ClassLoader classLoader) {
+        Class<?> type;
+        try {
+            type = Class.forName(CLASS_NAME, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        try {
+            return (AotBootstrap) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            Logger log = LoggerFactory.getLogger(AotBootstrap.class);
+            log.warn("⚠️ AOT 부트스트랩을 만들 수 없어 스캔으로 초기화합니다: " + e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.melt.aot;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * 생성된 부트스트랩이 직접 접근할 수 없는 멤버(private 필드, 공개되지 않은 생성자)를 다룰 때 쓰는 도우미
+ *
+ * 스캔이나 어노테이션 해석 없이 이름으로 바로 찾는다 (privateLookupIn + VarHandle/MethodHandle, setAccessible 없음).
+ */
+public final class AotSupport {
+    private AotSupport() {
+    }
+
+    /**
+     * 필드에 값 넣기 (@Autowired / @Value 필드 - 대부분 private)
+     */
+    public static void inject(Object bean, Class<?> owner, String field, Class<?> type, Object value) {
+        try {
+            MethodHandles.privateLookupIn(owner, MethodHandles.lookup())
+                    .findVarHandle(owner, field, type)
+                    .set(bean, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(owner.getName() + "." + field + " 주입 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 공개되지 않은 생성자로 생성
+     */
+    public static Object instantiate(Class<?> type, Class<?>[] parameterTypes, Object... args) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                    .findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                    .invokeWithArguments(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(type.getName() + " 생성 실패: " + e, e);
+        }
+    }
+
+    /**
+     * 핸들러 메소드 (인자 리졸버가 파라미터 어노테이션을 읽는 데 필요)
+     */
+    public static Method method(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getDeclaredMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("생성된 부트스트랩과 클래스가 맞지 않습니다 (다시 생성하세요): "
+                    + type.getName() + "." + name, e);
+        }
+    }
+
+    /**
+     * 검사 예외를 감싸지 않고 그대로 다시 던진다 (생성된 캐시 하위 클래스 - 원래 메서드가 던진 예외를 그대로 전달)
+     */
+    public static RuntimeException rethrow(Throwable t) {
+        throw AotSupport.<RuntimeException>sneakyThrow(t);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T sneakyThrow(Throwable t) throws T {
+        throw (T) t;
+    }
+
+    /**
+     * 생성된 코드에서 이름으로 쓸 수 없는(공개되지 않은) 클래스
+     */
+    public static Class<?> type(String className) {
+        try {
+            return Class.forName(className, false, AotSupport.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("생성된 부트스트랩과 클래스가 맞지 않습니다 (다시 생성하세요): " + className, e);
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package com.melt.aot;
+
+import com.melt.annotation.Controller;
+import com.melt.annotation.RestController;
+import com.melt.cache.CachingSubclasses;
+import com.melt.config.Environment;
+import com.melt.context.ApplicationContext;
+import com.melt.context.BeanDefinitions;
+import com.melt.context.BeanDefinitions.Definition;
+import com.melt.context.BeanDefinitions.Dependency;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import com.melt.web.context.WebApplicationContext;
+import com.melt.web.mapping.HandlerMapping;
+
+import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * AOT 부트스트랩 소스 생성기 - 빌드 시점에 실행 (./gradlew generateAot)
+ *
+ *   java com.melt.aot.BootstrapGenerator <출력 디렉토리> [base package]
+ *
+ * 실행 시점과 같은 방법으로 컴포넌트를 찾고(BeanDefinitions) 다음 소스를 만든다.
+ *   GeneratedBootstrap                   생성 순서대로 new, 필드 주입, 컨트롤러 메소드를 직접 부르는 핸들러 등록
+ *   <Bean>$MeltProxy$Aot (Bean 패키지)   @Cacheable/@CacheEvict 메서드만 오버라이드한 하위 클래스 (실행 시점 ByteBuddy 대신)
+ * 생성된 코드가 이름으로 쓸 수 없는 것(private 필드, 공개되지 않은 클래스/생성자/메소드)만 AotSupport나
+ * 기존 실행 시점 경로(MethodHandle 호출기, CachingSubclasses)로 넘긴다.
+ */
+public final class BootstrapGenerator {
+    private static final Logger log = LoggerFactory.getLogger(BootstrapGenerator.class);
+
+    static final String CACHE_SUBCLASS_SUFFIX = "$MeltProxy$Aot";
+
+    // 생성된 메소드의 지역 변수와 겹치지 않게 (Bean 변수는 이름 뒤에 Bean을 붙임)
+    private static final Set<String> RESERVED = Set.of("beanFactory", "environment", "cacheManager", "beans",
+            "handlerMapping", "applicationContext", "args");
+
+    private final BeanDefinitions definitions;
+    private final String basePackage;
+    private final Map<Definition, String> variables = new HashMap<>();
+    // 상대 경로 → 소스
+    private final Map<String, String> sources = new LinkedHashMap<>();
+    private int handlerCount;
+
+    BootstrapGenerator(BeanDefinitions definitions, String basePackage) {
+        this.definitions = definitions;
+        this.basePackage = basePackage;
+        for (Definition definition : definitions.getRegistrationOrder()) {
+            String name = definition.getName();
+            variables.put(definition, RESERVED.contains(name) || !SourceVersion.isName(name) ? name + "Bean" : name);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("사용법: BootstrapGenerator <출력 디렉토리> [base package]");
+            System.exit(2);
+        }
+        Path outputDirectory = Path.of(args[0]);
+        String basePackage = args.length > 1 ? args[1] : WebApplicationContext.DEFAULT_BASE_PACKAGE;
+
+        long start = System.nanoTime();
+        ApplicationContext scanner = new ApplicationContext(Environment.getDefault());
+        BeanDefinitions definitions = BeanDefinitions.analyze(scanner.findCandidateClasses(basePackage));
+        BootstrapGenerator generator = new BootstrapGenerator(definitions, basePackage);
+        generator.generate();
+        generator.writeTo(outputDirectory);
+        log.info("🛠️ AOT 부트스트랩 생성: Bean " + definitions.getRegistrationOrder().size() + "개, 핸들러 "
+                + generator.handlerCount + "개, 파일 " + generator.sources.size() + "개 → " + outputDirectory
+                + " (" + (System.nanoTime() - start) / 1_000_000 + "ms)");
+    }
+
+    void generate() {
+        StringBuilder beans = new StringBuilder();
+        writeRegisterBeans(beans);
+        StringBuilder handlers = new StringBuilder();
+        writeRegisterHandlers(handlers);
+
+        StringBuilder out = new StringBuilder();
+        out.append("package com.melt.aot;\n\n");
+        out.append("/**\n");
+        out.append(" * 자동 생성 - ").append(BootstrapGenerator.class.getName())
+                .append(" (직접 수정하지 말고 ./gradlew generateAot로 다시 생성)\n");
+        out.append(" * Bean ").append(definitions.getRegistrationOrder().size()).append("개, 핸들러 ")
+                .append(handlerCount).append("개\n");
+        out.append(" */\n");
+        out.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        out.append("public final class GeneratedBootstrap implements AotBootstrap {\n\n");
+        out.append("    @Override\n");
+        out.append("    public String basePackage() {\n");
+        out.append("        return ").append(literal(basePackage)).append(";\n");
+        out.append("    }\n\n");
+        out.append(beans).append('\n').append(handlers);
+        out.append("}\n");
+        sources.put("com/melt/aot/GeneratedBootstrap.java", out.toString());
+    }
+
+    private void writeRegisterBeans(StringBuilder out) {
+        out.append("    @Override\n");
+        out.append("    public void registerBeans(com.melt.context.BeanFactory beanFactory,\n");
+        out.append("                              java.util.function.Predicate<Class<?>> filter) {\n");
+        out.append("        com.melt.config.Environment environment = beanFactory.getEnvironment();\n");
+        out.append("        com.melt.cache.CacheManager cacheManager = beanFactory.getCacheManager();\n");
+
+        // 지연 Bean 자리 표시자를 먼저 등록해야 바로 만들 Bean이 그 프록시를 받는다
+        for (Definition definition : definitions.getRegistrationOrder()) {
+            if (definition.isLazy()) {
+                out.append("        if (filter.test(").append(classLiteral(definition.getBeanClass())).append(")) {\n");
+                out.append("            beanFactory.registerLazyBean(").append(literal(definition.getName())).append(", ")
+                        .append(classLiteral(definition.getBeanClass())).append(");\n");
+                out.append("        }\n");
+            }
+        }
+
+        // 생성자 의존성 순서대로 생성 (걸러진 Bean은 null로 두고, 의존하는 쪽은 beanFactory에서 찾는다)
+        out.append('\n');
+        for (Definition definition : definitions.getCreationOrder()) {
+            out.append("        ").append(variableType(definition.getBeanClass())).append(' ')
+                    .append(variables.get(definition)).append(" = filter.test(")
+                    .append(classLiteral(definition.getBeanClass())).append(")\n");
+            out.append("                ? ").append(creation(definition)).append(" : null;\n");
+        }
+
+        // 등록은 스캔 순서대로 (인덱스를 한 번만 다시 만든다)
+        out.append("\n        java.util.LinkedHashMap<String, Object> beans = new java.util.LinkedHashMap<>();\n");
+        for (Definition definition : definitions.getRegistrationOrder()) {
+            if (!definition.isLazy()) {
+                String variable = variables.get(definition);
+                out.append("        if (").append(variable).append(" != null) {\n");
+                out.append("            beans.put(").append(literal(definition.getName())).append(", ")
+                        .append(variable).append(");\n");
+                out.append("        }\n");
+            }
+        }
+        out.append("        beanFactory.registerBeans(beans);\n");
+
+        // 필드 주입 (모든 Bean을 만든 뒤라 필드끼리는 순환해도 된다)
+        for (Definition definition : definitions.getCreationOrder()) {
+            if (definition.getFieldInjections().isEmpty()) {
+                continue;
+            }
+            out.append("\n        if (").append(variables.get(definition)).append(" != null) {\n");
+            for (Dependency injection : definition.getFieldInjections()) {
+                out.append("            ").append(fieldInjection(definition, injection)).append(";\n");
+            }
+            out.append("        }\n");
+        }
+        out.append("    }\n");
+    }
+
+    private String creation(Definition definition) {
+        Class<?> beanClass = definition.getBeanClass();
+        Constructor<?> constructor = definition.getConstructor();
+        List<String> arguments = new ArrayList<>();
+        for (Dependency argument : definition.getConstructorArguments()) {
+            arguments.add(expression(argument, argument.getType()));
+        }
+        boolean direct = isAccessible(beanClass) && parametersAccessible(constructor.getParameterTypes());
+
+        if (definition.usesCacheSubclass()) {
+            if (direct) {
+                writeCacheSubclass(definition);
+                arguments.add("cacheManager");
+                return "new " + cacheSubclassName(beanClass) + "(" + String.join(", ", arguments) + ")";
+            }
+            // 이름으로 쓸 수 없는 클래스는 기존 방식(실행 시점 ByteBuddy 하위 클래스)으로
+            return cast(beanClass, "AotSupport.instantiate(com.melt.cache.CachingSubclasses.create("
+                    + classLiteral(beanClass) + ", cacheManager), " + parameterTypes(constructor.getParameterTypes())
+                    + joinArguments(arguments) + ")");
+        }
+        if (direct && Modifier.isPublic(constructor.getModifiers())) {
+            return "new " + beanClass.getCanonicalName() + "(" + String.join(", ", arguments) + ")";
+        }
+        return cast(beanClass, "AotSupport.instantiate(" + classLiteral(beanClass) + ", "
+                + parameterTypes(constructor.getParameterTypes()) + joinArguments(arguments) + ")");
+    }
+
+    private String fieldInjection(Definition definition, Dependency injection) {
+        Class<?> owner = definition.getBeanClass();
+        return "AotSupport.inject(" + variables.get(definition) + ", " + classLiteral(owner) + ", "
+                + literal(injection.getField().getName()) + ", " + classLiteral(injection.getType()) + ", "
+                + expression(injection, Object.class) + ")";
+    }
+
+    // 의존성 값을 만드는 식 - target 타입으로 넘길 수 있게 필요하면 캐스트
+    private String expression(Dependency dependency, Class<?> target) {
+        Class<?> type = dependency.getType();
+        if (dependency.isValue()) {
+            return "environment.resolveValue(" + literal(dependency.getValueExpression()) + ", "
+                    + classLiteral(type) + ")";
+        }
+        // 지연 Bean(프록시) 또는 이미 등록된 Bean(Environment 등, 부모 컨텍스트의 Bean)
+        String lookup = "beanFactory.resolveDependency(" + classLiteral(type) + ")";
+        lookup = target == Object.class ? lookup : cast(type, lookup);
+        Definition provider = dependency.getProvider();
+        if (provider == null) {
+            return lookup;
+        }
+        String variable = variables.get(provider);
+        String created = isAccessible(provider.getBeanClass()) || target == Object.class ? variable : cast(type, variable);
+        return "(" + variable + " != null ? " + created + " : " + lookup + ")";
+    }
+
+    private void writeRegisterHandlers(StringBuilder out) {
+        out.append("    @Override\n");
+        out.append("    public void registerHandlers(com.melt.web.mapping.HandlerMapping handlerMapping,\n");
+        out.append("                                 com.melt.context.ApplicationContext applicationContext) {\n");
+        for (Definition definition : definitions.getRegistrationOrder()) {
+            Class<?> beanClass = definition.getBeanClass();
+            boolean controller = beanClass.isAnnotationPresent(Controller.class);
+            boolean restController = beanClass.isAnnotationPresent(RestController.class);
+            if (!controller && !restController) {
+                continue;
+            }
+            String variable = variables.get(definition);
+            out.append("        ").append(variableType(beanClass)).append(' ').append(variable).append(" = ")
+                    .append(cast(beanClass, "applicationContext.getBean(" + literal(definition.getName()) + ")"))
+                    .append(";\n");
+            out.append("        if (").append(variable).append(" != null) {\n");
+            // HandlerMapping.registerController와 같은 순서 (@Controller 먼저, 그다음 @RestController)
+            for (Method method : beanClass.getDeclaredMethods()) {
+                if (controller && !method.isBridge() && !method.isSynthetic()) {
+                    writeHandler(out, beanClass, variable, method, HandlerMapping.requestMappingOf(method));
+                }
+            }
+            for (Method method : beanClass.getDeclaredMethods()) {
+                if (restController && !method.isBridge() && !method.isSynthetic()) {
+                    writeHandler(out, beanClass, variable, method, HandlerMapping.restMappingOf(method));
+                }
+            }
+            out.append("        }\n");
+        }
+        out.append("    }\n");
+    }
+
+    private void writeHandler(StringBuilder out, Class<?> beanClass, String variable, Method method, String[] route) {
+        if (route == null) {
+            return;
+        }
+        handlerCount++;
+        out.append("            handlerMapping.registerMapping(").append(literal(route[0])).append(", ")
+                .append(literal(route[1])).append(", ").append(variable).append(",\n");
+        out.append("                    AotSupport.method(").append(classLiteral(beanClass)).append(", ")
+                .append(literal(method.getName()));
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            out.append(", ").append(classLiteral(parameterType));
+        }
+        out.append(")");
+
+        // 공개 메소드면 직접 호출하는 람다, 아니면 기존 MethodHandle 호출기
+        if (isAccessible(beanClass) && Modifier.isPublic(method.getModifiers())
+                && !Modifier.isStatic(method.getModifiers()) && parametersAccessible(method.getParameterTypes())) {
+            StringBuilder call = new StringBuilder(variable).append('.').append(method.getName()).append('(');
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (i > 0) {
+                    call.append(", ");
+                }
+                call.append('(').append(parameterTypes[i].getCanonicalName()).append(") args[").append(i).append(']');
+            }
+            call.append(')');
+            out.append(",\n                    args -> ");
+            if (method.getReturnType() == void.class) {
+                out.append("{\n                        ").append(call).append(";\n                        return null;\n")
+                        .append("                    }");
+            } else {
+                out.append(call);
+            }
+        }
+        out.append(");\n");
+    }
+
+    // Bean 패키지에 하위 클래스 소스 - CacheInterceptor는 생성자에서 메서드별로 하나씩 만들어 필드에 묶는다
+    private void writeCacheSubclass(Definition definition) {
+        Class<?> beanClass = definition.getBeanClass();
+        Class<?>[] constructorTypes = definition.getConstructor().getParameterTypes();
+        List<Method> methods = CachingSubclasses.cacheOperations(beanClass);
+        String simpleName = cacheSubclassSimpleName(beanClass);
+
+        StringBuilder out = new StringBuilder();
+        String packageName = beanClass.getPackageName();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("/**\n");
+        out.append(" * 자동 생성 - ").append(beanClass.getSimpleName())
+                .append("의 @Cacheable/@CacheEvict 메서드만 오버라이드한 하위 클래스 (")
+                .append(BootstrapGenerator.class.getSimpleName()).append(")\n");
+        out.append(" */\n");
+        out.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        out.append("public class ").append(simpleName).append(" extends ").append(beanClass.getCanonicalName())
+                .append(" {\n");
+        for (int i = 0; i < methods.size(); i++) {
+            out.append("    private final com.melt.cache.CacheInterceptor interceptor").append(i).append(";\n");
+        }
+
+        out.append("\n    public ").append(simpleName).append('(');
+        for (int i = 0; i < constructorTypes.length; i++) {
+            out.append(constructorTypes[i].getCanonicalName()).append(" arg").append(i).append(", ");
+        }
+        out.append("com.melt.cache.CacheManager cacheManager) {\n");
+        out.append("        super(");
+        for (int i = 0; i < constructorTypes.length; i++) {
+            out.append(i > 0 ? ", " : "").append("arg").append(i);
+        }
+        out.append(");\n");
+        for (int i = 0; i < methods.size(); i++) {
+            Method method = methods.get(i);
+            out.append("        this.interceptor").append(i).append(" = com.melt.cache.CachingSubclasses.interceptor(")
+                    .append(beanClass.getCanonicalName()).append(".class, ").append(literal(method.getName()))
+                    .append(", ").append(parameterTypes(method.getParameterTypes())).append(", cacheManager);\n");
+        }
+        out.append("    }\n");
+
+        for (int i = 0; i < methods.size(); i++) {
+            writeCacheOverride(out, methods.get(i), i);
+        }
+        out.append("}\n");
+        sources.put(packageName.replace('.', '/') + "/" + simpleName + ".java", out.toString());
+    }
+
+    private static void writeCacheOverride(StringBuilder out, Method method, int index) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        StringBuilder parameters = new StringBuilder();
+        StringBuilder arguments = new StringBuilder();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                parameters.append(", ");
+                arguments.append(", ");
+            }
+            parameters.append(parameterTypes[i].getCanonicalName()).append(" arg").append(i);
+            arguments.append("arg").append(i);
+        }
+        int modifiers = method.getModifiers();
+        String visibility = Modifier.isPublic(modifiers) ? "public " : Modifier.isProtected(modifiers) ? "protected " : "";
+        Class<?> returnType = method.getReturnType();
+        String superCall = "super." + method.getName() + "(" + arguments + ")";
+
+        out.append("\n    @Override\n");
+        out.append("    ").append(visibility).append(returnType.getCanonicalName()).append(' ')
+                .append(method.getName()).append('(').append(parameters).append(") {\n");
+        out.append("        try {\n");
+        String intercept = "interceptor" + index + ".intercept(new Object[]{" + arguments + "}, ";
+        if (returnType == void.class) {
+            out.append("            ").append(intercept).append("() -> {\n");
+            out.append("                ").append(superCall).append(";\n");
+            out.append("                return null;\n");
+            out.append("            });\n");
+        } else {
+            out.append("            return (").append(boxed(returnType).getCanonicalName()).append(") ")
+                    .append(intercept).append("() -> ").append(superCall).append(");\n");
+        }
+        out.append("        } catch (Exception e) {\n");
+        out.append("            throw com.melt.aot.AotSupport.rethrow(e);\n");
+        out.append("        }\n");
+        out.append("    }\n");
+    }
+
+    void writeTo(Path outputDirectory) throws IOException {
+        // 지난번에 생성한 파일(이름이 바뀐 Bean 등)이 남지 않게 비우고 쓴다
+        if (Files.exists(outputDirectory)) {
+            try (Stream<Path> paths = Files.walk(outputDirectory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = outputDirectory.resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String cacheSubclassSimpleName(Class<?> beanClass) {
+        String binaryName = beanClass.getName();
+        return binaryName.substring(binaryName.lastIndexOf('.') + 1) + CACHE_SUBCLASS_SUFFIX;
+    }
+
+    private static String cacheSubclassName(Class<?> beanClass) {
+        String packageName = beanClass.getPackageName();
+        return (packageName.isEmpty() ? "" : packageName + ".") + cacheSubclassSimpleName(beanClass);
+    }
+
+    // 생성된 코드(com.melt.aot)에서 이름으로 쓸 수 있는 타입인지
+    private static boolean isAccessible(Class<?> type) {
+        if (type.isArray()) {
+            return isAccessible(type.getComponentType());
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(type.getModifiers()) || type.isAnonymousClass() || type.isLocalClass()) {
+            return false;
+        }
+        return type.getEnclosingClass() == null || isAccessible(type.getEnclosingClass());
+    }
+
+    private static boolean parametersAccessible(Class<?>[] types) {
+        for (Class<?> type : types) {
+            if (!isAccessible(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String variableType(Class<?> type) {
+        return isAccessible(type) ? type.getCanonicalName() : "Object";
+    }
+
+    private static String cast(Class<?> type, String expression) {
+        return isAccessible(type) ? "(" + type.getCanonicalName() + ") " + expression : expression;
+    }
+
+    private static String classLiteral(Class<?> type) {
+        return isAccessible(type) ? type.getCanonicalName() + ".class" : "AotSupport.type(" + literal(type.getName()) + ")";
+    }
+
+    private static String parameterTypes(Class<?>[] types) {
+        StringBuilder sb = new StringBuilder("new Class<?>[]{");
+        for (int i = 0; i < types.length; i++) {
+            sb.append(i > 0 ? ", " : "").append(classLiteral(types[i]));
+        }
+        return sb.append('}').toString();
+    }
+
+    private static String joinArguments(List<String> arguments) {
+        return arguments.isEmpty() ? "" : ", " + String.join(", ", arguments);
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        }
+        if (type == long.class) {
+            return Long.class;
+        }
+        if (type == boolean.class) {
+            return Boolean.class;
+        }
+        if (type == double.class) {
+            return Double.class;
+        }
+        if (type == float.class) {
+            return Float.class;
+        }
+        if (type == short.class) {
+            return Short.class;
+        }
+        if (type == byte.class) {
+            return Byte.class;
+        }
+        return Character.class;
+    }
+
+    private static String literal(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,273 @@
+package com.melt.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * 크기(개수 + 가중치) 제한이 있는 동시성 캐시 (기본 Segmented LRU, EvictionPolicy로 교체 가능)
+ *
+ * SEGMENTED_LRU: 새 항목은 probation 구간에 들어가고, 다시 조회되면 protected 구간으로 올라간다.
+ * 넘칠 때는 probation 꼬리부터 내보내므로 한 번 훑고 지나가는 조회가 자주 쓰이는 항목을 밀어내지 못한다.
+ * LRU는 probation 구간 하나만, FIFO는 조회해도 순서를 바꾸지 않는다.
+ *
+ * 조회는 ConcurrentHashMap 읽기만 하고 락을 기다리지 않는다.
+ * 순서 갱신은 tryLock에 성공했을 때만 하며 (경합 중이면 그 조회의 순서 갱신은 건너뜀),
+ * 추가/삭제/내보내기는 하나의 락 안에서 맵과 목록을 함께 바꾼다.
+ */
+public class BoundedCache<K, V> {
+    // protected 구간이 차지할 수 있는 최대 가중치 비율
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final String name;
+    private final long maxEntries;
+    private final long maxWeight;
+    private final long maxProtectedWeight;
+    private final long ttlNanos;
+    private final ToLongBiFunction<K, V> weigher;
+    private final EvictionPolicy evictionPolicy;
+
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 두 구간 모두 sentinel을 둔 원형 이중 연결 리스트 (head.next가 가장 최근)
+    private final Node<K, V> probation = Node.sentinel();
+    private final Node<K, V> protectedSegment = Node.sentinel();
+    private long weight;
+    private long protectedWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * @param maxEntries 최대 항목 수
+     * @param maxWeight  가중치 합 상한 (응답 캐시는 바이트 수)
+     * @param ttlNanos   저장 후 유효 시간 (0 이하면 만료 없음)
+     * @param weigher    항목 가중치 (null이면 항목당 1)
+     */
+    public BoundedCache(String name, long maxEntries, long maxWeight, long ttlNanos, ToLongBiFunction<K, V> weigher) {
+        this(name, maxEntries, maxWeight, ttlNanos, weigher, EvictionPolicy.SEGMENTED_LRU);
+    }
+
+    public BoundedCache(String name, long maxEntries, long maxWeight, long ttlNanos, ToLongBiFunction<K, V> weigher,
+                        EvictionPolicy evictionPolicy) {
+        if (maxEntries <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 0보다 커야 합니다: " + name);
+        }
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.maxProtectedWeight = (long) (maxWeight * PROTECTED_RATIO);
+        this.ttlNanos = ttlNanos;
+        this.weigher = weigher != null ? weigher : (key, value) -> 1;
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 조회 (없거나 만료됐으면 null)
+     */
+    public V get(K key) {
+        Node<K, V> node = map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (node.isExpired(System.nanoTime())) {
+            expire(node);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        if (evictionPolicy != EvictionPolicy.FIFO && lock.tryLock()) {
+            try {
+                onAccess(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * 저장 - 가중치가 캐시 전체 상한보다 큰 항목은 저장하지 않는다
+     */
+    public void put(K key, V value) {
+        long entryWeight = weigher.applyAsLong(key, value);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        Node<K, V> node = new Node<>(key, value, entryWeight,
+                ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0);
+        lock.lock();
+        try {
+            Node<K, V> previous = map.put(key, node);
+            if (previous != null) {
+                unlink(previous);
+            }
+            linkFirst(probation, node);
+            weight += entryWeight;
+            puts.increment();
+            evictIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = map.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            for (Node<K, V> node : map.values()) {
+                unlink(node);
+            }
+            map.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public CacheStats stats() {
+        long currentWeight;
+        lock.lock();
+        try {
+            currentWeight = weight;
+        } finally {
+            lock.unlock();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), puts.sum(), evictions.sum(), expirations.sum(),
+                map.size(), currentWeight);
+    }
+
+    private void expire(Node<K, V> node) {
+        lock.lock();
+        try {
+            // 그 사이 다른 스레드가 새 값으로 바꿨으면 건드리지 않는다
+            if (map.remove(node.key, node)) {
+                unlink(node);
+                expirations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 락 안에서만 호출
+    private void onAccess(Node<K, V> node) {
+        if (node.prev == null) {
+            return; // 이미 내보내진 항목
+        }
+        if (node.isProtected) {
+            unlinkFromList(node);
+            linkFirst(protectedSegment, node);
+            return;
+        }
+        if (evictionPolicy == EvictionPolicy.LRU) {
+            unlinkFromList(node);
+            linkFirst(probation, node);
+            return;
+        }
+        // probation → protected 승격, protected가 넘치면 가장 오래된 것을 probation으로 강등
+        unlink(node);
+        weight += node.weight;
+        node.isProtected = true;
+        protectedWeight += node.weight;
+        linkFirst(protectedSegment, node);
+        while (protectedWeight > maxProtectedWeight && protectedSegment.prev != node) {
+            Node<K, V> demoted = protectedSegment.prev;
+            unlink(demoted);
+            weight += demoted.weight;
+            linkFirst(probation, demoted);
+        }
+    }
+
+    private void evictIfNeeded() {
+        while (map.size() > maxEntries || weight > maxWeight) {
+            Node<K, V> victim = probation.prev != probation ? probation.prev : protectedSegment.prev;
+            if (victim == protectedSegment) {
+                return;
+            }
+            map.remove(victim.key, victim);
+            unlink(victim);
+            evictions.increment();
+        }
+    }
+
+    private static <K, V> void linkFirst(Node<K, V> head, Node<K, V> node) {
+        node.next = head.next;
+        node.prev = head;
+        head.next.prev = node;
+        head.next = node;
+    }
+
+    // 목록에서 빼고 가중치도 뺀다
+    private void unlink(Node<K, V> node) {
+        if (node.prev == null) {
+            return;
+        }
+        unlinkFromList(node);
+        weight -= node.weight;
+        if (node.isProtected) {
+            protectedWeight -= node.weight;
+            node.isProtected = false;
+        }
+    }
+
+    private static <K, V> void unlinkFromList(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long weight;
+        private final long expiresAt;
+        // 아래는 락 안에서만 읽고 씀
+        private Node<K, V> prev;
+        private Node<K, V> next;
+        private boolean isProtected;
+
+        private Node(K key, V value, long weight, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        private static <K, V> Node<K, V> sentinel() {
+            Node<K, V> sentinel = new Node<>(null, null, 0, 0);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+}
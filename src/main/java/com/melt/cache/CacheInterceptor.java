@@ -0,0 +1,70 @@
+package com.melt.cache;
+
+import net.bytebuddy.implementation.bind.annotation.AllArguments;
+import net.bytebuddy.implementation.bind.annotation.RuntimeType;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+
+import java.util.concurrent.Callable;
+
+/**
+ * @Cacheable / @CacheEvict 메서드 하나의 호출 가로채기
+ *
+ * 생성된 하위 클래스의 오버라이드 메서드가 바로 이 객체를 부르고 (메서드별로 하나씩 묶여 있어 조회 없음),
+ * 원래 메서드는 @SuperCall로 실행한다. 생성된 클래스에서 보여야 하므로 public이다.
+ */
+public final class CacheInterceptor {
+    // null 결과도 캐시하기 위한 표시 (BoundedCache는 null을 '없음'으로 본다)
+    private static final Object NULL_VALUE = new Object();
+
+    // @Cacheable 캐시 (없으면 null)
+    private final BoundedCache<Object, Object> cache;
+    // @CacheEvict 대상 (없으면 null) - 다른 Bean이 나중에 선언할 수도 있어 호출할 때 이름으로 찾는다
+    private final CacheManager cacheManager;
+    private final String evictCacheName;
+    private final boolean evictAllEntries;
+    private final boolean evictBeforeInvocation;
+
+    CacheInterceptor(BoundedCache<Object, Object> cache, CacheManager cacheManager, String evictCacheName,
+                     boolean evictAllEntries, boolean evictBeforeInvocation) {
+        this.cache = cache;
+        this.cacheManager = cacheManager;
+        this.evictCacheName = evictCacheName;
+        this.evictAllEntries = evictAllEntries;
+        this.evictBeforeInvocation = evictBeforeInvocation;
+    }
+
+    @RuntimeType
+    public Object intercept(@AllArguments Object[] args, @SuperCall Callable<?> original) throws Exception {
+        if (evictCacheName != null && evictBeforeInvocation) {
+            evict(args);
+        }
+        Object result;
+        if (cache != null) {
+            Object key = CacheKey.of(args);
+            Object cached = cache.get(key);
+            if (cached != null) {
+                return cached == NULL_VALUE ? null : cached;
+            }
+            result = original.call();
+            cache.put(key, result != null ? result : NULL_VALUE);
+        } else {
+            result = original.call();
+        }
+        if (evictCacheName != null && !evictBeforeInvocation) {
+            evict(args);
+        }
+        return result;
+    }
+
+    private void evict(Object[] args) {
+        BoundedCache<Object, Object> target = cacheManager.getCache(evictCacheName);
+        if (target == null) {
+            return;
+        }
+        if (evictAllEntries) {
+            target.invalidateAll();
+        } else {
+            target.invalidate(CacheKey.of(args));
+        }
+    }
+}
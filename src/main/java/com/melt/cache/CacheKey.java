@@ -0,0 +1,46 @@
+package com.melt.cache;
+
+import java.util.Arrays;
+
+/**
+ * 메서드 인자로 만든 캐시 키
+ *
+ * 인자가 없으면 EMPTY, 배열이 아닌 인자 하나면 그 값 자체를 키로 쓰고 (객체를 따로 만들지 않음),
+ * 나머지는 인자 배열을 감싸 deepEquals/deepHashCode로 비교한다.
+ */
+public final class CacheKey {
+    public static final CacheKey EMPTY = new CacheKey(new Object[0]);
+
+    private final Object[] args;
+    private final int hash;
+
+    private CacheKey(Object[] args) {
+        this.args = args;
+        this.hash = Arrays.deepHashCode(args);
+    }
+
+    public static Object of(Object[] args) {
+        if (args == null || args.length == 0) {
+            return EMPTY;
+        }
+        if (args.length == 1 && args[0] != null && !args[0].getClass().isArray()) {
+            return args[0];
+        }
+        return new CacheKey(args.clone());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof CacheKey && Arrays.deepEquals(args, ((CacheKey) other).args));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.deepToString(args);
+    }
+}
@@ -0,0 +1,42 @@
+package com.melt.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름으로 찾는 메서드 결과 캐시 모음 (@Cacheable / @CacheEvict)
+ *
+ * 캐시는 Bean을 만들 때(병렬 생성 단계 포함) 선언을 만나는 순서대로 생긴다.
+ */
+public class CacheManager {
+    private final ConcurrentHashMap<String, BoundedCache<Object, Object>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * 이름의 캐시를 가져오고, 없으면 주어진 설정으로 만든다 (이미 있으면 설정은 무시)
+     */
+    public BoundedCache<Object, Object> getOrCreate(String name, long maxEntries, long ttlNanos,
+                                                    EvictionPolicy evictionPolicy) {
+        return caches.computeIfAbsent(name, n ->
+                new BoundedCache<>(n, maxEntries, maxEntries, ttlNanos, null, evictionPolicy));
+    }
+
+    /**
+     * 이름의 캐시 (아직 선언된 적 없으면 null)
+     */
+    public BoundedCache<Object, Object> getCache(String name) {
+        return caches.get(name);
+    }
+
+    /**
+     * 캐시 이름 → 통계 (이름 순)
+     */
+    public Map<String, CacheStats> getStats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        for (Map.Entry<String, BoundedCache<Object, Object>> entry : caches.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().stats());
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+}
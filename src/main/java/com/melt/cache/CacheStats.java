@@ -0,0 +1,18 @@
+package com.melt.cache;
+
+/**
+ * 캐시 통계 스냅샷 (/metrics 등에서 읽기용)
+ */
+public record CacheStats(long hits, long misses, long puts, long evictions, long expirations,
+                         long entries, long weight) {
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    // 조회가 한 번도 없으면 0
+    public double hitRate() {
+        long requests = requests();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
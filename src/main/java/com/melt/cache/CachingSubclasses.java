@@ -0,0 +1,150 @@
+package com.melt.cache;
+
+import com.melt.annotation.CacheEvict;
+import com.melt.annotation.Cacheable;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import com.melt.util.Proxies;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.MethodDelegation;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static net.bytebuddy.matcher.ElementMatchers.is;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * @Cacheable / @CacheEvict 메서드만 오버라이드한 하위 클래스 생성
+ *
+ * JDK Proxy처럼 별도 대상 객체에 위임하지 않고 Bean 자체를 이 하위 클래스로 만든다.
+ * 그래서 어노테이션이 없는 메서드는 오버라이드되지 않아 가로채기 없이 원래 메서드가 바로 호출되고,
+ * 어노테이션이 붙은 메서드만 자기 CacheInterceptor를 거친다.
+ */
+public final class CachingSubclasses {
+    private static final Logger log = LoggerFactory.getLogger(CachingSubclasses.class);
+
+    private CachingSubclasses() {
+    }
+
+    /**
+     * 클래스(상위 클래스 포함)에 @Cacheable / @CacheEvict 메서드가 있는지
+     */
+    public static boolean hasCacheOperations(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (isCacheOperation(method)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 캐시 메서드를 가로채는 하위 클래스 (원래 클래스의 public/protected/package 생성자를 그대로 가짐)
+     * 하위 클래스를 만들 수 없거나 가로챌 메서드가 없으면 원래 클래스를 돌려준다.
+     */
+    public static <T> Class<? extends T> create(Class<T> type, CacheManager cacheManager) {
+        if (!Proxies.canSubclass(type)) {
+            log.warn("⚠️ " + type.getSimpleName() + "은(는) 하위 클래스를 만들 수 없어 @Cacheable/@CacheEvict가 적용되지 않습니다");
+            return type;
+        }
+        List<Method> methods = cacheOperations(type);
+        if (methods.isEmpty()) {
+            return type;
+        }
+
+        DynamicType.Builder<T> builder = new ByteBuddy()
+                .subclass(type, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
+                .name(Proxies.proxyClassName(type));
+        for (Method method : methods) {
+            builder = builder.method(is(method)).intercept(MethodDelegation.withDefaultConfiguration()
+                    .filter(named("intercept"))
+                    .to(interceptor(type, method, cacheManager)));
+        }
+        try {
+            Class<? extends T> subclass = builder.make()
+                    // 같은 패키지에 정의해야 package-private 메서드도 오버라이드된다
+                    .load(type.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(
+                            MethodHandles.privateLookupIn(type, MethodHandles.lookup())))
+                    .getLoaded();
+            log.debug("🗃️ 캐시 하위 클래스 생성: " + type.getSimpleName() + " (" + methods.size() + "개 메서드)");
+            return subclass;
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException(type.getName() + " 캐시 하위 클래스 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 메서드 하나의 캐시 가로채기 (AOT로 미리 생성한 하위 클래스가 생성자에서 호출)
+     */
+    public static CacheInterceptor interceptor(Class<?> type, String methodName, Class<?>[] parameterTypes,
+                                               CacheManager cacheManager) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                return interceptor(type, c.getDeclaredMethod(methodName, parameterTypes), cacheManager);
+            } catch (NoSuchMethodException e) {
+                // 상위 클래스에 선언된 메서드
+            }
+        }
+        throw new IllegalStateException(type.getName() + "." + methodName + " 메서드를 찾을 수 없습니다");
+    }
+
+    private static CacheInterceptor interceptor(Class<?> type, Method method, CacheManager cacheManager) {
+        BoundedCache<Object, Object> cache = null;
+        Cacheable cacheable = method.getAnnotation(Cacheable.class);
+        if (cacheable != null) {
+            if (method.getReturnType() == void.class) {
+                log.warn("⚠️ void 메서드의 @Cacheable은 의미가 없습니다: " + type.getSimpleName() + "." + method.getName());
+            }
+            String name = cacheable.value().isEmpty()
+                    ? type.getSimpleName() + "." + method.getName()
+                    : cacheable.value();
+            cache = cacheManager.getOrCreate(name, cacheable.maxEntries(),
+                    cacheable.unit().toNanos(cacheable.ttl()), cacheable.eviction());
+        }
+        CacheEvict evict = method.getAnnotation(CacheEvict.class);
+        return evict != null
+                ? new CacheInterceptor(cache, cacheManager, evict.value(), evict.allEntries(), evict.beforeInvocation())
+                : new CacheInterceptor(cache, null, null, false, false);
+    }
+
+    // 오버라이드할 메서드 (하위 클래스에서 재정의한 상위 클래스 메서드는 한 번만)
+    public static List<Method> cacheOperations(Class<?> type) {
+        List<Method> methods = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic()
+                        || !seen.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    continue;
+                }
+                if (!isCacheOperation(method)) {
+                    continue;
+                }
+                int modifiers = method.getModifiers();
+                if (Modifier.isPrivate(modifiers) || Modifier.isFinal(modifiers) || Modifier.isStatic(modifiers)) {
+                    log.warn("⚠️ private/final/static 메서드에는 캐시를 적용할 수 없습니다: "
+                            + type.getSimpleName() + "." + method.getName());
+                    continue;
+                }
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private static boolean isCacheOperation(Method method) {
+        return method.isAnnotationPresent(Cacheable.class) || method.isAnnotationPresent(CacheEvict.class);
+    }
+}
@@ -0,0 +1,13 @@
+package com.melt.cache;
+
+/**
+ * BoundedCache가 넘칠 때 무엇을 먼저 내보낼지
+ */
+public enum EvictionPolicy {
+    // 가장 오래 조회되지 않은 항목
+    LRU,
+    // 두 번 이상 조회된 항목을 따로 보호하는 LRU (한 번만 쓰이는 항목부터 내보냄)
+    SEGMENTED_LRU,
+    // 들어온 순서대로 (조회해도 순서를 바꾸지 않아 조회 비용이 가장 낮음)
+    FIFO
+}
@@ -0,0 +1,227 @@
+package com.melt.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 설정 값 조회
+ *
+ * 우선순위: 시스템 프로퍼티(-D) > 환경 변수 > 외부 application.properties > 클래스패스 application.properties
+ * 환경 변수 이름은 키를 대문자로 바꾸고 '.'과 '-'를 '_'로 바꾼 것 (melt.threads.max → MELT_THREADS_MAX).
+ * 값 안의 ${다른.키:기본값}은 조회할 때 치환된다.
+ *
+ * 설정은 시작할 때 한 번 읽어 각자 필드에 담아 두는 용도이고, 요청 처리 중에 조회하는 곳은 없다.
+ * (로깅도 여기서 설정을 읽으므로 이 클래스는 로거를 쓰지 않는다)
+ */
+public final class Environment {
+    public static final String CONFIG_FILE = "application.properties";
+    // 외부 설정 파일 경로 (지정하지 않으면 작업 디렉터리에 application.properties가 있을 때만 읽음)
+    public static final String CONFIG_LOCATION_PROPERTY = "melt.config.location";
+
+    private static final int MAX_PLACEHOLDER_DEPTH = 16;
+
+    private final Map<String, String> fileProperties;
+    private final Map<String, String> environmentVariables;
+
+    private Environment(Map<String, String> fileProperties, Map<String, String> environmentVariables) {
+        this.fileProperties = fileProperties;
+        this.environmentVariables = environmentVariables;
+    }
+
+    /**
+     * 프로세스 전체가 같이 쓰는 설정 (처음 부를 때 한 번 읽음)
+     */
+    public static Environment getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    /**
+     * 설정 파일과 환경 변수를 새로 읽는다
+     */
+    public static Environment load() {
+        Map<String, String> properties = new HashMap<>();
+        ClassLoader classLoader = Environment.class.getClassLoader();
+        try (InputStream in = classLoader.getResourceAsStream(CONFIG_FILE)) {
+            if (in != null) {
+                read(in, properties);
+            }
+        } catch (IOException e) {
+            System.err.println("❌ 클래스패스 " + CONFIG_FILE + "을(를) 읽을 수 없습니다: " + e.getMessage());
+        }
+
+        String location = System.getProperty(CONFIG_LOCATION_PROPERTY);
+        if (location == null) {
+            location = System.getenv(toEnvironmentVariable(CONFIG_LOCATION_PROPERTY));
+        }
+        Path external = Path.of(location != null ? location : CONFIG_FILE);
+        if (Files.isRegularFile(external)) {
+            try (InputStream in = Files.newInputStream(external)) {
+                read(in, properties);
+            } catch (IOException e) {
+                System.err.println("❌ 설정 파일을 읽을 수 없습니다: " + external + " (" + e.getMessage() + ")");
+            }
+        } else if (location != null) {
+            System.err.println("⚠️ 설정 파일이 없습니다: " + external);
+        }
+        return new Environment(Collections.unmodifiableMap(properties), System.getenv());
+    }
+
+    private static void read(InputStream in, Map<String, String> target) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        for (String name : properties.stringPropertyNames()) {
+            target.put(name, properties.getProperty(name).trim());
+        }
+    }
+
+    /**
+     * 설정 값 (없으면 null, ${...}는 치환됨)
+     */
+    public String getProperty(String key) {
+        String value = rawProperty(key);
+        return value != null ? resolvePlaceholders(value, true, 0) : null;
+    }
+
+    public String getProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public boolean containsProperty(String key) {
+        return rawProperty(key) != null;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return getProperty(key, int.class, defaultValue);
+    }
+
+    public long getLong(String key, long defaultValue) {
+        return getProperty(key, long.class, defaultValue);
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return getProperty(key, boolean.class, defaultValue);
+    }
+
+    /**
+     * 타입 변환한 설정 값 (없거나 빈 값이면 기본값, 변환할 수 없으면 IllegalArgumentException)
+     */
+    public <T> T getProperty(String key, Class<T> type, T defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return PropertyConverter.convert(value, type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("설정 " + key + "=" + value + "을(를) "
+                    + type.getSimpleName() + "(으)로 바꿀 수 없습니다", e);
+        }
+    }
+
+    /**
+     * @Value 식 해석 - "${키:기본값}" 치환 후 type으로 변환 (기본값 없는 키가 없으면 IllegalArgumentException)
+     */
+    public <T> T resolveValue(String expression, Class<T> type) {
+        String value = resolvePlaceholders(expression, false, 0);
+        try {
+            return PropertyConverter.convert(value, type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("@Value(\"" + expression + "\") 값 " + value + "을(를) "
+                    + type.getSimpleName() + "(으)로 바꿀 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 문자열 안의 ${키:기본값}을 모두 치환 (없는 키에 기본값도 없으면 그대로 둔다)
+     */
+    public String resolvePlaceholders(String text) {
+        return resolvePlaceholders(text, true, 0);
+    }
+
+    private String rawProperty(String key) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = environmentVariables.get(toEnvironmentVariable(key));
+        }
+        if (value == null) {
+            value = fileProperties.get(key);
+        }
+        return value;
+    }
+
+    private String resolvePlaceholders(String text, boolean ignoreMissing, int depth) {
+        int start = text.indexOf("${");
+        if (start < 0) {
+            return text;
+        }
+        if (depth > MAX_PLACEHOLDER_DEPTH) {
+            throw new IllegalArgumentException("설정 값의 ${...}가 순환합니다: " + text);
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        int position = 0;
+        while (start >= 0) {
+            int end = closingBrace(text, start + 2);
+            if (end < 0) {
+                break;
+            }
+            result.append(text, position, start);
+            String placeholder = text.substring(start + 2, end);
+            int colon = placeholder.indexOf(':');
+            String key = colon < 0 ? placeholder : placeholder.substring(0, colon);
+            String value = rawProperty(key);
+            if (value == null && colon >= 0) {
+                value = placeholder.substring(colon + 1);
+            }
+            if (value == null) {
+                if (!ignoreMissing) {
+                    throw new IllegalArgumentException("설정 값이 없습니다: " + key);
+                }
+                result.append(text, start, end + 1);
+            } else {
+                result.append(resolvePlaceholders(value, ignoreMissing, depth + 1));
+            }
+            position = end + 1;
+            start = text.indexOf("${", position);
+        }
+        result.append(text, position, text.length());
+        return result.toString();
+    }
+
+    // 기본값 안에 ${...}가 또 있을 수 있어 짝을 맞춰 닫는 괄호를 찾는다
+    private static int closingBrace(String text, int from) {
+        int nested = 0;
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '{' && i > 0 && text.charAt(i - 1) == '$') {
+                nested++;
+            } else if (c == '}') {
+                if (nested == 0) {
+                    return i;
+                }
+                nested--;
+            }
+        }
+        return -1;
+    }
+
+    static String toEnvironmentVariable(String key) {
+        return key.replace('.', '_').replace('-', '_').toUpperCase(Locale.ROOT);
+    }
+
+    private static final class Holder {
+        private static final Environment DEFAULT = load();
+    }
+}
@@ -0,0 +1,52 @@
+package com.melt.config;
+
+import java.util.Locale;
+
+/**
+ * 설정 문자열 → 기본 타입 변환 (문자열, 숫자, boolean, char, enum)
+ */
+final class PropertyConverter {
+    private PropertyConverter() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> T convert(String value, Class<T> type) {
+        String trimmed = value.trim();
+        Object converted;
+        if (type == String.class || type == Object.class) {
+            converted = value;
+        } else if (type == int.class || type == Integer.class) {
+            converted = Integer.parseInt(trimmed.replace("_", ""));
+        } else if (type == long.class || type == Long.class) {
+            converted = Long.parseLong(trimmed.replace("_", ""));
+        } else if (type == boolean.class || type == Boolean.class) {
+            converted = parseBoolean(trimmed);
+        } else if (type == double.class || type == Double.class) {
+            converted = Double.parseDouble(trimmed);
+        } else if (type == float.class || type == Float.class) {
+            converted = Float.parseFloat(trimmed);
+        } else if (type == short.class || type == Short.class) {
+            converted = Short.parseShort(trimmed);
+        } else if (type == byte.class || type == Byte.class) {
+            converted = Byte.parseByte(trimmed);
+        } else if ((type == char.class || type == Character.class) && value.length() == 1) {
+            converted = value.charAt(0);
+        } else if (type.isEnum()) {
+            converted = Enum.valueOf((Class<? extends Enum>) type, trimmed.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 설정 타입: " + type.getName());
+        }
+        return (T) converted;
+    }
+
+    // Boolean.parseBoolean은 오타도 false로 만들어 버리므로 직접 확인
+    private static boolean parseBoolean(String value) {
+        if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("yes") || value.equals("1")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("false") || value.equalsIgnoreCase("no") || value.equals("0")) {
+            return false;
+        }
+        throw new IllegalArgumentException("true/false가 아닙니다: " + value);
+    }
+}
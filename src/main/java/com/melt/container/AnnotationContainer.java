@@ -1,11 +1,15 @@
 package com.melt.container;
 
 import com.melt.annotation.Component;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
 import java.lang.annotation.Annotation;
 import java.util.HashMap;
 import java.util.Map;
 
 public class AnnotationContainer {
+    private static final Logger log = LoggerFactory.getLogger(AnnotationContainer.class);
+
     private final Map<String, Object> beans = new HashMap<>();
 
     // 클래스명으로 Bean 등록 시도
@@ -23,12 +27,12 @@ public class AnnotationContainer {
                 String beanName = clazz.getSimpleName();
                 beans.put(beanName, instance);
 
-                System.out.println("✅ " + beanName + " Bean 등록 완료!");
+                log.debug("✅ " + beanName + " Bean 등록 완료!");
             } else {
-                System.out.println("❌ " + className + "에는 @Component가 없어서 등록 안함");
+                log.debug("❌ " + className + "에는 @Component가 없어서 등록 안함");
             }
         } catch (Exception e) {
-            System.out.println("🚨 등록 실패: " + e.getMessage());
+            log.error("🚨 등록 실패: " + e.getMessage());
         }
     }
 
@@ -39,9 +43,9 @@ public class AnnotationContainer {
 
     // 등록된 모든 Bean 목록 출력
     public void printAllBeans() {
-        System.out.println("\n=== 등록된 Bean 목록 ===");
+        log.debug("=== 등록된 Bean 목록 ===");
         beans.keySet().forEach(name ->
-            System.out.println("- " + name)
+            log.debug("- " + name)
         );
     }
 
@@ -1,57 +1,152 @@
 package com.melt.context;
 
+import com.melt.aot.AotBootstrap;
+import com.melt.cache.CacheManager;
+import com.melt.config.Environment;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+
 import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Spring 컨테이너의 핵심 - 모든 기능을 통합 관리
+ *
+ * 부모 컨텍스트를 주면 여기서 못 찾은 Bean은 부모에서 찾는다.
+ * 루트 하나(서비스/리포지토리)를 여러 웹 컨텍스트(각자의 컨트롤러)가 같이 쓰는 구성에 사용.
  */
 public class ApplicationContext {
+    private static final Logger log = LoggerFactory.getLogger(ApplicationContext.class);
+
     private final ComponentScanner scanner;
+    private final ClassFileComponentScanner classFileScanner;
     private final BeanFactory beanFactory;
     private final DependencyInjector injector;
+    private final Environment environment;
+    private final ApplicationContext parent;
+    private ScanMode scanMode;
 
     public ApplicationContext() {
+        this(Environment.getDefault());
+    }
+
+    public ApplicationContext(Environment environment) {
+        this(environment, null);
+    }
+
+    /**
+     * @param parent 부모 컨텍스트 (없으면 null) - 설정과 캐시 매니저도 부모 것을 쓴다
+     */
+    public ApplicationContext(Environment environment, ApplicationContext parent) {
+        this.environment = environment;
+        this.parent = parent;
         this.scanner = new ComponentScanner();
-        this.beanFactory = new BeanFactory();
+        this.classFileScanner = new ClassFileComponentScanner();
+        this.beanFactory = new BeanFactory(environment, parent != null ? parent.beanFactory : null);
         this.injector = new DependencyInjector();
+        this.scanMode = ScanMode.fromEnvironment(environment);
+        // 다른 Bean이 @Autowired Environment로 직접 설정을 읽을 수 있게 등록 (자식은 부모 것을 찾는다)
+        if (parent == null) {
+            beanFactory.registerBean("environment", environment);
+        }
     }
 
     /**
      * Spring 컨테이너 초기화 - 스캔부터 DI까지 한번에!
      */
     public void scan(String basePackage) {
-        System.out.println("🚀 ApplicationContext 초기화 시작!");
-        System.out.println("📦 Base Package: " + basePackage);
-        System.out.println("=" + "=".repeat(50));
+        log.info("🚀 ApplicationContext 초기화 시작! (Base Package: " + basePackage + ")");
 
         try {
-            // 1단계: Component Scan
-            System.out.println("\n1️⃣ Component Scan 단계");
-            List<Class<?>> classes = scanner.scanComponents(basePackage);
+            // 1단계: Component Scan (빌드 시점 인덱스가 있으면 인덱스 사용)
+            log.debug("1️⃣ Component Scan 단계");
+            List<Class<?>> classes = findCandidateClasses(basePackage);
 
             // 2단계: Bean 생성
-            System.out.println("\n2️⃣ Bean Factory 단계");
+            log.debug("2️⃣ Bean Factory 단계");
             beanFactory.createAndRegisterBeans(classes);
 
             // 3단계: 의존성 주입
-            System.out.println("\n3️⃣ Dependency Injection 단계");
+            log.debug("3️⃣ Dependency Injection 단계");
             injector.injectDependencies(beanFactory);
 
             // 4단계: 검증
-            System.out.println("\n4️⃣ 검증 단계");
+            log.debug("4️⃣ 검증 단계");
             beanFactory.printAllBeans();
             injector.verifyInjections(beanFactory);
 
-            System.out.println("\n🎉 ApplicationContext 초기화 완료!");
-            System.out.println("=" + "=".repeat(50));
+            log.info("🎉 ApplicationContext 초기화 완료!");
 
         } catch (Exception e) {
-            System.err.println("❌ ApplicationContext 초기화 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ ApplicationContext 초기화 실패: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Component 후보 클래스 찾기 (ScanMode에 따라)
+     * AUTO: META-INF/melt.components 인덱스가 있으면 목록에 있는 클래스만 로드하고,
+     * 없으면(또는 -Dmelt.index.ignore=true) 클래스 파일을 직접 읽는 바이트코드 스캔으로 대체
+     */
+    public List<Class<?>> findCandidateClasses(String basePackage) {
+        log.debug("🔎 Scan Mode: " + scanMode);
+
+        if (scanMode == ScanMode.REFLECTION) {
+            return scanner.scanComponents(basePackage);
+        }
+        if (scanMode == ScanMode.BYTECODE) {
+            return classFileScanner.scanComponents(basePackage);
+        }
+
+        ComponentIndex index = ComponentIndex.load(Thread.currentThread().getContextClassLoader());
+        if (index != null) {
+            log.info("📇 Component 인덱스 사용 (" + index.size() + "개 등록)");
+            return index.getCandidateClasses(basePackage);
+        }
+        if (scanMode == ScanMode.INDEX) {
+            log.error("❌ Component 인덱스(" + ComponentIndex.INDEX_LOCATION + ")를 찾을 수 없습니다");
+            return List.of();
+        }
+        return classFileScanner.scanComponents(basePackage);
+    }
+
+    /**
+     * 빌드 시점에 생성한 부트스트랩으로 초기화 - 스캔, 생성자 선택, 필드 탐색 없이 생성된 코드가 바로 Bean을 만든다
+     */
+    public void bootstrap(AotBootstrap bootstrap) {
+        log.info("🚀 ApplicationContext 초기화 시작! (AOT 부트스트랩, Base Package: " + bootstrap.basePackage() + ")");
+        try {
+            bootstrap.registerBeans(beanFactory, beanFactory.getComponentFilter());
+            beanFactory.printAllBeans();
+            log.info("🎉 ApplicationContext 초기화 완료!");
+        } catch (Exception e) {
+            log.error("❌ ApplicationContext 초기화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    public void setScanMode(ScanMode scanMode) {
+        this.scanMode = scanMode;
+    }
+
+    /**
+     * 컨트롤러를 제외한 모든 Bean을 처음 쓰일 때 생성 (기본값은 -Dmelt.beans.lazy)
+     */
+    public void setLazyInit(boolean lazyInit) {
+        beanFactory.setLazyInit(lazyInit);
+    }
+
+    /**
+     * 스캔된 Component 중 이 컨텍스트에 만들 것만 고른다 (기본: 전부)
+     */
+    public void setComponentFilter(Predicate<Class<?>> componentFilter) {
+        beanFactory.setComponentFilter(componentFilter);
+    }
+
+    // 부모 컨텍스트 (루트면 null)
+    public ApplicationContext getParent() {
+        return parent;
+    }
+
     /**
      * Bean 가져오기 - 타입으로 조회
      */
@@ -70,7 +165,7 @@ public class ApplicationContext {
      * Bean 존재 여부 확인
      */
     public boolean containsBean(Class<?> type) {
-        return beanFactory.findBeanByType(type) != null;
+        return beanFactory.containsBean(type);
     }
 
     /**
@@ -80,6 +175,17 @@ public class ApplicationContext {
         beanFactory.printAllBeans();
     }
 
+    public Environment getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * @Cacheable 메서드 캐시들
+     */
+    public CacheManager getCacheManager() {
+        return beanFactory.getCacheManager();
+    }
+
     public List<Object> getBeansWithAnnotation(Class<? extends Annotation> annotationType) {
         return beanFactory.getBeansWithAnnotation(annotationType);
     }
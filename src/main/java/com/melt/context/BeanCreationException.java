@@ -0,0 +1,22 @@
+package com.melt.context;
+
+/**
+ * Bean 생성 실패 (생성자 선택 실패, 의존 Bean 없음, 생성자 의존성 순환, 생성자 예외 등)
+ */
+public class BeanCreationException extends RuntimeException {
+    private final String beanName;
+
+    public BeanCreationException(String beanName, String message) {
+        super(message);
+        this.beanName = beanName;
+    }
+
+    public BeanCreationException(String beanName, String message, Throwable cause) {
+        super(message, cause);
+        this.beanName = beanName;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+}
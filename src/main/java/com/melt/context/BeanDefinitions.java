@@ -0,0 +1,253 @@
+package com.melt.context;
+
+import com.melt.annotation.Autowired;
+import com.melt.annotation.Lazy;
+import com.melt.annotation.Value;
+import com.melt.cache.CachingSubclasses;
+import com.melt.config.Environment;
+import com.melt.util.Proxies;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 빌드 시점 Bean 분석 결과 (AOT 부트스트랩 생성용) - 인스턴스는 만들지 않고 무엇을 어떤 순서로 만들지만 정한다
+ *
+ * BeanFactory/DependencyInjector와 같은 규칙을 쓴다: Component 판별, Bean 이름, 생성자 선택,
+ * 생성자 파라미터(@Value는 설정 표현식), 클래스에 선언된 @Autowired/@Value 필드, @Lazy.
+ * 설정 값은 실행 환경마다 다르므로 여기서 읽지 않고 표현식만 남긴다.
+ * 생성자 의존성 순환이나 모호한 의존성은 실행 시점까지 미루지 않고 바로 BeanCreationException.
+ */
+public final class BeanDefinitions {
+    private final List<Definition> registrationOrder;
+    private final List<Definition> creationOrder;
+
+    private BeanDefinitions(List<Definition> registrationOrder, List<Definition> creationOrder) {
+        this.registrationOrder = registrationOrder;
+        this.creationOrder = creationOrder;
+    }
+
+    /**
+     * @param candidateClasses 스캔된 클래스 (Component가 아닌 것은 건너뜀, 순서가 곧 등록 순서)
+     */
+    public static BeanDefinitions analyze(List<Class<?>> candidateClasses) {
+        // 타입 조회는 실행 시점과 같은 BeanIndex로 (인스턴스 대신 자리 표시자)
+        LinkedHashMap<String, Object> placeholders = new LinkedHashMap<>();
+        placeholders.put("environment", new LazyBean("environment", Environment.class, null));
+        Map<String, Definition> definitions = new LinkedHashMap<>();
+        for (Class<?> clazz : candidateClasses) {
+            if (!BeanFactory.isComponent(clazz)) {
+                continue;
+            }
+            String name = BeanFactory.getBeanName(clazz);
+            if (placeholders.containsKey(name)) {
+                throw new BeanCreationException(name, "이미 같은 이름의 Bean이 있습니다");
+            }
+            Lazy lazy = clazz.getAnnotation(Lazy.class);
+            definitions.put(name, new Definition(name, clazz, lazy != null && lazy.value()));
+            placeholders.put(name, new LazyBean(name, clazz, null));
+        }
+        BeanIndex index = BeanIndex.build(placeholders);
+
+        for (Definition definition : definitions.values()) {
+            definition.resolve(index, definitions);
+        }
+
+        List<Definition> creationOrder = new ArrayList<>(definitions.size());
+        Map<Definition, Integer> state = new HashMap<>(); // 1: 방문 중, 2: 완료
+        for (Definition definition : definitions.values()) {
+            if (!definition.lazy) {
+                visit(definition, state, creationOrder, new ArrayList<>());
+            }
+        }
+        return new BeanDefinitions(List.copyOf(definitions.values()), Collections.unmodifiableList(creationOrder));
+    }
+
+    // 생성자 의존성 DFS - 의존하는 Bean이 항상 먼저 온다
+    private static void visit(Definition definition, Map<Definition, Integer> state, List<Definition> order,
+                              List<Definition> path) {
+        Integer current = state.get(definition);
+        if (current != null) {
+            if (current == 1) {
+                StringBuilder cycle = new StringBuilder();
+                for (Definition node : path.subList(path.indexOf(definition), path.size())) {
+                    cycle.append(node.beanClass.getSimpleName()).append(" → ");
+                }
+                throw new BeanCreationException(definition.name, "생성자 의존성 순환: "
+                        + cycle + definition.beanClass.getSimpleName());
+            }
+            return;
+        }
+        state.put(definition, 1);
+        path.add(definition);
+        for (Dependency argument : definition.constructorArguments) {
+            if (argument.provider != null && !argument.provider.lazy) {
+                visit(argument.provider, state, order, path);
+            }
+        }
+        path.remove(path.size() - 1);
+        state.put(definition, 2);
+        order.add(definition);
+    }
+
+    /**
+     * 스캔 순서 (인덱스 등록 순서, 지연 Bean 포함)
+     */
+    public List<Definition> getRegistrationOrder() {
+        return registrationOrder;
+    }
+
+    /**
+     * 바로 만들 Bean의 생성 순서 (생성자 의존성 위상 정렬, 지연 Bean 제외)
+     */
+    public List<Definition> getCreationOrder() {
+        return creationOrder;
+    }
+
+    public static final class Definition {
+        private final String name;
+        private final Class<?> beanClass;
+        private final boolean lazy;
+        private Constructor<?> constructor;
+        private final List<Dependency> constructorArguments = new ArrayList<>();
+        private final List<Dependency> fieldInjections = new ArrayList<>();
+        private boolean cacheSubclass;
+
+        private Definition(String name, Class<?> beanClass, boolean lazy) {
+            this.name = name;
+            this.beanClass = beanClass;
+            this.lazy = lazy;
+        }
+
+        private void resolve(BeanIndex index, Map<String, Definition> definitions) {
+            if (lazy) {
+                return; // 지연 Bean은 실행 시점에 리플렉션 경로로 만든다
+            }
+            constructor = BeanDependencyGraph.selectConstructor(beanClass);
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                Value value = constructor.getParameters()[i].getAnnotation(Value.class);
+                constructorArguments.add(value != null
+                        ? Dependency.value(parameterTypes[i], null, value.value())
+                        : Dependency.bean(parameterTypes[i], null, provider(parameterTypes[i], index, definitions)));
+            }
+            for (Field field : beanClass.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Autowired.class)) {
+                    fieldInjections.add(Dependency.bean(field.getType(), field,
+                            provider(field.getType(), index, definitions)));
+                } else if (field.isAnnotationPresent(Value.class)) {
+                    fieldInjections.add(Dependency.value(field.getType(), field,
+                            field.getAnnotation(Value.class).value()));
+                }
+            }
+            // BeanFactory.instantiableConstructor와 같은 조건
+            cacheSubclass = CachingSubclasses.hasCacheOperations(beanClass) && Proxies.canSubclass(beanClass)
+                    && !Modifier.isPrivate(constructor.getModifiers());
+        }
+
+        // 같이 만들 Bean이면 그 정의, 아니면 null (환경 등 실행 시점에 이미 등록된 Bean)
+        private Definition provider(Class<?> type, BeanIndex index, Map<String, Definition> definitions) {
+            Object placeholder = index.findByType(type);
+            if (placeholder == null) {
+                throw new BeanCreationException(name, type.getSimpleName() + " 타입의 Bean이 없습니다");
+            }
+            return definitions.get(((LazyBean) placeholder).getName());
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<?> getBeanClass() {
+            return beanClass;
+        }
+
+        public boolean isLazy() {
+            return lazy;
+        }
+
+        public Constructor<?> getConstructor() {
+            return constructor;
+        }
+
+        public List<Dependency> getConstructorArguments() {
+            return constructorArguments;
+        }
+
+        /**
+         * 클래스에 선언된 @Autowired / @Value 필드 (선언 순서)
+         */
+        public List<Dependency> getFieldInjections() {
+            return fieldInjections;
+        }
+
+        /**
+         * @Cacheable / @CacheEvict 메서드만 오버라이드한 하위 클래스로 만들어야 하는지
+         */
+        public boolean usesCacheSubclass() {
+            return cacheSubclass;
+        }
+
+        @Override
+        public String toString() {
+            return beanClass.getSimpleName();
+        }
+    }
+
+    /**
+     * 생성자 인자 또는 필드 하나 - 설정 표현식(@Value)이거나 Bean
+     */
+    public static final class Dependency {
+        private final Class<?> type;
+        private final Field field;
+        private final String valueExpression;
+        private final Definition provider;
+
+        private Dependency(Class<?> type, Field field, String valueExpression, Definition provider) {
+            this.type = type;
+            this.field = field;
+            this.valueExpression = valueExpression;
+            this.provider = provider;
+        }
+
+        private static Dependency value(Class<?> type, Field field, String expression) {
+            return new Dependency(type, field, expression, null);
+        }
+
+        private static Dependency bean(Class<?> type, Field field, Definition provider) {
+            return new Dependency(type, field, null, provider);
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        // 필드 주입이면 그 필드, 생성자 인자면 null
+        public Field getField() {
+            return field;
+        }
+
+        public boolean isValue() {
+            return valueExpression != null;
+        }
+
+        public String getValueExpression() {
+            return valueExpression;
+        }
+
+        /**
+         * 바로 만드는 Bean이 제공하면 그 정의 - 지연 Bean이거나 이미 등록된 Bean(환경 등)이면 null이라
+         * 실행 시점에 BeanFactory.resolveDependency로 찾는다
+         */
+        public Definition getProvider() {
+            return provider != null && !provider.lazy ? provider : null;
+        }
+    }
+}
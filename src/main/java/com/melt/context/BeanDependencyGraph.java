@@ -0,0 +1,283 @@
+package com.melt.context;
+
+import com.melt.annotation.Autowired;
+import com.melt.annotation.Value;
+import com.melt.config.Environment;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 생성자 의존성으로 만든 Bean 생성 순서 그래프 (DAG)
+ *
+ * 생성자 파라미터는 Bean을 만들기 전에 있어야 하므로 간선이 되고,
+ * @Autowired 필드는 모든 Bean을 만든 뒤 주입하므로 순서에 영향을 주지 않는다 (필드끼리의 순환은 허용).
+ * @Value 생성자 파라미터는 설정 값이라 간선이 아니고, 그래프를 만들 때 바로 인자로 채운다.
+ * 간선을 따라 위상 정렬해서 서로 의존하지 않는 Bean끼리 같은 단계(wave)로 묶는다.
+ */
+final class BeanDependencyGraph {
+    private final List<Node> nodes;
+    private final List<List<Node>> waves;
+    private final List<Node> blocked;
+    private final List<List<Node>> cycles;
+
+    private BeanDependencyGraph(List<Node> nodes) {
+        this.nodes = nodes;
+        this.waves = new ArrayList<>();
+        this.blocked = new ArrayList<>();
+        this.cycles = new ArrayList<>();
+        sort();
+    }
+
+    /**
+     * @param beanClasses 새로 만들 Component 클래스들 (Bean 이름 → 클래스)
+     * @param existing    이미 등록된 Bean (생성자 파라미터를 여기서 찾을 수도 있음)
+     * @param parent      여기서도 못 찾으면 볼 부모 팩토리 (없으면 null)
+     * @param environment @Value 생성자 파라미터를 읽을 설정
+     */
+    static BeanDependencyGraph build(Map<String, Class<?>> beanClasses, BeanIndex existing, BeanFactory parent,
+                                     Environment environment) {
+        Map<Class<?>, Node> nodesByClass = new LinkedHashMap<>();
+        Map<Class<?>, List<Node>> nodesByType = new HashMap<>();
+        for (Map.Entry<String, Class<?>> entry : beanClasses.entrySet()) {
+            Node node = new Node(entry.getKey(), entry.getValue());
+            nodesByClass.put(entry.getValue(), node);
+            for (Class<?> type : BeanIndex.typeClosure(entry.getValue())) {
+                nodesByType.computeIfAbsent(type, t -> new ArrayList<>(1)).add(node);
+            }
+        }
+
+        for (Node node : nodesByClass.values()) {
+            try {
+                node.constructor = selectConstructor(node.beanClass);
+                Class<?>[] parameterTypes = node.constructor.getParameterTypes();
+                node.arguments = new Object[parameterTypes.length];
+                node.providers = new Node[parameterTypes.length];
+                for (int i = 0; i < parameterTypes.length; i++) {
+                    Value value = node.constructor.getParameters()[i].getAnnotation(Value.class);
+                    if (value != null) {
+                        node.arguments[i] = environment.resolveValue(value.value(), parameterTypes[i]);
+                        continue;
+                    }
+                    Node provider = findProvider(parameterTypes[i], nodesByType);
+                    if (provider != null && provider.beanClass != parameterTypes[i]
+                            && existing.containsType(parameterTypes[i])) {
+                        // 같이 만들 Bean과 이미 등록된(또는 지연) Bean이 모두 후보
+                        throw new NoUniqueBeanException(parameterTypes[i], List.of(provider.name, "(등록된 Bean)"));
+                    }
+                    if (provider != null) {
+                        node.providers[i] = provider;
+                        node.dependsOn.add(provider);
+                        provider.dependents.add(node);
+                        continue;
+                    }
+                    // 이미 등록된 Bean 또는 지연 Bean(LazyBean, 생성할 때 프록시로 바꿈)
+                    Object bean = existing.findByType(parameterTypes[i]);
+                    if (bean == null && parent != null) {
+                        bean = parent.resolveDependency(parameterTypes[i]);
+                    }
+                    if (bean == null) {
+                        throw new BeanCreationException(node.name, "생성자 파라미터 "
+                                + parameterTypes[i].getSimpleName() + " 타입의 Bean이 없습니다");
+                    }
+                    node.arguments[i] = bean;
+                }
+            } catch (BeanCreationException e) {
+                node.error = e;
+            } catch (RuntimeException e) {
+                node.error = new BeanCreationException(node.name, e.getMessage(), e);
+            }
+        }
+        return new BeanDependencyGraph(new ArrayList<>(nodesByClass.values()));
+    }
+
+    /**
+     * 위상 정렬한 생성 단계 - 같은 단계의 Bean끼리는 서로 의존하지 않음
+     */
+    List<List<Node>> getWaves() {
+        return waves;
+    }
+
+    /**
+     * 생성자 의존성 순환에 걸려 만들 수 없는 Bean들 (순환 자체 + 순환에 의존하는 Bean)
+     */
+    List<Node> getBlocked() {
+        return blocked;
+    }
+
+    /**
+     * 발견한 순환 경로들 (첫 Bean이 마지막에 다시 나옴: A → B → A)
+     */
+    List<List<Node>> getCycles() {
+        return cycles;
+    }
+
+    List<Node> getNodes() {
+        return nodes;
+    }
+
+    // Kahn 알고리즘: 의존하는 Bean이 모두 앞 단계에 있으면 다음 단계로
+    private void sort() {
+        Map<Node, Integer> remaining = new HashMap<>();
+        List<Node> current = new ArrayList<>();
+        for (Node node : nodes) {
+            remaining.put(node, node.dependsOn.size());
+            if (node.dependsOn.isEmpty()) {
+                current.add(node);
+            }
+        }
+
+        int sorted = 0;
+        while (!current.isEmpty()) {
+            waves.add(current);
+            sorted += current.size();
+            List<Node> next = new ArrayList<>();
+            for (Node node : current) {
+                for (Node dependent : node.dependents) {
+                    if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+                        next.add(dependent);
+                    }
+                }
+            }
+            current = next;
+        }
+
+        if (sorted < nodes.size()) {
+            for (Node node : nodes) {
+                if (remaining.get(node) > 0) {
+                    blocked.add(node);
+                }
+            }
+            findCycles();
+        }
+    }
+
+    // 정렬되지 않고 남은 노드에서 DFS로 순환 경로를 찾아 보고용으로 남긴다
+    private void findCycles() {
+        Map<Node, Integer> state = new HashMap<>(); // 1: 방문 중, 2: 완료
+        for (Node start : blocked) {
+            if (state.containsKey(start)) {
+                continue;
+            }
+            Deque<Node> path = new ArrayDeque<>();
+            Deque<Integer> nextEdge = new ArrayDeque<>();
+            path.push(start);
+            nextEdge.push(0);
+            state.put(start, 1);
+
+            while (!path.isEmpty()) {
+                Node node = path.peek();
+                int edge = nextEdge.pop();
+                if (edge == node.dependsOn.size()) {
+                    state.put(node, 2);
+                    path.pop();
+                    continue;
+                }
+                nextEdge.push(edge + 1);
+                Node dependency = node.dependsOn.get(edge);
+                Integer dependencyState = state.get(dependency);
+                if (dependencyState == null) {
+                    state.put(dependency, 1);
+                    path.push(dependency);
+                    nextEdge.push(0);
+                } else if (dependencyState == 1) {
+                    cycles.add(cyclePath(path, dependency));
+                }
+            }
+        }
+    }
+
+    private static List<Node> cyclePath(Deque<Node> path, Node repeated) {
+        List<Node> cycle = new ArrayList<>();
+        // path는 스택이라 뒤에서부터(먼저 들어간 순서) 읽는다
+        boolean inCycle = false;
+        for (var it = path.descendingIterator(); it.hasNext(); ) {
+            Node node = it.next();
+            if (node == repeated) {
+                inCycle = true;
+            }
+            if (inCycle) {
+                cycle.add(node);
+            }
+        }
+        cycle.add(repeated);
+        return cycle;
+    }
+
+    private static Node findProvider(Class<?> type, Map<Class<?>, List<Node>> nodesByType) {
+        List<Node> candidates = nodesByType.get(type);
+        if (candidates == null) {
+            return null;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        List<String> names = new ArrayList<>();
+        for (Node candidate : candidates) {
+            if (candidate.beanClass == type) {
+                return candidate;
+            }
+            names.add(candidate.name);
+        }
+        throw new NoUniqueBeanException(type, names);
+    }
+
+    /**
+     * 사용할 생성자: @Autowired 생성자 → 생성자가 하나뿐이면 그것 → 기본 생성자
+     */
+    static Constructor<?> selectConstructor(Class<?> beanClass) {
+        Constructor<?>[] constructors = beanClass.getDeclaredConstructors();
+        Constructor<?> autowired = null;
+        for (Constructor<?> constructor : constructors) {
+            if (constructor.isAnnotationPresent(Autowired.class)) {
+                if (autowired != null) {
+                    throw new BeanCreationException(beanClass.getSimpleName(), "@Autowired 생성자가 둘 이상입니다");
+                }
+                autowired = constructor;
+            }
+        }
+        if (autowired != null) {
+            return autowired;
+        }
+        if (constructors.length == 1) {
+            return constructors[0];
+        }
+        for (Constructor<?> constructor : constructors) {
+            if (constructor.getParameterCount() == 0) {
+                return constructor;
+            }
+        }
+        throw new BeanCreationException(beanClass.getSimpleName(),
+                "생성자가 여러 개라 사용할 생성자를 정할 수 없습니다 (@Autowired로 지정하세요)");
+    }
+
+    static final class Node {
+        final String name;
+        final Class<?> beanClass;
+        final List<Node> dependsOn = new ArrayList<>();
+        final List<Node> dependents = new ArrayList<>();
+        Constructor<?> constructor;
+        // 이미 등록된 Bean에서 찾은 인자는 여기, 같이 만들 Bean이면 providers에
+        Object[] arguments;
+        Node[] providers;
+        BeanCreationException error;
+        // 생성 단계에서 채워짐 (다음 단계는 invokeAll 완료 이후에 읽으므로 가시성 보장)
+        Object instance;
+
+        private Node(String name, Class<?> beanClass) {
+            this.name = name;
+            this.beanClass = beanClass;
+        }
+
+        @Override
+        public String toString() {
+            return beanClass.getSimpleName();
+        }
+    }
+}
@@ -2,63 +2,374 @@ package com.melt.context;
 
 import com.melt.annotation.Component;
 import com.melt.annotation.Controller;
+import com.melt.annotation.Lazy;
 import com.melt.annotation.RestController;
 import com.melt.annotation.Service;
 import com.melt.annotation.Repository;
+import com.melt.annotation.Value;
+import com.melt.cache.CacheManager;
+import com.melt.cache.CachingSubclasses;
+import com.melt.config.Environment;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Predicate;
 
 /**
  * Bean 생성과 관리를 담당하는 팩토리
+ *
+ * 조회는 불변 인덱스(BeanIndex) 하나만 보고, 등록은 새 인덱스를 만들어 통째로 바꿔 끼운다 (copy-on-write).
+ * 그래서 요청 처리 중의 getBean(Class)은 락 없이 HashMap 조회 한 번으로 끝난다.
+ *
+ * @Lazy Bean(또는 지연 모드의 컨트롤러가 아닌 Bean)은 시작 시점에 만들지 않고 LazyBean으로 등록해 두었다가
+ * 처음 조회될 때, 또는 주입된 지연 프록시가 처음 호출될 때 만든다.
+ *
+ * @Cacheable / @CacheEvict 메서드가 있는 Bean은 그 메서드만 오버라이드한 하위 클래스로 생성한다 (CachingSubclasses).
+ *
+ * 부모 팩토리가 있으면 여기서 못 찾은 타입/이름은 부모에서 찾는다 (서블릿마다 컨트롤러만 따로 두고 서비스는 공유).
+ * 부모는 자식의 Bean을 모르고, 캐시 매니저와 설정은 부모 것을 같이 쓴다.
  */
 public class BeanFactory {
+    private static final Logger log = LoggerFactory.getLogger(BeanFactory.class);
 
-    // 타입별로 Bean 저장 (UserRepository.class -> UserRepository 인스턴스)
-    private final Map<Class<?>, Object> beansByType = new HashMap<>();
+    public static final String PARALLELISM_PROPERTY = "melt.beans.parallelism";
+    // -Dmelt.beans.lazy=true: 컨트롤러를 제외한 모든 Bean을 지연 생성
+    public static final String LAZY_PROPERTY = "melt.beans.lazy";
 
-    // 이름별로 Bean 저장 (userRepository -> UserRepository 인스턴스)
-    private final Map<String, Object> beansByName = new HashMap<>();
+    // 이름 → Bean, 타입/상위 타입 → Bean, 어노테이션 → Bean 목록이 모두 들어 있는 현재 스냅샷
+    private volatile BeanIndex index = BeanIndex.EMPTY;
+
+    private final DependencyInjector injector = new DependencyInjector();
+    private final CacheManager cacheManager;
+    private final Environment environment;
+    private final BeanFactory parent;
+    private final int parallelism;
+    private boolean lazyInit;
+    // 스캔된 Component 중 이 팩토리가 만들 것 (루트는 컨트롤러 제외, 웹 컨텍스트는 컨트롤러만 등)
+    private Predicate<Class<?>> componentFilter = type -> true;
+
+    public BeanFactory() {
+        this(Environment.getDefault());
+    }
+
+    public BeanFactory(Environment environment) {
+        this(environment, null);
+    }
+
+    public BeanFactory(Environment environment, BeanFactory parent) {
+        this.environment = environment;
+        this.parent = parent;
+        this.cacheManager = parent != null ? parent.cacheManager : new CacheManager();
+        this.lazyInit = environment.getBoolean(LAZY_PROPERTY, false);
+        // melt.beans.parallelism=N (1이면 순차 생성, 기본은 CPU 수)
+        this.parallelism = Math.max(1, environment.getInt(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+    }
 
     /**
      * 스캔된 클래스들 중에서 Component 어노테이션이 붙은 것만 Bean으로 생성
+     *
+     * 생성자 의존성 그래프를 먼저 만들고, 위상 정렬한 단계(wave)별로
+     * 서로 의존하지 않는 Bean들을 ForkJoinPool에서 병렬로 생성한다.
      */
-    public void createAndRegisterBeans(List<Class<?>> candidateClasses) {
-        System.out.println("\n🏭 Bean Factory 시작!");
+    public synchronized void createAndRegisterBeans(List<Class<?>> candidateClasses) {
+        log.debug("🏭 Bean Factory 시작!");
 
+        LinkedHashMap<String, Object> beans = new LinkedHashMap<>(index.getBeansByName());
+        Map<String, Class<?>> componentClasses = new LinkedHashMap<>();
         for (Class<?> clazz : candidateClasses) {
             // 🔍 Component 어노테이션 체크 (필터링!)
-            if (isComponent(clazz)) {
-                try {
-                    // Bean 인스턴스 생성
-                    Object bean = clazz.getDeclaredConstructor().newInstance();
+            if (!isComponent(clazz)) {
+                // Component가 아닌 클래스들 (어노테이션, 일반 클래스 등)
+                log.debug("⏭️  Component 아님: " + clazz.getSimpleName());
+                continue;
+            }
+            if (!componentFilter.test(clazz)) {
+                continue;
+            }
+            String beanName = getBeanName(clazz);
+            if (beans.containsKey(beanName) || componentClasses.containsKey(beanName)) {
+                log.error("❌ Bean 생성 실패: " + clazz.getSimpleName() + " (원인: 이미 같은 이름의 Bean이 있습니다: " + beanName + ")");
+                continue;
+            }
+            componentClasses.put(beanName, clazz);
+        }
+
+        // 지연 Bean은 자리 표시자만 먼저 등록해 두고, 바로 만들 Bean들의 생성자 인자로는 프록시를 넘긴다
+        Map<String, Class<?>> eagerClasses = new LinkedHashMap<>();
+        Map<String, LazyBean> lazyBeans = new HashMap<>();
+        LinkedHashMap<String, Object> staged = new LinkedHashMap<>(beans);
+        for (Map.Entry<String, Class<?>> entry : componentClasses.entrySet()) {
+            if (isLazy(entry.getValue())) {
+                LazyBean lazyBean = new LazyBean(entry.getKey(), entry.getValue(), this);
+                lazyBeans.put(entry.getKey(), lazyBean);
+                staged.put(entry.getKey(), lazyBean);
+            } else {
+                eagerClasses.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        BeanDependencyGraph graph = BeanDependencyGraph.build(eagerClasses, BeanIndex.build(staged), parent,
+                environment);
+        reportCycles(graph);
+
+        ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism, BeanFactory::newWorker, null, false) : null;
+        try {
+            for (List<BeanDependencyGraph.Node> wave : graph.getWaves()) {
+                instantiate(wave, pool);
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        // 등록 순서는 스캔 순서 그대로 유지
+        Map<String, BeanDependencyGraph.Node> nodes = new HashMap<>();
+        for (BeanDependencyGraph.Node node : graph.getNodes()) {
+            nodes.put(node.name, node);
+        }
+        for (String name : componentClasses.keySet()) {
+            LazyBean lazyBean = lazyBeans.get(name);
+            if (lazyBean != null) {
+                beans.put(name, lazyBean);
+                continue;
+            }
+            BeanDependencyGraph.Node node = nodes.get(name);
+            if (node.instance != null) {
+                beans.put(node.name, node.instance);
+            } else if (node.error != null) {
+                log.error("❌ Bean 생성 실패: " + node.beanClass.getSimpleName() + " (원인: " + node.error.getMessage() + ")");
+            }
+        }
+
+        publish(beans);
+        log.info("🎯 총 " + index.size() + "개의 Bean 생성 완료! (지연 " + lazyBeans.size() + "개, 생성 단계 "
+                + graph.getWaves().size() + "개, 병렬도 " + parallelism + ")");
+    }
+
+    private boolean isLazy(Class<?> clazz) {
+        Lazy lazy = clazz.getAnnotation(Lazy.class);
+        if (lazy != null) {
+            return lazy.value();
+        }
+        // 컨트롤러는 핸들러 등록에 인스턴스가 필요하므로 지연 모드에서도 바로 만든다
+        return lazyInit && !clazz.isAnnotationPresent(Controller.class) && !clazz.isAnnotationPresent(RestController.class);
+    }
+
+    public void setLazyInit(boolean lazyInit) {
+        this.lazyInit = lazyInit;
+    }
 
-                    // 저장
-                    beansByType.put(clazz, bean);
-                    beansByName.put(getBeanName(clazz), bean);
+    public void setComponentFilter(Predicate<Class<?>> componentFilter) {
+        this.componentFilter = componentFilter;
+    }
+
+    public Predicate<Class<?>> getComponentFilter() {
+        return componentFilter;
+    }
 
-                    System.out.println("✅ Bean 생성: " + clazz.getSimpleName());
+    // 부모 팩토리 (루트면 null)
+    public BeanFactory getParent() {
+        return parent;
+    }
 
-                } catch (Exception e) {
-                    System.err.println("❌ Bean 생성 실패: " + clazz.getSimpleName());
-                    System.err.println("   원인: " + e.getMessage());
+    /**
+     * 지연 Bean 실제 생성 (LazyBean.getObject에서 한 번만 호출)
+     * 생성자 인자와 @Autowired 필드도 resolveDependency로 채우므로, 아직 안 만든 지연 Bean은 다시 프록시로 들어간다.
+     */
+    Object createLazyBean(LazyBean lazyBean) {
+        String name = lazyBean.getName();
+        try {
+            Constructor<?> constructor = BeanDependencyGraph.selectConstructor(lazyBean.getBeanClass());
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            Object[] arguments = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                Value value = constructor.getParameters()[i].getAnnotation(Value.class);
+                if (value != null) {
+                    arguments[i] = environment.resolveValue(value.value(), parameterTypes[i]);
+                    continue;
+                }
+                arguments[i] = resolveDependency(parameterTypes[i]);
+                if (arguments[i] == null) {
+                    throw new BeanCreationException(name, "생성자 파라미터 "
+                            + parameterTypes[i].getSimpleName() + " 타입의 Bean이 없습니다");
                 }
-            } else {
-                // Component가 아닌 클래스들 (어노테이션, 일반 클래스 등)
-                System.out.println("⏭️  Component 아님: " + clazz.getSimpleName());
             }
+            constructor = instantiableConstructor(lazyBean.getBeanClass(), constructor);
+            constructor.setAccessible(true);
+            Object bean = constructor.newInstance(arguments);
+            injector.injectIntoBean(bean, this);
+            log.debug("💤 지연 Bean 생성: " + lazyBean.getBeanClass().getSimpleName());
+            return bean;
+        } catch (BeanCreationException e) {
+            throw e;
+        } catch (InvocationTargetException e) {
+            throw new BeanCreationException(name, String.valueOf(e.getCause()), e.getCause());
+        } catch (Exception e) {
+            throw new BeanCreationException(name, e.getMessage(), e);
         }
+    }
 
-        System.out.println("🎯 총 " + beansByType.size() + "개의 Bean 생성 완료!\n");
+    // 같은 단계의 Bean끼리는 서로 의존하지 않으므로 동시에 만들어도 된다
+    private void instantiate(List<BeanDependencyGraph.Node> wave, ForkJoinPool pool) {
+        if (pool == null || wave.size() == 1) {
+            for (BeanDependencyGraph.Node node : wave) {
+                instantiate(node);
+            }
+            return;
+        }
+        List<Callable<Void>> tasks = new ArrayList<>(wave.size());
+        for (BeanDependencyGraph.Node node : wave) {
+            tasks.add(() -> {
+                instantiate(node);
+                return null;
+            });
+        }
+        // invokeAll은 모든 작업이 끝난 뒤 돌아오므로 다음 단계에서 instance를 안전하게 읽는다
+        pool.invokeAll(tasks);
+    }
+
+    private void instantiate(BeanDependencyGraph.Node node) {
+        if (node.error != null) {
+            return;
+        }
+        try {
+            Object[] arguments = node.arguments.clone();
+            for (int i = 0; i < arguments.length; i++) {
+                BeanDependencyGraph.Node provider = node.providers[i];
+                if (provider != null) {
+                    if (provider.instance == null) {
+                        throw new BeanCreationException(node.name, "의존 Bean " + provider.name + " 생성 실패");
+                    }
+                    arguments[i] = provider.instance;
+                } else if (arguments[i] instanceof LazyBean) {
+                    arguments[i] = ((LazyBean) arguments[i]).resolve(node.constructor.getParameterTypes()[i]);
+                }
+            }
+            Constructor<?> constructor = instantiableConstructor(node.beanClass, node.constructor);
+            constructor.setAccessible(true);
+            node.instance = constructor.newInstance(arguments);
+            log.debug("✅ Bean 생성: " + node.beanClass.getSimpleName());
+        } catch (BeanCreationException e) {
+            node.error = e;
+        } catch (InvocationTargetException e) {
+            node.error = new BeanCreationException(node.name, String.valueOf(e.getCause()), e.getCause());
+        } catch (Exception e) {
+            node.error = new BeanCreationException(node.name, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 실제로 호출할 생성자 - 캐시 메서드가 있으면 생성된 하위 클래스의 같은 시그니처 생성자
+     */
+    private Constructor<?> instantiableConstructor(Class<?> beanClass, Constructor<?> constructor)
+            throws NoSuchMethodException {
+        if (!CachingSubclasses.hasCacheOperations(beanClass)) {
+            return constructor;
+        }
+        if (Modifier.isPrivate(constructor.getModifiers())) {
+            log.warn("⚠️ private 생성자라 @Cacheable/@CacheEvict가 적용되지 않습니다: " + beanClass.getSimpleName());
+            return constructor;
+        }
+        Class<?> subclass = CachingSubclasses.create(beanClass, cacheManager);
+        return subclass == beanClass ? constructor : subclass.getDeclaredConstructor(constructor.getParameterTypes());
+    }
+
+    public Environment getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * @Cacheable 메서드 캐시들 (캐시별 통계 조회용)
+     */
+    public CacheManager getCacheManager() {
+        return cacheManager;
+    }
+
+    private void reportCycles(BeanDependencyGraph graph) {
+        Set<BeanDependencyGraph.Node> inCycle = new HashSet<>();
+        for (List<BeanDependencyGraph.Node> cycle : graph.getCycles()) {
+            inCycle.addAll(cycle);
+            StringBuilder path = new StringBuilder();
+            for (BeanDependencyGraph.Node node : cycle) {
+                if (path.length() > 0) {
+                    path.append(" → ");
+                }
+                path.append(node.beanClass.getSimpleName());
+            }
+            log.error("🔁 생성자 의존성 순환: " + path + " (필드 @Autowired 주입으로 바꾸세요)");
+        }
+        for (BeanDependencyGraph.Node node : graph.getBlocked()) {
+            if (node.error == null) {
+                node.error = new BeanCreationException(node.name, inCycle.contains(node)
+                        ? "생성자 의존성 순환에 걸려 생성할 수 없습니다"
+                        : "생성자 의존성 순환에 걸린 Bean에 의존해서 생성할 수 없습니다");
+            }
+        }
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("melt-bean-init-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    /**
+     * 실행 중에 Bean 하나 추가 등록 - 기존 인덱스를 복사해 새 인덱스를 만든 뒤 교체
+     */
+    public synchronized void registerBean(String name, Object bean) {
+        LinkedHashMap<String, Object> beans = new LinkedHashMap<>(index.getBeansByName());
+        if (beans.putIfAbsent(name, bean) != null) {
+            throw new IllegalStateException("이미 같은 이름의 Bean이 있습니다: " + name);
+        }
+        publish(beans);
+        log.debug("✅ Bean 등록: " + name + " -> " + bean.getClass().getSimpleName());
+    }
+
+    /**
+     * 미리 만든 Bean들을 한 번에 등록 (AOT 부트스트랩) - 인덱스는 한 번만 다시 만든다
+     */
+    public synchronized void registerBeans(LinkedHashMap<String, Object> created) {
+        LinkedHashMap<String, Object> beans = new LinkedHashMap<>(index.getBeansByName());
+        for (Map.Entry<String, Object> entry : created.entrySet()) {
+            if (beans.putIfAbsent(entry.getKey(), entry.getValue()) != null) {
+                throw new IllegalStateException("이미 같은 이름의 Bean이 있습니다: " + entry.getKey());
+            }
+        }
+        publish(beans);
+        log.info("🎯 총 " + index.size() + "개의 Bean 등록 완료! (미리 생성된 부트스트랩)");
+    }
+
+    /**
+     * 지연 Bean 자리 표시자 등록 (AOT 부트스트랩) - 실제 생성은 처음 쓰일 때 리플렉션 경로로
+     */
+    public synchronized void registerLazyBean(String name, Class<?> beanClass) {
+        registerBean(name, new LazyBean(name, beanClass, this));
+    }
+
+    // 쓰기는 synchronized 메서드 안에서만, 읽기는 volatile 필드 한 번 읽기
+    private void publish(LinkedHashMap<String, Object> beans) {
+        index = BeanIndex.build(beans);
     }
 
     /**
      * Component 어노테이션 체크 - 여기서 필터링!
      */
-    private boolean isComponent(Class<?> clazz) {
+    static boolean isComponent(Class<?> clazz) {
         // 🚫 어노테이션 자체는 Bean이 될 수 없음
         if (clazz.isAnnotation()) {
             return false;
@@ -85,29 +396,47 @@ public class BeanFactory {
     /**
      * Bean 이름 생성 (클래스명의 첫 글자를 소문자로)
      */
-    private String getBeanName(Class<?> clazz) {
+    static String getBeanName(Class<?> clazz) {
         String simpleName = clazz.getSimpleName();
         return simpleName.substring(0, 1).toLowerCase() + simpleName.substring(1);
     }
 
     /**
-     * 타입으로 Bean 찾기
+     * 타입으로 Bean 찾기 (구체 타입, 상위 클래스, 인터페이스 모두 인덱스 조회 한 번)
+     * 후보가 여럿이고 그중 구체 타입이 정확히 같은 Bean도 없으면 NoUniqueBeanException
      */
     public Object findBeanByType(Class<?> requiredType) {
-        // 정확한 타입 매치 먼저 확인
-        Object exactMatch = beansByType.get(requiredType);
-        if (exactMatch != null) {
-            return exactMatch;
+        Object bean = unwrap(index.findByType(requiredType));
+        return bean == null && parent != null ? parent.findBeanByType(requiredType) : bean;
+    }
+
+    /**
+     * 주입할 의존성 찾기 - findBeanByType과 같지만 아직 안 만든 지연 Bean이면 만들지 않고 지연 프록시를 돌려줌
+     */
+    public Object resolveDependency(Class<?> requiredType) {
+        Object bean = index.findByType(requiredType);
+        if (bean == null) {
+            return parent != null ? parent.resolveDependency(requiredType) : null;
         }
+        return bean instanceof LazyBean ? ((LazyBean) bean).resolve(requiredType) : bean;
+    }
 
-        // 상속/구현 관계 확인 (인터페이스 구현체 찾기)
-        for (Map.Entry<Class<?>, Object> entry : beansByType.entrySet()) {
-            if (requiredType.isAssignableFrom(entry.getKey())) {
-                return entry.getValue();
-            }
+    /**
+     * 해당 타입(상위 타입 포함)으로 등록된 모든 Bean (부모 것이 먼저)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getBeansOfType(Class<T> type) {
+        List<T> local = (List<T>) unwrapAll(index.findAllByType(type));
+        if (parent == null) {
+            return local;
         }
+        List<T> all = new ArrayList<>(parent.getBeansOfType(type));
+        all.addAll(local);
+        return all;
+    }
 
-        return null; // 못 찾으면 null
+    public boolean containsBean(Class<?> type) {
+        return index.containsType(type) || parent != null && parent.containsBean(type);
     }
 
     /**
@@ -125,38 +454,67 @@ public class BeanFactory {
      * 이름으로 Bean 가져오기
      */
     public Object getBean(String name) {
-        return beansByName.get(name);
+        Object bean = unwrap(index.findByName(name));
+        return bean == null && parent != null ? parent.getBean(name) : bean;
     }
 
     /**
-     * 모든 Bean 반환 (DI할 때 사용)
+     * 지금까지 생성된 모든 Bean 반환 (DI할 때 사용) - 아직 안 만든 지연 Bean과 부모의 Bean은 빠짐
      */
     public Map<Class<?>, Object> getAllBeans() {
-        return new HashMap<>(beansByType);
+        Map<Class<?>, Object> created = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, Object> entry : index.getBeansByType().entrySet()) {
+            Object bean = entry.getValue();
+            if (bean instanceof LazyBean) {
+                bean = ((LazyBean) bean).getInitializedObject();
+            }
+            if (bean != null) {
+                created.put(entry.getKey(), bean);
+            }
+        }
+        return created;
     }
 
     /**
      * 등록된 Bean 목록 출력 (디버깅용)
      */
     public void printAllBeans() {
-        System.out.println("📋 등록된 Bean 목록:");
-        for (Map.Entry<String, Object> entry : beansByName.entrySet()) {
-            System.out.println("  - " + entry.getKey() + " -> " + entry.getValue().getClass().getSimpleName());
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        log.debug("📋 등록된 Bean 목록:");
+        for (Map.Entry<String, Object> entry : index.getBeansByName().entrySet()) {
+            Object bean = entry.getValue();
+            log.debug("  - " + entry.getKey() + " -> " + BeanIndex.beanClass(bean).getSimpleName()
+                    + (bean instanceof LazyBean && !((LazyBean) bean).isInitialized() ? " (지연, 아직 생성 안 됨)" : ""));
         }
     }
 
+    /**
+     * 어노테이션(메타 어노테이션 포함)이 붙은 Bean 목록 - 등록 시점에 만든 인덱스에서 바로 꺼냄
+     * (이 팩토리의 Bean만 - 컨트롤러를 모을 때 부모의 것까지 섞이지 않게)
+     */
     public List<Object> getBeansWithAnnotation(Class<? extends Annotation> annotationType) {
-        List<Object> result = new ArrayList<>();
+        List<Object> result = unwrapAll(index.findByAnnotation(annotationType));
+        log.debug(() -> "🎯 " + annotationType.getSimpleName() + " Bean " + result.size() + "개");
+        return result;
+    }
 
-        // beansByName 사용 (일관성 유지)
-        for (Map.Entry<String, Object> entry : beansByName.entrySet()) {
-            Object bean = entry.getValue();
-            if (bean.getClass().isAnnotationPresent(annotationType)) {
-                result.add(bean);
-                System.out.println("🎯 " + annotationType.getSimpleName() + " 발견: " + bean.getClass().getSimpleName());
+    private static Object unwrap(Object bean) {
+        return bean instanceof LazyBean ? ((LazyBean) bean).getObject() : bean;
+    }
+
+    // 지연 Bean이 섞여 있으면 실제 Bean으로 바꾼 새 목록 (이 시점에 생성됨)
+    private static List<Object> unwrapAll(List<Object> beans) {
+        for (int i = 0; i < beans.size(); i++) {
+            if (beans.get(i) instanceof LazyBean) {
+                List<Object> unwrapped = new ArrayList<>(beans.size());
+                for (Object bean : beans) {
+                    unwrapped.add(unwrap(bean));
+                }
+                return unwrapped;
             }
         }
-
-        return result;
+        return beans;
     }
-}
\ No newline at end of file
+}
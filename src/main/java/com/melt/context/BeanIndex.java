@@ -0,0 +1,183 @@
+package com.melt.context;
+
+import com.melt.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 등록된 Bean들의 불변 조회 인덱스
+ *
+ * 등록 시점에 Bean 클래스의 모든 상위 클래스/인터페이스와 (메타)어노테이션을 펼쳐서
+ * 타입 → Bean, 어노테이션 → Bean 목록을 미리 만들어 둔다.
+ * 만들어진 뒤에는 바뀌지 않으므로 요청 처리 중 여러 스레드가 락 없이 읽는다.
+ * 지연 생성 Bean은 실제 객체 대신 LazyBean이 들어 있고, 타입은 LazyBean이 가진 Bean 클래스로 색인한다.
+ */
+final class BeanIndex {
+    static final BeanIndex EMPTY = new BeanIndex(new LinkedHashMap<>());
+
+    private final Map<String, Object> beansByName;
+    private final Map<Class<?>, Object> beansByType;
+    // 타입 → Bean (후보가 여럿이면 Ambiguous)
+    private final Map<Class<?>, Object> resolvedByType;
+    private final Map<Class<?>, List<Object>> candidatesByType;
+    private final Map<Class<? extends Annotation>, List<Object>> beansByAnnotation;
+
+    private BeanIndex(LinkedHashMap<String, Object> beans) {
+        Map<Object, String> names = new IdentityHashMap<>();
+        Map<Class<?>, Object> byType = new LinkedHashMap<>();
+        Map<Class<?>, List<Object>> candidates = new HashMap<>();
+        Map<Class<? extends Annotation>, List<Object>> byAnnotation = new HashMap<>();
+
+        for (Map.Entry<String, Object> entry : beans.entrySet()) {
+            Object bean = entry.getValue();
+            Class<?> beanClass = beanClass(bean);
+            names.put(bean, entry.getKey());
+            byType.put(beanClass, bean);
+
+            for (Class<?> type : typeClosure(beanClass)) {
+                candidates.computeIfAbsent(type, t -> new ArrayList<>(1)).add(bean);
+            }
+            for (Class<? extends Annotation> annotationType : annotationClosure(beanClass)) {
+                byAnnotation.computeIfAbsent(annotationType, t -> new ArrayList<>()).add(bean);
+            }
+        }
+
+        Map<Class<?>, Object> resolved = new HashMap<>(candidates.size() * 2);
+        Map<Class<?>, List<Object>> frozenCandidates = new HashMap<>(candidates.size() * 2);
+        for (Map.Entry<Class<?>, List<Object>> entry : candidates.entrySet()) {
+            Class<?> type = entry.getKey();
+            List<Object> list = List.copyOf(entry.getValue());
+            frozenCandidates.put(type, list);
+            resolved.put(type, resolve(type, list, names));
+        }
+
+        Map<Class<? extends Annotation>, List<Object>> frozenAnnotations = new HashMap<>();
+        byAnnotation.forEach((type, list) -> frozenAnnotations.put(type, List.copyOf(list)));
+
+        this.beansByName = Collections.unmodifiableMap(new LinkedHashMap<>(beans));
+        this.beansByType = Collections.unmodifiableMap(byType);
+        this.resolvedByType = resolved;
+        this.candidatesByType = frozenCandidates;
+        this.beansByAnnotation = frozenAnnotations;
+    }
+
+    static BeanIndex build(LinkedHashMap<String, Object> beans) {
+        return beans.isEmpty() ? EMPTY : new BeanIndex(beans);
+    }
+
+    /**
+     * 타입으로 Bean 조회 - 없으면 null, 후보가 여럿이면 NoUniqueBeanException
+     */
+    Object findByType(Class<?> type) {
+        Object bean = resolvedByType.get(type);
+        if (bean instanceof Ambiguous) {
+            throw new NoUniqueBeanException(type, ((Ambiguous) bean).candidateNames);
+        }
+        return bean;
+    }
+
+    boolean containsType(Class<?> type) {
+        return resolvedByType.containsKey(type);
+    }
+
+    List<Object> findAllByType(Class<?> type) {
+        return candidatesByType.getOrDefault(type, List.of());
+    }
+
+    List<Object> findByAnnotation(Class<? extends Annotation> annotationType) {
+        return beansByAnnotation.getOrDefault(annotationType, List.of());
+    }
+
+    Object findByName(String name) {
+        return beansByName.get(name);
+    }
+
+    Map<String, Object> getBeansByName() {
+        return beansByName;
+    }
+
+    Map<Class<?>, Object> getBeansByType() {
+        return beansByType;
+    }
+
+    int size() {
+        return beansByName.size();
+    }
+
+    // 후보가 여럿이면 구체 타입이 정확히 같은 Bean을 우선, 그마저 없으면 모호함으로 기록
+    private static Object resolve(Class<?> type, List<Object> candidates, Map<Object, String> names) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        for (Object candidate : candidates) {
+            if (beanClass(candidate) == type) {
+                return candidate;
+            }
+        }
+        List<String> candidateNames = new ArrayList<>(candidates.size());
+        for (Object candidate : candidates) {
+            candidateNames.add(names.get(candidate));
+        }
+        return new Ambiguous(List.copyOf(candidateNames));
+    }
+
+    static Class<?> beanClass(Object bean) {
+        return bean instanceof LazyBean ? ((LazyBean) bean).getBeanClass() : ClassUtils.getUserClass(bean);
+    }
+
+    // 자기 자신 + 모든 상위 클래스 + 모든 인터페이스(상속된 인터페이스 포함)
+    static Set<Class<?>> typeClosure(Class<?> beanClass) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> c = beanClass; c != null; c = c.getSuperclass()) {
+            types.add(c);
+            collectInterfaces(c, types);
+        }
+        return types;
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> types) {
+        for (Class<?> anInterface : type.getInterfaces()) {
+            if (types.add(anInterface)) {
+                collectInterfaces(anInterface, types);
+            }
+        }
+    }
+
+    // 클래스에 붙은 어노테이션 + 그 어노테이션에 붙은 메타 어노테이션 (@Service → @Component)
+    private static Set<Class<? extends Annotation>> annotationClosure(Class<?> beanClass) {
+        Set<Class<? extends Annotation>> annotationTypes = new LinkedHashSet<>();
+        collectAnnotations(beanClass.getAnnotations(), annotationTypes, new HashSet<>());
+        return annotationTypes;
+    }
+
+    private static void collectAnnotations(Annotation[] annotations, Set<Class<? extends Annotation>> result,
+                                           Set<Class<?>> visited) {
+        for (Annotation annotation : annotations) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            // @Retention, @Target 같은 java.lang.annotation 메타 어노테이션은 제외
+            if (annotationType.getName().startsWith("java.lang.annotation.") || !visited.add(annotationType)) {
+                continue;
+            }
+            result.add(annotationType);
+            collectAnnotations(annotationType.getAnnotations(), result, visited);
+        }
+    }
+
+    private static final class Ambiguous {
+        private final List<String> candidateNames;
+
+        private Ambiguous(List<String> candidateNames) {
+            this.candidateNames = candidateNames;
+        }
+    }
+}
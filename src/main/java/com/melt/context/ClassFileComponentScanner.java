@@ -0,0 +1,357 @@
+package com.melt.context;
+
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarInputStream;
+
+/**
+ * 클래스를 로드하지 않고 .class 파일 바이트만 읽어서 Component 후보를 찾는 스캐너
+ *
+ * ComponentScanner는 모든 .class 파일을 Class.forName으로 로드(+ static 초기화)하지만,
+ * 이 스캐너는 헤더와 어노테이션 속성만 읽어 Component로 확인된 클래스만 로드한다.
+ * 디렉토리, jar, jar 안의 jar를 ForkJoinPool 위에서 병렬로 훑는다.
+ */
+public class ClassFileComponentScanner {
+    private static final Logger log = LoggerFactory.getLogger(ClassFileComponentScanner.class);
+
+    private static final String COMPONENT = "com.melt.annotation.Component";
+    private static final Set<String> STEREOTYPES = Set.of(
+            COMPONENT,
+            "com.melt.annotation.Service",
+            "com.melt.annotation.Repository",
+            "com.melt.annotation.Controller",
+            "com.melt.annotation.RestController"
+    );
+
+    private final ClassLoader classLoader;
+    private final ForkJoinPool pool;
+
+    // 어노테이션 타입 → 스테레오타입(메타 어노테이션 포함) 여부 캐시
+    private final Map<String, Boolean> stereotypeCache = new ConcurrentHashMap<>();
+
+    public ClassFileComponentScanner() {
+        this(Thread.currentThread().getContextClassLoader(), ForkJoinPool.commonPool());
+    }
+
+    public ClassFileComponentScanner(ClassLoader classLoader, ForkJoinPool pool) {
+        this.classLoader = classLoader;
+        this.pool = pool;
+    }
+
+    /**
+     * 패키지(하위 포함)에서 Component로 확인된 클래스만 로드해서 반환
+     */
+    public List<Class<?>> scanComponents(String packageName) {
+        List<Class<?>> componentClasses = new ArrayList<>();
+        String resourcePath = packageName.replace('.', '/');
+
+        try {
+            log.debug("패키지 스캔 시작(바이트코드): " + packageName);
+
+            List<RecursiveTask<List<String>>> tasks = new ArrayList<>();
+            Enumeration<URL> resources = classLoader.getResources(resourcePath);
+            while (resources.hasMoreElements()) {
+                RecursiveTask<List<String>> task = createRootTask(resources.nextElement(), resourcePath);
+                if (task != null) {
+                    tasks.add(task);
+                }
+            }
+
+            // 같은 클래스가 여러 경로(jar URL, 중첩 jar)로 잡힐 수 있으므로 중복 제거
+            Set<String> classNames = new LinkedHashSet<>();
+            for (RecursiveTask<List<String>> task : tasks) {
+                classNames.addAll(pool.invoke(task));
+            }
+
+            // 확인된 후보만 로드 (초기화는 Bean 생성 시점까지 미룸)
+            for (String className : classNames) {
+                try {
+                    componentClasses.add(Class.forName(className, false, classLoader));
+                    log.debug("클래스 발견: " + className);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    log.warn("클래스 로드 실패: " + className);
+                }
+            }
+
+            log.info("스캔 완료! 총 " + componentClasses.size() + "개의 Component 후보 발견!!!");
+
+        } catch (IOException e) {
+            log.error("Component Scan 실패: " + e.getMessage(), e);
+        }
+        return componentClasses;
+    }
+
+    private RecursiveTask<List<String>> createRootTask(URL url, String resourcePath) throws IOException {
+        String protocol = url.getProtocol();
+
+        if ("file".equals(protocol)) {
+            File directory = new File(URLDecoder.decode(url.getPath(), StandardCharsets.UTF_8));
+            return directory.isDirectory() ? new DirectoryTask(directory) : null;
+        }
+
+        if ("jar".equals(protocol)) {
+            // jar:file:/app.jar!/com/melt 또는 jar:file:/app.jar!/lib/inner.jar!/com/melt
+            String spec = url.getPath();
+            String[] parts = spec.split("!/");
+            if (parts.length <= 2) {
+                JarURLConnection connection = (JarURLConnection) url.openConnection();
+                connection.setUseCaches(false);
+                File jarFile = new File(URLDecoder.decode(connection.getJarFileURL().getPath(), StandardCharsets.UTF_8));
+                return new JarFileTask(jarFile, resourcePath + "/");
+            }
+            return new NestedJarPathTask(parts, resourcePath + "/");
+        }
+
+        log.warn("지원하지 않는 클래스패스 형식: " + url);
+        return null;
+    }
+
+    /**
+     * 클래스 파일 한 개 판정 (Component면 클래스명, 아니면 null)
+     */
+    private String inspect(InputStream in) {
+        try {
+            ClassFileMetadata metadata = ClassFileMetadata.read(in);
+            if (metadata.isConcrete() && hasStereotype(metadata.getAnnotationTypes())) {
+                return metadata.getClassName();
+            }
+        } catch (IOException e) {
+            // 깨진 클래스 파일은 건너뜀
+        }
+        return null;
+    }
+
+    private boolean hasStereotype(List<String> annotationTypes) {
+        for (String annotationType : annotationTypes) {
+            if (isStereotype(annotationType, 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @Service 처럼 @Component가 메타 어노테이션으로 붙은 어노테이션까지 확인
+     * (어노테이션 클래스 파일도 로드하지 않고 리소스로 읽는다)
+     */
+    private boolean isStereotype(String annotationType, int depth) {
+        if (STEREOTYPES.contains(annotationType)) {
+            return true;
+        }
+        if (depth > 8 || annotationType.startsWith("java.") || annotationType.startsWith("javax.")) {
+            return false;
+        }
+
+        Boolean cached = stereotypeCache.get(annotationType);
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean result = false;
+        try (InputStream in = classLoader.getResourceAsStream(annotationType.replace('.', '/') + ".class")) {
+            if (in != null) {
+                ClassFileMetadata metadata = ClassFileMetadata.read(in);
+                for (String meta : metadata.getAnnotationTypes()) {
+                    if (!meta.equals(annotationType) && isStereotype(meta, depth + 1)) {
+                        result = true;
+                        break;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // 읽을 수 없는 어노테이션은 스테레오타입 아님
+        }
+        stereotypeCache.put(annotationType, result);
+        return result;
+    }
+
+    private static boolean isCandidateEntry(String name) {
+        return name.endsWith(".class")
+                && !name.endsWith("module-info.class")
+                && !name.endsWith("package-info.class");
+    }
+
+    /**
+     * 디렉토리 하나 = 태스크 하나, 하위 디렉토리는 fork
+     */
+    private class DirectoryTask extends RecursiveTask<List<String>> {
+        private final File directory;
+
+        private DirectoryTask(File directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        protected List<String> compute() {
+            List<String> found = new ArrayList<>();
+            File[] files = directory.listFiles();
+            if (files == null) {
+                return found;
+            }
+
+            List<DirectoryTask> subTasks = new ArrayList<>();
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    DirectoryTask subTask = new DirectoryTask(file);
+                    subTask.fork();
+                    subTasks.add(subTask);
+                } else if (isCandidateEntry(file.getName())) {
+                    try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+                        String className = inspect(in);
+                        if (className != null) {
+                            found.add(className);
+                        }
+                    } catch (IOException e) {
+                        log.warn("클래스 파일 읽기 실패: " + file.getPath());
+                    }
+                }
+            }
+
+            for (DirectoryTask subTask : subTasks) {
+                found.addAll(subTask.join());
+            }
+            return found;
+        }
+    }
+
+    /**
+     * 디스크의 jar 파일 - prefix 아래 클래스만 확인, 안에 든 jar는 fork
+     */
+    private class JarFileTask extends RecursiveTask<List<String>> {
+        private final File file;
+        private final String prefix;
+
+        private JarFileTask(File file, String prefix) {
+            this.file = file;
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected List<String> compute() {
+            List<String> found = new ArrayList<>();
+            List<NestedJarTask> subTasks = new ArrayList<>();
+
+            try (JarFile jar = new JarFile(file)) {
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    String name = entry.getName();
+
+                    if (name.endsWith(".jar")) {
+                        NestedJarTask subTask = new NestedJarTask(jar.getInputStream(entry).readAllBytes(), prefix);
+                        subTask.fork();
+                        subTasks.add(subTask);
+                    } else if (name.startsWith(prefix) && isCandidateEntry(name)) {
+                        try (InputStream in = jar.getInputStream(entry)) {
+                            String className = inspect(in);
+                            if (className != null) {
+                                found.add(className);
+                            }
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("jar 읽기 실패: " + file.getPath());
+            }
+
+            for (NestedJarTask subTask : subTasks) {
+                found.addAll(subTask.join());
+            }
+            return found;
+        }
+    }
+
+    /**
+     * jar 안에 들어 있는 jar (메모리에 읽어 둔 바이트를 JarInputStream으로 순회)
+     */
+    private class NestedJarTask extends RecursiveTask<List<String>> {
+        private final byte[] content;
+        private final String prefix;
+
+        private NestedJarTask(byte[] content, String prefix) {
+            this.content = content;
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected List<String> compute() {
+            List<String> found = new ArrayList<>();
+            List<NestedJarTask> subTasks = new ArrayList<>();
+
+            try (JarInputStream jar = new JarInputStream(new ByteArrayInputStream(content))) {
+                JarEntry entry;
+                while ((entry = jar.getNextJarEntry()) != null) {
+                    String name = entry.getName();
+                    if (name.endsWith(".jar")) {
+                        NestedJarTask subTask = new NestedJarTask(jar.readAllBytes(), prefix);
+                        subTask.fork();
+                        subTasks.add(subTask);
+                    } else if (name.startsWith(prefix) && isCandidateEntry(name)) {
+                        // JarInputStream은 현재 엔트리 끝에서 EOF를 돌려주므로 그대로 넘겨도 됨
+                        String className = inspect(jar);
+                        if (className != null) {
+                            found.add(className);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("중첩 jar 읽기 실패: " + e.getMessage());
+            }
+
+            for (NestedJarTask subTask : subTasks) {
+                found.addAll(subTask.join());
+            }
+            return found;
+        }
+    }
+
+    /**
+     * jar:file:/outer.jar!/lib/inner.jar!/com/melt 형태의 URL - 바깥 jar에서 안쪽 jar를 꺼내 스캔
+     */
+    private class NestedJarPathTask extends RecursiveTask<List<String>> {
+        private final String[] parts;
+        private final String prefix;
+
+        private NestedJarPathTask(String[] parts, String prefix) {
+            this.parts = parts;
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected List<String> compute() {
+            File outer = new File(URLDecoder.decode(parts[0].replaceFirst("^file:", ""), StandardCharsets.UTF_8));
+            try (JarFile jar = new JarFile(outer)) {
+                JarEntry inner = jar.getJarEntry(parts[1]);
+                if (inner == null) {
+                    return new ArrayList<>();
+                }
+                return new NestedJarTask(jar.getInputStream(inner).readAllBytes(), prefix).invoke();
+            } catch (IOException e) {
+                log.warn("중첩 jar 읽기 실패: " + outer.getPath());
+                return new ArrayList<>();
+            }
+        }
+    }
+}
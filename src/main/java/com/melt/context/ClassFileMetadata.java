@@ -0,0 +1,176 @@
+package com.melt.context;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * .class 파일 헤더와 RuntimeVisibleAnnotations 속성만 직접 읽어낸 클래스 정보
+ *
+ * 클래스를 로드하지 않으므로 static 초기화도, 메타스페이스 사용도 없다.
+ * 필드/메소드 본문은 길이만 보고 건너뛴다.
+ */
+public class ClassFileMetadata {
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_ANNOTATION = 0x2000;
+
+    private final String className;
+    private final int accessFlags;
+    private final List<String> annotationTypes;
+
+    private ClassFileMetadata(String className, int accessFlags, List<String> annotationTypes) {
+        this.className = className;
+        this.accessFlags = accessFlags;
+        this.annotationTypes = annotationTypes;
+    }
+
+    /**
+     * 클래스 파일 읽기 (스트림은 호출한 쪽에서 닫는다)
+     */
+    public static ClassFileMetadata read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("클래스 파일이 아닙니다");
+        }
+        in.readUnsignedShort(); // minor_version
+        in.readUnsignedShort(); // major_version
+
+        // 1. 상수 풀 - Utf8과 Class 항목만 기억하고 나머지는 건너뜀
+        int constantPoolCount = in.readUnsignedShort();
+        String[] utf8 = new String[constantPoolCount];
+        int[] classNameIndex = new int[constantPoolCount];
+
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8[i] = in.readUTF();
+                    break;
+                case 7: // Class
+                    classNameIndex[i] = in.readUnsignedShort();
+                    break;
+                case 8: case 16: case 19: case 20: // String, MethodType, Module, Package
+                    skip(in, 2);
+                    break;
+                case 15: // MethodHandle
+                    skip(in, 3);
+                    break;
+                case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+                    skip(in, 4);
+                    break;
+                case 5: case 6: // Long, Double는 슬롯 2개 차지
+                    skip(in, 8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("알 수 없는 상수 풀 태그: " + tag);
+            }
+        }
+
+        // 2. 클래스 헤더
+        int accessFlags = in.readUnsignedShort();
+        int thisClass = in.readUnsignedShort();
+        String className = utf8[classNameIndex[thisClass]].replace('/', '.');
+        in.readUnsignedShort(); // super_class
+        skip(in, 2 * in.readUnsignedShort()); // interfaces
+
+        // 3. 필드, 메소드는 건너뜀
+        skipMembers(in);
+        skipMembers(in);
+
+        // 4. 클래스 속성 중 RuntimeVisibleAnnotations만 읽음
+        List<String> annotationTypes = Collections.emptyList();
+        int attributesCount = in.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            String name = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            if ("RuntimeVisibleAnnotations".equals(name)) {
+                annotationTypes = readAnnotationTypes(in, utf8);
+            } else {
+                skip(in, length);
+            }
+        }
+
+        return new ClassFileMetadata(className, accessFlags, annotationTypes);
+    }
+
+    private static List<String> readAnnotationTypes(DataInputStream in, String[] utf8) throws IOException {
+        int count = in.readUnsignedShort();
+        List<String> types = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // 디스크립터 형태: Lcom/melt/annotation/Service;
+            String descriptor = utf8[in.readUnsignedShort()];
+            types.add(descriptor.substring(1, descriptor.length() - 1).replace('/', '.'));
+            skipElementValuePairs(in);
+        }
+        return types;
+    }
+
+    private static void skipElementValuePairs(DataInputStream in) throws IOException {
+        int pairs = in.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            skip(in, 2); // element_name_index
+            skipElementValue(in);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'e': // enum: type_name_index + const_name_index
+                skip(in, 4);
+                break;
+            case '@': // 중첩 어노테이션
+                skip(in, 2);
+                skipElementValuePairs(in);
+                break;
+            case '[':
+                int values = in.readUnsignedShort();
+                for (int i = 0; i < values; i++) {
+                    skipElementValue(in);
+                }
+                break;
+            default: // B C D F I J S Z s c → 상수 풀 인덱스 하나
+                skip(in, 2);
+        }
+    }
+
+    private static void skipMembers(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            skip(in, 6); // access_flags, name_index, descriptor_index
+            int attributes = in.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                skip(in, 2);
+                skip(in, in.readInt());
+            }
+        }
+    }
+
+    private static void skip(DataInputStream in, int bytes) throws IOException {
+        in.skipNBytes(bytes);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public List<String> getAnnotationTypes() {
+        return annotationTypes;
+    }
+
+    public boolean isAnnotation() {
+        return (accessFlags & ACC_ANNOTATION) != 0;
+    }
+
+    // 인터페이스/추상 클래스/어노테이션이 아닌 구체 클래스인지
+    public boolean isConcrete() {
+        return (accessFlags & (ACC_INTERFACE | ACC_ABSTRACT | ACC_ANNOTATION)) == 0;
+    }
+}
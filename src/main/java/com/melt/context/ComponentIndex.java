@@ -0,0 +1,101 @@
+package com.melt.context;
+
+import com.melt.config.Environment;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 빌드 시점에 melt-processor가 만든 META-INF/melt.components 인덱스
+ *
+ * 클래스패스 디렉토리를 뒤지지 않고, 인덱스에 적힌 Component 클래스만 로드한다.
+ * (jar로 실행해도 동작하고, 전체 클래스 개수와 무관하게 Component 개수만큼만 비용이 든다)
+ */
+public class ComponentIndex {
+    private static final Logger log = LoggerFactory.getLogger(ComponentIndex.class);
+
+    public static final String INDEX_LOCATION = "META-INF/melt.components";
+
+    // true 로 설정하면 인덱스를 무시하고 클래스패스 스캔 사용
+    public static final String IGNORE_PROPERTY = "melt.index.ignore";
+
+    private final Set<String> classNames;
+    private final ClassLoader classLoader;
+
+    private ComponentIndex(Set<String> classNames, ClassLoader classLoader) {
+        this.classNames = classNames;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * 클래스패스의 모든 인덱스 파일을 읽어 합친다 (인덱스가 하나도 없거나 무시 설정이면 null)
+     */
+    public static ComponentIndex load(ClassLoader classLoader) {
+        if (Environment.getDefault().getBoolean(IGNORE_PROPERTY, false)) {
+            return null;
+        }
+
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+            if (!resources.hasMoreElements()) {
+                return null;
+            }
+            while (resources.hasMoreElements()) {
+                readIndex(resources.nextElement(), classNames);
+            }
+        } catch (IOException e) {
+            log.error("❌ Component 인덱스 읽기 실패: " + e.getMessage());
+            return null;
+        }
+        return new ComponentIndex(classNames, classLoader);
+    }
+
+    private static void readIndex(URL url, Set<String> classNames) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    classNames.add(line);
+                }
+            }
+        }
+    }
+
+    /**
+     * 패키지(하위 패키지 포함)에 속한 Component 클래스 로드 - static 초기화는 실행하지 않는다
+     */
+    public List<Class<?>> getCandidateClasses(String basePackage) {
+        List<Class<?>> classes = new ArrayList<>();
+        String prefix = basePackage + ".";
+
+        for (String className : classNames) {
+            if (!className.startsWith(prefix)) {
+                continue;
+            }
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+                log.debug("클래스 발견(인덱스): " + className);
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.warn("클래스 로드 실패: " + className);
+            }
+        }
+        return classes;
+    }
+
+    public int size() {
+        return classNames.size();
+    }
+}
@@ -1,5 +1,8 @@
 package com.melt.context;
 
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+
 import java.io.File;
 import java.net.URL;
 import java.util.ArrayList;
@@ -9,6 +12,8 @@ import java.util.List;
  * 지정된 패키지에서 Component 어노테이션이 붙은 클래스들을 찾는 스캐너
  */
 public class ComponentScanner {
+    private static final Logger log = LoggerFactory.getLogger(ComponentScanner.class);
+
     /**
      * 패키지를 스캔해서 모든 클래스를 찾아 반환
      * @param packageName 스캔할 패키지명(예; "com.example")
@@ -18,36 +23,35 @@ public class ComponentScanner {
         List<Class<?>> componentClasses = new ArrayList<>();
 
         try{
-            System.out.println("패키지 스캔 시작: " + packageName);
+            log.debug("패키지 스캔 시작: " + packageName);
 
             // 패키지명을 파일 경로로 변환(com.example -> com/example)
             String resourcePath = packageName.replace(".","/");
-            System.out.println("리소스 경로: " + resourcePath);
+            log.debug("리소스 경로: " + resourcePath);
 
             // 클래스패스에서 해당 패키지 디렉토리 찾기
             ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
             URL resource = classLoader.getResource(resourcePath);
 
             if(resource == null) {
-                System.err.println("패키지를 찾을 수 없습니다: " + packageName);
+                log.warn("패키지를 찾을 수 없습니다: " + packageName);
                 return componentClasses;
             }
 
             File directory = new File(resource.toURI());
-            System.out.println("디렉토리 경로: " + directory.getAbsolutePath());
+            log.debug("디렉토리 경로: " + directory.getAbsolutePath());
 
             if(directory.exists() && directory.isDirectory()) {
                 // 재귀적으로 하위 디렉토리까지 스캔
                 scanDirectory(directory, packageName, componentClasses);
             } else {
-                System.out.println("디렉토리가 존재하지 않습니다: " + directory.getPath());
+                log.warn("디렉토리가 존재하지 않습니다: " + directory.getPath());
             }
 
-            System.out.println("스캔 완료! 총 " + componentClasses.size() + "개의 클래스 발견!!!");
+            log.debug("스캔 완료! 총 " + componentClasses.size() + "개의 클래스 발견!!!");
 
         } catch (Exception e) {
-            System.err.println("Component Scan 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Component Scan 실패: " + e.getMessage(), e);
         }
         return componentClasses;
     }
@@ -74,11 +78,11 @@ public class ComponentScanner {
                 try {
                     Class<?> clazz = Class.forName(className);
                     componentClasses.add(clazz);
-                    System.out.println("클래스 발견: " + className);
+                    log.debug("클래스 발견: " + className);
                 } catch(ClassNotFoundException e) {
-                    System.out.println("클래스 로드 실패: " + className);
+                    log.warn("클래스 로드 실패: " + className);
                 } catch(NoClassDefFoundError e) {
-                    System.out.println("클래스 정의 없음: " + className);
+                    log.warn("클래스 정의 없음: " + className);
                 }
             }
         }
@@ -1,6 +1,10 @@
 package com.melt.context;
 
 import com.melt.annotation.Autowired;
+import com.melt.annotation.Value;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import com.melt.util.ClassUtils;
 import java.lang.reflect.Field;
 import java.util.Map;
 
@@ -8,12 +12,13 @@ import java.util.Map;
  * @Autowired 어노테이션을 처리하여 의존성을 자동으로 주입하는 클래스
  */
 public class DependencyInjector {
+    private static final Logger log = LoggerFactory.getLogger(DependencyInjector.class);
 
     /**
      * 모든 Bean에 대해 @Autowired 필드를 찾아서 의존성 주입
      */
     public void injectDependencies(BeanFactory beanFactory) {
-        System.out.println("\n💉 의존성 주입 시작!");
+        log.debug("💉 의존성 주입 시작!");
 
         // BeanFactory에서 모든 Bean 가져오기
         Map<Class<?>, Object> allBeans = beanFactory.getAllBeans();
@@ -23,18 +28,18 @@ public class DependencyInjector {
             Class<?> beanClass = entry.getKey();
             Object beanInstance = entry.getValue();
 
-            System.out.println("🔍 " + beanClass.getSimpleName() + " 의존성 검사 중...");
+            log.debug("🔍 " + beanClass.getSimpleName() + " 의존성 검사 중...");
             injectIntoBean(beanInstance, beanFactory);
         }
 
-        System.out.println("✅ 의존성 주입 완료!\n");
+        log.info("✅ 의존성 주입 완료!");
     }
 
     /**
      * 특정 Bean 객체의 @Autowired 필드들에 의존성 주입
      */
-    private void injectIntoBean(Object bean, BeanFactory beanFactory) {
-        Class<?> beanClass = bean.getClass();
+    void injectIntoBean(Object bean, BeanFactory beanFactory) {
+        Class<?> beanClass = ClassUtils.getUserClass(bean);
 
         // 클래스의 모든 필드(변수) 가져오기
         Field[] fields = beanClass.getDeclaredFields();
@@ -42,16 +47,17 @@ public class DependencyInjector {
         for (Field field : fields) {
             // @Autowired 어노테이션이 붙은 필드만 처리
             if (field.isAnnotationPresent(Autowired.class)) {
-                System.out.println("  🎯 @Autowired 발견: " + field.getName() + " (타입: " + field.getType().getSimpleName() + ")");
+                log.debug("  🎯 @Autowired 발견: " + field.getName() + " (타입: " + field.getType().getSimpleName() + ")");
 
                 try {
                     // 의존성 주입 수행
                     performInjection(bean, field, beanFactory);
 
                 } catch (Exception e) {
-                    System.err.println("  ❌ 주입 실패: " + field.getName());
-                    System.err.println("     원인: " + e.getMessage());
+                    log.error("  ❌ 주입 실패: " + field.getName() + " (원인: " + e.getMessage() + ")");
                 }
+            } else if (field.isAnnotationPresent(Value.class)) {
+                injectValue(bean, field, beanFactory);
             }
         }
     }
@@ -63,8 +69,8 @@ public class DependencyInjector {
         // 1. 필드가 필요로 하는 타입 확인
         Class<?> fieldType = field.getType();
 
-        // 2. BeanFactory에서 해당 타입의 Bean 찾기
-        Object dependency = beanFactory.findBeanByType(fieldType);
+        // 2. BeanFactory에서 해당 타입의 Bean 찾기 (아직 안 만든 지연 Bean이면 지연 프록시)
+        Object dependency = beanFactory.resolveDependency(fieldType);
 
         if (dependency != null) {
             // 3. private 필드에 접근 가능하도록 설정
@@ -73,10 +79,23 @@ public class DependencyInjector {
             // 4. 의존성 주입! (핵심 코드)
             field.set(bean, dependency);
 
-            System.out.println("  ✅ 주입 성공: " + field.getName() + " <- " + dependency.getClass().getSimpleName());
+            log.debug("  ✅ 주입 성공: " + field.getName() + " <- " + dependency.getClass().getSimpleName());
 
         } else {
-            System.err.println("  ❌ 의존성 없음: " + fieldType.getSimpleName() + " 타입의 Bean을 찾을 수 없음");
+            log.error("  ❌ 의존성 없음: " + fieldType.getSimpleName() + " 타입의 Bean을 찾을 수 없음");
+        }
+    }
+
+    // @Value 필드에 설정 값 주입
+    private void injectValue(Object bean, Field field, BeanFactory beanFactory) {
+        String expression = field.getAnnotation(Value.class).value();
+        try {
+            Object value = beanFactory.getEnvironment().resolveValue(expression, field.getType());
+            field.setAccessible(true);
+            field.set(bean, value);
+            log.debug("  ⚙️ 설정 주입: " + field.getName() + " = " + value);
+        } catch (Exception e) {
+            log.error("  ❌ 설정 주입 실패: " + field.getName() + " (원인: " + e.getMessage() + ")");
         }
     }
 
@@ -84,14 +103,14 @@ public class DependencyInjector {
      * 의존성 주입 결과 검증 (테스트용)
      */
     public void verifyInjections(BeanFactory beanFactory) {
-        System.out.println("🔬 의존성 주입 결과 검증:");
+        log.debug("🔬 의존성 주입 결과 검증:");
 
         Map<Class<?>, Object> allBeans = beanFactory.getAllBeans();
 
         for (Object bean : allBeans.values()) {
-            System.out.println("\n📦 " + bean.getClass().getSimpleName() + " 검증:");
+            log.debug("📦 " + bean.getClass().getSimpleName() + " 검증:");
 
-            Field[] fields = bean.getClass().getDeclaredFields();
+            Field[] fields = ClassUtils.getUserClass(bean).getDeclaredFields();
             for (Field field : fields) {
                 if (field.isAnnotationPresent(Autowired.class)) {
                     try {
@@ -99,13 +118,13 @@ public class DependencyInjector {
                         Object injectedValue = field.get(bean);
 
                         if (injectedValue != null) {
-                            System.out.println("  ✅ " + field.getName() + " = " + injectedValue.getClass().getSimpleName() + " (주입됨)");
+                            log.debug("  ✅ " + field.getName() + " = " + injectedValue.getClass().getSimpleName() + " (주입됨)");
                         } else {
-                            System.out.println("  ❌ " + field.getName() + " = null (주입 실패)");
+                            log.warn("  ❌ " + field.getName() + " = null (주입 실패)");
                         }
 
                     } catch (Exception e) {
-                        System.out.println("  ⚠️ " + field.getName() + " 검증 실패: " + e.getMessage());
+                        log.warn("  ⚠️ " + field.getName() + " 검증 실패: " + e.getMessage());
                     }
                 }
             }
@@ -0,0 +1,130 @@
+package com.melt.context;
+
+import com.melt.util.Proxies;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 지연 생성 Bean 자리 표시자 - 인덱스에는 실제 Bean 대신 이 객체가 들어간다
+ *
+ * getObject()는 처음 한 번만 실제 Bean을 만든다 (volatile 읽기 + synchronized 이중 확인).
+ * 아직 만들어지지 않은 Bean을 다른 Bean에 주입할 때는 프록시를 넣고, 프록시의 첫 메서드 호출에서 생성한다.
+ */
+final class LazyBean {
+    private final String name;
+    private final Class<?> beanClass;
+    private final BeanFactory beanFactory;
+
+    private volatile Object instance;
+    private boolean creating;
+
+    // 프록시는 생성 락과 다른 락으로 만든다 (A 생성 중 B 프록시, B 생성 중 A 프록시를 동시에 요청해도 교착 없음)
+    private final Object proxyLock = new Object();
+    private volatile Object interfaceProxy;
+    private volatile Object classProxy;
+
+    LazyBean(String name, Class<?> beanClass, BeanFactory beanFactory) {
+        this.name = name;
+        this.beanClass = beanClass;
+        this.beanFactory = beanFactory;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    boolean isInitialized() {
+        return instance != null;
+    }
+
+    Object getInitializedObject() {
+        return instance;
+    }
+
+    /**
+     * 실제 Bean (없으면 지금 생성)
+     */
+    Object getObject() {
+        Object bean = instance;
+        if (bean != null) {
+            return bean;
+        }
+        synchronized (this) {
+            if (instance == null) {
+                if (creating) {
+                    throw new BeanCreationException(name, "생성 도중 자기 자신을 다시 요청했습니다 (생성자에서 순환 호출)");
+                }
+                creating = true;
+                try {
+                    instance = beanFactory.createLazyBean(this);
+                } finally {
+                    creating = false;
+                }
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * 주입할 값: 이미 생성됐으면 실제 Bean, 아니면 requiredType에 맞는 지연 프록시
+     * (final 클래스처럼 프록시를 만들 수 없으면 그 자리에서 생성)
+     */
+    Object resolve(Class<?> requiredType) {
+        Object bean = instance;
+        if (bean != null) {
+            return bean;
+        }
+        if (requiredType.isInterface()) {
+            return getInterfaceProxy();
+        }
+        if (Proxies.canSubclass(beanClass)) {
+            return getClassProxy();
+        }
+        return getObject();
+    }
+
+    private Object getInterfaceProxy() {
+        Object proxy = interfaceProxy;
+        if (proxy == null) {
+            synchronized (proxyLock) {
+                if (interfaceProxy == null) {
+                    Set<Class<?>> interfaces = new LinkedHashSet<>();
+                    for (Class<?> type : BeanIndex.typeClosure(beanClass)) {
+                        if (type.isInterface()) {
+                            interfaces.add(type);
+                        }
+                    }
+                    interfaceProxy = Proxies.interfaceProxy(beanClass.getClassLoader(),
+                            interfaces.toArray(new Class<?>[0]),
+                            (p, method, args) -> Proxies.invoke(getObject(), method, args));
+                }
+                proxy = interfaceProxy;
+            }
+        }
+        return proxy;
+    }
+
+    private Object getClassProxy() {
+        Object proxy = classProxy;
+        if (proxy == null) {
+            synchronized (proxyLock) {
+                if (classProxy == null) {
+                    classProxy = Proxies.subclassProxy(beanClass,
+                            (p, method, args) -> Proxies.invoke(getObject(), method, args));
+                }
+                proxy = classProxy;
+            }
+        }
+        return proxy;
+    }
+
+    @Override
+    public String toString() {
+        return "LazyBean(" + name + (isInitialized() ? ", 생성됨" : "") + ")";
+    }
+}
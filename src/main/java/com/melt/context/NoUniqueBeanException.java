@@ -0,0 +1,25 @@
+package com.melt.context;
+
+import java.util.List;
+
+/**
+ * 타입으로 조회했을 때 후보 Bean이 둘 이상이라 하나를 고를 수 없는 경우
+ */
+public class NoUniqueBeanException extends RuntimeException {
+    private final Class<?> requiredType;
+    private final List<String> candidateNames;
+
+    public NoUniqueBeanException(Class<?> requiredType, List<String> candidateNames) {
+        super(requiredType.getName() + " 타입의 Bean이 " + candidateNames.size() + "개라 하나를 고를 수 없습니다: " + candidateNames);
+        this.requiredType = requiredType;
+        this.candidateNames = candidateNames;
+    }
+
+    public Class<?> getRequiredType() {
+        return requiredType;
+    }
+
+    public List<String> getCandidateNames() {
+        return candidateNames;
+    }
+}
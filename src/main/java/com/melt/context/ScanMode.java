@@ -0,0 +1,28 @@
+package com.melt.context;
+
+import com.melt.config.Environment;
+
+/**
+ * Component 후보 클래스를 찾는 방식
+ */
+public enum ScanMode {
+    // 인덱스(META-INF/melt.components)가 있으면 인덱스, 없으면 바이트코드 스캔
+    AUTO,
+    // 빌드 시점 인덱스만 사용
+    INDEX,
+    // 클래스를 로드하지 않고 .class 파일을 직접 읽는 스캔 (ClassFileComponentScanner)
+    BYTECODE,
+    // 모든 클래스를 Class.forName으로 로드하는 기존 스캔 (ComponentScanner)
+    REFLECTION;
+
+    // -Dmelt.scan.mode=index|bytecode|reflection|auto
+    public static final String PROPERTY = "melt.scan.mode";
+
+    public static ScanMode fromEnvironment(Environment environment) {
+        String value = environment.getProperty(PROPERTY);
+        if (value == null || value.isBlank()) {
+            return AUTO;
+        }
+        return valueOf(value.trim().toUpperCase());
+    }
+}
@@ -1,5 +1,6 @@
 package com.melt.controller;
 
+import com.melt.annotation.AdmissionExempt;
 import com.melt.annotation.Controller;
 import com.melt.annotation.RequestMapping;
 
@@ -11,6 +12,7 @@ public class TestController {
         return "Test Controller Works! ✅";
     }
 
+    @AdmissionExempt
     @RequestMapping("/health")
     public String health() {
         return "Server is healthy! 💚";
@@ -1,7 +1,10 @@
 // com/melt/controller/UserController.java
 package com.melt.controller;
 
+import com.melt.annotation.Autowired;
 import com.melt.annotation.RestController;
+import com.melt.annotation.ConcurrencyLimit;
+import com.melt.annotation.RateLimit;
 import com.melt.annotation.GetMapping;
 import com.melt.annotation.PostMapping;
 import com.melt.annotation.PutMapping;
@@ -10,10 +13,19 @@ import com.melt.annotation.PatchMapping;
 import com.melt.annotation.RequestParam;
 import com.melt.annotation.PathVariable;
 import com.melt.annotation.RequestBody;
+import com.melt.annotation.ResponseCache;
+import com.melt.service.UserService;
+import com.melt.web.admission.LimitAlgorithm;
+
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 public class UserController {
 
+    @Autowired
+    private UserService userService;
+
     // 간단한 User DTO 클래스 (내부 클래스로 정의)
     public static class User {
         private String name;
@@ -32,6 +44,7 @@ public class UserController {
 
     // 1. 전체 사용자 조회 (RequestParam 테스트)
     @GetMapping("/api/users")
+    @ResponseCache(ttl = 30)
     public String getUsers(@RequestParam(value = "name", required = false) String name,
                           @RequestParam(value = "age", required = false) Integer age) {
         if (name != null && age != null) {
@@ -42,6 +55,7 @@ public class UserController {
 
     // 2. 특정 사용자 조회 (PathVariable 테스트)
     @GetMapping("/api/users/{id}")
+    @ResponseCache(ttl = 30, maxEntries = 10_000)
     public String getUserById(@PathVariable("id") Long id) {
         return "{\"user\": {\"id\": " + id + ", \"name\": \"User " + id + "\", \"age\": 25}}";
     }
@@ -75,4 +89,28 @@ public class UserController {
     public String updateUserStatus(@PathVariable("id") Long id, @RequestParam("status") String status) {
         return "{\"message\": \"User " + id + " status changed to: " + status + "\"}";
     }
+
+    // 8. 여러 사용자 조회 (List/LocalDate/enum 변환, defaultValue 테스트) - ?ids=1,2,3&since=2024-01-01&status=active
+    // 유입 제한 테스트: 초당 200개(버스트 50), 동시 처리 한도는 지연에 따라 16~128 사이에서 조절
+    @RateLimit(value = 200, burst = 50)
+    @ConcurrencyLimit(value = 32, algorithm = LimitAlgorithm.GRADIENT, minLimit = 16, maxLimit = 128)
+    @GetMapping("/api/users/lookup")
+    public String getUsersByIds(@RequestParam("ids") List<Long> ids,
+                                @RequestParam(value = "since", required = false) LocalDate since,
+                                @RequestParam(value = "limit", defaultValue = "20") int limit,
+                                @RequestParam(value = "status", required = false) UserStatus status) {
+        return "{\"ids\": " + ids.subList(0, Math.min(limit, ids.size())) + ", \"since\": "
+                + (since != null ? "\"" + since + "\"" : "null") + ", \"limit\": " + limit + ", \"status\": "
+                + (status != null ? "\"" + status + "\"" : "null") + "}";
+    }
+
+    // 9. 이름으로 사용자 조회 (@Cacheable 서비스 메소드 테스트 - 같은 이름은 저장소까지 가지 않음)
+    @GetMapping("/api/users/by-name/{name}")
+    public String getUserByName(@PathVariable("name") String name) {
+        return "{\"user\": {\"name\": \"" + userService.findUser(name) + "\"}}";
+    }
+
+    public enum UserStatus {
+        ACTIVE, INACTIVE, SUSPENDED
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.melt.json;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배열 ↔ JSON 배열 (원시 타입 배열 포함)
+ */
+final class ArrayCodec implements JsonCodec<Object> {
+    private final Class<?> componentType;
+    private final LazyCodec<Object> elementCodec;
+
+    ArrayCodec(Class<?> componentType) {
+        this.componentType = componentType;
+        this.elementCodec = new LazyCodec<>(componentType);
+    }
+
+    @Override
+    public Object read(JsonReader reader) throws IOException {
+        JsonCodec<Object> codec = elementCodec.get();
+        List<Object> elements = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            elements.add(codec.read(reader));
+        }
+        reader.endArray();
+
+        Object array = Array.newInstance(componentType, elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            Array.set(array, i, elements.get(i));
+        }
+        return array;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Object value) throws IOException {
+        JsonCodec<Object> codec = elementCodec.get();
+        writer.beginArray();
+        int length = Array.getLength(value);
+        for (int i = 0; i < length; i++) {
+            codec.write(writer, Array.get(value, i));
+        }
+        writer.endArray();
+    }
+}
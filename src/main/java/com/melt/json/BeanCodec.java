@@ -0,0 +1,225 @@
+package com.melt.json;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일반 클래스(POJO) ↔ JSON 객체
+ *
+ * 생성 시점에 한 번만 리플렉션으로 프로퍼티를 분석해서
+ * getter/setter(없으면 필드) MethodHandle과 이스케이프된 "name": 바이트를 만들어 둔다.
+ * 이후 읽기/쓰기는 리플렉션 조회 없이 MethodHandle 호출만 한다.
+ */
+final class BeanCodec<T> implements JsonCodec<T> {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final Property[] readable;
+    private final Map<String, Property> writable;
+
+    BeanCodec(Class<T> type) {
+        this.type = type;
+        this.constructor = findConstructor(type);
+
+        Map<String, Property> properties = new LinkedHashMap<>();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        // 1) 필드 기준 프로퍼티 (상위 클래스 필드 포함)
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(0, c);
+        }
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                properties.put(field.getName(), new Property(field.getName(), field.getGenericType(), field.getType()));
+            }
+        }
+
+        // 2) getter/setter가 있으면 필드 직접 접근 대신 사용
+        Method[] methods = type.getMethods();
+        for (Method method : methods) {
+            String getterName = isInstanceMethod(method) ? getterPropertyName(method) : null;
+            if (getterName != null) {
+                Property property = properties.computeIfAbsent(getterName,
+                        name -> new Property(name, method.getGenericReturnType(), method.getReturnType()));
+                property.getter = unreflect(lookup, method, GETTER_TYPE);
+            }
+        }
+        for (Method method : methods) {
+            String setterName = isInstanceMethod(method) ? setterPropertyName(method) : null;
+            Property property = setterName != null ? properties.get(setterName) : null;
+            if (property != null && property.rawType == method.getParameterTypes()[0]) {
+                property.setter = unreflect(lookup, method, SETTER_TYPE);
+            }
+        }
+
+        // 3) 접근자가 없는 프로퍼티는 필드로 직접 접근
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                Property property = properties.get(field.getName());
+                if (property == null || Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    if (property.getter == null) {
+                        property.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                    }
+                    if (property.setter == null && !Modifier.isFinal(field.getModifiers())) {
+                        property.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+                    }
+                } catch (IllegalAccessException | RuntimeException e) {
+                    // 접근할 수 없는 필드는 건너뜀
+                }
+            }
+        }
+
+        List<Property> readableList = new ArrayList<>();
+        Map<String, Property> writableMap = new HashMap<>();
+        for (Property property : properties.values()) {
+            if (property.getter != null) {
+                readableList.add(property);
+            }
+            if (property.setter != null) {
+                writableMap.put(property.name, property);
+            }
+        }
+        this.readable = readableList.toArray(new Property[0]);
+        this.writable = writableMap;
+    }
+
+    @Override
+    public T read(JsonReader reader) throws IOException {
+        if (constructor == null) {
+            throw new JsonException(type.getName() + "에 기본 생성자가 없어 JSON을 읽을 수 없습니다");
+        }
+
+        T bean;
+        try {
+            bean = type.cast(constructor.invoke());
+        } catch (Throwable t) {
+            throw new JsonException(type.getName() + " 생성 실패", t);
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            Property property = writable.get(reader.nextName());
+            if (property == null) {
+                reader.skipValue(); // 모르는 속성은 무시
+                continue;
+            }
+            if (property.rawType.isPrimitive() && reader.peek() == JsonToken.NULL) {
+                reader.nextNull(); // 원시 타입은 null이면 기본값 유지
+                continue;
+            }
+            Object value = property.codec.get().read(reader);
+            try {
+                property.setter.invokeExact((Object) bean, value);
+            } catch (Throwable t) {
+                throw new JsonException(type.getSimpleName() + "." + property.name + " 설정 실패", t);
+            }
+        }
+        reader.endObject();
+        return bean;
+    }
+
+    @Override
+    public void write(JsonWriter writer, T value) throws IOException {
+        writer.beginObject();
+        for (Property property : readable) {
+            Object propertyValue;
+            try {
+                propertyValue = (Object) property.getter.invokeExact((Object) value);
+            } catch (Throwable t) {
+                throw new JsonException(type.getSimpleName() + "." + property.name + " 읽기 실패", t);
+            }
+            writer.rawName(property.encodedName);
+            property.codec.get().write(writer, propertyValue);
+        }
+        writer.endObject();
+    }
+
+    private static MethodHandle findConstructor(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method, MethodType type) {
+        try {
+            method.setAccessible(true);
+            return lookup.unreflect(method).asType(type);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isInstanceMethod(Method method) {
+        return !Modifier.isStatic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+    }
+
+    private static String getterPropertyName(Method method) {
+        if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+            return null;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2
+                && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    private static String setterPropertyName(Method method) {
+        String name = method.getName();
+        if (method.getParameterCount() == 1 && name.startsWith("set") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        return null;
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static final class Property {
+        private final String name;
+        private final Class<?> rawType;
+        private final byte[] encodedName;
+        private final LazyCodec<Object> codec;
+        private MethodHandle getter;
+        private MethodHandle setter;
+
+        private Property(String name, Type genericType, Class<?> rawType) {
+            this.name = name;
+            this.rawType = rawType;
+            this.encodedName = JsonWriter.encodeName(name);
+            this.codec = new LazyCodec<>(genericType);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.melt.json;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * List/Set 등 Collection ↔ JSON 배열
+ */
+final class CollectionCodec<E> implements JsonCodec<Collection<E>> {
+    private final Supplier<Collection<E>> factory;
+    private final LazyCodec<E> elementCodec;
+
+    CollectionCodec(Supplier<Collection<E>> factory, Type elementType) {
+        this.factory = factory;
+        this.elementCodec = new LazyCodec<>(elementType);
+    }
+
+    @Override
+    public Collection<E> read(JsonReader reader) throws IOException {
+        Collection<E> result = factory.get();
+        JsonCodec<E> codec = elementCodec.get();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            result.add(codec.read(reader));
+        }
+        reader.endArray();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Collection<E> value) throws IOException {
+        JsonCodec<E> codec = elementCodec.get();
+        writer.beginArray();
+        for (E element : value) {
+            codec.write(writer, element);
+        }
+        writer.endArray();
+    }
+}
@@ -0,0 +1,39 @@
+package com.melt.json;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * enum ↔ 상수 이름 (이름 바이트와 조회 테이블은 생성 시점에 준비)
+ */
+final class EnumCodec<E extends Enum<E>> implements JsonCodec<E> {
+    private final Class<E> type;
+    private final Map<String, E> byName = new HashMap<>();
+    private final String[] names;
+
+    EnumCodec(Class<E> type) {
+        this.type = type;
+        E[] constants = type.getEnumConstants();
+        this.names = new String[constants.length];
+        for (E constant : constants) {
+            byName.put(constant.name(), constant);
+            names[constant.ordinal()] = constant.name();
+        }
+    }
+
+    @Override
+    public E read(JsonReader reader) throws IOException {
+        String name = reader.nextString();
+        E value = byName.get(name);
+        if (value == null) {
+            throw new JsonException(type.getSimpleName() + "에 없는 값: " + name);
+        }
+        return value;
+    }
+
+    @Override
+    public void write(JsonWriter writer, E value) throws IOException {
+        writer.value(names[value.ordinal()]);
+    }
+}
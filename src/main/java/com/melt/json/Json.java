@@ -0,0 +1,231 @@
+package com.melt.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 내장 JSON 변환기 진입점
+ *
+ * 타입별 코덱은 처음 필요할 때 한 번 만들어 Class 단위(ClassValue)로 캐시하고,
+ * List<User> 같은 제네릭 타입은 Type 단위로 캐시한다.
+ */
+public final class Json {
+    private static final ClassValue<JsonCodec<?>> CLASS_CODECS = new ClassValue<>() {
+        @Override
+        protected JsonCodec<?> computeValue(Class<?> type) {
+            return createCodec(type, type);
+        }
+    };
+
+    private static final Map<Type, JsonCodec<?>> GENERIC_CODECS = new ConcurrentHashMap<>();
+
+    private Json() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> JsonCodec<T> codecFor(Class<T> type) {
+        return (JsonCodec<T>) CLASS_CODECS.get(type);
+    }
+
+    public static JsonCodec<?> codecFor(Type type) {
+        if (type instanceof Class) {
+            return CLASS_CODECS.get((Class<?>) type);
+        }
+        JsonCodec<?> codec = GENERIC_CODECS.get(type);
+        if (codec == null) {
+            codec = createCodec(type, rawType(type));
+            JsonCodec<?> existing = GENERIC_CODECS.putIfAbsent(type, codec);
+            if (existing != null) {
+                codec = existing;
+            }
+        }
+        return codec;
+    }
+
+    /**
+     * InputStream에서 바로 읽어 객체로 변환
+     */
+    public static Object read(InputStream in, Type type) throws IOException {
+        JsonReader reader = new JsonReader(in);
+        Object value = codecFor(type).read(reader);
+        if (reader.peek() != JsonToken.END_DOCUMENT) {
+            throw new JsonException("JSON 문서 끝에 불필요한 내용이 있습니다");
+        }
+        return value;
+    }
+
+    public static <T> T read(InputStream in, Class<T> type) throws IOException {
+        return wrap(type).cast(read(in, (Type) type));
+    }
+
+    public static <T> T fromJson(String json, Class<T> type) throws IOException {
+        return read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), type);
+    }
+
+    /**
+     * 객체를 OutputStream에 바로 직렬화 (버퍼가 차는 대로 흘려보냄)
+     */
+    @SuppressWarnings("unchecked")
+    public static void write(OutputStream out, Object value) throws IOException {
+        JsonWriter writer = new JsonWriter(out);
+        if (value == null) {
+            writer.nullValue();
+        } else {
+            ((JsonCodec<Object>) codecFor(value.getClass())).write(writer, value);
+        }
+        writer.flush();
+    }
+
+    public static String toJson(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, value);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static JsonCodec<?> createCodec(Type type, Class<?> raw) {
+        JsonCodec<?> scalar = ScalarCodecs.get(raw);
+        if (scalar != null) {
+            return raw.isPrimitive() ? scalar : new NullSafeCodec<>(scalar);
+        }
+        if (raw == Object.class) {
+            return ObjectCodec.INSTANCE;
+        }
+        if (raw.isEnum()) {
+            return new NullSafeCodec<>(new EnumCodec(raw));
+        }
+        if (raw.isArray()) {
+            return new NullSafeCodec<>(new ArrayCodec(raw.getComponentType()));
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            return new NullSafeCodec<>(new CollectionCodec(collectionFactory(raw), typeArgument(type, 0)));
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            return new NullSafeCodec<>(new MapCodec(mapFactory(raw), typeArgument(type, 1)));
+        }
+        if (raw.isInterface() || Modifier.isAbstract(raw.getModifiers())) {
+            // 구체 타입을 모르면 쓸 때는 실제 클래스 기준, 읽을 때는 Map/List로
+            return ObjectCodec.INSTANCE;
+        }
+        if (raw.isRecord()) {
+            return new NullSafeCodec<>(new RecordCodec<>(raw));
+        }
+        return new NullSafeCodec<>(new BeanCodec<>(raw));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Supplier<Collection<Object>> collectionFactory(Class<?> raw) {
+        if (!raw.isInterface() && !Modifier.isAbstract(raw.getModifiers())) {
+            return () -> {
+                try {
+                    return (Collection<Object>) raw.getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(raw.getName() + " 생성 실패", e);
+                }
+            };
+        }
+        if (EnumSet.class.isAssignableFrom(raw)) {
+            throw new IllegalArgumentException("EnumSet은 지원하지 않습니다");
+        }
+        if (SortedSet.class.isAssignableFrom(raw)) {
+            return TreeSet::new;
+        }
+        if (Set.class.isAssignableFrom(raw)) {
+            return LinkedHashSet::new;
+        }
+        return ArrayList::new;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Map<Object, Object>> mapFactory(Class<?> raw) {
+        if (!raw.isInterface() && !Modifier.isAbstract(raw.getModifiers())) {
+            return () -> {
+                try {
+                    return (Map<Object, Object>) raw.getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(raw.getName() + " 생성 실패", e);
+                }
+            };
+        }
+        if (SortedMap.class.isAssignableFrom(raw)) {
+            return TreeMap::new;
+        }
+        return LinkedHashMap::new;
+    }
+
+    private static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length) {
+                return arguments[index];
+            }
+            if (arguments.length > 0) {
+                return arguments[arguments.length - 1];
+            }
+        }
+        return Object.class;
+    }
+
+    static Class<?> rawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            Class<?> component = rawType(((GenericArrayType) type).getGenericComponentType());
+            return java.lang.reflect.Array.newInstance(component, 0).getClass();
+        }
+        if (type instanceof WildcardType) {
+            return rawType(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable) {
+            Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            return bounds.length > 0 ? rawType(bounds[0]) : Object.class;
+        }
+        return Object.class;
+    }
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_WRAPPERS = new HashMap<>();
+
+    static {
+        PRIMITIVE_WRAPPERS.put(int.class, Integer.class);
+        PRIMITIVE_WRAPPERS.put(long.class, Long.class);
+        PRIMITIVE_WRAPPERS.put(double.class, Double.class);
+        PRIMITIVE_WRAPPERS.put(float.class, Float.class);
+        PRIMITIVE_WRAPPERS.put(boolean.class, Boolean.class);
+        PRIMITIVE_WRAPPERS.put(short.class, Short.class);
+        PRIMITIVE_WRAPPERS.put(byte.class, Byte.class);
+        PRIMITIVE_WRAPPERS.put(char.class, Character.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> wrap(Class<T> type) {
+        return type.isPrimitive() ? (Class<T>) PRIMITIVE_WRAPPERS.get(type) : type;
+    }
+}
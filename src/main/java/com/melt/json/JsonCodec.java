@@ -0,0 +1,12 @@
+package com.melt.json;
+
+import java.io.IOException;
+
+/**
+ * 타입 하나에 대한 JSON 읽기/쓰기 - 타입별로 한 번 만들어서 캐시해 두고 재사용한다
+ */
+public interface JsonCodec<T> {
+    T read(JsonReader reader) throws IOException;
+
+    void write(JsonWriter writer, T value) throws IOException;
+}
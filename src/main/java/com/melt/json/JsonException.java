@@ -0,0 +1,16 @@
+package com.melt.json;
+
+import java.io.IOException;
+
+/**
+ * JSON 문법 오류 또는 타입 불일치
+ */
+public class JsonException extends IOException {
+    public JsonException(String message) {
+        super(message);
+    }
+
+    public JsonException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,439 @@
+package com.melt.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * InputStream에서 바로 읽는 스트리밍 JSON 토크나이저 (UTF-8)
+ *
+ * 문서 전체를 String으로 만들지 않고 바이트 버퍼를 채워 가며 토큰 단위로 읽는다.
+ * 사용법: peek()으로 다음 토큰 확인 → beginObject()/nextName()/nextString() ... 으로 소비
+ */
+public class JsonReader {
+    // 현재 위치의 문맥 (괄호 중첩마다 하나씩 쌓임)
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final InputStream in;
+    private final byte[] buffer;
+    private int pos;
+    private int limit;
+
+    private int[] stack = new int[16];
+    private int stackSize = 1;
+
+    private JsonToken peeked;
+
+    // 문자열/숫자 조립용 (인스턴스당 하나를 재사용)
+    private final StringBuilder text = new StringBuilder(64);
+
+    public JsonReader(InputStream in) {
+        this(in, 8192);
+    }
+
+    public JsonReader(InputStream in, int bufferSize) {
+        this.in = in;
+        this.buffer = new byte[bufferSize];
+        this.stack[0] = EMPTY_DOCUMENT;
+    }
+
+    public JsonToken peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+
+        int context = stack[stackSize - 1];
+        int c;
+        switch (context) {
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = JsonToken.END_ARRAY;
+                }
+                if (c != -1) {
+                    pos--;
+                }
+                return peeked = peekValue();
+
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = JsonToken.END_ARRAY;
+                }
+                if (c != ',') {
+                    throw syntaxError("',' 또는 ']'가 필요합니다");
+                }
+                return peeked = peekValue();
+
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    return peeked = JsonToken.END_OBJECT;
+                }
+                if (context == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("',' 또는 '}'가 필요합니다");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("속성 이름이 필요합니다");
+                }
+                stack[stackSize - 1] = DANGLING_NAME;
+                return peeked = JsonToken.NAME;
+
+            case DANGLING_NAME:
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("':'가 필요합니다");
+                }
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                return peeked = peekValue();
+
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                return peeked = peekValue();
+
+            default: // NONEMPTY_DOCUMENT
+                if (nextNonWhitespace() != -1) {
+                    throw syntaxError("문서 끝에 불필요한 내용이 있습니다");
+                }
+                return peeked = JsonToken.END_DOCUMENT;
+        }
+    }
+
+    private JsonToken peekValue() throws IOException {
+        int c = nextNonWhitespace();
+        switch (c) {
+            case '{': return JsonToken.BEGIN_OBJECT;
+            case '[': return JsonToken.BEGIN_ARRAY;
+            case '"': return JsonToken.STRING;
+            case 't':
+            case 'f':
+                pos--;
+                return JsonToken.BOOLEAN;
+            case 'n':
+                pos--;
+                return JsonToken.NULL;
+            case -1:
+                throw syntaxError("값이 필요하지만 문서가 끝났습니다");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    pos--;
+                    return JsonToken.NUMBER;
+                }
+                throw syntaxError("예상하지 못한 문자 '" + (char) c + "'");
+        }
+    }
+
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        stackSize--;
+    }
+
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        stackSize--;
+    }
+
+    /**
+     * 현재 객체/배열에 값이 더 남아 있는지
+     */
+    public boolean hasNext() throws IOException {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        return readString();
+    }
+
+    public String nextString() throws IOException {
+        JsonToken token = peek();
+        if (token == JsonToken.NUMBER) {
+            peeked = null;
+            return readNumberText();
+        }
+        expect(JsonToken.STRING);
+        return readString();
+    }
+
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        int c = nextByte();
+        if (c == 't') {
+            expectLiteral("rue");
+            return true;
+        }
+        expectLiteral("alse");
+        return false;
+    }
+
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+        nextByte();
+        expectLiteral("ull");
+    }
+
+    /**
+     * 정수 읽기 - 소수점/지수가 없으면 문자열을 만들지 않고 바이트에서 바로 계산
+     */
+    public long nextLong() throws IOException {
+        JsonToken token = peek();
+        if (token == JsonToken.STRING) {
+            String value = nextString();
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new JsonException("숫자가 아닙니다: " + value);
+            }
+        }
+        expect(JsonToken.NUMBER);
+
+        boolean negative = false;
+        long value = 0;
+        int digits = 0;
+        int c = nextByte();
+        if (c == '-') {
+            negative = true;
+            c = nextByte();
+        }
+        while (c >= '0' && c <= '9') {
+            int digit = c - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                throw new JsonException("long 범위를 벗어난 숫자입니다");
+            }
+            value = value * 10 + digit;
+            digits++;
+            c = nextByte();
+        }
+        if (c == '.' || c == 'e' || c == 'E') {
+            // 실수 표기 → double로 읽어 정수로 변환
+            text.setLength(0);
+            if (negative) text.append('-');
+            text.append(value).append((char) c);
+            readNumberRest(text);
+            double d;
+            try {
+                d = Double.parseDouble(text.toString());
+            } catch (NumberFormatException e) {
+                throw new JsonException("숫자가 아닙니다: " + text);
+            }
+            if (d != Math.rint(d)) {
+                throw new JsonException("정수가 아닙니다: " + text);
+            }
+            return (long) d;
+        }
+        if (c != -1) {
+            pos--;
+        }
+        if (digits == 0) {
+            throw syntaxError("숫자 형식이 잘못되었습니다");
+        }
+        return negative ? -value : value;
+    }
+
+    public int nextInt() throws IOException {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new JsonException("int 범위를 벗어난 숫자입니다: " + value);
+        }
+        return (int) value;
+    }
+
+    public double nextDouble() throws IOException {
+        String value = nextString();
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new JsonException("숫자가 아닙니다: " + value);
+        }
+    }
+
+    /**
+     * 현재 값(객체/배열이면 통째로) 건너뛰기 - 모르는 속성 무시할 때 사용
+     */
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT: beginObject(); depth++; break;
+                case BEGIN_ARRAY: beginArray(); depth++; break;
+                case END_OBJECT: endObject(); depth--; break;
+                case END_ARRAY: endArray(); depth--; break;
+                case NAME: nextName(); break;
+                case STRING:
+                case NUMBER: nextString(); break;
+                case BOOLEAN: nextBoolean(); break;
+                case NULL: nextNull(); break;
+                default: throw syntaxError("건너뛸 값이 없습니다");
+            }
+        } while (depth > 0);
+    }
+
+    private void expect(JsonToken expected) throws IOException {
+        JsonToken token = peek();
+        if (token != expected) {
+            throw new JsonException(expected + "가 필요하지만 " + token + "가 나왔습니다");
+        }
+        peeked = null;
+    }
+
+    private void push(int context) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = context;
+    }
+
+    // 여는 따옴표 다음부터 닫는 따옴표까지 읽기 (UTF-8 디코딩 + 이스케이프 처리)
+    private String readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int c = nextByte();
+            if (c == '"') {
+                return text.toString();
+            }
+            if (c == -1) {
+                throw syntaxError("문자열이 끝나지 않았습니다");
+            }
+            if (c == '\\') {
+                readEscape();
+            } else if (c < 0x80) {
+                text.append((char) c);
+            } else {
+                readMultiByte(c);
+            }
+        }
+    }
+
+    private void readEscape() throws IOException {
+        int c = nextByte();
+        switch (c) {
+            case '"': text.append('"'); break;
+            case '\\': text.append('\\'); break;
+            case '/': text.append('/'); break;
+            case 'b': text.append('\b'); break;
+            case 'f': text.append('\f'); break;
+            case 'n': text.append('\n'); break;
+            case 'r': text.append('\r'); break;
+            case 't': text.append('\t'); break;
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int h = Character.digit(nextByte(), 16);
+                    if (h < 0) {
+                        throw syntaxError("잘못된 \\u 이스케이프");
+                    }
+                    value = (value << 4) | h;
+                }
+                text.append((char) value);
+                break;
+            default:
+                throw syntaxError("잘못된 이스케이프 문자");
+        }
+    }
+
+    private void readMultiByte(int first) throws IOException {
+        int codePoint;
+        int extra;
+        if ((first & 0xE0) == 0xC0) {
+            codePoint = first & 0x1F;
+            extra = 1;
+        } else if ((first & 0xF0) == 0xE0) {
+            codePoint = first & 0x0F;
+            extra = 2;
+        } else if ((first & 0xF8) == 0xF0) {
+            codePoint = first & 0x07;
+            extra = 3;
+        } else {
+            throw syntaxError("잘못된 UTF-8 바이트");
+        }
+        for (int i = 0; i < extra; i++) {
+            int next = nextByte();
+            if ((next & 0xC0) != 0x80) {
+                throw syntaxError("잘못된 UTF-8 바이트");
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        text.appendCodePoint(codePoint);
+    }
+
+    private String readNumberText() throws IOException {
+        text.setLength(0);
+        readNumberRest(text);
+        return text.toString();
+    }
+
+    private void readNumberRest(StringBuilder out) throws IOException {
+        while (true) {
+            int c = nextByte();
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                out.append((char) c);
+            } else {
+                if (c != -1) {
+                    pos--;
+                }
+                return;
+            }
+        }
+    }
+
+    private void expectLiteral(String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (nextByte() != rest.charAt(i)) {
+                throw syntaxError("잘못된 리터럴");
+            }
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            int c = nextByte();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    private int nextByte() throws IOException {
+        if (pos == limit) {
+            if (!fill()) {
+                return -1;
+            }
+        }
+        return buffer[pos++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        pos = 0;
+        limit = read;
+        return true;
+    }
+
+    private JsonException syntaxError(String message) {
+        return new JsonException("JSON 문법 오류: " + message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.melt.json;
+
+/**
+ * JsonReader.peek()가 돌려주는 다음 토큰 종류
+ */
+public enum JsonToken {
+    BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY,
+    NAME, STRING, NUMBER, BOOLEAN, NULL,
+    END_DOCUMENT
+}
@@ -0,0 +1,315 @@
+package com.melt.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * OutputStream으로 바로 쓰는 스트리밍 JSON 라이터 (UTF-8)
+ *
+ * 내부 바이트 버퍼가 가득 차면 그때그때 흘려보내므로 응답 전체를 메모리에 만들지 않는다.
+ * 콤마는 중첩 단계마다 "첫 원소인지"만 기억해서 자동으로 넣는다.
+ */
+public class JsonWriter {
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int count;
+
+    // 중첩 단계별로 이미 원소를 쓴 적이 있는지 (콤마 필요 여부)
+    private boolean[] hasElements = new boolean[16];
+    private int depth;
+    // 방금 속성 이름을 써서 값이 와야 하는 상태인지
+    private boolean afterName;
+
+    public JsonWriter(OutputStream out) {
+        this(out, 8192);
+    }
+
+    public JsonWriter(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[bufferSize];
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        beforeValue();
+        writeByte('{');
+        push();
+        return this;
+    }
+
+    public JsonWriter endObject() throws IOException {
+        depth--;
+        writeByte('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        beforeValue();
+        writeByte('[');
+        push();
+        return this;
+    }
+
+    public JsonWriter endArray() throws IOException {
+        depth--;
+        writeByte(']');
+        return this;
+    }
+
+    /**
+     * 속성 이름 쓰기 (매번 이스케이프)
+     */
+    public JsonWriter name(String name) throws IOException {
+        beforeName();
+        writeQuoted(name);
+        writeByte(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * 미리 이스케이프해 둔 "name": 바이트를 그대로 쓰기 (코덱 생성 시점에 만들어 둔 것)
+     */
+    public JsonWriter rawName(byte[] quotedNameWithColon) throws IOException {
+        beforeName();
+        writeBytes(quotedNameWithColon, 0, quotedNameWithColon.length);
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeQuoted(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return this;
+        }
+        if (value < 0) {
+            writeByte('-');
+            value = -value;
+        }
+        // 숫자를 문자열로 만들지 않고 버퍼에 바로 기록
+        ensureCapacity(20);
+        int start = count;
+        do {
+            buffer[count++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        reverse(start, count - 1);
+        return this;
+    }
+
+    public JsonWriter value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return nullValue();
+        }
+        beforeValue();
+        if (value == (long) value && Math.abs(value) < 1e15) {
+            writeAscii(Long.toString((long) value));
+        } else {
+            writeAscii(Double.toString(value));
+        }
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        byte[] literal = value ? TRUE : FALSE;
+        writeBytes(literal, 0, literal.length);
+        return this;
+    }
+
+    /**
+     * BigDecimal 등 이미 JSON 숫자 형식인 문자열을 그대로 쓰기
+     */
+    public JsonWriter numberValue(String number) throws IOException {
+        beforeValue();
+        writeAscii(number);
+        return this;
+    }
+
+    /**
+     * 이미 완성된 JSON 조각을 그대로 끼워 넣기 (검증하지 않음)
+     */
+    public JsonWriter rawValue(String json) throws IOException {
+        beforeValue();
+        writeUtf8(json);
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        beforeValue();
+        writeBytes(NULL, 0, NULL.length);
+        return this;
+    }
+
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    /**
+     * 속성 이름을 "name": 형태의 UTF-8 바이트로 미리 만들어 두기
+     */
+    public static byte[] encodeName(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 3);
+        sb.append('"');
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append("\":");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void push() {
+        if (++depth == hasElements.length) {
+            hasElements = Arrays.copyOf(hasElements, depth * 2);
+        }
+        hasElements[depth] = false;
+    }
+
+    private void beforeName() throws IOException {
+        if (hasElements[depth]) {
+            writeByte(',');
+        }
+        hasElements[depth] = true;
+    }
+
+    private void beforeValue() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (hasElements[depth]) {
+                writeByte(',');
+            }
+            hasElements[depth] = true;
+        }
+    }
+
+    private void writeQuoted(String value) throws IOException {
+        writeByte('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    writeByte('\\');
+                    writeByte(c);
+                } else if (c < 0x20) {
+                    writeControl(c);
+                } else {
+                    writeByte(c);
+                }
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buffer[count++] = (byte) (0xC0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensureCapacity(4);
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                ensureCapacity(3);
+                buffer[count++] = (byte) (0xE0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeControl(char c) throws IOException {
+        writeByte('\\');
+        switch (c) {
+            case '\n': writeByte('n'); return;
+            case '\r': writeByte('r'); return;
+            case '\t': writeByte('t'); return;
+            case '\b': writeByte('b'); return;
+            case '\f': writeByte('f'); return;
+            default:
+                writeByte('u');
+                writeByte('0');
+                writeByte('0');
+                writeByte(HEX[(c >> 4) & 0xF]);
+                writeByte(HEX[c & 0xF]);
+        }
+    }
+
+    private void writeAscii(String value) throws IOException {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[count++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeUtf8(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    private void writeByte(int b) throws IOException {
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+        if (length > buffer.length) {
+            flushBuffer();
+            out.write(bytes, offset, length);
+            return;
+        }
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (count + bytes > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    private void reverse(int from, int to) {
+        while (from < to) {
+            byte tmp = buffer[from];
+            buffer[from++] = buffer[to];
+            buffer[to--] = tmp;
+        }
+    }
+}
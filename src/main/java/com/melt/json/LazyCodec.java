@@ -0,0 +1,25 @@
+package com.melt.json;
+
+import java.lang.reflect.Type;
+
+/**
+ * 처음 사용할 때 코덱을 찾아서 기억 (User 안에 List<User> 같은 재귀 타입에서 무한 생성을 막음)
+ */
+final class LazyCodec<T> {
+    private final Type type;
+    private volatile JsonCodec<T> codec;
+
+    LazyCodec(Type type) {
+        this.type = type;
+    }
+
+    @SuppressWarnings("unchecked")
+    JsonCodec<T> get() {
+        JsonCodec<T> result = codec;
+        if (result == null) {
+            result = (JsonCodec<T>) Json.codecFor(type);
+            codec = result;
+        }
+        return result;
+    }
+}
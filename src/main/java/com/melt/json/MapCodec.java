@@ -0,0 +1,43 @@
+package com.melt.json;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Map ↔ JSON 객체 (키는 문자열로 주고받는다)
+ */
+final class MapCodec<V> implements JsonCodec<Map<Object, V>> {
+    private final Supplier<Map<Object, V>> factory;
+    private final LazyCodec<V> valueCodec;
+
+    MapCodec(Supplier<Map<Object, V>> factory, Type valueType) {
+        this.factory = factory;
+        this.valueCodec = new LazyCodec<>(valueType);
+    }
+
+    @Override
+    public Map<Object, V> read(JsonReader reader) throws IOException {
+        Map<Object, V> result = factory.get();
+        JsonCodec<V> codec = valueCodec.get();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            result.put(key, codec.read(reader));
+        }
+        reader.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Map<Object, V> value) throws IOException {
+        JsonCodec<V> codec = valueCodec.get();
+        writer.beginObject();
+        for (Map.Entry<Object, V> entry : value.entrySet()) {
+            writer.name(String.valueOf(entry.getKey()));
+            codec.write(writer, entry.getValue());
+        }
+        writer.endObject();
+    }
+}
@@ -0,0 +1,32 @@
+package com.melt.json;
+
+import java.io.IOException;
+
+/**
+ * null 처리를 한 곳에서 담당하는 래퍼 (Json이 만든 모든 코덱은 이걸로 감싸서 돌려준다)
+ */
+final class NullSafeCodec<T> implements JsonCodec<T> {
+    private final JsonCodec<T> delegate;
+
+    NullSafeCodec(JsonCodec<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public T read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return delegate.read(reader);
+    }
+
+    @Override
+    public void write(JsonWriter writer, T value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+        } else {
+            delegate.write(writer, value);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.melt.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 선언 타입이 Object일 때 - 쓸 때는 실제 클래스의 코덱을, 읽을 때는 Map/List/String/Long/Double/Boolean으로
+ */
+final class ObjectCodec implements JsonCodec<Object> {
+    static final ObjectCodec INSTANCE = new ObjectCodec();
+
+    private ObjectCodec() {
+    }
+
+    @Override
+    public Object read(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    map.put(name, read(reader));
+                }
+                reader.endObject();
+                return map;
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    list.add(read(reader));
+                }
+                reader.endArray();
+                return list;
+            case STRING:
+                return reader.nextString();
+            case NUMBER:
+                String number = reader.nextString();
+                if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+                    try {
+                        return Long.parseLong(number);
+                    } catch (NumberFormatException e) {
+                        // long 범위 밖 → double
+                    }
+                }
+                return Double.parseDouble(number);
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                throw new JsonException("값이 필요합니다: " + reader.peek());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(JsonWriter writer, Object value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        if (value.getClass() == Object.class) {
+            writer.beginObject().endObject();
+            return;
+        }
+        ((JsonCodec<Object>) Json.codecFor(value.getClass())).write(writer, value);
+    }
+}
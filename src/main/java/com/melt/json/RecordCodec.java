@@ -0,0 +1,123 @@
+package com.melt.json;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * record ↔ JSON 객체 (컴포넌트 접근자와 정식 생성자를 MethodHandle로 준비)
+ */
+final class RecordCodec<T> implements JsonCodec<T> {
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final Component[] components;
+    private final Map<String, Integer> indexByName = new HashMap<>();
+
+    RecordCodec(Class<T> type) {
+        this.type = type;
+        RecordComponent[] recordComponents = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[recordComponents.length];
+        this.components = new Component[recordComponents.length];
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            for (int i = 0; i < recordComponents.length; i++) {
+                RecordComponent component = recordComponents[i];
+                parameterTypes[i] = component.getType();
+                component.getAccessor().setAccessible(true);
+                MethodHandle accessor = lookup.unreflect(component.getAccessor())
+                        .asType(MethodType.methodType(Object.class, Object.class));
+                components[i] = new Component(component, accessor);
+                indexByName.put(component.getName(), i);
+            }
+
+            Constructor<T> canonical = type.getDeclaredConstructor(parameterTypes);
+            canonical.setAccessible(true);
+            this.constructor = lookup.unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, parameterTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(type.getName() + " record 코덱 생성 실패", e);
+        }
+    }
+
+    @Override
+    public T read(JsonReader reader) throws IOException {
+        Object[] args = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            args[i] = components[i].defaultValue;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            Integer index = indexByName.get(reader.nextName());
+            if (index == null) {
+                reader.skipValue();
+                continue;
+            }
+            Component component = components[index];
+            if (component.primitive && reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            args[index] = component.codec.get().read(reader);
+        }
+        reader.endObject();
+
+        try {
+            return type.cast((Object) constructor.invokeExact(args));
+        } catch (Throwable t) {
+            throw new JsonException(type.getName() + " 생성 실패", t);
+        }
+    }
+
+    @Override
+    public void write(JsonWriter writer, T value) throws IOException {
+        writer.beginObject();
+        for (Component component : components) {
+            Object componentValue;
+            try {
+                componentValue = (Object) component.accessor.invokeExact((Object) value);
+            } catch (Throwable t) {
+                throw new JsonException(type.getSimpleName() + "." + component.name + " 읽기 실패", t);
+            }
+            writer.rawName(component.encodedName);
+            component.codec.get().write(writer, componentValue);
+        }
+        writer.endObject();
+    }
+
+    private static final class Component {
+        private final String name;
+        private final byte[] encodedName;
+        private final MethodHandle accessor;
+        private final LazyCodec<Object> codec;
+        private final boolean primitive;
+        private final Object defaultValue;
+
+        private Component(RecordComponent component, MethodHandle accessor) {
+            this.name = component.getName();
+            this.encodedName = JsonWriter.encodeName(name);
+            this.accessor = accessor;
+            this.codec = new LazyCodec<>(component.getGenericType());
+            this.primitive = component.getType().isPrimitive();
+            this.defaultValue = primitive ? primitiveDefault(component.getType()) : null;
+        }
+
+        private static Object primitiveDefault(Class<?> type) {
+            if (type == boolean.class) return false;
+            if (type == char.class) return '\0';
+            if (type == long.class) return 0L;
+            if (type == double.class) return 0d;
+            if (type == float.class) return 0f;
+            if (type == short.class) return (short) 0;
+            if (type == byte.class) return (byte) 0;
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.melt.json;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 문자열/숫자/불리언 등 단일 값 코덱 모음
+ */
+final class ScalarCodecs {
+    private static final Map<Class<?>, JsonCodec<?>> CODECS = new HashMap<>();
+
+    static {
+        JsonCodec<String> string = new JsonCodec<>() {
+            public String read(JsonReader reader) throws IOException { return reader.nextString(); }
+            public void write(JsonWriter writer, String value) throws IOException { writer.value(value); }
+        };
+        JsonCodec<Integer> integer = new JsonCodec<>() {
+            public Integer read(JsonReader reader) throws IOException { return reader.nextInt(); }
+            public void write(JsonWriter writer, Integer value) throws IOException { writer.value(value.longValue()); }
+        };
+        JsonCodec<Long> longCodec = new JsonCodec<>() {
+            public Long read(JsonReader reader) throws IOException { return reader.nextLong(); }
+            public void write(JsonWriter writer, Long value) throws IOException { writer.value(value.longValue()); }
+        };
+        JsonCodec<Short> shortCodec = new JsonCodec<>() {
+            public Short read(JsonReader reader) throws IOException { return (short) reader.nextInt(); }
+            public void write(JsonWriter writer, Short value) throws IOException { writer.value(value.longValue()); }
+        };
+        JsonCodec<Byte> byteCodec = new JsonCodec<>() {
+            public Byte read(JsonReader reader) throws IOException { return (byte) reader.nextInt(); }
+            public void write(JsonWriter writer, Byte value) throws IOException { writer.value(value.longValue()); }
+        };
+        JsonCodec<Double> doubleCodec = new JsonCodec<>() {
+            public Double read(JsonReader reader) throws IOException { return reader.nextDouble(); }
+            public void write(JsonWriter writer, Double value) throws IOException { writer.value(value.doubleValue()); }
+        };
+        JsonCodec<Float> floatCodec = new JsonCodec<>() {
+            public Float read(JsonReader reader) throws IOException { return (float) reader.nextDouble(); }
+            public void write(JsonWriter writer, Float value) throws IOException { writer.numberValue(Float.toString(value)); }
+        };
+        JsonCodec<Boolean> booleanCodec = new JsonCodec<>() {
+            public Boolean read(JsonReader reader) throws IOException { return reader.nextBoolean(); }
+            public void write(JsonWriter writer, Boolean value) throws IOException { writer.value(value.booleanValue()); }
+        };
+        JsonCodec<Character> charCodec = new JsonCodec<>() {
+            public Character read(JsonReader reader) throws IOException {
+                String value = reader.nextString();
+                if (value.length() != 1) {
+                    throw new JsonException("문자 하나가 필요합니다: " + value);
+                }
+                return value.charAt(0);
+            }
+            public void write(JsonWriter writer, Character value) throws IOException { writer.value(String.valueOf(value)); }
+        };
+        JsonCodec<BigDecimal> bigDecimal = new JsonCodec<>() {
+            public BigDecimal read(JsonReader reader) throws IOException { return new BigDecimal(reader.nextString()); }
+            public void write(JsonWriter writer, BigDecimal value) throws IOException { writer.numberValue(value.toString()); }
+        };
+        JsonCodec<BigInteger> bigInteger = new JsonCodec<>() {
+            public BigInteger read(JsonReader reader) throws IOException { return new BigInteger(reader.nextString()); }
+            public void write(JsonWriter writer, BigInteger value) throws IOException { writer.numberValue(value.toString()); }
+        };
+
+        register(String.class, string);
+        register(Integer.class, integer);
+        register(int.class, integer);
+        register(Long.class, longCodec);
+        register(long.class, longCodec);
+        register(Short.class, shortCodec);
+        register(short.class, shortCodec);
+        register(Byte.class, byteCodec);
+        register(byte.class, byteCodec);
+        register(Double.class, doubleCodec);
+        register(double.class, doubleCodec);
+        register(Float.class, floatCodec);
+        register(float.class, floatCodec);
+        register(Boolean.class, booleanCodec);
+        register(boolean.class, booleanCodec);
+        register(Character.class, charCodec);
+        register(char.class, charCodec);
+        register(BigDecimal.class, bigDecimal);
+        register(BigInteger.class, bigInteger);
+
+        // 문자열로 주고받는 값 타입들
+        register(UUID.class, textual(UUID::fromString));
+        register(LocalDate.class, textual(LocalDate::parse));
+        register(LocalDateTime.class, textual(LocalDateTime::parse));
+        register(LocalTime.class, textual(LocalTime::parse));
+        register(Instant.class, textual(Instant::parse));
+    }
+
+    private ScalarCodecs() {
+    }
+
+    static JsonCodec<?> get(Class<?> type) {
+        return CODECS.get(type);
+    }
+
+    private static <T> void register(Class<T> type, JsonCodec<? super T> codec) {
+        CODECS.put(type, codec);
+    }
+
+    private static <T> JsonCodec<T> textual(Function<String, T> parser) {
+        return new JsonCodec<>() {
+            public T read(JsonReader reader) throws IOException {
+                String value = reader.nextString();
+                try {
+                    return parser.apply(value);
+                } catch (RuntimeException e) {
+                    throw new JsonException("값을 변환할 수 없습니다: " + value, e);
+                }
+            }
+
+            public void write(JsonWriter writer, T value) throws IOException {
+                writer.value(value.toString());
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.melt.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 크기 lock-free 링 버퍼에 넣고 백그라운드 스레드 하나가 대상 appender로 흘려보내는 appender
+ *
+ * 여러 요청 스레드가 동시에 로그를 남겨도 락 없이 CAS 한 번으로 슬롯을 잡는다 (다중 생산자, 단일 소비자).
+ * 버퍼가 가득 차면 기다리지 않고 버린 뒤 개수만 세어 두었다가 다음 출력 때 알려준다.
+ */
+public class AsyncAppender implements LogAppender {
+    private static final long IDLE_PARK_NANOS = 100_000_000L;
+
+    private final LogAppender target;
+    private final AtomicReferenceArray<LogEvent> slots;
+    private final int mask;
+
+    // 다음에 쓸 위치(생산자들이 CAS로 증가), 다음에 읽을 위치(소비자만 증가)
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Thread worker;
+    private volatile boolean waiting;
+    private volatile boolean running = true;
+
+    public AsyncAppender(LogAppender target, int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.target = target;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+
+        this.worker = new Thread(this::drainLoop, "melt-log-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        int capacity = slots.length();
+        long position;
+        do {
+            position = tail.get();
+            if (position - head.get() >= capacity) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+
+        // 슬롯을 잡은 뒤 채운다 - 소비자는 null이 아닐 때까지 기다린다
+        slots.lazySet((int) position & mask, event);
+        if (waiting) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * 지금까지 들어온 로그를 모두 출력할 때까지 기다림 (종료 시 사용)
+     */
+    @Override
+    public void flush() {
+        long target = tail.get();
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (head.get() < target && worker.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(worker);
+            Thread.onSpinWait();
+        }
+        this.target.flush();
+    }
+
+    public void close() {
+        flush();
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void drainLoop() {
+        long reportedDrops = 0;
+        while (running || head.get() < tail.get()) {
+            int drained = drain();
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                target.append(new LogEvent(LogLevel.WARN, AsyncAppender.class.getName(),
+                        "로그 버퍼가 가득 차 " + (drops - reportedDrops) + "건을 버렸습니다", null));
+                reportedDrops = drops;
+            }
+            if (drained > 0) {
+                target.flush();
+                continue;
+            }
+
+            waiting = true;
+            if (head.get() == tail.get() && running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            waiting = false;
+        }
+        target.flush();
+    }
+
+    private int drain() {
+        int drained = 0;
+        long position = head.get();
+        while (position < tail.get()) {
+            int index = (int) position & mask;
+            LogEvent event = slots.get(index);
+            if (event == null) {
+                // 슬롯은 잡혔지만 아직 채워지지 않음
+                Thread.onSpinWait();
+                continue;
+            }
+            slots.lazySet(index, null);
+            head.lazySet(++position);
+            try {
+                target.append(event);
+            } catch (RuntimeException e) {
+                // 한 건 실패로 출력 스레드가 죽지 않게
+            }
+            drained++;
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,7 @@
+package com.melt.logging;
+
+public interface LogAppender {
+    void append(LogEvent event);
+
+    void flush();
+}
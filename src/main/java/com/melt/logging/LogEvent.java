@@ -0,0 +1,46 @@
+package com.melt.logging;
+
+/**
+ * 로그 한 건 - 문자열 포맷은 기록 스레드가 아니라 appender 쪽에서 한다
+ */
+public final class LogEvent {
+    private final long timestamp;
+    private final LogLevel level;
+    private final String loggerName;
+    private final String threadName;
+    private final String message;
+    private final Throwable throwable;
+
+    LogEvent(LogLevel level, String loggerName, String message, Throwable throwable) {
+        this.timestamp = System.currentTimeMillis();
+        this.level = level;
+        this.loggerName = loggerName;
+        this.threadName = Thread.currentThread().getName();
+        this.message = message;
+        this.throwable = throwable;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    public String getLoggerName() {
+        return loggerName;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Throwable getThrowable() {
+        return throwable;
+    }
+}
@@ -0,0 +1,20 @@
+package com.melt.logging;
+
+public enum LogLevel {
+    TRACE, DEBUG, INFO, WARN, ERROR, OFF;
+
+    public boolean isEnabled(LogLevel threshold) {
+        return this != OFF && compareTo(threshold) >= 0;
+    }
+
+    public static LogLevel parse(String value, LogLevel defaultLevel) {
+        if (value == null || value.isBlank()) {
+            return defaultLevel;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.melt.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * 프레임워크 로거
+ *
+ * 레벨 검사는 volatile 읽기 한 번이라 꺼진 레벨의 로그는 거의 비용이 없다.
+ * 메시지를 만드는 비용이 큰 경우(문자열 연결 등)에는 Supplier 버전을 쓰면
+ * 레벨이 꺼져 있을 때 메시지를 아예 만들지 않는다.
+ */
+public final class Logger {
+    private final String name;
+    private volatile LogLevel level;
+
+    Logger(String name, LogLevel level) {
+        this.name = name;
+        this.level = level;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    public void setLevel(LogLevel level) {
+        this.level = level;
+    }
+
+    public boolean isEnabled(LogLevel messageLevel) {
+        return messageLevel.isEnabled(level);
+    }
+
+    public boolean isTraceEnabled() {
+        return isEnabled(LogLevel.TRACE);
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    public boolean isInfoEnabled() {
+        return isEnabled(LogLevel.INFO);
+    }
+
+    public void trace(String message) {
+        log(LogLevel.TRACE, message, null);
+    }
+
+    public void trace(Supplier<String> message) {
+        log(LogLevel.TRACE, message);
+    }
+
+    public void debug(String message) {
+        log(LogLevel.DEBUG, message, null);
+    }
+
+    public void debug(Supplier<String> message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public void info(String message) {
+        log(LogLevel.INFO, message, null);
+    }
+
+    public void info(Supplier<String> message) {
+        log(LogLevel.INFO, message);
+    }
+
+    public void warn(String message) {
+        log(LogLevel.WARN, message, null);
+    }
+
+    public void warn(String message, Throwable throwable) {
+        log(LogLevel.WARN, message, throwable);
+    }
+
+    public void error(String message) {
+        log(LogLevel.ERROR, message, null);
+    }
+
+    public void error(String message, Throwable throwable) {
+        log(LogLevel.ERROR, message, throwable);
+    }
+
+    public void log(LogLevel messageLevel, Supplier<String> message) {
+        if (isEnabled(messageLevel)) {
+            LoggerFactory.appender().append(new LogEvent(messageLevel, name, message.get(), null));
+        }
+    }
+
+    public void log(LogLevel messageLevel, String message, Throwable throwable) {
+        if (isEnabled(messageLevel)) {
+            LoggerFactory.appender().append(new LogEvent(messageLevel, name, message, throwable));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.melt.logging;
+
+import com.melt.config.Environment;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로거 생성과 출력 설정
+ *
+ * 설정(application.properties, 환경 변수, -D 시스템 프로퍼티)으로 정한다.
+ *   melt.log.level          기본 레벨 (기본 INFO)
+ *   melt.log.level.<이름>    로거 이름(패키지/클래스) 접두사별 레벨, 가장 긴 접두사 우선
+ *   melt.log.file           출력 파일 (없으면 stdout)
+ *   melt.log.async          false 이면 호출 스레드에서 바로 출력 (기본 true)
+ *   melt.log.buffer         비동기 링 버퍼 크기, 2의 거듭제곱 (기본 8192)
+ *
+ * 요청마다 남기는 로그(📥 요청, 🎯 핸들러 실행)는 DEBUG라 기본 설정에서는 출력되지 않는다.
+ * 켜려면 melt.log.level.com.melt.web.servlet=DEBUG
+ */
+public final class LoggerFactory {
+    public static final String LEVEL_PROPERTY = "melt.log.level";
+    public static final String FILE_PROPERTY = "melt.log.file";
+    public static final String ASYNC_PROPERTY = "melt.log.async";
+    public static final String BUFFER_PROPERTY = "melt.log.buffer";
+
+    private static final Map<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+
+    private LoggerFactory() {
+    }
+
+    public static Logger getLogger(Class<?> type) {
+        return getLogger(type.getName());
+    }
+
+    public static Logger getLogger(String name) {
+        return LOGGERS.computeIfAbsent(name, key -> new Logger(key, levelFor(key)));
+    }
+
+    /**
+     * 실행 중 레벨 변경 - 해당 이름으로 시작하는 기존 로거에도 바로 반영
+     */
+    public static void setLevel(String namePrefix, LogLevel level) {
+        if (namePrefix == null || namePrefix.isEmpty()) {
+            System.setProperty(LEVEL_PROPERTY, level.name());
+        } else {
+            System.setProperty(LEVEL_PROPERTY + "." + namePrefix, level.name());
+        }
+        LOGGERS.values().forEach(logger -> logger.setLevel(levelFor(logger.getName())));
+    }
+
+    /**
+     * 남은 로그를 모두 출력 (종료 직전 등)
+     */
+    public static void flush() {
+        appender().flush();
+    }
+
+    static LogAppender appender() {
+        return AppenderHolder.APPENDER;
+    }
+
+    private static LogLevel levelFor(String name) {
+        String key = name;
+        while (true) {
+            String value = Environment.getDefault().getProperty(LEVEL_PROPERTY + "." + key);
+            if (value != null) {
+                return LogLevel.parse(value, LogLevel.INFO);
+            }
+            int dot = key.lastIndexOf('.');
+            if (dot < 0) {
+                break;
+            }
+            key = key.substring(0, dot);
+        }
+        return LogLevel.parse(Environment.getDefault().getProperty(LEVEL_PROPERTY), LogLevel.INFO);
+    }
+
+    // 처음 로그를 남길 때 한 번만 생성
+    private static final class AppenderHolder {
+        private static final LogAppender APPENDER = createAppender();
+
+        private static LogAppender createAppender() {
+            LogAppender writer = new WriterAppender(openWriter());
+            Environment environment = Environment.getDefault();
+            if (!environment.getBoolean(ASYNC_PROPERTY, true)) {
+                return new FlushingAppender(writer);
+            }
+
+            AsyncAppender async = new AsyncAppender(writer, environment.getInt(BUFFER_PROPERTY, 8192));
+            Runtime.getRuntime().addShutdownHook(new Thread(async::close, "melt-log-shutdown"));
+            return async;
+        }
+
+        private static Writer openWriter() {
+            String file = Environment.getDefault().getProperty(FILE_PROPERTY);
+            if (file != null && !file.isBlank()) {
+                try {
+                    return new BufferedWriter(new OutputStreamWriter(
+                            new FileOutputStream(file, true), StandardCharsets.UTF_8), 64 * 1024);
+                } catch (IOException e) {
+                    System.err.println("❌ 로그 파일을 열 수 없어 stdout으로 출력합니다: " + e.getMessage());
+                }
+            }
+            return new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 64 * 1024);
+        }
+    }
+
+    // 동기 모드 - 한 줄마다 바로 flush
+    private static final class FlushingAppender implements LogAppender {
+        private final LogAppender target;
+
+        private FlushingAppender(LogAppender target) {
+            this.target = target;
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            target.append(event);
+            target.flush();
+        }
+
+        @Override
+        public void flush() {
+            target.flush();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.melt.logging;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writer(stdout, 파일)에 바로 쓰는 동기 appender
+ *
+ * 단독으로 쓰면 호출 스레드에서 I/O가 일어나므로 보통은 AsyncAppender 뒤에 두고
+ * 백그라운드 스레드 하나만 이 appender를 호출하게 한다.
+ */
+public class WriterAppender implements LogAppender {
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder(256);
+
+    public WriterAppender(Writer writer) {
+        this.writer = writer;
+    }
+
+    // 형식: 2024-01-01 12:00:00.000 INFO  [main] ApplicationContext - 메시지
+    @Override
+    public synchronized void append(LogEvent event) {
+        line.setLength(0);
+        TIME_FORMAT.formatTo(Instant.ofEpochMilli(event.getTimestamp()), line);
+        line.append(' ').append(event.getLevel());
+        if (event.getLevel().name().length() == 4) {
+            line.append(' ');
+        }
+        line.append(" [").append(event.getThreadName()).append("] ")
+                .append(simpleName(event.getLoggerName())).append(" - ")
+                .append(event.getMessage()).append(System.lineSeparator());
+        if (event.getThrowable() != null) {
+            StringWriter trace = new StringWriter();
+            event.getThrowable().printStackTrace(new PrintWriter(trace));
+            line.append(trace);
+        }
+        try {
+            writer.append(line);
+        } catch (IOException e) {
+            // 로그 출력 실패로 애플리케이션을 멈추지 않는다
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            // 무시
+        }
+    }
+
+    private static String simpleName(String loggerName) {
+        int dot = loggerName.lastIndexOf('.');
+        return dot < 0 ? loggerName : loggerName.substring(dot + 1);
+    }
+}
@@ -1,10 +1,19 @@
 package com.melt.repository;
 
 import com.melt.annotation.Repository;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
 
 @Repository
 public class UserRepository {
+    private static final Logger log = LoggerFactory.getLogger(UserRepository.class);
+
     public void save(String user) {
         System.out.println("UserRepository: " + user + "저장됨");
     }
-}
\ No newline at end of file
+
+    public String find(String user) {
+        log.debug(() -> "🔍 UserRepository: " + user + " 조회");
+        return user;
+    }
+}
@@ -1,6 +1,8 @@
 package com.melt.service;
 
 import com.melt.annotation.Autowired;
+import com.melt.annotation.CacheEvict;
+import com.melt.annotation.Cacheable;
 import com.melt.annotation.Service;
 import com.melt.repository.UserRepository;
 
@@ -9,11 +11,18 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @CacheEvict(value = "users", allEntries = true)
     public void saveUser(String user) {
         System.out.println("UserService: 사용자 저장 요청");
         userRepository.save(user);
     }
 
+    // 같은 이름으로 다시 조회하면 저장소까지 가지 않는다
+    @Cacheable(value = "users", ttl = 60, maxEntries = 10_000)
+    public String findUser(String user) {
+        return userRepository.find(user);
+    }
+
     // DI 잘 됐는지 확인용
     public void checkDependency() {
         System.out.println("UserRepository 주입 상태: " + (userRepository != null));
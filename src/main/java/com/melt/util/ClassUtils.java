@@ -0,0 +1,25 @@
+package com.melt.util;
+
+/**
+ * 클래스 관련 도우미
+ */
+public final class ClassUtils {
+    private ClassUtils() {
+    }
+
+    /**
+     * 생성된 하위 클래스(지연 프록시, @Cacheable 하위 클래스)면 사용자가 작성한 원래 클래스를 돌려준다
+     * 어노테이션, 필드, 선언된 메서드는 원래 클래스에 있으므로 이 클래스로 읽어야 한다.
+     */
+    public static Class<?> getUserClass(Class<?> clazz) {
+        Class<?> userClass = clazz;
+        while (userClass.getName().contains(Proxies.PROXY_CLASS_MARKER) && userClass.getSuperclass() != null) {
+            userClass = userClass.getSuperclass();
+        }
+        return userClass;
+    }
+
+    public static Class<?> getUserClass(Object instance) {
+        return getUserClass(instance.getClass());
+    }
+}
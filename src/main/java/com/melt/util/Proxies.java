@@ -0,0 +1,113 @@
+package com.melt.util;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import sun.reflect.ReflectionFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.isEquals;
+import static net.bytebuddy.matcher.ElementMatchers.isHashCode;
+import static net.bytebuddy.matcher.ElementMatchers.isToString;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+
+/**
+ * 프록시 생성 도우미
+ *
+ * 인터페이스는 JDK Proxy, 클래스는 ByteBuddy로 만든 하위 클래스를 쓴다.
+ * 하위 클래스 프록시는 생성자를 실행하지 않고 만들기 때문에(직렬화용 생성자) 필드는 모두 비어 있고,
+ * 오버라이드할 수 있는 메서드 호출만 InvocationHandler로 넘어간다.
+ */
+public final class Proxies {
+    // 생성된 하위 클래스 프록시 이름에 들어가는 표시 (프록시인지 구분할 때 사용)
+    public static final String PROXY_CLASS_MARKER = "$MeltProxy$";
+
+    private static final AtomicLong PROXY_COUNTER = new AtomicLong();
+
+    private Proxies() {
+    }
+
+    /**
+     * 인터페이스 프록시 (JDK Proxy)
+     */
+    public static Object interfaceProxy(ClassLoader classLoader, Class<?>[] interfaces, InvocationHandler handler) {
+        return Proxy.newProxyInstance(classLoader, interfaces, handler);
+    }
+
+    /**
+     * 하위 클래스를 만들 수 있는지 (final 클래스, private 생성자뿐인 클래스 등은 불가)
+     */
+    public static boolean canSubclass(Class<?> type) {
+        if (type.isInterface() || type.isPrimitive() || type.isArray() || type.isRecord() || type.isEnum()) {
+            return false;
+        }
+        return !Modifier.isFinal(type.getModifiers()) && !type.isAnonymousClass() && !type.isLocalClass()
+                && type.getName().indexOf(PROXY_CLASS_MARKER) < 0;
+    }
+
+    /**
+     * 하위 클래스 프록시 - Object의 equals/hashCode/toString을 포함해 오버라이드 가능한 메서드를 모두 handler로 보낸다
+     * 프록시 클래스는 호출할 때마다 새로 만들어지므로 같은 대상이면 결과를 캐시해서 써야 한다.
+     */
+    public static <T> T subclassProxy(Class<T> type, InvocationHandler handler) {
+        if (!canSubclass(type)) {
+            throw new IllegalArgumentException(type.getName() + "의 하위 클래스 프록시를 만들 수 없습니다");
+        }
+        try {
+            Class<? extends T> proxyClass = new ByteBuddy()
+                    .subclass(type)
+                    .name(proxyClassName(type))
+                    .method(not(isDeclaredBy(Object.class)).or(isEquals()).or(isHashCode()).or(isToString()))
+                    .intercept(InvocationHandlerAdapter.of(handler))
+                    .make()
+                    // 같은 패키지에 정의해야 package-private 메서드도 오버라이드된다
+                    .load(type.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(
+                            MethodHandles.privateLookupIn(type, MethodHandles.lookup())))
+                    .getLoaded();
+            return type.cast(instantiateWithoutConstructor(proxyClass));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException(type.getName() + " 프록시 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 생성할 하위 클래스 이름 (원래 클래스와 같은 패키지, 프록시 표시 포함)
+     */
+    public static String proxyClassName(Class<?> type) {
+        return type.getName() + PROXY_CLASS_MARKER + PROXY_COUNTER.incrementAndGet();
+    }
+
+    /**
+     * 프록시로 들어온 호출을 실제 대상 객체에 그대로 전달 (대상이 던진 예외는 풀어서 다시 던짐)
+     */
+    public static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        if (!method.canAccess(target)) {
+            method.setAccessible(true);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // 하위 클래스 생성자를 실행하지 않고 인스턴스만 할당 (Object 생성자만 호출)
+    private static Object instantiateWithoutConstructor(Class<?> type) {
+        try {
+            Constructor<?> constructor = ReflectionFactory.getReflectionFactory()
+                    .newConstructorForSerialization(type, Object.class.getDeclaredConstructor());
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(type.getName() + " 인스턴스 생성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.melt.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 스레드 생성 도우미
+ *
+ * 빌드 대상은 Java 17이라 가상 스레드 API(Java 21+)를 리플렉션으로 찾는다.
+ * 실행 JVM에 없으면 데몬 플랫폼 스레드로 대체한다 (워커 풀을 붙잡지 않는다는 점은 같음).
+ * 작업마다 스레드를 만드는 실행기는 플랫폼 스레드로 대체할 때 크기를 제한한다 (블로킹 요청마다 스레드가 늘지 않게).
+ */
+public final class VirtualThreads {
+    private static final ThreadFactory VIRTUAL_FACTORY = findVirtualThreadFactory();
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return VIRTUAL_FACTORY != null;
+    }
+
+    /**
+     * 작업마다 새 가상 스레드 - 가상 스레드가 없으면 최대 maxPlatformThreads개 플랫폼 스레드 풀에
+     * 대기열 queueCapacity개(0이면 대기 없이), 그것도 차면 execute()가 RejectedExecutionException
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix, int maxPlatformThreads,
+                                                           int queueCapacity) {
+        if (VIRTUAL_FACTORY != null) {
+            try {
+                // Executors.newThreadPerTaskExecutor(factory)
+                Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                return (ExecutorService) perTask.invoke(null, VIRTUAL_FACTORY);
+            } catch (ReflectiveOperationException e) {
+                // 아래 플랫폼 스레드 풀로 대체
+            }
+        }
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new LinkedBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxPlatformThreads, maxPlatformThreads, 60,
+                TimeUnit.SECONDS, queue, platformFactory(namePrefix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 팩토리 (없으면 데몬 플랫폼 스레드 팩토리)
+     */
+    public static ThreadFactory threadFactory(String namePrefix) {
+        return VIRTUAL_FACTORY != null ? VIRTUAL_FACTORY : platformFactory(namePrefix);
+    }
+
+    private static ThreadFactory platformFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Thread.ofVirtual().factory()
+    private static ThreadFactory findVirtualThreadFactory() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
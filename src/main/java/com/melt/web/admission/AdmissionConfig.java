@@ -0,0 +1,119 @@
+package com.melt.web.admission;
+
+import com.melt.annotation.AdmissionExempt;
+import com.melt.annotation.ConcurrencyLimit;
+import com.melt.annotation.RateLimit;
+import com.melt.config.Environment;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핸들러별 유입 제한을 만든다 - 설정(melt.admission.HTTP메소드.라우트.*) → 어노테이션 → 기본값(melt.admission.default.*) 순
+ *
+ * 라우트 키는 /metrics와 같이 HTTP 메소드와 등록한 패턴 (예: melt.admission.GET./api/users/{id}.rate)
+ * - 패키지가 다른 같은 이름의 컨트롤러나 오버로드된 메소드끼리 설정이 섞이지 않는다.
+ *
+ * 키 (접두사 뒤):
+ *   max-concurrency     동시 처리 한도 (적응형이면 시작 값)
+ *   algorithm           fixed | aimd | gradient
+ *   min-limit/max-limit 적응형 한도 범위
+ *   target-latency-ms   AIMD 목표 지연
+ *   rate / burst        초당 요청 수 / 몰려도 받아 줄 요청 수
+ * max-concurrency/rate를 0으로 설정하면 그 라우트는 어노테이션/기본값과 상관없이 제한하지 않는다.
+ * melt.admission.enabled=false면 모두 끄고, melt.admission.retry-after-seconds는 503의 Retry-After.
+ * @AdmissionExempt 핸들러에는 어떤 제한도 만들지 않는다.
+ */
+public class AdmissionConfig {
+    public static final String PREFIX = "melt.admission.";
+    private static final String DEFAULT_SCOPE = "default";
+
+    // 환경이 없으면 어노테이션만 본다
+    private final Environment environment;
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+
+    public AdmissionConfig(Environment environment) {
+        this.environment = environment;
+        this.enabled = environment == null || environment.getBoolean(PREFIX + "enabled", true);
+        this.retryAfterSeconds = environment != null ? environment.getLong(PREFIX + "retry-after-seconds", 1) : 1;
+    }
+
+    /**
+     * @return 제한이 없으면 null
+     */
+    public RouteAdmission forHandler(String httpMethod, String route, Class<?> controllerClass, Method method) {
+        if (!enabled || method.isAnnotationPresent(AdmissionExempt.class)
+                || controllerClass.isAnnotationPresent(AdmissionExempt.class)) {
+            return null;
+        }
+        String scope = httpMethod + "." + route;
+        ConcurrencyLimiter concurrency = concurrencyLimiter(scope, annotation(method, controllerClass, ConcurrencyLimit.class));
+        TokenBucket rate = rateLimiter(scope, annotation(method, controllerClass, RateLimit.class));
+        if (concurrency == null && rate == null) {
+            return null;
+        }
+        return new RouteAdmission(concurrency, rate, retryAfterSeconds);
+    }
+
+    private ConcurrencyLimiter concurrencyLimiter(String scope, ConcurrencyLimit annotation) {
+        if (hasProperty(scope, "max-concurrency")) {
+            return concurrencyFromProperties(scope);
+        }
+        if (annotation != null) {
+            return new ConcurrencyLimiter(annotation.value(), annotation.algorithm(), annotation.minLimit(),
+                    annotation.maxLimit(), TimeUnit.MILLISECONDS.toNanos(annotation.targetLatencyMillis()));
+        }
+        return hasProperty(DEFAULT_SCOPE, "max-concurrency") ? concurrencyFromProperties(DEFAULT_SCOPE) : null;
+    }
+
+    private ConcurrencyLimiter concurrencyFromProperties(String scope) {
+        int limit = environment.getInt(key(scope, "max-concurrency"), 0);
+        if (limit <= 0) {
+            return null;
+        }
+        String algorithm = environment.getProperty(key(scope, "algorithm"), "fixed");
+        return new ConcurrencyLimiter(limit, LimitAlgorithm.valueOf(algorithm.trim().toUpperCase(Locale.ROOT)),
+                environment.getInt(key(scope, "min-limit"), 1),
+                environment.getInt(key(scope, "max-limit"), 0),
+                TimeUnit.MILLISECONDS.toNanos(environment.getLong(key(scope, "target-latency-ms"), 0)));
+    }
+
+    private TokenBucket rateLimiter(String scope, RateLimit annotation) {
+        if (hasProperty(scope, "rate")) {
+            return rateFromProperties(scope);
+        }
+        if (annotation != null) {
+            return new TokenBucket(annotation.value(), burst(annotation.value(), annotation.burst()));
+        }
+        return hasProperty(DEFAULT_SCOPE, "rate") ? rateFromProperties(DEFAULT_SCOPE) : null;
+    }
+
+    private TokenBucket rateFromProperties(String scope) {
+        double rate = environment.getProperty(key(scope, "rate"), Double.class, 0d);
+        if (rate <= 0) {
+            return null;
+        }
+        return new TokenBucket(rate, burst(rate, environment.getInt(key(scope, "burst"), 0)));
+    }
+
+    // burst를 정하지 않으면 1초 분량
+    private static int burst(double rate, int burst) {
+        return burst > 0 ? burst : (int) Math.max(1, Math.ceil(rate));
+    }
+
+    private boolean hasProperty(String scope, String name) {
+        return environment != null && environment.containsProperty(key(scope, name));
+    }
+
+    private static String key(String scope, String name) {
+        return PREFIX + scope + "." + name;
+    }
+
+    private static <A extends java.lang.annotation.Annotation> A annotation(Method method, Class<?> controllerClass,
+                                                                          Class<A> type) {
+        A annotation = method.getAnnotation(type);
+        return annotation != null ? annotation : controllerClass.getAnnotation(type);
+    }
+}
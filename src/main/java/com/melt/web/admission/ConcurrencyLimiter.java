@@ -0,0 +1,141 @@
+package com.melt.web.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 동시 처리 요청 수 제한
+ *
+ * 허용/반납은 AtomicInteger CAS만 하고 락을 쓰지 않는다.
+ * 적응형(AIMD/GRADIENT)이면 반납할 때 지연 시간을 표본으로 한도를 다시 계산하는데,
+ * 계산은 tryLock에 성공한 스레드만 하고 경합 중이면 그 표본은 건너뛴다 (한도는 volatile로 공개).
+ */
+public final class ConcurrencyLimiter {
+    // AIMD: 줄일 때 곱하는 비율
+    private static final double BACKOFF_RATIO = 0.9;
+    // GRADIENT: 장기 평균 지연의 표본 수(EMA 창), 허용하는 지연 증가 비율, 새 한도 반영 비율
+    private static final int LONG_WINDOW = 600;
+    private static final int WARMUP_SAMPLES = 10;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    // AIMD 목표 지연을 정하는 최소 지연은 이만큼 표본마다 새로 잰다 (부하 패턴이 바뀌어도 따라가도록)
+    private static final int MIN_LATENCY_RESET_SAMPLES = 10_000;
+
+    private final LimitAlgorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // 아래는 sampleLock 안에서만 읽고 씀
+    private final ReentrantLock sampleLock = new ReentrantLock();
+    private double estimatedLimit;
+    private double longLatencyNanos;
+    private long minLatencyNanos = Long.MAX_VALUE;
+    private long samples;
+
+    public ConcurrencyLimiter(int initialLimit, LimitAlgorithm algorithm, int minLimit, int maxLimit,
+                              long targetLatencyNanos) {
+        if (initialLimit <= 0) {
+            throw new IllegalArgumentException("동시 처리 한도는 0보다 커야 합니다: " + initialLimit);
+        }
+        this.algorithm = algorithm;
+        this.minLimit = Math.max(1, Math.min(minLimit, initialLimit));
+        this.maxLimit = Math.max(initialLimit, maxLimit > 0 ? maxLimit : initialLimit * 4);
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    public static ConcurrencyLimiter fixed(int limit) {
+        return new ConcurrencyLimiter(limit, LimitAlgorithm.FIXED, limit, limit, 0);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 허용했지만 실행하지 않은 요청 반납 (다른 제한에 걸린 경우 - 표본으로 쓰지 않음)
+     */
+    public void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 요청 완료 - failed는 5xx/예외 (적응형이면 과부하 신호로 본다)
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (algorithm == LimitAlgorithm.FIXED || !sampleLock.tryLock()) {
+            return;
+        }
+        try {
+            double next = algorithm == LimitAlgorithm.AIMD
+                    ? aimd(latencyNanos, failed, inFlightBefore)
+                    : gradient(latencyNanos, failed, inFlightBefore);
+            estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+            limit = (int) estimatedLimit;
+        } finally {
+            sampleLock.unlock();
+        }
+    }
+
+    private double aimd(long latencyNanos, boolean failed, int inFlightBefore) {
+        if (++samples % MIN_LATENCY_RESET_SAMPLES == 0) {
+            minLatencyNanos = latencyNanos;
+        } else {
+            minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+        }
+        long target = targetLatencyNanos > 0 ? targetLatencyNanos : minLatencyNanos * 2;
+        if (failed || latencyNanos > target) {
+            return estimatedLimit * BACKOFF_RATIO;
+        }
+        // 한도의 절반도 안 쓰고 있으면 늘릴 근거가 없다
+        if (inFlightBefore * 2 >= estimatedLimit) {
+            return estimatedLimit + 1;
+        }
+        return estimatedLimit;
+    }
+
+    private double gradient(long latencyNanos, boolean failed, int inFlightBefore) {
+        samples++;
+        if (samples <= WARMUP_SAMPLES) {
+            longLatencyNanos += (latencyNanos - longLatencyNanos) / samples;
+            return estimatedLimit;
+        }
+        longLatencyNanos += (latencyNanos - longLatencyNanos) / LONG_WINDOW;
+        // 지연이 크게 줄었으면 장기 평균도 빨리 따라 내려가게 한다
+        if (longLatencyNanos > latencyNanos * 2) {
+            longLatencyNanos *= 0.95;
+        }
+        double ratio = failed ? 0.5 : Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longLatencyNanos / Math.max(1, latencyNanos)));
+        double next = estimatedLimit * ratio + Math.sqrt(estimatedLimit);
+        if (next > estimatedLimit && inFlightBefore * 2 < estimatedLimit) {
+            return estimatedLimit; // 한도를 다 쓰지 않는 동안은 늘리지 않는다
+        }
+        return estimatedLimit * (1 - SMOOTHING) + next * SMOOTHING;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public LimitAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+}
@@ -0,0 +1,13 @@
+package com.melt.web.admission;
+
+/**
+ * 동시 처리 한도를 정하는 방식
+ */
+public enum LimitAlgorithm {
+    // 설정한 값 그대로
+    FIXED,
+    // 지연이 목표를 넘거나 5xx면 한도 x0.9, 아니면 한도를 다 쓰고 있을 때 +1
+    AIMD,
+    // 장기 평균 지연 / 현재 지연 비율로 한도를 늘리거나 줄임 (여유분 sqrt(한도))
+    GRADIENT
+}
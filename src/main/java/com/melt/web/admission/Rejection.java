@@ -0,0 +1,18 @@
+package com.melt.web.admission;
+
+/**
+ * 유입 제한으로 거절한 요청의 응답 (상태 코드, Retry-After 초)
+ */
+public record Rejection(int status, long retryAfterSeconds, String message) {
+    public static final int TOO_MANY_REQUESTS = 429;
+    public static final int SERVICE_UNAVAILABLE = 503;
+
+    static Rejection tooManyRequests(long waitNanos) {
+        long seconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        return new Rejection(TOO_MANY_REQUESTS, seconds, "Too Many Requests");
+    }
+
+    static Rejection overloaded(long retryAfterSeconds) {
+        return new Rejection(SERVICE_UNAVAILABLE, retryAfterSeconds, "Service Unavailable: concurrency limit reached");
+    }
+}
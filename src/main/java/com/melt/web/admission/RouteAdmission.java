@@ -0,0 +1,78 @@
+package com.melt.web.admission;
+
+/**
+ * 라우트 하나의 유입 제한 (동시 처리 한도 + 초당 요청 수, 둘 중 하나만 있어도 됨)
+ *
+ * DispatcherServlet이 인자 변환 전에 tryAcquire()를 부르고, 허용한 요청은 끝날 때 release()를 한 번 부른다.
+ */
+public final class RouteAdmission {
+    private final ConcurrencyLimiter concurrency;
+    private final TokenBucket rate;
+    // 동시 처리 한도 초과 응답은 매번 같으므로 미리 만들어 둔다
+    private final Rejection overloaded;
+
+    public RouteAdmission(ConcurrencyLimiter concurrency, TokenBucket rate, long retryAfterSeconds) {
+        this.concurrency = concurrency;
+        this.rate = rate;
+        this.overloaded = Rejection.overloaded(retryAfterSeconds);
+    }
+
+    /**
+     * @return 허용이면 null, 거절이면 보낼 응답
+     */
+    public Rejection tryAcquire() {
+        if (concurrency != null && !concurrency.tryAcquire()) {
+            return overloaded;
+        }
+        if (rate != null) {
+            long wait = rate.tryAcquire(System.nanoTime());
+            if (wait > 0) {
+                if (concurrency != null) {
+                    concurrency.cancel();
+                }
+                return Rejection.tooManyRequests(wait);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 허용한 요청이 끝났을 때 (failed: 5xx 또는 예외)
+     */
+    public void release(long latencyNanos, boolean failed) {
+        if (concurrency != null) {
+            concurrency.release(latencyNanos, failed);
+        }
+    }
+
+    // 동시 처리 한도 (없으면 0)
+    public int getConcurrencyLimit() {
+        return concurrency != null ? concurrency.getLimit() : 0;
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrency;
+    }
+
+    public TokenBucket getRateLimiter() {
+        return rate;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (concurrency != null) {
+            sb.append("동시 ").append(concurrency.getLimit());
+            if (concurrency.getAlgorithm() != LimitAlgorithm.FIXED) {
+                sb.append(" (").append(concurrency.getAlgorithm()).append(')');
+            }
+        }
+        if (rate != null) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append("초당 ").append(rate.getPermitsPerSecond()).append(" (burst ").append(rate.getBurst()).append(')');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.melt.web.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 초당 요청 수 제한 - 토큰 버킷과 같은 동작을 다음 허용 시각 하나(GCRA)로 표현해 CAS 한 번으로 처리
+ *
+ * 요청 하나가 emission(1초 / 초당 요청 수)만큼 시각을 밀어내고,
+ * 밀린 시각이 현재보다 burst만큼 이상 앞서 있으면 거절한다.
+ */
+public final class TokenBucket {
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long emissionNanos;
+    private final long toleranceNanos;
+    // 이론상 다음 요청이 도착할 시각 (System.nanoTime 기준)
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("초당 요청 수와 burst는 0보다 커야 합니다");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.emissionNanos = Math.max(1, Math.round(1_000_000_000d / permitsPerSecond));
+        this.toleranceNanos = emissionNanos * (burst - 1);
+    }
+
+    /**
+     * @return 0이면 허용, 아니면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = Math.max(tat, nowNanos);
+            long wait = base - nowNanos - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, base + emissionNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+}
@@ -0,0 +1,212 @@
+package com.melt.web.batch;
+
+import com.melt.json.Json;
+import com.melt.json.JsonReader;
+import com.melt.json.JsonToken;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntFunction;
+
+/**
+ * 배치 요청 하나의 실행 - 하위 요청을 순서대로 시작하고, 끝나는 대로 요청 순서에 맞춰 응답에 흘려 쓴다
+ *
+ * GET/HEAD/OPTIONS는 서로 독립이라 최대 maxConcurrency개까지 동시에 실행하고,
+ * 상태를 바꾸는 메소드(POST/PUT/PATCH/DELETE)는 앞의 하위 요청이 모두 끝난 뒤 혼자 실행한다
+ * (뒤의 하위 요청도 그것이 끝날 때까지 시작하지 않음). 그래서 클라이언트가 적은 순서대로 쓰기/읽기가 보인다.
+ *
+ * 상태 변경과 응답 쓰기는 모두 이 객체의 락 안에서 하고, 하위 요청 실행은 락 밖(executor)에서 한다.
+ */
+final class BatchExecution {
+    private static final Logger log = LoggerFactory.getLogger(BatchExecution.class);
+
+    private static final byte[] HEAD = "{\"responses\":[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TAIL = "]}".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] COMMA = {','};
+
+    private final BatchItem[] items;
+    private final IntFunction<BatchResult> runner;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final OutputStream out;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    // 아래는 모두 락 안에서만 읽고 씀
+    private final BatchResult[] results;
+    private int nextToStart;
+    private int running;
+    private boolean exclusiveRunning;
+    private int nextToWrite;
+    private boolean writeFailed;
+
+    /**
+     * @param runner 하위 요청 번호 → 실행 결과 (executor 스레드에서 호출)
+     */
+    BatchExecution(BatchItem[] items, IntFunction<BatchResult> runner, Executor executor, int maxConcurrency,
+                   OutputStream out) {
+        this.items = items;
+        this.runner = runner;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.out = out;
+        this.results = new BatchResult[items.length];
+    }
+
+    CompletableFuture<Void> start() {
+        synchronized (this) {
+            write(HEAD);
+            flushAndFinishIfDone();
+        }
+        launch();
+        return done;
+    }
+
+    // 지금 시작할 수 있는 하위 요청을 골라 락 밖에서 executor에 넘긴다
+    private void launch() {
+        List<Integer> startable;
+        synchronized (this) {
+            startable = pickStartable();
+        }
+        for (int index : startable) {
+            try {
+                executor.execute(() -> complete(index, run(index)));
+            } catch (RejectedExecutionException e) {
+                complete(index, BatchResult.error(503, "배치 실행 대기열이 가득 찼습니다"));
+            }
+        }
+    }
+
+    private List<Integer> pickStartable() {
+        List<Integer> startable = new ArrayList<>();
+        if (writeFailed) {
+            nextToStart = items.length; // 클라이언트가 떠났으면 남은 하위 요청은 실행하지 않는다
+            return startable;
+        }
+        while (nextToStart < items.length && running < maxConcurrency && !exclusiveRunning) {
+            if (!items[nextToStart].isSafe()) {
+                if (running > 0) {
+                    break; // 앞의 하위 요청이 모두 끝난 뒤 혼자 실행
+                }
+                exclusiveRunning = true;
+            }
+            running++;
+            startable.add(nextToStart++);
+        }
+        return startable;
+    }
+
+    private BatchResult run(int index) {
+        try {
+            return runner.apply(index);
+        } catch (RuntimeException e) {
+            log.error("❌ 배치 하위 요청 실행 오류: " + e.getMessage(), e);
+            return BatchResult.error(500, "Internal Server Error: " + e.getMessage());
+        }
+    }
+
+    private void complete(int index, BatchResult result) {
+        synchronized (this) {
+            results[index] = result;
+            running--;
+            if (!items[index].isSafe()) {
+                exclusiveRunning = false;
+            }
+            // 앞에서부터 끝난 것만 순서대로 쓴다 (앞 번호가 아직이면 쌓아 두기만 함)
+            int written = nextToWrite;
+            while (nextToWrite < results.length && results[nextToWrite] != null) {
+                if (nextToWrite > 0) {
+                    write(COMMA);
+                }
+                writeResult(results[nextToWrite]);
+                results[nextToWrite] = BatchResult.WRITTEN; // 다 쓴 본문은 놓아 준다
+                nextToWrite++;
+            }
+            if (nextToWrite > written || writeFailed) {
+                flushAndFinishIfDone();
+            }
+        }
+        launch();
+    }
+
+    private void writeResult(BatchResult result) {
+        if (writeFailed) {
+            return;
+        }
+        try {
+            out.write(("{\"status\":" + result.status() + ",\"headers\":").getBytes(StandardCharsets.US_ASCII));
+            Map<String, String> headers = new LinkedHashMap<>();
+            result.headers().forEach((name, values) -> headers.put(name, String.join(", ", values)));
+            Json.write(out, headers);
+            out.write(",\"body\":".getBytes(StandardCharsets.US_ASCII));
+            byte[] body = result.body();
+            if (body.length == 0) {
+                out.write("null".getBytes(StandardCharsets.US_ASCII));
+            } else if (result.isJson() && isValidJson(body)) {
+                out.write(body); // 올바른 JSON이면 다시 인코딩하지 않고 그대로 끼워 넣는다
+            } else {
+                // application/json이라도 JSON이 아닌 본문(예: 문자열을 그대로 반환한 핸들러)은 문자열로
+                Json.write(out, new String(body, StandardCharsets.UTF_8));
+            }
+            out.write('}');
+        } catch (IOException | IllegalStateException e) {
+            onWriteFailure(e);
+        }
+    }
+
+    // 값 하나를 끝까지 건너뛰어 보고 뒤에 남는 내용이 없어야 올바른 JSON (응답을 깨뜨리지 않게)
+    private static boolean isValidJson(byte[] body) {
+        JsonReader reader = new JsonReader(new ByteArrayInputStream(body), Math.min(body.length, 8192));
+        try {
+            reader.skipValue();
+            return reader.peek() == JsonToken.END_DOCUMENT;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void write(byte[] bytes) {
+        if (writeFailed) {
+            return;
+        }
+        try {
+            out.write(bytes);
+        } catch (IOException | IllegalStateException e) {
+            onWriteFailure(e);
+        }
+    }
+
+    // 쓴 만큼 바로 내보내고, 모두 썼으면 배열을 닫고 완료
+    private void flushAndFinishIfDone() {
+        if (nextToWrite == items.length && !done.isDone()) {
+            write(TAIL);
+        }
+        if (!writeFailed) {
+            try {
+                out.flush();
+            } catch (IOException | IllegalStateException e) {
+                onWriteFailure(e);
+            }
+        }
+        if (nextToWrite == items.length || (writeFailed && running == 0)) {
+            done.complete(null);
+        }
+    }
+
+    private void onWriteFailure(Exception e) {
+        if (!writeFailed) {
+            writeFailed = true;
+            log.warn("❌ 배치 응답 쓰기 오류: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.melt.web.batch;
+
+import com.melt.json.Json;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import com.melt.util.VirtualThreads;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * POST /_batch - 하위 요청 여러 개를 한 번의 HTTP 요청으로 처리
+ *
+ * 요청 본문: [{"method": "GET", "path": "/api/users/1"}, {"method": "POST", "path": "/api/users", "body": {...}}]
+ * 응답 본문: {"responses": [{"status": 200, "headers": {...}, "body": ...}, ...]} (요청 순서 그대로)
+ *
+ * 하위 요청은 DispatcherServlet의 일반 처리 경로(HandlerMapping → 핸들러)를 그대로 거치고,
+ * 배치 전용 스레드 풀(threads개)에서 배치 하나당 최대 maxConcurrency개까지 동시에 실행한다.
+ * 하위 요청 수가 maxRequests를 넘으면 하나도 실행하지 않고 413으로 거절한다.
+ */
+public class BatchHandler {
+    private static final Logger log = LoggerFactory.getLogger(BatchHandler.class);
+
+    public static final String DEFAULT_PATH = "/_batch";
+    public static final int DEFAULT_MAX_REQUESTS = 50;
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+    public static final int DEFAULT_THREADS = 16;
+    // 스레드가 모두 바쁠 때 기다릴 수 있는 하위 요청 수 (넘치면 해당 하위 요청은 503)
+    private static final int QUEUE_PER_THREAD = 64;
+
+    private static final String JSON_CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    /**
+     * 하위 요청 하나를 처리하는 쪽 (DispatcherServlet의 일반 요청 처리)
+     */
+    @FunctionalInterface
+    public interface SubRequestDispatcher {
+        void dispatch(HttpServletRequest request, HttpServletResponse response) throws Exception;
+    }
+
+    private final String path;
+    private final int maxRequests;
+    private final int maxConcurrency;
+    private final ThreadPoolExecutor executor;
+    private final SubRequestDispatcher dispatcher;
+
+    public BatchHandler(String path, int maxRequests, int maxConcurrency, int threads, SubRequestDispatcher dispatcher) {
+        if (maxRequests <= 0 || maxConcurrency <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("배치 제한 값은 0보다 커야 합니다");
+        }
+        this.path = path;
+        this.maxRequests = maxRequests;
+        this.maxConcurrency = maxConcurrency;
+        this.dispatcher = dispatcher;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(threads * QUEUE_PER_THREAD), VirtualThreads.threadFactory("melt-batch-"));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && path.equals(request.getRequestURI());
+    }
+
+    /**
+     * 본문(JSON 배열)을 해석해 하위 요청을 실행하고, 결과를 끝나는 대로 응답에 요청 순서대로 흘려 쓴다
+     * 반환된 future는 응답을 다 쓰면 완료된다 (본문이 잘못됐으면 400/413을 쓰고 바로 완료)
+     */
+    public CompletableFuture<Void> execute(HttpServletRequest request, HttpServletResponse response, InputStream body)
+            throws IOException {
+        BatchItem[] items;
+        try {
+            items = Json.read(body, BatchItem[].class);
+        } catch (IOException e) {
+            return reject(response, HttpServletResponse.SC_BAD_REQUEST, "배치 요청 본문은 하위 요청 배열이어야 합니다: " + e.getMessage());
+        }
+        if (items == null) {
+            return reject(response, HttpServletResponse.SC_BAD_REQUEST, "배치 요청 본문은 하위 요청 배열이어야 합니다");
+        }
+        if (items.length > maxRequests) {
+            return reject(response, 413, "하위 요청이 너무 많습니다: " + items.length + " (최대 " + maxRequests + ")");
+        }
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] == null) {
+                items[i] = new BatchItem(null, null, null, null);
+            }
+        }
+        log.debug(() -> "📦 배치 요청: 하위 요청 " + items.length + "개");
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(JSON_CONTENT_TYPE);
+        BatchItem[] subRequests = items;
+        return new BatchExecution(subRequests, index -> run(subRequests[index], request, response), executor,
+                maxConcurrency, response.getOutputStream()).start();
+    }
+
+    private BatchResult run(BatchItem item, HttpServletRequest request, HttpServletResponse response) {
+        String subPath = item.path();
+        if (subPath == null || !subPath.startsWith("/")) {
+            return BatchResult.error(HttpServletResponse.SC_BAD_REQUEST, "path는 /로 시작해야 합니다: " + subPath);
+        }
+        if (subPath.equals(path) || subPath.startsWith(path + "?")) {
+            return BatchResult.error(HttpServletResponse.SC_BAD_REQUEST, "배치 요청 안에 배치 요청을 넣을 수 없습니다");
+        }
+
+        byte[] body;
+        String contentType;
+        try {
+            if (item.body() == null) {
+                body = new byte[0];
+                contentType = null;
+            } else if (item.body() instanceof String) {
+                body = ((String) item.body()).getBytes(StandardCharsets.UTF_8);
+                contentType = "text/plain;charset=UTF-8";
+            } else {
+                body = Json.toJson(item.body()).getBytes(StandardCharsets.UTF_8);
+                contentType = JSON_CONTENT_TYPE;
+            }
+        } catch (IOException e) {
+            return BatchResult.error(HttpServletResponse.SC_BAD_REQUEST, "본문을 JSON으로 만들 수 없습니다: " + e.getMessage());
+        }
+
+        BatchSubRequest subRequest = new BatchSubRequest(request, item.methodOrDefault(), subPath, item.headers(),
+                body, contentType);
+        BatchSubResponse subResponse = new BatchSubResponse(response);
+        try {
+            dispatcher.dispatch(subRequest, subResponse);
+        } catch (Exception e) {
+            log.error("❌ 배치 하위 요청 처리 오류: " + subRequest.getMethod() + " " + subPath + " - " + e.getMessage(), e);
+            return BatchResult.error(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Internal Server Error: " + e.getMessage());
+        }
+        return BatchResult.of(subResponse);
+    }
+
+    private static CompletableFuture<Void> reject(HttpServletResponse response, int status, String message)
+            throws IOException {
+        response.setStatus(status);
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(message);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
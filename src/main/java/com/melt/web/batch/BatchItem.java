@@ -0,0 +1,24 @@
+package com.melt.web.batch;
+
+import java.util.Map;
+
+/**
+ * 배치 요청 안의 하위 요청 하나
+ *
+ * @param method  HTTP 메소드 (없으면 GET)
+ * @param path    경로 + 쿼리 문자열 (/api/users/1?fields=name)
+ * @param headers 하위 요청 헤더 (없으면 배치 요청의 헤더를 물려받음, 본문/압축 관련 헤더는 제외)
+ * @param body    본문 - 문자열이면 그대로, 그 외 JSON 값이면 JSON으로 직렬화해서 넘긴다
+ */
+public record BatchItem(String method, String path, Map<String, String> headers, Object body) {
+
+    String methodOrDefault() {
+        return method == null || method.isBlank() ? "GET" : method.trim().toUpperCase();
+    }
+
+    // 다른 하위 요청과 동시에 실행해도 되는지 (상태를 바꾸지 않는 메소드)
+    boolean isSafe() {
+        String m = methodOrDefault();
+        return "GET".equals(m) || "HEAD".equals(m) || "OPTIONS".equals(m);
+    }
+}
@@ -0,0 +1,30 @@
+package com.melt.web.batch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 하위 요청 하나의 결과 (상태 코드, 응답 헤더, 본문)
+ */
+record BatchResult(int status, Map<String, List<String>> headers, byte[] body) {
+    // 이미 배치 응답에 쓴 자리 표시
+    static final BatchResult WRITTEN = new BatchResult(0, Map.of(), new byte[0]);
+
+    private static final String TEXT_CONTENT_TYPE = "text/plain;charset=UTF-8";
+
+    static BatchResult of(BatchSubResponse response) {
+        return new BatchResult(response.status(), response.headers(), response.body());
+    }
+
+    static BatchResult error(int status, String message) {
+        return new BatchResult(status, Map.of("Content-Type", List.of(TEXT_CONTENT_TYPE)),
+                message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // JSON 응답이면 본문을 문자열로 감싸지 않고 그대로 넣는다
+    boolean isJson() {
+        List<String> contentType = headers.get("Content-Type");
+        return contentType != null && !contentType.isEmpty() && contentType.get(0).contains("json");
+    }
+}
@@ -0,0 +1,309 @@
+package com.melt.web.batch;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 배치 요청 안의 하위 요청 - 메소드, 경로, 쿼리, 헤더, 본문, 속성은 자기 것을 쓰고 나머지는 배치 요청에 위임
+ *
+ * 하위 요청은 배치 실행 스레드에서 동기로 처리하므로 비동기(startAsync)는 지원하지 않는다고 알린다.
+ * 하위 요청 하나는 한 스레드에서만 쓰이므로 내부 상태는 동기화하지 않는다.
+ */
+final class BatchSubRequest extends HttpServletRequestWrapper {
+    // 배치 요청에서 물려받지 않는 헤더 (본문, 압축, 조건부 요청은 하위 요청마다 다름)
+    private static final Set<String> NOT_INHERITED = Set.of(
+            "content-length", "content-type", "content-encoding", "transfer-encoding", "accept-encoding",
+            "if-none-match", "if-modified-since", "if-match", "if-unmodified-since", "if-range", "range", "expect");
+
+    private final String method;
+    private final String requestUri;
+    private final String queryString;
+    private final Map<String, String> headers;
+    private final byte[] body;
+    private final String contentType;
+    private Map<String, String[]> parameters;
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    BatchSubRequest(HttpServletRequest batchRequest, String method, String path, Map<String, String> headers,
+                    byte[] body, String contentType) {
+        super(batchRequest);
+        this.method = method;
+        int query = path.indexOf('?');
+        this.requestUri = query < 0 ? path : path.substring(0, query);
+        this.queryString = query < 0 ? null : path.substring(query + 1);
+        this.headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (headers != null) {
+            this.headers.putAll(headers);
+        }
+        this.body = body;
+        this.contentType = this.headers.getOrDefault("Content-Type", contentType);
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return requestUri;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer();
+        url.append(getScheme()).append("://").append(getServerName()).append(':').append(getServerPort())
+                .append(requestUri);
+        return url;
+    }
+
+    @Override
+    public String getServletPath() {
+        return "";
+    }
+
+    @Override
+    public String getPathInfo() {
+        return URLDecoder.decode(requestUri.replace("+", "%2B"), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters().get(name);
+        return values != null ? values[0] : null;
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        String[] values = parameters().get(name);
+        return values != null ? values.clone() : null;
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters());
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters().keySet());
+    }
+
+    // 쿼리 문자열은 처음 조회할 때 한 번만 나눈다
+    private Map<String, String[]> parameters() {
+        if (parameters == null) {
+            parameters = parseQuery(queryString);
+        }
+        return parameters;
+    }
+
+    private static Map<String, String[]> parseQuery(String query) {
+        if (query == null || query.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        int begin = 0;
+        while (begin <= query.length()) {
+            int end = query.indexOf('&', begin);
+            if (end < 0) {
+                end = query.length();
+            }
+            if (end > begin) {
+                int eq = query.indexOf('=', begin);
+                String name = eq < 0 || eq > end ? query.substring(begin, end) : query.substring(begin, eq);
+                String value = eq < 0 || eq > end ? "" : query.substring(eq + 1, end);
+                values.computeIfAbsent(decode(name), n -> new ArrayList<>(1)).add(decode(value));
+            }
+            begin = end + 1;
+        }
+        Map<String, String[]> parameters = new LinkedHashMap<>(values.size() * 2);
+        values.forEach((name, list) -> parameters.put(name, list.toArray(new String[0])));
+        return parameters;
+    }
+
+    private static String decode(String value) {
+        return value.indexOf('%') < 0 && value.indexOf('+') < 0 ? value : URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        String value = headers.get(name);
+        if (value != null || isNotInherited(name)) {
+            return name.equalsIgnoreCase("Content-Type") ? contentType : value;
+        }
+        return super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        String value = getHeader(name);
+        return Collections.enumeration(value != null ? List.of(value) : List.of());
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        List<String> names = new ArrayList<>(headers.keySet());
+        for (Enumeration<String> inherited = super.getHeaderNames(); inherited.hasMoreElements(); ) {
+            String name = inherited.nextElement();
+            if (!headers.containsKey(name) && !isNotInherited(name)) {
+                names.add(name);
+            }
+        }
+        return Collections.enumeration(names);
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        String value = headers.get(name);
+        if (value != null) {
+            return parseDate(value);
+        }
+        return isNotInherited(name) ? -1 : super.getDateHeader(name);
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = getHeader(name);
+        return value != null ? Integer.parseInt(value.trim()) : -1;
+    }
+
+    private static boolean isNotInherited(String name) {
+        return NOT_INHERITED.contains(name.toLowerCase(Locale.ROOT));
+    }
+
+    private static long parseDate(String value) {
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 헤더 형식이 아닙니다: " + value, e);
+        }
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public int getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return body.length;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return StandardCharsets.UTF_8.name();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream in = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new IllegalStateException("배치 하위 요청은 비동기 읽기를 지원하지 않습니다");
+            }
+
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return in.read(b, off, len);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("배치 하위 요청은 비동기 처리를 지원하지 않습니다");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        throw new IllegalStateException("배치 하위 요청은 비동기 처리를 지원하지 않습니다");
+    }
+}
@@ -0,0 +1,100 @@
+package com.melt.web.body;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Servlet 3.1 논블로킹 입력(ReadListener)으로 요청 본문을 풀 버퍼에 채우는 리더
+ *
+ * 데이터가 도착했을 때만 컨테이너가 onDataAvailable()을 부르므로
+ * 느린 클라이언트가 업로드하는 동안 워커 스레드를 붙잡지 않는다.
+ */
+public class AsyncBodyReader implements ReadListener {
+
+    /**
+     * 본문 읽기 결과 콜백
+     */
+    public interface Callback {
+        void onBody(RequestBody body);
+
+        void onError(Throwable error);
+    }
+
+    private final ServletInputStream input;
+    private final ByteBufferPool pool;
+    private final long maxSize;
+    private final Callback callback;
+
+    private final RequestBody body;
+    private ByteBuffer current;
+    private long total;
+    private boolean done;
+
+    public AsyncBodyReader(ServletInputStream input, ByteBufferPool pool, long maxSize, Callback callback) {
+        this.input = input;
+        this.pool = pool;
+        this.maxSize = maxSize;
+        this.callback = callback;
+        this.body = new RequestBody(pool);
+    }
+
+    @Override
+    public void onDataAvailable() throws IOException {
+        // isReady()가 false가 되면 멈추고, 다음 데이터가 오면 컨테이너가 다시 호출
+        while (!done && input.isReady()) {
+            if (current == null) {
+                current = pool.acquire();
+            }
+            int read = input.read(current.array(), current.arrayOffset() + current.position(), current.remaining());
+            if (read < 0) {
+                return; // onAllDataRead()가 호출될 예정
+            }
+            current.position(current.position() + read);
+            total += read;
+
+            if (total > maxSize) {
+                fail(new PayloadTooLargeException(maxSize));
+                return;
+            }
+            if (!current.hasRemaining()) {
+                current.flip();
+                body.add(current);
+                current = null;
+            }
+        }
+    }
+
+    @Override
+    public void onAllDataRead() {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (current != null) {
+            current.flip();
+            body.add(current);
+            current = null;
+        }
+        callback.onBody(body);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        fail(t);
+    }
+
+    private void fail(Throwable t) {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (current != null) {
+            pool.release(current);
+            current = null;
+        }
+        body.release();
+        callback.onError(t);
+    }
+}
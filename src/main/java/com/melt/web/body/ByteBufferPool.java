@@ -0,0 +1,45 @@
+package com.melt.web.body;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 요청 본문 읽기용 고정 크기 ByteBuffer 풀
+ *
+ * 풀이 비면 새로 만들고, 반납할 때 풀이 가득 차 있으면 그냥 버린다 (GC에 맡김).
+ * 서블릿 API(ServletInputStream)는 byte[]로만 읽을 수 있으므로
+ * 복사 없이 array()에 바로 채울 수 있는 힙 버퍼를 사용한다.
+ */
+public class ByteBufferPool {
+    private final int bufferSize;
+    private final ArrayBlockingQueue<ByteBuffer> buffers;
+
+    public ByteBufferPool(int bufferSize, int maxPooledBuffers) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(maxPooledBuffers);
+    }
+
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocate(bufferSize);
+        }
+        return buffer;
+    }
+
+    public void release(ByteBuffer buffer) {
+        if (buffer.capacity() != bufferSize) {
+            return;
+        }
+        buffer.clear();
+        buffers.offer(buffer);
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getPooledCount() {
+        return buffers.size();
+    }
+}
@@ -0,0 +1,19 @@
+package com.melt.web.body;
+
+import java.io.IOException;
+
+/**
+ * 요청 본문이 허용 크기를 넘었을 때 (413 Payload Too Large)
+ */
+public class PayloadTooLargeException extends IOException {
+    private final long maxSize;
+
+    public PayloadTooLargeException(long maxSize) {
+        super("요청 본문이 최대 크기(" + maxSize + " bytes)를 초과했습니다");
+        this.maxSize = maxSize;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+}
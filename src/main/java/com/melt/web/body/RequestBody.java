@@ -0,0 +1,117 @@
+package com.melt.web.body;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다 읽어 둔 요청 본문 - 풀에서 빌린 버퍼 조각(chunk)들로 구성
+ *
+ * 핸들러가 끝나면 release()로 버퍼를 풀에 돌려준다.
+ * (byte[], ByteBuffer로 꺼낸 값은 복사본이라 release 이후에도 안전하지만,
+ *  asInputStream()은 release 전에만 읽어야 한다)
+ */
+public class RequestBody {
+    // DispatcherServlet이 미리 읽어 둔 본문을 요청 속성으로 넘길 때 쓰는 키
+    public static final String ATTRIBUTE = RequestBody.class.getName();
+
+    private final ByteBufferPool pool;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private long size;
+
+    public RequestBody(ByteBufferPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 다 채운 버퍼 추가 (flip된 상태여야 함)
+     */
+    void add(ByteBuffer chunk) {
+        if (chunk.hasRemaining()) {
+            chunks.add(chunk);
+            size += chunk.remaining();
+        } else {
+            pool.release(chunk);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[(int) size];
+        int offset = 0;
+        for (ByteBuffer chunk : chunks) {
+            ByteBuffer view = chunk.duplicate();
+            int length = view.remaining();
+            view.get(bytes, offset, length);
+            offset += length;
+        }
+        return bytes;
+    }
+
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(toByteArray()).asReadOnlyBuffer();
+    }
+
+    public String toString(Charset charset) {
+        if (chunks.size() == 1) {
+            ByteBuffer chunk = chunks.get(0);
+            return new String(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining(), charset);
+        }
+        return new String(toByteArray(), charset);
+    }
+
+    /**
+     * 버퍼 조각들을 복사 없이 차례로 읽는 스트림
+     */
+    public InputStream asInputStream() {
+        return new InputStream() {
+            private int index;
+            private ByteBuffer current = next();
+
+            private ByteBuffer next() {
+                return index < chunks.size() ? chunks.get(index++).duplicate() : null;
+            }
+
+            @Override
+            public int read() {
+                while (current != null && !current.hasRemaining()) {
+                    current = next();
+                }
+                return current == null ? -1 : current.get() & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                while (current != null && !current.hasRemaining()) {
+                    current = next();
+                }
+                if (current == null) {
+                    return -1;
+                }
+                int n = Math.min(len, current.remaining());
+                current.get(b, off, n);
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return current == null ? 0 : current.remaining();
+            }
+        };
+    }
+
+    public void release() {
+        for (ByteBuffer chunk : chunks) {
+            pool.release(chunk);
+        }
+        chunks.clear();
+    }
+}
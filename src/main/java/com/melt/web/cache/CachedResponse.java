@@ -0,0 +1,74 @@
+package com.melt.web.cache;
+
+import com.melt.web.compress.ContentEncoding;
+
+import java.util.Map;
+
+/**
+ * 캐시에 저장된 응답 - 인코딩이 끝난 본문 바이트와 ETag, 그리고 미리 압축해 둔 본문들
+ *
+ * 압축본은 표현(representation)이 다르므로 ETag도 "원래값--gzip" 식으로 따로 둔다.
+ */
+public final class CachedResponse {
+    private static final ContentEncoding[] ENCODINGS = ContentEncoding.values();
+
+    private final byte[] body;
+    private final String contentType;
+    private final String etag;
+    // ContentEncoding.ordinal() 순서 (압축본이 없으면 null)
+    private final byte[][] compressedBodies;
+    private final String[] compressedETags;
+
+    public CachedResponse(byte[] body, String contentType) {
+        this(body, contentType, Map.of());
+    }
+
+    public CachedResponse(byte[] body, String contentType, Map<ContentEncoding, byte[]> compressed) {
+        this.body = body;
+        this.contentType = contentType;
+        this.etag = ETags.strong(body);
+        this.compressedBodies = new byte[ENCODINGS.length][];
+        this.compressedETags = new String[ENCODINGS.length];
+        for (ContentEncoding encoding : ENCODINGS) {
+            compressedBodies[encoding.ordinal()] = compressed.get(encoding);
+            compressedETags[encoding.ordinal()] = etag.substring(0, etag.length() - 1) + "--" + encoding.token() + '"';
+        }
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * 미리 압축해 둔 본문 (없으면 null)
+     */
+    public byte[] getBody(ContentEncoding encoding) {
+        return compressedBodies[encoding.ordinal()];
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getETag() {
+        return etag;
+    }
+
+    // 압축해서 보낼 때의 ETag (미리 압축해 두지 않고 그때 압축해도 같은 값)
+    public String getETag(ContentEncoding encoding) {
+        return compressedETags[encoding.ordinal()];
+    }
+
+    /**
+     * 캐시 가중치에 넣을 본문 바이트 합계 (압축본 포함)
+     */
+    public long getBodyBytes() {
+        long bytes = body.length;
+        for (byte[] compressed : compressedBodies) {
+            if (compressed != null) {
+                bytes += compressed.length;
+            }
+        }
+        return bytes;
+    }
+}
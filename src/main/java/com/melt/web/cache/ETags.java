@@ -0,0 +1,71 @@
+package com.melt.web.cache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * ETag 생성과 If-None-Match 비교
+ */
+public final class ETags {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    // SHA-256 앞 16바이트만 사용 (충돌 가능성은 무시할 수준이고 헤더는 짧게)
+    private static final int DIGEST_BYTES = 16;
+
+    private ETags() {
+    }
+
+    /**
+     * 본문 바이트로 만든 강한 ETag ("..." 형태, 본문이 같으면 항상 같음)
+     */
+    public static String strong(byte[] body) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        char[] chars = new char[DIGEST_BYTES * 2 + 2];
+        chars[0] = '"';
+        for (int i = 0; i < DIGEST_BYTES; i++) {
+            chars[1 + i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            chars[2 + i * 2] = HEX[digest[i] & 0xF];
+        }
+        chars[chars.length - 1] = '"';
+        return new String(chars);
+    }
+
+    /**
+     * 파일 ETag - 내용을 해시하지 않고 수정 시각과 크기로 만든다 ("수정시각-크기", 16진수)
+     */
+    public static String forFile(long lastModifiedMillis, long size) {
+        return '"' + Long.toHexString(lastModifiedMillis) + '-' + Long.toHexString(size) + '"';
+    }
+
+    /**
+     * If-None-Match 헤더가 etag와 맞는지 (여러 값, W/ 약한 비교, * 지원)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String header = ifNoneMatch.trim();
+        if (header.equals("*")) {
+            return true;
+        }
+        int start = 0;
+        while (start < header.length()) {
+            int comma = header.indexOf(',', start);
+            int end = comma < 0 ? header.length() : comma;
+            String candidate = header.substring(start, end).trim();
+            // If-None-Match는 약한 비교: W/"x" 와 "x"는 같은 것으로 본다
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,151 @@
+package com.melt.web.cache;
+
+import com.melt.annotation.RequestParam;
+import com.melt.annotation.ResponseCache;
+import com.melt.cache.BoundedCache;
+import com.melt.cache.CacheStats;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import com.melt.web.mapping.RouteMatch;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @ResponseCache가 붙은 핸들러 하나의 응답 캐시
+ *
+ * 핸들러마다 따로 두므로 키에는 라우트를 넣지 않고 PathVariable 값과 선택한 쿼리 파라미터 값만 넣는다.
+ * 같은 자원의 쓰기 핸들러(POST/PUT/PATCH/DELETE)가 실행되면 통째로 비운다 (HandlerMapping이 등록할 때 연결).
+ */
+public class ResponseCachePolicy {
+    private static final Logger log = LoggerFactory.getLogger(ResponseCachePolicy.class);
+
+    // 캐시를 채워야 하는 요청(미스)이면 계산해 둔 키(Miss)를 여기 넣어 둔다
+    public static final String KEY_ATTRIBUTE = ResponseCachePolicy.class.getName() + ".KEY";
+
+    // 키 구분자 (값에 거의 나오지 않는 제어 문자)
+    private static final char SEPARATOR = '\u001f';
+    private static final char NULL_MARKER = '\u0000';
+    // 항목당 고정 비용 (노드, 헤더 문자열 등) - 바이트 가중치에 더한다
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final String urlPattern;
+    private final String[] queryParams;
+    private final BoundedCache<String, CachedResponse> cache;
+    // invalidateAll마다 증가 - 쓰기 전에 읽기 시작한 미스가 쓰기 뒤에 옛 응답을 저장하지 않도록
+    private final AtomicLong generation = new AtomicLong();
+
+    private ResponseCachePolicy(String route, String urlPattern, ResponseCache annotation, String[] queryParams) {
+        this.urlPattern = urlPattern;
+        this.queryParams = queryParams;
+        this.cache = new BoundedCache<>(route, annotation.maxEntries(), annotation.maxBytes(),
+                annotation.unit().toNanos(annotation.ttl()),
+                (key, response) -> response.getBodyBytes() + key.length() * 2L + ENTRY_OVERHEAD);
+    }
+
+    /**
+     * 핸들러에 @ResponseCache가 있으면 캐시를 만들고, 없거나 GET이 아니면 null
+     */
+    public static ResponseCachePolicy forHandler(Method method, String httpMethod, String urlPattern) {
+        ResponseCache annotation = method.getAnnotation(ResponseCache.class);
+        if (annotation == null) {
+            return null;
+        }
+        if (!"GET".equals(httpMethod)) {
+            log.warn("⚠️ @ResponseCache는 GET 핸들러에만 적용됩니다: " + httpMethod + " " + urlPattern);
+            return null;
+        }
+        String[] queryParams = annotation.queryParams().length > 0
+                ? annotation.queryParams().clone()
+                : requestParamNames(method);
+        return new ResponseCachePolicy(httpMethod + " " + urlPattern, urlPattern, annotation, queryParams);
+    }
+
+    private static String[] requestParamNames(Method method) {
+        Set<String> names = new LinkedHashSet<>();
+        for (Parameter parameter : method.getParameters()) {
+            RequestParam requestParam = parameter.getAnnotation(RequestParam.class);
+            if (requestParam != null) {
+                names.add(requestParam.value());
+            }
+        }
+        return names.toArray(new String[0]);
+    }
+
+    /**
+     * 캐시 키: PathVariable 값들 + 쿼리 파라미터 값들 (없는 값과 빈 문자열은 구분)
+     */
+    public String key(RouteMatch match, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(32);
+        for (int i = 0; i < match.getPathVariableCount(); i++) {
+            key.append(match.getPathVariable(i)).append(SEPARATOR);
+        }
+        for (String name : queryParams) {
+            String value = request.getParameter(name);
+            if (value == null) {
+                key.append(NULL_MARKER);
+            } else {
+                key.append(value);
+            }
+            key.append(SEPARATOR);
+        }
+        return key.toString();
+    }
+
+    public CachedResponse get(String key) {
+        return cache.get(key);
+    }
+
+    /**
+     * 미스 - 핸들러를 실행하기 전에 키와 세대를 기억해 둔다
+     */
+    public Miss miss(String key) {
+        return new Miss(key, generation.get());
+    }
+
+    /**
+     * 저장 - 미스 이후에 무효화됐으면 (핸들러가 쓰기 전 값을 읽었을 수 있으므로) 남기지 않는다
+     */
+    public CachedResponse put(Miss miss, CachedResponse response) {
+        cache.put(miss.key(), response);
+        if (generation.get() != miss.generation()) {
+            cache.invalidate(miss.key());
+        }
+        return response;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * writePattern에 대한 쓰기가 이 캐시의 응답을 바꿀 수 있는지
+     * 한쪽 경로가 다른 쪽의 접두사면 같은 자원으로 본다 (/api/users ↔ /api/users/{id}/status, {변수}는 어느 세그먼트와도 같음)
+     */
+    public boolean isAffectedBy(String writePattern) {
+        String[] read = urlPattern.split("/");
+        String[] write = writePattern.split("/");
+        for (int i = 0; i < Math.min(read.length, write.length); i++) {
+            if (!read[i].equals(write[i]) && !isVariable(read[i]) && !isVariable(write[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public record Miss(String key, long generation) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.melt.web.compress;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 응답 본문 출력 스트림 - 최소 크기에 닿는 순간부터 압축 (minSize 이상이면 압축, 캐시 압축본과 같은 기준)
+ *
+ * minSize 바이트 미만까지만 모아 두고, 그 안에서 끝나면 압축하지 않고 Content-Length와 함께 그대로 쓴다.
+ * 닿으면 그때 Content-Encoding 헤더를 붙이고 모아 둔 것부터 흘려보내므로 본문 전체를 버퍼에 담지 않는다.
+ */
+final class CompressingResponseStream extends OutputStream {
+    private final HttpServletResponse response;
+    private final ContentEncoding encoding;
+    private final ResponseCompression compression;
+    private final byte[] pending;
+    private final byte[] single = new byte[1];
+    private int pendingCount;
+    private OutputStream deflating;
+    private boolean closed;
+
+    CompressingResponseStream(HttpServletResponse response, ContentEncoding encoding, ResponseCompression compression) {
+        this.response = response;
+        this.encoding = encoding;
+        this.compression = compression;
+        this.pending = new byte[compression.getMinSize()];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (deflating == null) {
+            if (pendingCount + len < pending.length) {
+                System.arraycopy(b, off, pending, pendingCount, len);
+                pendingCount += len;
+                return;
+            }
+            startCompression();
+        }
+        deflating.write(b, off, len);
+    }
+
+    // 중간 flush는 무시한다 - 압축 여부를 정하기 전에 커밋되면 안 되고,
+    // 정한 뒤에도 SYNC_FLUSH는 압축률만 떨어뜨린다 (Json.write가 끝에서 flush를 부름). 끝은 close에서 처리
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (deflating == null) {
+            response.setContentLength(pendingCount);
+            response.getOutputStream().write(pending, 0, pendingCount);
+            return;
+        }
+        deflating.close();
+    }
+
+    private void startCompression() throws IOException {
+        response.setHeader("Content-Encoding", encoding.token());
+        deflating = compression.deflatingStream(response.getOutputStream(), encoding);
+        deflating.write(pending, 0, pendingCount);
+    }
+}
@@ -0,0 +1,78 @@
+package com.melt.web.compress;
+
+/**
+ * 응답 압축 인코딩 (HTTP의 deflate는 zlib 형식)
+ */
+public enum ContentEncoding {
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    // Content-Encoding 헤더 값
+    public String token() {
+        return token;
+    }
+
+    /**
+     * Accept-Encoding에서 q값이 가장 큰 인코딩 (같으면 gzip 우선), 받을 수 있는 게 없으면 null
+     */
+    public static ContentEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        double gzip = -1;
+        double deflate = -1;
+        double any = -1;
+        int start = 0;
+        while (start < acceptEncoding.length()) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = acceptEncoding.length();
+            }
+            String part = acceptEncoding.substring(start, end);
+            start = end + 1;
+
+            int semicolon = part.indexOf(';');
+            String name = (semicolon < 0 ? part : part.substring(0, semicolon)).trim();
+            double quality = semicolon < 0 ? 1 : quality(part.substring(semicolon + 1));
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                gzip = Math.max(gzip, quality);
+            } else if (name.equalsIgnoreCase("deflate")) {
+                deflate = Math.max(deflate, quality);
+            } else if (name.equals("*")) {
+                any = Math.max(any, quality);
+            }
+        }
+        // 목록에 없는 인코딩은 *의 q값을 따른다
+        if (gzip < 0) {
+            gzip = any;
+        }
+        if (deflate < 0) {
+            deflate = any;
+        }
+        if (gzip <= 0 && deflate <= 0) {
+            return null;
+        }
+        return gzip >= deflate ? GZIP : DEFLATE;
+    }
+
+    // "q=0.5" (다른 파라미터가 섞여 있어도 q만 읽음, 잘못된 값은 0)
+    private static double quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.length() > 2 && (trimmed.charAt(0) == 'q' || trimmed.charAt(0) == 'Q') && trimmed.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(trimmed.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.melt.web.compress;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * 같은 설정(레벨, nowrap)의 Deflater 풀
+ *
+ * Deflater는 네이티브 zlib 상태(수백 KB)를 들고 있어 응답마다 만들고 end()하면 비싸다.
+ * reset()해서 다시 쓰고, 풀이 가득 차 있으면 end()로 네이티브 메모리를 바로 돌려준다.
+ */
+public class DeflaterPool {
+    private final int level;
+    private final boolean nowrap;
+    private final ArrayBlockingQueue<Deflater> deflaters;
+
+    /**
+     * @param nowrap true면 헤더 없는 raw deflate (gzip은 헤더/트레일러를 직접 씀), false면 zlib 형식
+     */
+    public DeflaterPool(int level, boolean nowrap, int maxPooled) {
+        this.level = level;
+        this.nowrap = nowrap;
+        this.deflaters = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    public Deflater acquire() {
+        Deflater deflater = deflaters.poll();
+        return deflater != null ? deflater : new Deflater(level, nowrap);
+    }
+
+    public void release(Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    public int getPooledCount() {
+        return deflaters.size();
+    }
+}
@@ -0,0 +1,120 @@
+package com.melt.web.compress;
+
+import com.melt.web.body.ByteBufferPool;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 풀에서 빌린 Deflater와 출력 버퍼로 gzip/deflate 스트림을 쓴다
+ *
+ * java.util.zip.GZIPOutputStream은 Deflater를 직접 만들고 end()하므로 풀을 쓸 수 없어 헤더/트레일러를 직접 쓴다.
+ * close()에서 Deflater와 버퍼를 풀에 돌려주므로 반드시 닫아야 한다 (대상 스트림은 닫지 않음).
+ */
+final class DeflatingOutputStream extends OutputStream {
+    // 10바이트 gzip 헤더: 매직, CM=deflate, 플래그 없음, MTIME 0, XFL 0, OS 알 수 없음
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final OutputStream out;
+    private final DeflaterPool deflaterPool;
+    private final ByteBufferPool bufferPool;
+    private final Deflater deflater;
+    private final ByteBuffer buffer;
+    // gzip일 때만 (트레일러에 원본 CRC32가 들어감)
+    private final CRC32 crc;
+    private final byte[] single = new byte[1];
+    private boolean closed;
+
+    DeflatingOutputStream(OutputStream out, ContentEncoding encoding, DeflaterPool deflaterPool,
+                          ByteBufferPool bufferPool) throws IOException {
+        this.out = out;
+        this.deflaterPool = deflaterPool;
+        this.bufferPool = bufferPool;
+        // 헤더를 먼저 쓴다 - 쓰다 실패하면 아직 풀에서 빌린 것이 없으니 돌려줄 것도 없음
+        if (encoding == ContentEncoding.GZIP) {
+            out.write(GZIP_HEADER);
+            this.crc = new CRC32();
+        } else {
+            this.crc = null;
+        }
+        this.deflater = deflaterPool.acquire();
+        this.buffer = bufferPool.acquire();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("이미 닫힌 스트림입니다");
+        }
+        if (len == 0) {
+            return;
+        }
+        if (crc != null) {
+            crc.update(b, off, len);
+        }
+        deflater.setInput(b, off, len);
+        while (!deflater.needsInput()) {
+            drain(Deflater.NO_FLUSH);
+        }
+    }
+
+    // 지금까지 쓴 내용을 클라이언트가 풀 수 있게 내보냄 (압축률은 조금 떨어짐)
+    @Override
+    public void flush() throws IOException {
+        if (closed) {
+            return;
+        }
+        while (drain(Deflater.SYNC_FLUSH) == buffer.capacity()) {
+            // 버퍼가 가득 찼으면 더 남아 있음
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            deflater.finish();
+            while (!deflater.finished()) {
+                drain(Deflater.NO_FLUSH);
+            }
+            if (crc != null) {
+                byte[] trailer = buffer.array();
+                writeIntLE(trailer, 0, (int) crc.getValue());
+                writeIntLE(trailer, 4, (int) deflater.getBytesRead());
+                out.write(trailer, 0, 8);
+            }
+        } finally {
+            deflaterPool.release(deflater);
+            bufferPool.release(buffer);
+        }
+    }
+
+    private int drain(int flush) throws IOException {
+        byte[] bytes = buffer.array();
+        int count = deflater.deflate(bytes, 0, bytes.length, flush);
+        if (count > 0) {
+            out.write(bytes, 0, count);
+        }
+        return count;
+    }
+
+    private static void writeIntLE(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >>> 8);
+        bytes[offset + 2] = (byte) (value >>> 16);
+        bytes[offset + 3] = (byte) (value >>> 24);
+    }
+}
@@ -0,0 +1,96 @@
+package com.melt.web.compress;
+
+import com.melt.web.body.ByteBufferPool;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 응답 압축 설정과 공용 자원 (Deflater 풀, 출력 버퍼 풀)
+ *
+ * minSize보다 작은 본문은 압축하지 않는다 (헤더/트레일러 비용과 CPU가 줄어드는 바이트보다 큼).
+ */
+public class ResponseCompression {
+    public static final int DEFAULT_MIN_SIZE = 1024;
+    public static final int DEFAULT_LEVEL = 6;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_POOLED = 256;
+
+    private final int minSize;
+    private final boolean cacheVariants;
+    private final DeflaterPool gzipDeflaters;
+    private final DeflaterPool zlibDeflaters;
+    private final ByteBufferPool bufferPool = new ByteBufferPool(BUFFER_SIZE, MAX_POOLED);
+
+    /**
+     * @param cacheVariants true면 @ResponseCache에 저장할 때 압축본도 같이 만들어 둔다
+     */
+    public ResponseCompression(int minSize, int level, boolean cacheVariants) {
+        this.minSize = minSize;
+        this.cacheVariants = cacheVariants;
+        this.gzipDeflaters = new DeflaterPool(level, true, MAX_POOLED);
+        this.zlibDeflaters = new DeflaterPool(level, false, MAX_POOLED);
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    // @ResponseCache에 압축본을 같이 저장하는지
+    public boolean isCacheVariants() {
+        return cacheVariants;
+    }
+
+    /**
+     * 요청의 Accept-Encoding으로 응답 인코딩 결정 (압축하지 않으면 null)
+     */
+    public ContentEncoding negotiate(HttpServletRequest request) {
+        return ContentEncoding.negotiate(request.getHeader("Accept-Encoding"));
+    }
+
+    /**
+     * 응답 본문을 쓸 스트림 - 본문이 minSize 이상이면 encoding으로 압축된다 (다 쓰고 반드시 close)
+     */
+    public OutputStream responseStream(HttpServletResponse response, ContentEncoding encoding) {
+        return new CompressingResponseStream(response, encoding, this);
+    }
+
+    /**
+     * 캐시에 같이 저장할 압축본들 (minSize 미만이거나 압축해도 줄지 않으면 빈 맵)
+     */
+    public Map<ContentEncoding, byte[]> compressedVariants(byte[] body) {
+        Map<ContentEncoding, byte[]> variants = new EnumMap<>(ContentEncoding.class);
+        if (!cacheVariants || body.length < minSize) {
+            return variants;
+        }
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            byte[] compressed = compress(body, encoding);
+            if (compressed.length < body.length) {
+                variants.put(encoding, compressed);
+            }
+        }
+        return variants;
+    }
+
+    public byte[] compress(byte[] body, ContentEncoding encoding) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (OutputStream deflating = deflatingStream(out, encoding)) {
+            deflating.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 스트림이라 일어나지 않음
+        }
+        return out.toByteArray();
+    }
+
+    OutputStream deflatingStream(OutputStream out, ContentEncoding encoding) throws IOException {
+        DeflaterPool pool = encoding == ContentEncoding.GZIP ? gzipDeflaters : zlibDeflaters;
+        return new DeflatingOutputStream(out, encoding, pool, bufferPool);
+    }
+}
@@ -1,44 +1,191 @@
 package com.melt.web.context;
 
+import com.melt.aot.AotBootstrap;
 import com.melt.annotation.Controller;
 import com.melt.annotation.RestController;
+import com.melt.config.Environment;
 import com.melt.context.ApplicationContext;
+import com.melt.context.BeanFactory;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import com.melt.web.admission.AdmissionConfig;
 import com.melt.web.mapping.HandlerMapping;
+import com.melt.web.metrics.MetricsController;
+import com.melt.web.metrics.MetricsRegistry;
 
 import java.util.List;
 import java.util.ArrayList;
 
+/**
+ * 서블릿 하나의 컨텍스트 - 컨트롤러, HandlerMapping, /metrics
+ *
+ * 부모(루트) 컨텍스트 없이 만들면 예전처럼 base package 전체를 혼자 스캔한다.
+ * 루트 컨텍스트(createRootContext, 컨트롤러를 뺀 Bean 전부)를 주면 controllerPackage의 컨트롤러만 만들고
+ * 서비스/리포지토리는 루트에서 찾으므로, 서블릿(커넥터)을 여러 개 띄워도 Bean 그래프는 하나다.
+ */
 public class WebApplicationContext {
+    private static final Logger log = LoggerFactory.getLogger(WebApplicationContext.class);
+
+    // 컴포넌트 스캔 시작 패키지
+    public static final String BASE_PACKAGE_PROPERTY = "melt.base-package";
+    public static final String DEFAULT_BASE_PACKAGE = "com.melt";
+    // false면 생성된 AOT 부트스트랩이 있어도 스캔으로 초기화
+    public static final String AOT_PROPERTY = "melt.aot";
+
+    private final Environment environment;
+    private final ApplicationContext parent;
+    // 부모가 있을 때 이 컨텍스트가 맡을 컨트롤러 패키지 (null이면 base package) / 그중 뺄 하위 패키지
+    private final String controllerPackage;
+    private final List<String> excludedPackages;
+    private ApplicationContext applicationContext;
     private HandlerMapping handlerMapping;
+    private MetricsRegistry metricsRegistry;
 
-    public void refresh() throws Exception{
-        System.out.println("🔄 WebApplicationContext 초기화 시작...");
+    public WebApplicationContext() {
+        this(Environment.getDefault());
+    }
 
-        // 1. ApplicationContext 초기화
-        ApplicationContext applicationContext = new ApplicationContext();
-        applicationContext.scan("com.melt");    // Component Scan + Bean 등록 + DI
+    public WebApplicationContext(Environment environment) {
+        this.environment = environment;
+        this.parent = null;
+        this.controllerPackage = null;
+        this.excludedPackages = List.of();
+    }
 
-        // 2. 컨트롤러 Bean들 수집 (@Controller + @RestController 모두)
-        List<Object> allControllers = new ArrayList<>();
+    /**
+     * 루트 컨텍스트를 공유하는 자식 웹 컨텍스트
+     *
+     * @param controllerPackage 이 서블릿의 컨트롤러 패키지 (null이면 base package)
+     * @param excludedPackages  controllerPackage 중 다른 서블릿이 맡는 하위 패키지
+     */
+    public WebApplicationContext(ApplicationContext parent, String controllerPackage, List<String> excludedPackages) {
+        this.environment = parent.getEnvironment();
+        this.parent = parent;
+        this.controllerPackage = controllerPackage;
+        this.excludedPackages = List.copyOf(excludedPackages);
+    }
 
-        // 기존 @Controller 스캔
-        List<Object> controllers = applicationContext.getBeansWithAnnotation(Controller.class);
-        allControllers.addAll(controllers);
+    /**
+     * 여러 서블릿이 같이 쓸 루트 컨텍스트 - 컨트롤러를 뺀 모든 Bean (Main에서 한 번만 만든다)
+     */
+    public static ApplicationContext createRootContext(Environment environment) {
+        long start = System.nanoTime();
+        String basePackage = environment.getProperty(BASE_PACKAGE_PROPERTY, DEFAULT_BASE_PACKAGE);
+        ApplicationContext rootContext = new ApplicationContext(environment);
+        rootContext.setComponentFilter(type -> !isController(type));
 
-        // 새로운 @RestController 스캔 (추가)
-        List<Object> restControllers = applicationContext.getBeansWithAnnotation(RestController.class);
-        allControllers.addAll(restControllers);
+        AotBootstrap bootstrap = findBootstrap(environment, basePackage);
+        if (bootstrap != null) {
+            rootContext.bootstrap(bootstrap);
+        } else {
+            rootContext.scan(basePackage);
+        }
+        log.info("🌳 루트 ApplicationContext 초기화 완료! (" + (bootstrap != null ? "AOT 부트스트랩" : "스캔") + ", "
+                + (System.nanoTime() - start) / 1_000 / 1_000.0 + "ms)");
+        return rootContext;
+    }
 
-        System.out.println("📋 발견된 컨트롤러: @Controller(" + controllers.size() + "), @RestController(" + restControllers.size() + ")");
+    public void refresh() throws Exception{
+        log.info("🔄 WebApplicationContext 초기화 시작...");
+        long start = System.nanoTime();
 
-        // 3. HandlerMapping에 등록
+        String basePackage = environment.getProperty(BASE_PACKAGE_PROPERTY, DEFAULT_BASE_PACKAGE);
+        String scanPackage = parent != null && controllerPackage != null ? controllerPackage : basePackage;
+        applicationContext = new ApplicationContext(environment, parent);
+        if (parent != null) {
+            // 서비스/리포지토리는 부모 것을 쓰고 여기서는 맡은 컨트롤러만
+            applicationContext.setComponentFilter(type -> isController(type)
+                    && inPackage(type.getPackageName(), scanPackage) && !isExcluded(type.getPackageName()));
+        }
         handlerMapping = new HandlerMapping();
-        handlerMapping.scanControllers(allControllers);
+        handlerMapping.setAdmissionConfig(new AdmissionConfig(environment));
+
+        AotBootstrap bootstrap = findBootstrap(environment, basePackage);
+        if (bootstrap != null && !inPackage(scanPackage, basePackage)) {
+            log.info("📦 컨트롤러 패키지(" + scanPackage + ")가 AOT 부트스트랩 범위 밖이라 스캔으로 초기화합니다");
+            bootstrap = null;
+        }
+        if (bootstrap != null) {
+            // 1~3. 생성된 코드가 Bean 생성, 주입, 핸들러 등록을 직접 호출로
+            applicationContext.bootstrap(bootstrap);
+            bootstrap.registerHandlers(handlerMapping, applicationContext);
+        } else {
+            // 1. ApplicationContext 초기화
+            applicationContext.scan(scanPackage);    // Component Scan + Bean 등록 + DI
+
+            // 2. 컨트롤러 Bean들 수집 (@Controller + @RestController 모두)
+            List<Object> allControllers = new ArrayList<>();
+
+            // 기존 @Controller 스캔
+            List<Object> controllers = applicationContext.getBeansWithAnnotation(Controller.class);
+            allControllers.addAll(controllers);
+
+            // 새로운 @RestController 스캔 (추가)
+            List<Object> restControllers = applicationContext.getBeansWithAnnotation(RestController.class);
+            allControllers.addAll(restControllers);
+
+            log.info("📋 발견된 컨트롤러: @Controller(" + controllers.size() + "), @RestController(" + restControllers.size() + ")");
+
+            // 3. HandlerMapping에 등록
+            handlerMapping.scanControllers(allControllers);
+        }
 
-        System.out.println("✅ WebApplicationContext 초기화 완료!");
+        // 4. 내장 /metrics 엔드포인트
+        metricsRegistry = new MetricsRegistry(handlerMapping, applicationContext.getCacheManager());
+        handlerMapping.registerBuiltInController(new MetricsController(metricsRegistry));
+
+        log.info("✅ WebApplicationContext 초기화 완료! (" + (bootstrap != null ? "AOT 부트스트랩" : "스캔") + ", "
+                + (System.nanoTime() - start) / 1_000 / 1_000.0 + "ms)");
+    }
+
+    public static boolean isController(Class<?> type) {
+        return type.isAnnotationPresent(Controller.class) || type.isAnnotationPresent(RestController.class);
+    }
+
+    private boolean isExcluded(String packageName) {
+        for (String excluded : excludedPackages) {
+            if (inPackage(packageName, excluded)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // packageName이 prefix 패키지이거나 그 하위 패키지인지
+    private static boolean inPackage(String packageName, String prefix) {
+        return packageName.equals(prefix) || packageName.startsWith(prefix + ".");
+    }
+
+    // 생성된 부트스트랩은 같은 패키지를 스캔해 만든 것이고, 지연 생성 모드가 아닐 때만 쓴다
+    private static AotBootstrap findBootstrap(Environment environment, String basePackage) {
+        if (!environment.getBoolean(AOT_PROPERTY, true)) {
+            return null;
+        }
+        AotBootstrap bootstrap = AotBootstrap.load(Thread.currentThread().getContextClassLoader());
+        if (bootstrap == null) {
+            return null;
+        }
+        if (!bootstrap.basePackage().equals(basePackage)) {
+            log.warn("⚠️ AOT 부트스트랩의 패키지(" + bootstrap.basePackage() + ")가 " + BASE_PACKAGE_PROPERTY + "("
+                    + basePackage + ")와 달라 스캔으로 초기화합니다");
+            return null;
+        }
+        if (environment.getBoolean(BeanFactory.LAZY_PROPERTY, false)) {
+            log.info("💤 " + BeanFactory.LAZY_PROPERTY + "=true라 AOT 부트스트랩 대신 스캔으로 초기화합니다");
+            return null;
+        }
+        return bootstrap;
+    }
+
+    public ApplicationContext getApplicationContext() {
+        return applicationContext;
     }
 
     public HandlerMapping getHandlerMapping() {
         return handlerMapping;
     }
+
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
 }
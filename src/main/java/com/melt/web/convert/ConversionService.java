@@ -0,0 +1,274 @@
+package com.melt.web.convert;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 파라미터/경로 변수 변환기 모음
+ *
+ * 핸들러를 등록할 때 파라미터 타입마다 변환기를 한 번 골라 두고, 요청 시에는 convert()만 호출한다.
+ * 기본 제공: 문자열, 기본 타입과 래퍼, BigDecimal/BigInteger, enum, UUID, java.time(ISO-8601),
+ * 그 외 타입은 static valueOf(String) / of(String) / parse(CharSequence) 또는 String 생성자.
+ * List/Set/배열은 MultiValueConverter가 원소 변환기로 값마다 변환한다.
+ */
+public class ConversionService {
+    private static final ConversionService DEFAULT = new ConversionService();
+
+    private final Map<Class<?>, TypeConverter> converters = new ConcurrentHashMap<>();
+
+    public ConversionService() {
+        registerDefaults();
+    }
+
+    /**
+     * 핸들러 등록에 쓰는 공용 인스턴스 (사용자 변환기도 여기에 등록)
+     */
+    public static ConversionService getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 변환기 등록 - 핸들러 등록 전에 해야 해당 파라미터에 적용된다
+     */
+    public <T> void register(Class<T> type, TypeConverter converter) {
+        converters.put(type, converter);
+    }
+
+    /**
+     * 단일 값 변환기 (변환할 수 없는 타입이면 IllegalArgumentException)
+     */
+    public TypeConverter getConverter(Class<?> type) {
+        TypeConverter converter = converters.get(type);
+        if (converter != null) {
+            return converter;
+        }
+        if (type.isEnum()) {
+            return converters.computeIfAbsent(type, EnumConverter::new);
+        }
+        return converters.computeIfAbsent(type, ConversionService::factoryMethodConverter);
+    }
+
+    /**
+     * 파라미터 타입에 맞는 변환기 - List/Set/Collection, 배열이면 MultiValueConverter
+     */
+    public TypeConverter getConverter(Class<?> type, Type genericType) {
+        if (type.isArray() && type != byte[].class && type != char[].class) {
+            return MultiValueConverter.forArray(type.getComponentType(), getConverter(type.getComponentType()));
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            Class<?> elementType = elementType(genericType);
+            return MultiValueConverter.forCollection(type, getConverter(elementType));
+        }
+        return getConverter(type);
+    }
+
+    // List<T>의 T (원시 타입 List면 String)
+    private static Class<?> elementType(Type genericType) {
+        if (genericType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+            if (argument instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) argument).getRawType();
+            }
+        }
+        return String.class;
+    }
+
+    private void registerDefaults() {
+        converters.put(String.class, TypeConverter.IDENTITY);
+        converters.put(CharSequence.class, TypeConverter.IDENTITY);
+        converters.put(Object.class, TypeConverter.IDENTITY);
+
+        RegionConverter intConverter = (value, begin, end) -> Integer.parseInt(value, begin, end, 10);
+        RegionConverter longConverter = (value, begin, end) -> Long.parseLong(value, begin, end, 10);
+        RegionConverter shortConverter = (value, begin, end) -> (short) parseInRange(value, begin, end, Short.MIN_VALUE, Short.MAX_VALUE);
+        RegionConverter byteConverter = (value, begin, end) -> (byte) parseInRange(value, begin, end, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        RegionConverter booleanConverter = ConversionService::parseBoolean;
+        TypeConverter doubleConverter = Double::parseDouble;
+        TypeConverter floatConverter = Float::parseFloat;
+        TypeConverter charConverter = ConversionService::parseChar;
+        registerPrimitive(int.class, Integer.class, intConverter);
+        registerPrimitive(long.class, Long.class, longConverter);
+        registerPrimitive(short.class, Short.class, shortConverter);
+        registerPrimitive(byte.class, Byte.class, byteConverter);
+        registerPrimitive(boolean.class, Boolean.class, booleanConverter);
+        registerPrimitive(double.class, Double.class, doubleConverter);
+        registerPrimitive(float.class, Float.class, floatConverter);
+        registerPrimitive(char.class, Character.class, charConverter);
+
+        converters.put(BigDecimal.class, BigDecimal::new);
+        converters.put(BigInteger.class, BigInteger::new);
+        converters.put(UUID.class, ConversionService::parseUuid);
+
+        converters.put(LocalDate.class, LocalDate::parse);
+        converters.put(LocalDateTime.class, LocalDateTime::parse);
+        converters.put(LocalTime.class, LocalTime::parse);
+        converters.put(Instant.class, Instant::parse);
+        converters.put(OffsetDateTime.class, OffsetDateTime::parse);
+        converters.put(ZonedDateTime.class, ZonedDateTime::parse);
+        converters.put(YearMonth.class, YearMonth::parse);
+        converters.put(Duration.class, Duration::parse);
+    }
+
+    private void registerPrimitive(Class<?> primitive, Class<?> wrapper, TypeConverter converter) {
+        converters.put(primitive, converter);
+        converters.put(wrapper, converter);
+    }
+
+    private static int parseInRange(CharSequence value, int begin, int end, int min, int max) {
+        int parsed = Integer.parseInt(value, begin, end, 10);
+        if (parsed < min || parsed > max) {
+            throw new NumberFormatException("범위를 벗어난 값: " + value.subSequence(begin, end));
+        }
+        return parsed;
+    }
+
+    // Boolean.parseBoolean은 오타도 false로 만들어 버리므로 직접 확인 (체크박스의 on/off 포함)
+    private static Boolean parseBoolean(CharSequence value, int begin, int end) {
+        int length = end - begin;
+        if (length == 1) {
+            char c = value.charAt(begin);
+            if (c == '1') {
+                return Boolean.TRUE;
+            }
+            if (c == '0') {
+                return Boolean.FALSE;
+            }
+        } else if (regionEquals(value, begin, end, "true") || regionEquals(value, begin, end, "on")
+                || regionEquals(value, begin, end, "yes")) {
+            return Boolean.TRUE;
+        } else if (regionEquals(value, begin, end, "false") || regionEquals(value, begin, end, "off")
+                || regionEquals(value, begin, end, "no")) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("true/false가 아닙니다: " + value.subSequence(begin, end));
+    }
+
+    // 대소문자 무시 비교 (expected는 소문자)
+    private static boolean regionEquals(CharSequence value, int begin, int end, String expected) {
+        if (end - begin != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toLowerCase(value.charAt(begin + i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Character parseChar(String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException("문자 하나가 아닙니다: " + value);
+        }
+        return value.charAt(0);
+    }
+
+    // UUID.fromString은 자리수가 모자란 값도 받아들이므로 길이를 먼저 확인
+    private static UUID parseUuid(String value) {
+        if (value.length() != 36) {
+            throw new IllegalArgumentException("UUID 형식이 아닙니다: " + value);
+        }
+        return UUID.fromString(value);
+    }
+
+    // static valueOf(String) → of(String) → parse(CharSequence) → String 생성자 순으로 찾는다
+    private static TypeConverter factoryMethodConverter(Class<?> type) {
+        MethodHandle handle = findFactory(type);
+        if (handle == null) {
+            throw new IllegalArgumentException("문자열에서 변환할 수 없는 타입: " + type.getName());
+        }
+        return value -> {
+            try {
+                return handle.invoke(value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        };
+    }
+
+    private static MethodHandle findFactory(Class<?> type) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        if (type.isPrimitive() || type.isInterface() || !Modifier.isPublic(type.getModifiers())) {
+            return null;
+        }
+        for (String name : new String[]{"valueOf", "of"}) {
+            try {
+                return lookup.findStatic(type, name, MethodType.methodType(type, String.class));
+            } catch (NoSuchMethodException | IllegalAccessException ignored) {
+            }
+        }
+        try {
+            return lookup.findStatic(type, "parse", MethodType.methodType(type, CharSequence.class));
+        } catch (NoSuchMethodException | IllegalAccessException ignored) {
+        }
+        try {
+            return lookup.findConstructor(type, MethodType.methodType(void.class, String.class));
+        } catch (NoSuchMethodException | IllegalAccessException ignored) {
+        }
+        return null;
+    }
+
+    /**
+     * enum 변환 - 상수 이름표를 미리 만들어 두고 찾는다
+     * 이름 그대로 먼저 찾고, 없으면 대소문자와 '-'/'_'를 무시하고 다시 찾는다 (?status=in-progress → IN_PROGRESS)
+     */
+    private static final class EnumConverter implements TypeConverter {
+        private final Class<?> type;
+        private final Map<String, Object> byName;
+        private final Map<String, Object> byNormalizedName;
+
+        private EnumConverter(Class<?> type) {
+            this.type = type;
+            Object[] constants = type.getEnumConstants();
+            this.byName = new HashMap<>(constants.length * 2);
+            this.byNormalizedName = new HashMap<>(constants.length * 2);
+            for (Object constant : constants) {
+                String name = ((Enum<?>) constant).name();
+                byName.put(name, constant);
+                byNormalizedName.putIfAbsent(normalize(name), constant);
+            }
+        }
+
+        @Override
+        public Object convert(String value) {
+            Object constant = byName.get(value);
+            if (constant == null) {
+                constant = byNormalizedName.get(normalize(value));
+            }
+            if (constant == null) {
+                throw new IllegalArgumentException(type.getSimpleName() + "에 없는 값: " + value
+                        + " (가능한 값: " + byName.keySet() + ")");
+            }
+            return constant;
+        }
+
+        private static String normalize(String name) {
+            return name.toLowerCase(Locale.ROOT).replace('-', '_');
+        }
+    }
+}
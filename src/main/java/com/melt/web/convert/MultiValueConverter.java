@@ -0,0 +1,137 @@
+package com.melt.web.convert;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 여러 값 → List/Set/배열 변환 (?id=1&id=2, ?id=1,2 모두 가능)
+ *
+ * 값마다 쉼표로 나누고 앞뒤 공백과 빈 항목은 건너뛴다.
+ * 나눈 항목은 문자열로 잘라내지 않고 구간 그대로 원소 변환기에 넘긴다 (숫자/boolean은 잘라내지 않고 읽음).
+ */
+public final class MultiValueConverter implements TypeConverter {
+    private final TypeConverter elementConverter;
+    // 배열이면 원소 타입, 컬렉션이면 null
+    private final Class<?> componentType;
+    private final boolean set;
+
+    private MultiValueConverter(TypeConverter elementConverter, Class<?> componentType, boolean set) {
+        this.elementConverter = elementConverter;
+        this.componentType = componentType;
+        this.set = set;
+    }
+
+    static MultiValueConverter forArray(Class<?> componentType, TypeConverter elementConverter) {
+        return new MultiValueConverter(elementConverter, componentType, false);
+    }
+
+    static MultiValueConverter forCollection(Class<?> collectionType, TypeConverter elementConverter) {
+        if (collectionType.isAssignableFrom(ArrayList.class)) {
+            return new MultiValueConverter(elementConverter, null, false);
+        }
+        if (collectionType.isAssignableFrom(LinkedHashSet.class)) {
+            return new MultiValueConverter(elementConverter, null, true);
+        }
+        throw new IllegalArgumentException("지원하지 않는 컬렉션 타입: " + collectionType.getName()
+                + " (List, Set, Collection만 가능)");
+    }
+
+    @Override
+    public Object convert(String value) {
+        return convertAll(value, null);
+    }
+
+    /**
+     * 같은 이름으로 들어온 값 전체 변환 (request.getParameterValues)
+     */
+    public Object convert(String[] values) {
+        return values.length == 1 ? convertAll(values[0], null) : convertAll(null, values);
+    }
+
+    // value 하나 또는 values 전체 - 개수를 먼저 세서 결과를 한 번에 할당
+    private Object convertAll(String value, String[] values) {
+        int count = 0;
+        if (values == null) {
+            count = countElements(value);
+        } else {
+            for (String v : values) {
+                count += countElements(v);
+            }
+        }
+
+        Object target = componentType != null ? Array.newInstance(componentType, count)
+                : set ? new LinkedHashSet<>(count * 2) : new ArrayList<>(count);
+        int index = 0;
+        if (values == null) {
+            fill(value, target, index);
+        } else {
+            for (String v : values) {
+                index = fill(v, target, index);
+            }
+        }
+        return target;
+    }
+
+    private static int countElements(String value) {
+        int count = 0;
+        int begin = 0;
+        int length = value.length();
+        while (begin <= length) {
+            int end = value.indexOf(',', begin);
+            if (end < 0) {
+                end = length;
+            }
+            if (trimBegin(value, begin, end) < trimEnd(value, begin, end)) {
+                count++;
+            }
+            begin = end + 1;
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int fill(String value, Object target, int index) {
+        int begin = 0;
+        int length = value.length();
+        while (begin <= length) {
+            int end = value.indexOf(',', begin);
+            if (end < 0) {
+                end = length;
+            }
+            int from = trimBegin(value, begin, end);
+            int to = trimEnd(value, begin, end);
+            if (from < to) {
+                Object element = from == 0 && to == length
+                        ? elementConverter.convert(value)
+                        : elementConverter.convert(value, from, to);
+                if (componentType != null) {
+                    Array.set(target, index, element);
+                } else if (set) {
+                    ((Set<Object>) target).add(element);
+                } else {
+                    ((List<Object>) target).add(element);
+                }
+                index++;
+            }
+            begin = end + 1;
+        }
+        return index;
+    }
+
+    private static int trimBegin(String value, int begin, int end) {
+        while (begin < end && value.charAt(begin) == ' ') {
+            begin++;
+        }
+        return begin;
+    }
+
+    private static int trimEnd(String value, int begin, int end) {
+        while (end > begin && value.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,15 @@
+package com.melt.web.convert;
+
+/**
+ * 문자열 구간을 잘라내지 않고 바로 읽는 변환기 (숫자, boolean)
+ */
+@FunctionalInterface
+interface RegionConverter extends TypeConverter {
+    @Override
+    Object convert(CharSequence value, int begin, int end);
+
+    @Override
+    default Object convert(String value) {
+        return convert(value, 0, value.length());
+    }
+}
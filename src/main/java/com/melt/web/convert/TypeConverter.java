@@ -0,0 +1,22 @@
+package com.melt.web.convert;
+
+/**
+ * 문자열 → 파라미터 타입 변환기 (파라미터별로 등록 시점에 골라 둔다)
+ *
+ * 변환할 수 없는 값이면 IllegalArgumentException(NumberFormatException 포함)이나
+ * DateTimeException을 던지고, 리졸버가 400 Bad Request로 바꾼다.
+ */
+@FunctionalInterface
+public interface TypeConverter {
+    TypeConverter IDENTITY = value -> value;
+
+    Object convert(String value);
+
+    /**
+     * value의 [begin, end) 구간만 변환 - 쉼표로 나열된 값을 하나씩 변환할 때 사용
+     * 기본 구현은 잘라낸 문자열로 변환하고, 숫자/boolean 변환기는 잘라내지 않고 바로 읽는다.
+     */
+    default Object convert(CharSequence value, int begin, int end) {
+        return convert(value.subSequence(begin, end).toString());
+    }
+}
@@ -9,39 +9,67 @@ import com.melt.annotation.PostMapping;
 import com.melt.annotation.PutMapping;
 import com.melt.annotation.DeleteMapping;
 import com.melt.annotation.PatchMapping;
-import com.melt.annotation.RequestParam;
-import com.melt.annotation.PathVariable;
-import com.melt.annotation.RequestBody;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import com.melt.util.ClassUtils;
+import com.melt.web.admission.AdmissionConfig;
+import com.melt.web.admission.RouteAdmission;
+import com.melt.web.cache.ResponseCachePolicy;
 import com.melt.web.method.HandlerMethod;
-import com.melt.util.UrlMatcher;
+import com.melt.web.method.support.ArgumentResolver;
+import com.melt.web.method.support.ArgumentResolvers;
+import com.melt.web.method.support.HandlerInvoker;
+import com.melt.web.method.support.HandlerInvokers;
 
 import javax.servlet.http.HttpServletRequest;
-import java.io.BufferedReader;
-import java.io.IOException;
+import javax.servlet.http.HttpServletResponse;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 public class HandlerMapping {
-    private final Map<String, HandlerMethod> mappings = new HashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(HandlerMapping.class);
+
+    // HTTP 메소드별 라우트 트라이 (GET -> 트라이, POST -> 트라이 ...)
+    private final Map<String, RouteTrie> routes = new HashMap<>();
+
+    // 등록된 매핑 목록 (출력/디버깅용, 요청 처리에는 사용하지 않음)
+    private final Map<String, HandlerMethod> mappings = new LinkedHashMap<>();
+
+    // 컨트롤러 메소드 호출기 생성 전략 (기본: MethodHandle, 실패 시 리플렉션)
+    private BiFunction<Object, Method, HandlerInvoker> invokerFactory = HandlerInvokers::create;
+
+    public void setInvokerFactory(BiFunction<Object, Method, HandlerInvoker> invokerFactory) {
+        this.invokerFactory = invokerFactory;
+    }
+
+    // 라우트별 유입 제한 설정 (기본: 어노테이션만)
+    private AdmissionConfig admissionConfig = new AdmissionConfig(null);
+
+    public void setAdmissionConfig(AdmissionConfig admissionConfig) {
+        this.admissionConfig = admissionConfig;
+    }
 
     // 컨트롤러들을 스캔해서 매핑 정보 등록
     public void scanControllers(List<Object> controllers) {
-        System.out.println("📋 스캔할 Controller 개수: " + controllers.size());
+        log.debug("📋 스캔할 Controller 개수: " + controllers.size());
 
         for (Object controller : controllers) {
-            System.out.println("🔍 Controller 처리 중: " + controller.getClass().getSimpleName());
+            log.debug("🔍 Controller 처리 중: " + controller.getClass().getSimpleName());
             registerController(controller);
         }
 
-        System.out.println("📋 최종 등록된 매핑 개수: " + mappings.size());
+        log.info("📋 최종 등록된 매핑 개수: " + mappings.size());
     }
 
     // 개별 컨트롤러 등록
     public void registerController(Object controller) {
-        Class<?> clazz = controller.getClass();
+        Class<?> clazz = ClassUtils.getUserClass(controller);
 
         // 1) 기존 @Controller 처리 (기존 코드 유지)
         if (clazz.isAnnotationPresent(Controller.class)){
@@ -54,20 +82,23 @@ public class HandlerMapping {
         }
     }
 
-    // 기존 @RequestMapping 처리 로직 (변경 없음)
+    /**
+     * 프레임워크 내장 컨트롤러 등록 (/metrics 등)
+     * 컴포넌트 스캔 대상이 아니므로 클래스 어노테이션 없이 @GetMapping 등만 보고 등록한다.
+     */
+    public void registerBuiltInController(Object controller) {
+        registerRestControllerMethods(controller, ClassUtils.getUserClass(controller));
+    }
+
+    // 기존 @RequestMapping 처리 로직
     private void registerRequestMappingMethods(Object controller, Class<?> clazz) {
         Method[] methods = clazz.getDeclaredMethods();
         for (Method method : methods) {
-            if (method.isAnnotationPresent(RequestMapping.class)){
-                RequestMapping mapping = method.getAnnotation(RequestMapping.class);
-                String url = mapping.value();
-                RequestMethod httpMethod = mapping.method();
-
-                String mappingKey = httpMethod.name() + ":" + url;
-                HandlerMethod handlerMethod = new HandlerMethod(controller, method);
-                mappings.put(mappingKey, handlerMethod);
+            String[] route = requestMappingOf(method);
+            if (route != null) {
+                HandlerMethod handlerMethod = registerMapping(route[0], route[1], controller, method);
 
-                System.out.println("✅ @RequestMapping 등록: " + url + " -> " + handlerMethod);
+                log.debug("✅ @RequestMapping 등록: " + route[1] + " -> " + handlerMethod);
             }
         }
     }
@@ -76,167 +107,136 @@ public class HandlerMapping {
     private void registerRestControllerMethods(Object controller, Class<?> clazz) {
         Method[] methods = clazz.getDeclaredMethods();
         for (Method method : methods) {
-            String mappingKey = null;
-            String url = null;
-
-            // @GetMapping 처리
-            if (method.isAnnotationPresent(GetMapping.class)) {
-                GetMapping mapping = method.getAnnotation(GetMapping.class);
-                url = mapping.value();
-                mappingKey = "GET:" + url;
-            }
-            // @PostMapping 처리
-            else if (method.isAnnotationPresent(PostMapping.class)) {
-                PostMapping mapping = method.getAnnotation(PostMapping.class);
-                url = mapping.value();
-                mappingKey = "POST:" + url;
-            }
-            // @PutMapping 처리
-            else if (method.isAnnotationPresent(PutMapping.class)) {
-                PutMapping mapping = method.getAnnotation(PutMapping.class);
-                url = mapping.value();
-                mappingKey = "PUT:" + url;
-            }
-            // @DeleteMapping 처리
-            else if (method.isAnnotationPresent(DeleteMapping.class)) {
-                DeleteMapping mapping = method.getAnnotation(DeleteMapping.class);
-                url = mapping.value();
-                mappingKey = "DELETE:" + url;
-            }
-            // @PatchMapping 처리
-            else if (method.isAnnotationPresent(PatchMapping.class)) {
-                PatchMapping mapping = method.getAnnotation(PatchMapping.class);
-                url = mapping.value();
-                mappingKey = "PATCH:" + url;
+            String[] route = restMappingOf(method);
+            if (route != null) {
+                HandlerMethod handlerMethod = registerMapping(route[0], route[1], controller, method);
+                log.debug("✅ REST API 매핑 등록: " + route[1] + " -> " + handlerMethod);
             }
+        }
+    }
 
-            if (mappingKey != null) {
-                HandlerMethod handlerMethod = new HandlerMethod(controller, method);
-                mappings.put(mappingKey, handlerMethod);
-                System.out.println("✅ REST API 매핑 등록: " + url + " -> " + handlerMethod);
-            }
+    /**
+     * @Controller 메소드의 {HTTP 메소드, URL} - @RequestMapping이 없으면 null
+     * (AOT 부트스트랩 생성기도 같은 규칙으로 라우트를 미리 뽑는다)
+     */
+    public static String[] requestMappingOf(Method method) {
+        RequestMapping mapping = method.getAnnotation(RequestMapping.class);
+        if (mapping == null) {
+            return null;
         }
+        RequestMethod httpMethod = mapping.method();
+        return new String[]{httpMethod.name(), mapping.value()};
     }
 
-    public HandlerMethod getHandler(String url, String httpMethod) {
-        // 1. 정확한 매칭 먼저 시도
-        String mappingKey = httpMethod + ":" + url;
-        HandlerMethod handler = mappings.get(mappingKey);
-        if (handler != null) {
-            return handler;
-        }
-
-        // 2. PathVariable이 있는 패턴 매칭
-        for (Map.Entry<String, HandlerMethod> entry : mappings.entrySet()) {
-            String key = entry.getKey();
-            if (key.startsWith(httpMethod + ":")) {
-                String pattern = key.substring(httpMethod.length() + 1);
-                if (UrlMatcher.matches(pattern, url)) {
-                    return entry.getValue();
-                }
-            }
+    /**
+     * @RestController 메소드의 {HTTP 메소드, URL} - @GetMapping 등이 없으면 null
+     */
+    public static String[] restMappingOf(Method method) {
+        // @GetMapping 처리
+        if (method.isAnnotationPresent(GetMapping.class)) {
+            return new String[]{"GET", method.getAnnotation(GetMapping.class).value()};
+        }
+        // @PostMapping 처리
+        if (method.isAnnotationPresent(PostMapping.class)) {
+            return new String[]{"POST", method.getAnnotation(PostMapping.class).value()};
+        }
+        // @PutMapping 처리
+        if (method.isAnnotationPresent(PutMapping.class)) {
+            return new String[]{"PUT", method.getAnnotation(PutMapping.class).value()};
+        }
+        // @DeleteMapping 처리
+        if (method.isAnnotationPresent(DeleteMapping.class)) {
+            return new String[]{"DELETE", method.getAnnotation(DeleteMapping.class).value()};
+        }
+        // @PatchMapping 처리
+        if (method.isAnnotationPresent(PatchMapping.class)) {
+            return new String[]{"PATCH", method.getAnnotation(PatchMapping.class).value()};
         }
         return null;
     }
 
-    public HandlerMethod getHandler(String url) {
-        return getHandler(url, "GET");
+    // HTTP 메소드별 트라이에 핸들러 등록 (요청 시 사용할 구조는 여기서 한 번만 만든다)
+    // 어노테이션 없이 직접 등록할 때도 사용 (벤치마크 등)
+    public HandlerMethod registerMapping(String httpMethod, String url, Object controller, Method method) {
+        return registerMapping(httpMethod, url, controller, method, invokerFactory.apply(controller, method));
     }
 
+    /**
+     * 호출기를 직접 넘겨 등록 (AOT 부트스트랩: 컨트롤러 메소드를 직접 부르는 람다)
+     */
+    public HandlerMethod registerMapping(String httpMethod, String url, Object controller, Method method,
+                                         HandlerInvoker invoker) {
+        ArgumentResolver[] resolvers = ArgumentResolvers.forMethod(method, RouteTrie.variableNames(url));
+        RouteAdmission admission = admissionConfig.forHandler(httpMethod, url, ClassUtils.getUserClass(controller),
+                method);
+        HandlerMethod handlerMethod = new HandlerMethod(controller, method, httpMethod, url, resolvers, invoker,
+                admission);
+        if (admission != null) {
+            log.info("🚦 유입 제한: " + httpMethod + " " + url + " - " + admission);
+        }
 
-    // 🔥 핵심 로직: 메소드 파라미터 자동 준비
-    public Object[] prepareMethodArguments(HandlerMethod handler,
-                                          HttpServletRequest req, String uri) throws Exception {
-
-        Method method = handler.getMethod();
-        Parameter[] parameters = method.getParameters();
-        Object[] args = new Object[parameters.length];
-
-        // PathVariable 값들 미리 추출
-        String urlPattern = getUrlPattern(handler);
-        Map<String, String> pathVars = UrlMatcher.extractPathVariables(urlPattern, uri);
-
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter param = parameters[i];
-
-            if (param.isAnnotationPresent(RequestParam.class)) {
-                // @RequestParam 처리
-                RequestParam annotation = param.getAnnotation(RequestParam.class);
-                String paramName = annotation.value();
-                String paramValue = req.getParameter(paramName);
-
-                args[i] = convertToType(paramValue, param.getType());
-
-            } else if (param.isAnnotationPresent(PathVariable.class)) {
-                // @PathVariable 처리
-                PathVariable annotation = param.getAnnotation(PathVariable.class);
-                String varName = annotation.value();
-                String varValue = pathVars.get(varName);
+        RouteTrie trie = routes.computeIfAbsent(httpMethod, key -> new RouteTrie());
+        HandlerMethod previous = trie.insert(url, handlerMethod);
+        if (previous != null) {
+            log.warn("⚠️ 매핑 덮어씀: " + httpMethod + " " + url + " (" + previous + " -> " + handlerMethod + ")");
+        }
 
-                args[i] = convertToType(varValue, param.getType());
+        linkResponseCaches(handlerMethod);
+        mappings.put(httpMethod + ":" + url, handlerMethod);
+        return handlerMethod;
+    }
 
-            } else if (param.isAnnotationPresent(RequestBody.class)) {
-                // @RequestBody 처리 (JSON)
-                String jsonBody = readRequestBody(req);
-                args[i] = parseJson(jsonBody, param.getType());
-            }
+    // 쓰기 핸들러와 같은 자원의 @ResponseCache를 연결 - 등록 순서와 상관없게 양쪽으로 본다
+    private void linkResponseCaches(HandlerMethod added) {
+        for (HandlerMethod other : mappings.values()) {
+            linkResponseCache(added, other);
+            linkResponseCache(other, added);
         }
-
-        return args;
     }
 
-    // HandlerMethod에서 URL 패턴 추출
-    private String getUrlPattern(HandlerMethod handler) {
-        Method method = handler.getMethod();
-        if (method.isAnnotationPresent(RequestMapping.class)) {
-            RequestMapping mapping = method.getAnnotation(RequestMapping.class);
-            return mapping.value();
+    private static void linkResponseCache(HandlerMethod writer, HandlerMethod reader) {
+        ResponseCachePolicy cache = reader.getResponseCache();
+        if (cache != null && writer.isWrite() && cache.isAffectedBy(writer.getUrlPattern())) {
+            writer.addInvalidatedCache(cache);
+            log.debug(() -> "🧹 " + writer.getHttpMethod() + " " + writer.getUrlPattern() + " 실행 시 비울 응답 캐시: "
+                    + reader.getHttpMethod() + " " + reader.getUrlPattern());
         }
-        return "";
     }
 
-    // 타입 변환 유틸리티
-    private Object convertToType(String value, Class<?> targetType) {
-        if (value == null) return null;
+    // 핸들러 탐색 + PathVariable 추출을 한 번에 수행
+    public RouteMatch match(String url, String httpMethod) {
+        RouteTrie trie = routes.get(httpMethod);
+        if (trie == null) {
+            return null;
+        }
+        return trie.match(url);
+    }
 
-        if (targetType == String.class) return value;
-        if (targetType == Integer.class || targetType == int.class)
-            return Integer.parseInt(value);
-        if (targetType == Long.class || targetType == long.class)
-            return Long.parseLong(value);
-        if (targetType == Boolean.class || targetType == boolean.class)
-            return Boolean.parseBoolean(value);
+    // 등록된 모든 핸들러 (등록 순서)
+    public Collection<HandlerMethod> getHandlerMethods() {
+        return Collections.unmodifiableCollection(mappings.values());
+    }
 
-        return value; // 기본값
+    public HandlerMethod getHandler(String url, String httpMethod) {
+        RouteMatch match = match(url, httpMethod);
+        return match != null ? match.getHandler() : null;
     }
 
-    // Request Body 읽기
-    private String readRequestBody(HttpServletRequest req) throws IOException {
-        StringBuilder sb = new StringBuilder();
-        try (BufferedReader reader = req.getReader()) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                sb.append(line);
-            }
-        }
-        return sb.toString();
+    public HandlerMethod getHandler(String url) {
+        return getHandler(url, "GET");
     }
 
-    // 간단한 JSON 파싱 (실제로는 Jackson 사용)
-    private Object parseJson(String json, Class<?> targetType) {
-        // 매우 간단한 User 클래스용 JSON 파싱
-        if (targetType.getSimpleName().equals("User")) {
-            // 실제로는 User 객체를 생성해야 하지만 여기서는 JSON 문자열 반환
-            return json;
-        }
-        return json; // 기본적으로 JSON 문자열 반환
+    // 🔥 핵심 로직: 메소드 파라미터 자동 준비 (등록 시점에 만든 리졸버 사용)
+    public Object[] prepareMethodArguments(RouteMatch match, HttpServletRequest req, HttpServletResponse resp)
+            throws Exception {
+        return match.getHandler().resolveArguments(req, resp, match);
     }
 
     // 등록된 모든 매핑 정보 출력 (디버깅용)
     public void printMappings() {
-        System.out.println("\n📋 등록된 핸들러 매핑:");
+        StringBuilder sb = new StringBuilder("📋 등록된 핸들러 매핑:");
         mappings.forEach((url, handler) ->
-                System.out.println("  " + url + " -> " + handler));
-        System.out.println();
+                sb.append(System.lineSeparator()).append("  ").append(url).append(" -> ").append(handler));
+        log.info(sb.toString());
     }
 }
@@ -0,0 +1,47 @@
+package com.melt.web.mapping;
+
+import com.melt.web.method.HandlerMethod;
+
+/**
+ * 트라이 탐색 결과 - 찾은 핸들러 + 탐색 중에 뽑아낸 PathVariable 값들
+ */
+public class RouteMatch {
+    static final String[] NO_VARIABLES = new String[0];
+
+    private final HandlerMethod handler;
+    private final String[] variableNames;
+    private final String[] variableValues;
+
+    RouteMatch(HandlerMethod handler, String[] variableNames, String[] variableValues) {
+        this.handler = handler;
+        this.variableNames = variableNames;
+        this.variableValues = variableValues;
+    }
+
+    public HandlerMethod getHandler() {
+        return handler;
+    }
+
+    /**
+     * 패턴에 나온 순서(슬롯 번호)로 PathVariable 값 조회
+     */
+    public String getPathVariable(int slot) {
+        return variableValues[slot];
+    }
+
+    /**
+     * 이름으로 PathVariable 값 조회 (없으면 null)
+     */
+    public String getPathVariable(String name) {
+        for (int i = 0; i < variableNames.length; i++) {
+            if (variableNames[i].equals(name)) {
+                return variableValues[i];
+            }
+        }
+        return null;
+    }
+
+    public int getPathVariableCount() {
+        return variableNames.length;
+    }
+}
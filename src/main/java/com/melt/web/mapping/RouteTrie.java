@@ -0,0 +1,246 @@
+package com.melt.web.mapping;
+
+import com.melt.web.method.HandlerMethod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP 메소드 하나에 대한 URL 세그먼트 트라이
+ *
+ * 등록 시점에 패턴을 세그먼트 단위로 쪼개 트리를 만들어 두고,
+ * 요청 시에는 URI를 한 번만 훑으면서 핸들러를 찾고 PathVariable 값을 함께 뽑아낸다.
+ * (정규표현식, 문자열 연결 없음 / 우선순위: 리터럴 > {변수} > ** 와일드카드)
+ */
+public class RouteTrie {
+    private final Node root = new Node();
+    private int maxVariables;
+
+    /**
+     * 패턴 등록 (/api/users/{id}, /static/** , /files/{*path} 형태 지원)
+     * @return 같은 패턴에 이미 등록되어 있던 핸들러 (없으면 null)
+     */
+    public HandlerMethod insert(String pattern, HandlerMethod handler) {
+        List<String> segments = splitPattern(pattern);
+        List<String> variableNames = new ArrayList<>();
+        Node node = root;
+
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+
+            if (isWildcard(segment)) {
+                // 와일드카드는 나머지 경로 전체를 먹으므로 반드시 마지막 세그먼트여야 함
+                if (i != segments.size() - 1) {
+                    throw new IllegalArgumentException("와일드카드는 패턴의 마지막에만 올 수 있습니다: " + pattern);
+                }
+                if (segment.startsWith("{*")) {
+                    variableNames.add(segment.substring(2, segment.length() - 1));
+                }
+                if (node.wildcardChild == null) {
+                    node.wildcardChild = new Node();
+                }
+                node.wildcardChild.wildcardCaptures = segment.startsWith("{*");
+                node = node.wildcardChild;
+            } else if (isVariable(segment)) {
+                variableNames.add(segment.substring(1, segment.length() - 1));
+                if (node.variableChild == null) {
+                    node.variableChild = new Node();
+                }
+                node = node.variableChild;
+            } else {
+                node = node.literalChild(segment);
+            }
+        }
+
+        HandlerMethod previous = node.handler;
+        node.handler = handler;
+        node.variableNames = variableNames.toArray(new String[0]);
+        maxVariables = Math.max(maxVariables, variableNames.size());
+        return previous;
+    }
+
+    /**
+     * URI에 맞는 핸들러 탐색 (없으면 null)
+     */
+    public RouteMatch match(String uri) {
+        // 맨 앞의 '/'는 건너뛰고 시작 ("/"만 있으면 세그먼트 0개)
+        int start = (!uri.isEmpty() && uri.charAt(0) == '/') ? 1 : 0;
+        if (start == uri.length()) {
+            start = uri.length() + 1;
+        }
+        String[] captured = maxVariables == 0 ? RouteMatch.NO_VARIABLES : new String[maxVariables];
+
+        Node found = root.match(uri, start, captured, 0);
+        if (found == null) {
+            return null;
+        }
+        return new RouteMatch(found.handler, found.variableNames, captured);
+    }
+
+    /**
+     * 패턴에 나오는 변수명 목록 (등장 순서 = RouteMatch 슬롯 번호)
+     */
+    public static String[] variableNames(String pattern) {
+        List<String> names = new ArrayList<>();
+        for (String segment : splitPattern(pattern)) {
+            if (isWildcard(segment)) {
+                if (segment.startsWith("{*")) {
+                    names.add(segment.substring(2, segment.length() - 1));
+                }
+            } else if (isVariable(segment)) {
+                names.add(segment.substring(1, segment.length() - 1));
+            }
+        }
+        return names.toArray(new String[0]);
+    }
+
+    private static List<String> splitPattern(String pattern) {
+        List<String> segments = new ArrayList<>();
+        String trimmed = pattern.startsWith("/") ? pattern.substring(1) : pattern;
+        if (trimmed.isEmpty()) {
+            return segments;
+        }
+        segments.addAll(Arrays.asList(trimmed.split("/", -1)));
+        return segments;
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+    }
+
+    private static boolean isWildcard(String segment) {
+        return segment.equals("**") || (segment.startsWith("{*") && segment.endsWith("}") && segment.length() > 3);
+    }
+
+    /**
+     * String.hashCode()와 같은 방식으로 uri의 [start, end) 구간 해시 계산 (substring 없이)
+     */
+    private static int regionHash(String uri, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + uri.charAt(i);
+        }
+        return h;
+    }
+
+    private static final class Node {
+        // 등록 단계에서만 쓰는 리터럴 자식 맵
+        private final Map<String, Node> literalChildren = new HashMap<>();
+
+        // 요청 단계에서 쓰는 리터럴 자식 테이블 (해시 기준 정렬 → 이진 탐색)
+        private int[] literalHashes = new int[0];
+        private String[] literalKeys = new String[0];
+        private Node[] literalNodes = new Node[0];
+
+        private Node variableChild;
+        private Node wildcardChild;
+        private boolean wildcardCaptures;
+
+        private HandlerMethod handler;
+        private String[] variableNames;
+
+        private Node literalChild(String segment) {
+            Node child = literalChildren.get(segment);
+            if (child == null) {
+                child = new Node();
+                literalChildren.put(segment, child);
+                rebuildLiteralTable();
+            }
+            return child;
+        }
+
+        private void rebuildLiteralTable() {
+            List<Map.Entry<String, Node>> entries = new ArrayList<>(literalChildren.entrySet());
+            entries.sort((a, b) -> Integer.compare(a.getKey().hashCode(), b.getKey().hashCode()));
+
+            int size = entries.size();
+            int[] hashes = new int[size];
+            String[] keys = new String[size];
+            Node[] nodes = new Node[size];
+            for (int i = 0; i < size; i++) {
+                hashes[i] = entries.get(i).getKey().hashCode();
+                keys[i] = entries.get(i).getKey();
+                nodes[i] = entries.get(i).getValue();
+            }
+            literalHashes = hashes;
+            literalKeys = keys;
+            literalNodes = nodes;
+        }
+
+        private Node findLiteral(String uri, int start, int end) {
+            int length = end - start;
+            int hash = regionHash(uri, start, end);
+            int index = Arrays.binarySearch(literalHashes, hash);
+            if (index < 0) {
+                return null;
+            }
+            // 해시 충돌 대비: 같은 해시를 가진 구간 전체를 확인
+            while (index > 0 && literalHashes[index - 1] == hash) {
+                index--;
+            }
+            for (; index < literalHashes.length && literalHashes[index] == hash; index++) {
+                String key = literalKeys[index];
+                if (key.length() == length && uri.regionMatches(start, key, 0, length)) {
+                    return literalNodes[index];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * uri[start..]를 이 노드 아래에서 매칭 (실패하면 다음 우선순위로 되돌아가 재시도)
+         */
+        private Node match(String uri, int start, String[] captured, int variableIndex) {
+            if (start > uri.length()) {
+                // 세그먼트를 모두 소비함 → 이 노드 자체 또는 빈 나머지를 받는 와일드카드
+                if (handler != null) {
+                    return this;
+                }
+                if (wildcardChild != null && wildcardChild.handler != null) {
+                    if (wildcardChild.wildcardCaptures) {
+                        captured[variableIndex] = "";
+                    }
+                    return wildcardChild;
+                }
+                return null;
+            }
+
+            int end = uri.indexOf('/', start);
+            if (end < 0) {
+                end = uri.length();
+            }
+            int next = end + 1;
+
+            // 1) 리터럴 자식
+            Node literal = findLiteral(uri, start, end);
+            if (literal != null) {
+                Node found = literal.match(uri, next, captured, variableIndex);
+                if (found != null) {
+                    return found;
+                }
+            }
+
+            // 2) {변수} 자식 (빈 세그먼트는 변수로 인정하지 않음)
+            if (variableChild != null && end > start) {
+                Node found = variableChild.match(uri, next, captured, variableIndex + 1);
+                if (found != null) {
+                    captured[variableIndex] = uri.substring(start, end);
+                    return found;
+                }
+            }
+
+            // 3) ** 와일드카드 자식 (나머지 경로 전체)
+            if (wildcardChild != null && wildcardChild.handler != null) {
+                if (wildcardChild.wildcardCaptures) {
+                    captured[variableIndex] = uri.substring(start);
+                }
+                return wildcardChild;
+            }
+
+            return null;
+        }
+    }
+}
@@ -1,14 +1,90 @@
 package com.melt.web.method;
 
+import com.melt.annotation.VirtualThread;
+import com.melt.util.ClassUtils;
+import com.melt.web.admission.RouteAdmission;
+import com.melt.web.cache.ResponseCachePolicy;
+import com.melt.web.mapping.RouteMatch;
+import com.melt.web.metrics.RouteMetrics;
+import com.melt.web.method.support.ArgumentResolver;
+import com.melt.web.method.support.ArgumentResolvers;
+import com.melt.web.method.support.HandlerInvoker;
+import com.melt.web.method.support.HandlerInvokers;
+import com.melt.web.method.support.RequestBodyArgumentResolver;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 
 public class HandlerMethod {
     private final Object controller;
     private final Method method;
+    private final String httpMethod;
+    private final String urlPattern;
+
+    // 파라미터별 리졸버 (등록 시점에 만들어 두고 요청마다 재사용)
+    private final ArgumentResolver[] argumentResolvers;
+
+    // 컨트롤러 메소드 호출기 (기본: bind된 MethodHandle, 실패 시 리플렉션)
+    private final HandlerInvoker invoker;
+
+    // @RequestBody 파라미터가 있는지 (있으면 본문을 논블로킹으로 먼저 읽는다)
+    private final boolean hasRequestBody;
+
+    // @VirtualThread - 워커 스레드 대신 가상 스레드에서 실행
+    private final boolean virtualThread;
+
+    // 이 라우트의 요청 수/오류 수/지연 시간 (/metrics)
+    private final RouteMetrics metrics;
+
+    // @ResponseCache 응답 캐시 (없으면 null)
+    private final ResponseCachePolicy responseCache;
+
+    // 쓰기 핸들러가 실행되면 비울 같은 자원의 GET 응답 캐시들 (HandlerMapping이 등록할 때 연결)
+    private volatile ResponseCachePolicy[] invalidatedCaches = new ResponseCachePolicy[0];
+
+    // @ConcurrencyLimit/@RateLimit 유입 제한 (없으면 null)
+    private final RouteAdmission admission;
 
     public HandlerMethod(Object controller, Method method) {
+        this(controller, method, null, null, ArgumentResolvers.forMethod(method, new String[0]));
+    }
+
+    public HandlerMethod(Object controller, Method method, String httpMethod, String urlPattern,
+                         ArgumentResolver[] argumentResolvers) {
+        this(controller, method, httpMethod, urlPattern, argumentResolvers,
+                HandlerInvokers.create(controller, method));
+    }
+
+    public HandlerMethod(Object controller, Method method, String httpMethod, String urlPattern,
+                         ArgumentResolver[] argumentResolvers, HandlerInvoker invoker) {
+        this(controller, method, httpMethod, urlPattern, argumentResolvers, invoker, null);
+    }
+
+    public HandlerMethod(Object controller, Method method, String httpMethod, String urlPattern,
+                         ArgumentResolver[] argumentResolvers, HandlerInvoker invoker, RouteAdmission admission) {
         this.controller = controller;
         this.method = method;
+        this.httpMethod = httpMethod;
+        this.urlPattern = urlPattern;
+        this.argumentResolvers = argumentResolvers.clone();
+        this.invoker = invoker;
+        this.hasRequestBody = containsRequestBody(this.argumentResolvers);
+        this.virtualThread = method.isAnnotationPresent(VirtualThread.class)
+                || ClassUtils.getUserClass(controller).isAnnotationPresent(VirtualThread.class);
+        this.metrics = new RouteMetrics(httpMethod, urlPattern);
+        this.responseCache = ResponseCachePolicy.forHandler(method, httpMethod, urlPattern);
+        this.admission = admission;
+    }
+
+    private static boolean containsRequestBody(ArgumentResolver[] resolvers) {
+        for (ArgumentResolver resolver : resolvers) {
+            if (resolver instanceof RequestBodyArgumentResolver) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public Object getController() {
@@ -19,8 +95,81 @@ public class HandlerMethod {
         return method;
     }
 
+    // 등록된 HTTP 메소드 (GET, POST ...)
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    // 등록된 URL 패턴 (/api/users/{id} ...)
+    public String getUrlPattern() {
+        return urlPattern;
+    }
+
+    // 요청마다 실행되는 부분 - 미리 만든 리졸버 배열만 순서대로 돈다
+    public Object[] resolveArguments(HttpServletRequest request, HttpServletResponse response, RouteMatch match)
+            throws Exception {
+        ArgumentResolver[] resolvers = argumentResolvers;
+        Object[] args = new Object[resolvers.length];
+        for (int i = 0; i < resolvers.length; i++) {
+            args[i] = resolvers[i].resolve(request, response, match);
+        }
+        return args;
+    }
+
+    // 컨트롤러 메소드 실행
+    public Object invoke(Object[] args) throws Exception {
+        return invoker.invoke(args);
+    }
+
+    public boolean hasRequestBody() {
+        return hasRequestBody;
+    }
+
+    // void 메소드는 핸들러가 응답을 직접 쓴다
+    public boolean isVoid() {
+        return method.getReturnType() == void.class;
+    }
+
+    public RouteMetrics getMetrics() {
+        return metrics;
+    }
+
+    public ResponseCachePolicy getResponseCache() {
+        return responseCache;
+    }
+
+    // POST/PUT/PATCH/DELETE - 실행되면 같은 자원의 응답 캐시를 비운다
+    public boolean isWrite() {
+        return "POST".equals(httpMethod) || "PUT".equals(httpMethod) || "PATCH".equals(httpMethod)
+                || "DELETE".equals(httpMethod);
+    }
+
+    public synchronized void addInvalidatedCache(ResponseCachePolicy cache) {
+        ResponseCachePolicy[] caches = Arrays.copyOf(invalidatedCaches, invalidatedCaches.length + 1);
+        caches[caches.length - 1] = cache;
+        invalidatedCaches = caches;
+    }
+
+    public void invalidateResponseCaches() {
+        for (ResponseCachePolicy cache : invalidatedCaches) {
+            cache.invalidateAll();
+        }
+    }
+
+    public RouteAdmission getAdmission() {
+        return admission;
+    }
+
+    public boolean isVirtualThread() {
+        return virtualThread;
+    }
+
+    public HandlerInvoker getInvoker() {
+        return invoker;
+    }
+
     @Override
     public String toString() {
-        return controller.getClass().getSimpleName() + "." + method.getName() + "()";
+        return ClassUtils.getUserClass(controller).getSimpleName() + "." + method.getName() + "()";
     }
 }
@@ -0,0 +1,16 @@
+package com.melt.web.method.support;
+
+import com.melt.web.mapping.RouteMatch;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 핸들러 메소드 파라미터 하나의 값을 만들어내는 리졸버
+ *
+ * 등록 시점에 파라미터마다 하나씩 만들어 두고, 요청 시에는 resolve()만 호출한다.
+ */
+@FunctionalInterface
+public interface ArgumentResolver {
+    Object resolve(HttpServletRequest request, HttpServletResponse response, RouteMatch match) throws Exception;
+}
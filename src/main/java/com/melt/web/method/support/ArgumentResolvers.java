@@ -0,0 +1,113 @@
+package com.melt.web.method.support;
+
+import com.melt.annotation.PathVariable;
+import com.melt.annotation.RequestBody;
+import com.melt.annotation.RequestParam;
+import com.melt.web.convert.ConversionService;
+import com.melt.web.convert.TypeConverter;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.time.DateTimeException;
+
+/**
+ * 핸들러 메소드의 파라미터 어노테이션을 한 번만 분석해서 리졸버 배열을 만든다
+ */
+public final class ArgumentResolvers {
+    // 어노테이션이 없는 파라미터는 null 전달 (기존 동작 유지)
+    private static final ArgumentResolver NULL_RESOLVER = (request, response, match) -> null;
+
+    // 어노테이션 없이 HttpServletRequest/HttpServletResponse 타입이면 요청/응답 객체 그대로
+    private static final ArgumentResolver REQUEST_RESOLVER = (request, response, match) -> request;
+    private static final ArgumentResolver RESPONSE_RESOLVER = (request, response, match) -> response;
+
+    private ArgumentResolvers() {
+    }
+
+    /**
+     * @param method 핸들러 메소드
+     * @param pathVariableNames URL 패턴에 나오는 변수명 (등장 순서 = 슬롯 번호)
+     */
+    public static ArgumentResolver[] forMethod(Method method, String[] pathVariableNames) {
+        Parameter[] parameters = method.getParameters();
+        ArgumentResolver[] resolvers = new ArgumentResolver[parameters.length];
+
+        for (int i = 0; i < parameters.length; i++) {
+            resolvers[i] = forParameter(method, parameters[i], pathVariableNames);
+        }
+        return resolvers;
+    }
+
+    private static ArgumentResolver forParameter(Method method, Parameter param, String[] pathVariableNames) {
+        if (param.isAnnotationPresent(RequestParam.class)) {
+            RequestParam annotation = param.getAnnotation(RequestParam.class);
+            String defaultValue = RequestParam.NO_DEFAULT.equals(annotation.defaultValue())
+                    ? null : annotation.defaultValue();
+            try {
+                return new RequestParamArgumentResolver(annotation.value(), annotation.required(), param.getType(),
+                        converterFor(method, param), defaultValue);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw new IllegalStateException("@RequestParam(\"" + annotation.value() + "\")의 defaultValue를 변환할 수 없습니다: "
+                        + describe(method) + " - " + e.getMessage(), e);
+            }
+        }
+
+        if (param.isAnnotationPresent(PathVariable.class)) {
+            String varName = param.getAnnotation(PathVariable.class).value();
+            int slot = indexOf(pathVariableNames, varName);
+            if (slot < 0) {
+                throw new IllegalStateException("URL 패턴에 없는 @PathVariable(\"" + varName + "\"): " + describe(method));
+            }
+            return new PathVariableArgumentResolver(slot, varName, param.getType(), converterFor(method, param));
+        }
+
+        if (param.isAnnotationPresent(RequestBody.class)) {
+            return new RequestBodyArgumentResolver(param.getParameterizedType());
+        }
+
+        Class<?> type = param.getType();
+        if (type == HttpServletRequest.class || type == ServletRequest.class) {
+            return REQUEST_RESOLVER;
+        }
+        if (type == HttpServletResponse.class || type == ServletResponse.class) {
+            return RESPONSE_RESOLVER;
+        }
+
+        return NULL_RESOLVER;
+    }
+
+    // 파라미터 타입의 변환기 - 변환할 수 없는 타입이면 핸들러 등록 시점에 실패
+    private static TypeConverter converterFor(Method method, Parameter param) {
+        try {
+            return ConversionService.getDefault().getConverter(param.getType(), param.getParameterizedType());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage() + ": " + describe(method), e);
+        }
+    }
+
+    /**
+     * 변환 실패 → 400 (어느 값이 왜 잘못됐는지 메시지에 남긴다)
+     */
+    static BadRequestException conversionFailed(String kind, String name, Class<?> type, String value,
+                                                RuntimeException cause) {
+        return new BadRequestException(kind + " '" + name + "' 값을 " + type.getSimpleName()
+                + "(으)로 변환할 수 없습니다: " + value, cause);
+    }
+
+    private static String describe(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName() + "()";
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,15 @@
+package com.melt.web.method.support;
+
+/**
+ * 요청 값이 잘못됐을 때 (400 Bad Request) - 필수 파라미터 누락, 타입 변환 실패 등
+ * 핸들러에서 직접 던져도 400으로 응답한다.
+ */
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
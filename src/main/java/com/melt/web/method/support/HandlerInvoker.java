@@ -0,0 +1,12 @@
+package com.melt.web.method.support;
+
+/**
+ * 컨트롤러 메소드 호출기 - 등록 시점에 한 번 만들어 두고 요청마다 invoke()만 호출
+ *
+ * 컨트롤러 인스턴스는 생성 시점에 묶여 있으므로 인자 배열만 넘기면 된다.
+ * 컨트롤러에서 던진 예외는 InvocationTargetException으로 감싸지 않고 그대로 전달한다.
+ */
+@FunctionalInterface
+public interface HandlerInvoker {
+    Object invoke(Object[] args) throws Exception;
+}
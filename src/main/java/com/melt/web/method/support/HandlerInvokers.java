@@ -0,0 +1,152 @@
+package com.melt.web.method.support;
+
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * HandlerInvoker 생성기
+ *
+ * 기본은 핸들러마다 만든 호출기 클래스 (ByteBuddy) - invoke()가 인자 배열을 풀어 컨트롤러 메소드를
+ * invokevirtual로 직접 부르므로 호출 대상이 바이트코드에 고정되어 JIT가 컨트롤러 메소드까지 인라인한다.
+ * (인스턴스 필드에 든 MethodHandle은 JIT가 상수로 보지 않아 invokeExact 너머로 인라인되지 않는다)
+ * private 메소드처럼 생성된 클래스에서 부를 수 없으면 bind된 MethodHandle, 그것도 안 되면 Method.invoke 리플렉션.
+ */
+public final class HandlerInvokers {
+    private static final Logger log = LoggerFactory.getLogger(HandlerInvokers.class);
+
+    private HandlerInvokers() {
+    }
+
+    private static final String INVOKER_CLASS_MARKER = "$MeltInvoker$";
+    private static final AtomicLong INVOKER_COUNTER = new AtomicLong();
+
+    public static HandlerInvoker create(Object controller, Method method) {
+        if (!Modifier.isPrivate(method.getModifiers())) {
+            try {
+                return generated(controller, method);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 호출기 클래스 생성 실패, MethodHandle로 대체: " + method.getName() + " (" + e.getMessage() + ")");
+            }
+        }
+        try {
+            return methodHandle(controller, method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.warn("⚠️ MethodHandle 생성 실패, 리플렉션으로 대체: " + method.getName() + " (" + e.getMessage() + ")");
+            return reflective(controller, method);
+        }
+    }
+
+    /**
+     * 핸들러 전용 호출기 클래스 - 컨트롤러 메소드를 선언한 클래스와 같은 패키지에 정의한다 (package-private 메소드도 호출)
+     *   invoke(Object[] args) { return (박싱) target.method((T0) args[0], (T1) args[1], ...); }
+     * void 메소드는 null을 돌려주고, 컨트롤러가 던진 예외는 감싸지 않고 그대로 나간다.
+     */
+    public static HandlerInvoker generated(Object controller, Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodCall.WithoutSpecifiedTarget target = MethodCall.invoke(method);
+        MethodCall call = isStatic ? target : target.onField("target");
+        Implementation invoke = call.withArgumentArrayElements(0, method.getParameterCount())
+                .withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC);
+        try {
+            Class<? extends HandlerInvoker> invokerClass = new ByteBuddy()
+                    .subclass(HandlerInvoker.class)
+                    .name(owner.getName() + INVOKER_CLASS_MARKER + method.getName() + "$"
+                            + INVOKER_COUNTER.incrementAndGet())
+                    .defineField("target", owner, Visibility.PRIVATE, FieldManifestation.FINAL)
+                    .defineConstructor(Visibility.PUBLIC)
+                    .withParameters(owner)
+                    .intercept(MethodCall.invoke(Object.class.getConstructor())
+                            .andThen(FieldAccessor.ofField("target").setsArgumentAt(0)))
+                    .method(named("invoke"))
+                    .intercept(invoke)
+                    .make()
+                    .load(owner.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(
+                            MethodHandles.privateLookupIn(owner, MethodHandles.lookup())))
+                    .getLoaded();
+            return invokerClass.getConstructor(owner).newInstance(isStatic ? null : controller);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(owner.getName() + "." + method.getName() + " 호출기 생성 실패: " + e, e);
+        }
+    }
+
+    /**
+     * (Object[]) -> Object 형태로 맞춘 MethodHandle 호출기 (대체 경로 / 벤치마크 비교용)
+     */
+    public static HandlerInvoker methodHandle(Object controller, Method method) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        if (!Modifier.isPublic(method.getModifiers())
+                || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            method.setAccessible(true);
+        }
+
+        MethodHandle handle = lookup.unreflect(method);
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(controller);
+        }
+        MethodHandle spread = handle
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return new MethodHandleInvoker(spread);
+    }
+
+    /**
+     * 기존 방식의 Method.invoke 호출기 (대체 경로 / 벤치마크 비교용)
+     */
+    public static HandlerInvoker reflective(Object controller, Method method) {
+        method.setAccessible(true);
+        return args -> {
+            try {
+                return method.invoke(controller, args);
+            } catch (InvocationTargetException e) {
+                throw rethrow(e.getCause());
+            }
+        };
+    }
+
+    private static Exception rethrow(Throwable t) {
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        if (t instanceof Exception) {
+            return (Exception) t;
+        }
+        return new IllegalStateException(t);
+    }
+
+    private static final class MethodHandleInvoker implements HandlerInvoker {
+        private final MethodHandle handle;
+
+        private MethodHandleInvoker(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public Object invoke(Object[] args) throws Exception {
+            try {
+                return handle.invokeExact(args);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+}
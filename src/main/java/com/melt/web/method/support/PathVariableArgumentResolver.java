@@ -0,0 +1,38 @@
+package com.melt.web.method.support;
+
+import com.melt.web.convert.TypeConverter;
+import com.melt.web.mapping.RouteMatch;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.DateTimeException;
+
+/**
+ * @PathVariable 처리 - 트라이가 뽑아 둔 값을 슬롯 번호로 바로 꺼낸다
+ */
+public class PathVariableArgumentResolver implements ArgumentResolver {
+    private final int slot;
+    private final String name;
+    private final Class<?> type;
+    private final TypeConverter converter;
+
+    public PathVariableArgumentResolver(int slot, String name, Class<?> type, TypeConverter converter) {
+        this.slot = slot;
+        this.name = name;
+        this.type = type;
+        this.converter = converter;
+    }
+
+    @Override
+    public Object resolve(HttpServletRequest request, HttpServletResponse response, RouteMatch match) {
+        String value = match.getPathVariable(slot);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return converter.convert(value);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw ArgumentResolvers.conversionFailed("경로 변수", name, type, value, e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.melt.web.method.support;
+
+import com.melt.json.Json;
+import com.melt.json.JsonException;
+import com.melt.web.body.RequestBody;
+import com.melt.web.mapping.RouteMatch;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @RequestBody 처리 - 요청 본문을 파라미터 타입으로 변환
+ *
+ * DispatcherServlet이 논블로킹으로 미리 읽어 둔 본문(RequestBody)이 있으면 그것을 쓰고,
+ * 없으면(비동기 미지원 환경) 요청 InputStream에서 직접 읽는다.
+ * byte[], ByteBuffer, InputStream, String은 그대로 넘기고 그 외 타입은 내장 JSON 코덱으로 변환한다.
+ */
+public class RequestBodyArgumentResolver implements ArgumentResolver {
+    private final Type targetType;
+
+    public RequestBodyArgumentResolver(Type targetType) {
+        this.targetType = targetType;
+    }
+
+    @Override
+    public Object resolve(HttpServletRequest request, HttpServletResponse response, RouteMatch match) throws IOException {
+        RequestBody body = (RequestBody) request.getAttribute(RequestBody.ATTRIBUTE);
+        if (body != null) {
+            return fromBufferedBody(body, request);
+        }
+
+        if (targetType == InputStream.class) {
+            return request.getInputStream();
+        }
+        if (targetType == byte[].class) {
+            return request.getInputStream().readAllBytes();
+        }
+        if (targetType == ByteBuffer.class) {
+            return ByteBuffer.wrap(request.getInputStream().readAllBytes()).asReadOnlyBuffer();
+        }
+        if (targetType == String.class) {
+            return new String(request.getInputStream().readAllBytes(), charsetOf(request));
+        }
+        try (InputStream in = request.getInputStream()) {
+            return readJson(in);
+        }
+    }
+
+    private Object fromBufferedBody(RequestBody body, HttpServletRequest request) throws IOException {
+        if (targetType == InputStream.class) {
+            // 풀 버퍼는 핸들러가 끝나면 반납되므로 복사본 스트림을 넘긴다
+            return new ByteArrayInputStream(body.toByteArray());
+        }
+        if (targetType == byte[].class) {
+            return body.toByteArray();
+        }
+        if (targetType == ByteBuffer.class) {
+            return body.toByteBuffer();
+        }
+        if (targetType == String.class) {
+            return body.toString(charsetOf(request));
+        }
+        return readJson(body.asInputStream());
+    }
+
+    // 잘못된/빈/타입이 맞지 않는 JSON은 클라이언트 잘못이므로 400 (연결 오류 같은 IOException은 그대로)
+    private Object readJson(InputStream in) throws IOException {
+        try {
+            return Json.read(in, targetType);
+        } catch (JsonException e) {
+            throw new BadRequestException("요청 본문을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // 요청의 문자셋, 없으면 UTF-8
+    private static Charset charsetOf(HttpServletRequest request) {
+        String encoding = request.getCharacterEncoding();
+        return encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    }
+}
@@ -0,0 +1,95 @@
+package com.melt.web.method.support;
+
+import com.melt.web.convert.MultiValueConverter;
+import com.melt.web.convert.TypeConverter;
+import com.melt.web.mapping.RouteMatch;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Array;
+import java.time.DateTimeException;
+
+/**
+ * @RequestParam 처리 - 쿼리 파라미터를 꺼내 타입 변환
+ *
+ * 값이 없거나 (문자열이 아닌 타입에서) 빈 값이면 defaultValue → 필수면 400 → 기본 타입이면 0/false → null 순.
+ * List/Set/배열 파라미터는 같은 이름의 값을 모두 모은다.
+ */
+public class RequestParamArgumentResolver implements ArgumentResolver {
+    private final String name;
+    private final boolean required;
+    private final Class<?> type;
+    private final TypeConverter converter;
+    // defaultValue 원문 (없으면 null) - 컬렉션은 핸들러가 바꿀 수 있으므로 요청마다 새로 변환
+    private final String defaultText;
+    // 값이 없을 때 넘길 값 (변환해 둔 defaultValue 또는 기본 타입의 0/false)
+    private final Object absentValue;
+
+    public RequestParamArgumentResolver(String name, boolean required, Class<?> type, TypeConverter converter,
+                                        String defaultText) {
+        this.name = name;
+        this.type = type;
+        this.converter = converter;
+        this.defaultText = defaultText;
+        this.required = required && defaultText == null;
+        if (defaultText != null) {
+            this.absentValue = converter.convert(defaultText); // 잘못된 기본값은 등록 시점에 실패
+        } else if (type.isPrimitive()) {
+            this.absentValue = Array.get(Array.newInstance(type, 1), 0);
+        } else {
+            this.absentValue = null;
+        }
+    }
+
+    @Override
+    public Object resolve(HttpServletRequest request, HttpServletResponse response, RouteMatch match) {
+        if (converter instanceof MultiValueConverter) {
+            String[] values = request.getParameterValues(name);
+            if (values == null || isBlank(values)) {
+                return absent();
+            }
+            try {
+                return ((MultiValueConverter) converter).convert(values);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw ArgumentResolvers.conversionFailed("요청 파라미터", name, type, String.join(",", values), e);
+            }
+        }
+
+        String value = request.getParameter(name);
+        if (value == null || (value.isEmpty() && converter != TypeConverter.IDENTITY)) {
+            return absent();
+        }
+        try {
+            return converter.convert(value);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw ArgumentResolvers.conversionFailed("요청 파라미터", name, type, value, e);
+        }
+    }
+
+    private Object absent() {
+        if (required) {
+            throw new BadRequestException("필수 요청 파라미터 누락: " + name);
+        }
+        if (defaultText != null && converter instanceof MultiValueConverter) {
+            return converter.convert(defaultText);
+        }
+        return absentValue;
+    }
+
+    private static boolean isBlank(String[] values) {
+        for (String value : values) {
+            if (!value.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isRequired() {
+        return required;
+    }
+}
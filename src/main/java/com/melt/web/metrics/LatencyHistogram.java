@@ -0,0 +1,150 @@
+package com.melt.web.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그 버킷 지연 시간 히스토그램 (나노초)
+ *
+ * 2의 거듭제곱 구간마다 8개의 하위 버킷으로 나눠 상대 오차를 약 6% 이내로 유지한다.
+ * 기록은 버킷 인덱스 계산 + 원자적 증가 한 번이라 락이 없고,
+ * LongAdder처럼 스레드별로 여러 줄(stripe) 중 하나에 더해서 코어 간 경합을 줄인다.
+ * 백분위수는 읽을 때 모든 줄을 합쳐 계산하므로 기록 경로를 막지 않는다.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // 2^36ns(약 68초)보다 긴 값은 마지막 버킷에 넣는다
+    private static final int MAX_EXPONENT = 36;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    // 줄 사이 false sharing 방지용 여백 (long 8개 = 64바이트)
+    private static final int PADDING = 8;
+    private static final int STRIPE_LENGTH = BUCKET_COUNT + PADDING;
+    private static final int STRIPES = stripeCount();
+
+    private final AtomicLongArray counts = new AtomicLongArray(STRIPES * STRIPE_LENGTH);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        int stripe = stripeIndex();
+        counts.getAndIncrement(stripe * STRIPE_LENGTH + bucketIndex(nanos));
+        sum.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    public Snapshot snapshot() {
+        long[] merged = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            int offset = stripe * STRIPE_LENGTH;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long count = counts.get(offset + i);
+                merged[i] += count;
+                total += count;
+            }
+        }
+        return new Snapshot(merged, total, sum.sum(), max.get());
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    // 버킷이 담는 값의 범위 [lower, upper)
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        return (1L << exponent) + ((long) sub << (exponent - SUB_BUCKET_BITS));
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index + 1;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return bucketLowerBound(index) + (1L << (exponent - SUB_BUCKET_BITS));
+    }
+
+    private static int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & (STRIPES - 1);
+    }
+
+    private static int stripeCount() {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int stripes = Integer.highestOneBit(Math.max(1, cpus));
+        return Math.min(stripes, 8);
+    }
+
+    /**
+     * 특정 시점의 히스토그램 복사본 - 백분위수 계산용
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * @param quantile 0.0 ~ 1.0 (예: 0.99)
+         * @return 해당 백분위수가 속한 버킷의 중간값 (나노초), 최댓값을 넘지 않음
+         */
+        public long getValueAtQuantile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    long lower = bucketLowerBound(i);
+                    long upper = bucketUpperBound(i);
+                    long middle = lower + (upper - lower - 1) / 2;
+                    return Math.min(middle, max);
+                }
+            }
+            return max;
+        }
+    }
+}
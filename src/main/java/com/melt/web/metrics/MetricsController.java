@@ -0,0 +1,35 @@
+package com.melt.web.metrics;
+
+import com.melt.annotation.AdmissionExempt;
+import com.melt.annotation.GetMapping;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 내장 /metrics 엔드포인트
+ *
+ * 컴포넌트 스캔 대상이 아니라 WebApplicationContext가 직접 만들어 등록한다.
+ *   GET /metrics       Prometheus 텍스트
+ *   GET /metrics/json  JSON
+ * 과부하 중에도 상태를 볼 수 있어야 하므로 유입 제한(melt.admission.default.*)을 받지 않는다.
+ */
+@AdmissionExempt
+public class MetricsController {
+    private final MetricsRegistry registry;
+
+    public MetricsController(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @GetMapping("/metrics")
+    public void prometheus(HttpServletResponse response) throws IOException {
+        response.setContentType("text/plain; version=0.0.4; charset=utf-8");
+        registry.writePrometheus(response.getWriter());
+    }
+
+    @GetMapping("/metrics/json")
+    public MetricsSnapshot json() {
+        return registry.snapshot();
+    }
+}
@@ -0,0 +1,252 @@
+package com.melt.web.metrics;
+
+import com.melt.cache.CacheManager;
+import com.melt.cache.CacheStats;
+import com.melt.web.admission.RouteAdmission;
+import com.melt.web.cache.ResponseCachePolicy;
+import com.melt.web.mapping.HandlerMapping;
+import com.melt.web.method.HandlerMethod;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 등록된 모든 핸들러의 RouteMetrics를 모아 Prometheus 텍스트 / JSON으로 내보낸다
+ *
+ * 카운터는 각 HandlerMethod가 들고 있고 여기서는 읽기만 하므로
+ * 수집 중에도 요청 처리 경로는 막히지 않는다.
+ */
+public class MetricsRegistry {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] QUANTILE_LABELS = {"0.5", "0.9", "0.99", "0.999"};
+
+    private final HandlerMapping handlerMapping;
+    private final CacheManager cacheManager;
+    private final LongAdder unmatched = new LongAdder();
+    private final long startedAt = System.currentTimeMillis();
+
+    public MetricsRegistry(HandlerMapping handlerMapping, CacheManager cacheManager) {
+        this.handlerMapping = handlerMapping;
+        this.cacheManager = cacheManager;
+    }
+
+    // 매핑되는 핸들러가 없는 요청 (404)
+    public void recordUnmatched() {
+        unmatched.increment();
+    }
+
+    public MetricsSnapshot snapshot() {
+        List<MetricsSnapshot.Route> routes = new ArrayList<>();
+        List<MetricsSnapshot.ResponseCache> responseCaches = new ArrayList<>();
+        for (HandlerMethod handler : handlerMapping.getHandlerMethods()) {
+            RouteMetrics metrics = handler.getMetrics();
+            LatencyHistogram.Snapshot latency = metrics.getLatency();
+            routes.add(new MetricsSnapshot.Route(
+                    metrics.getHttpMethod(), metrics.getRoute(), handler.toString(),
+                    metrics.getRequests(), metrics.getErrors(), metrics.getInFlight(),
+                    metrics.getRejected(), concurrencyLimit(handler),
+                    millis(latency.getMean()),
+                    millis(latency.getValueAtQuantile(0.5)),
+                    millis(latency.getValueAtQuantile(0.9)),
+                    millis(latency.getValueAtQuantile(0.99)),
+                    millis(latency.getValueAtQuantile(0.999)),
+                    millis(latency.getMax())));
+
+            ResponseCachePolicy responseCache = handler.getResponseCache();
+            if (responseCache != null) {
+                CacheStats stats = responseCache.getStats();
+                responseCaches.add(new MetricsSnapshot.ResponseCache(
+                        metrics.getHttpMethod(), metrics.getRoute(), stats.hits(), stats.misses(),
+                        Math.round(stats.hitRate() * 1000) / 1000.0,
+                        stats.evictions(), stats.expirations(), stats.entries(), stats.weight()));
+            }
+        }
+        List<MetricsSnapshot.MethodCache> methodCaches = new ArrayList<>();
+        for (Map.Entry<String, CacheStats> entry : cacheManager.getStats().entrySet()) {
+            CacheStats stats = entry.getValue();
+            methodCaches.add(new MetricsSnapshot.MethodCache(entry.getKey(), stats.hits(), stats.misses(),
+                    Math.round(stats.hitRate() * 1000) / 1000.0,
+                    stats.evictions(), stats.expirations(), stats.entries()));
+        }
+        long uptime = (System.currentTimeMillis() - startedAt) / 1000;
+        return new MetricsSnapshot(uptime, unmatched.sum(), routes, responseCaches, methodCaches);
+    }
+
+    /**
+     * Prometheus 텍스트 형식 (version 0.0.4)
+     */
+    public void writePrometheus(Writer out) throws IOException {
+        List<HandlerMethod> handlers = new ArrayList<>(handlerMapping.getHandlerMethods());
+        List<String> labels = new ArrayList<>(handlers.size());
+        for (HandlerMethod handler : handlers) {
+            RouteMetrics metrics = handler.getMetrics();
+            labels.add("method=\"" + escape(metrics.getHttpMethod()) + "\",route=\"" + escape(metrics.getRoute()) + "\"");
+        }
+
+        header(out, "melt_http_requests_total", "counter", "Completed requests per route");
+        for (int i = 0; i < handlers.size(); i++) {
+            sample(out, "melt_http_requests_total", labels.get(i), handlers.get(i).getMetrics().getRequests());
+        }
+
+        header(out, "melt_http_errors_total", "counter", "Requests that failed with an exception or 5xx status");
+        for (int i = 0; i < handlers.size(); i++) {
+            sample(out, "melt_http_errors_total", labels.get(i), handlers.get(i).getMetrics().getErrors());
+        }
+
+        header(out, "melt_http_in_flight_requests", "gauge", "Requests currently being handled");
+        for (int i = 0; i < handlers.size(); i++) {
+            sample(out, "melt_http_in_flight_requests", labels.get(i), handlers.get(i).getMetrics().getInFlight());
+        }
+
+        header(out, "melt_http_request_duration_seconds", "summary", "Request latency per route");
+        for (int i = 0; i < handlers.size(); i++) {
+            LatencyHistogram.Snapshot latency = handlers.get(i).getMetrics().getLatency();
+            for (int q = 0; q < QUANTILES.length; q++) {
+                out.write("melt_http_request_duration_seconds{" + labels.get(i) + ",quantile=\"" + QUANTILE_LABELS[q] + "\"} ");
+                out.write(seconds(latency.getValueAtQuantile(QUANTILES[q])));
+                out.write('\n');
+            }
+            out.write("melt_http_request_duration_seconds_sum{" + labels.get(i) + "} " + seconds(latency.getSum()) + "\n");
+            out.write("melt_http_request_duration_seconds_count{" + labels.get(i) + "} " + latency.getCount() + "\n");
+        }
+
+        header(out, "melt_http_rejected_total", "counter", "Requests rejected by admission control (429/503)");
+        for (int i = 0; i < handlers.size(); i++) {
+            sample(out, "melt_http_rejected_total", labels.get(i), handlers.get(i).getMetrics().getRejected());
+        }
+
+        writeAdmissionMetrics(out, handlers, labels);
+        writeResponseCacheMetrics(out, handlers, labels);
+        writeMethodCacheMetrics(out, cacheManager.getStats());
+
+        header(out, "melt_http_unmatched_requests_total", "counter", "Requests with no matching handler");
+        out.write("melt_http_unmatched_requests_total " + unmatched.sum() + "\n");
+        out.flush();
+    }
+
+    // 동시 처리 한도가 있는 라우트의 현재 한도 (적응형이면 계속 바뀐다)
+    private static void writeAdmissionMetrics(Writer out, List<HandlerMethod> handlers, List<String> labels)
+            throws IOException {
+        boolean headerWritten = false;
+        for (int i = 0; i < handlers.size(); i++) {
+            int limit = concurrencyLimit(handlers.get(i));
+            if (limit == 0) {
+                continue;
+            }
+            if (!headerWritten) {
+                header(out, "melt_admission_concurrency_limit", "gauge", "Current concurrency limit per route");
+                headerWritten = true;
+            }
+            sample(out, "melt_admission_concurrency_limit", labels.get(i), limit);
+        }
+    }
+
+    private static int concurrencyLimit(HandlerMethod handler) {
+        RouteAdmission admission = handler.getAdmission();
+        return admission != null ? admission.getConcurrencyLimit() : 0;
+    }
+
+    // @ResponseCache 핸들러별 캐시 통계 (캐시가 있는 라우트만)
+    private static void writeResponseCacheMetrics(Writer out, List<HandlerMethod> handlers, List<String> labels)
+            throws IOException {
+        List<String> cacheLabels = new ArrayList<>();
+        List<CacheStats> stats = new ArrayList<>();
+        for (int i = 0; i < handlers.size(); i++) {
+            ResponseCachePolicy responseCache = handlers.get(i).getResponseCache();
+            if (responseCache != null) {
+                cacheLabels.add(labels.get(i));
+                stats.add(responseCache.getStats());
+            }
+        }
+        if (stats.isEmpty()) {
+            return;
+        }
+
+        header(out, "melt_response_cache_hits_total", "counter", "Responses served from the response cache");
+        for (int i = 0; i < stats.size(); i++) {
+            sample(out, "melt_response_cache_hits_total", cacheLabels.get(i), stats.get(i).hits());
+        }
+        header(out, "melt_response_cache_misses_total", "counter", "Cacheable requests that ran the handler");
+        for (int i = 0; i < stats.size(); i++) {
+            sample(out, "melt_response_cache_misses_total", cacheLabels.get(i), stats.get(i).misses());
+        }
+        header(out, "melt_response_cache_evictions_total", "counter", "Entries evicted to stay within size limits");
+        for (int i = 0; i < stats.size(); i++) {
+            sample(out, "melt_response_cache_evictions_total", cacheLabels.get(i), stats.get(i).evictions());
+        }
+        header(out, "melt_response_cache_expirations_total", "counter", "Entries dropped after their ttl");
+        for (int i = 0; i < stats.size(); i++) {
+            sample(out, "melt_response_cache_expirations_total", cacheLabels.get(i), stats.get(i).expirations());
+        }
+        header(out, "melt_response_cache_entries", "gauge", "Entries currently cached");
+        for (int i = 0; i < stats.size(); i++) {
+            sample(out, "melt_response_cache_entries", cacheLabels.get(i), stats.get(i).entries());
+        }
+        header(out, "melt_response_cache_bytes", "gauge", "Weighted size of cached responses in bytes");
+        for (int i = 0; i < stats.size(); i++) {
+            sample(out, "melt_response_cache_bytes", cacheLabels.get(i), stats.get(i).weight());
+        }
+    }
+
+    // @Cacheable 캐시별 통계
+    private static void writeMethodCacheMetrics(Writer out, Map<String, CacheStats> caches) throws IOException {
+        if (caches.isEmpty()) {
+            return;
+        }
+        List<String> cacheLabels = new ArrayList<>(caches.size());
+        List<CacheStats> stats = new ArrayList<>(caches.size());
+        for (Map.Entry<String, CacheStats> entry : caches.entrySet()) {
+            cacheLabels.add("cache=\"" + escape(entry.getKey()) + "\"");
+            stats.add(entry.getValue());
+        }
+
+        header(out, "melt_method_cache_hits_total", "counter", "Calls answered from a @Cacheable cache");
+        for (int i = 0; i < stats.size(); i++) {
+            sample(out, "melt_method_cache_hits_total", cacheLabels.get(i), stats.get(i).hits());
+        }
+        header(out, "melt_method_cache_misses_total", "counter", "Calls that ran the cached method");
+        for (int i = 0; i < stats.size(); i++) {
+            sample(out, "melt_method_cache_misses_total", cacheLabels.get(i), stats.get(i).misses());
+        }
+        header(out, "melt_method_cache_evictions_total", "counter", "Entries evicted to stay within size limits");
+        for (int i = 0; i < stats.size(); i++) {
+            sample(out, "melt_method_cache_evictions_total", cacheLabels.get(i), stats.get(i).evictions());
+        }
+        header(out, "melt_method_cache_expirations_total", "counter", "Entries dropped after their ttl");
+        for (int i = 0; i < stats.size(); i++) {
+            sample(out, "melt_method_cache_expirations_total", cacheLabels.get(i), stats.get(i).expirations());
+        }
+        header(out, "melt_method_cache_entries", "gauge", "Entries currently cached");
+        for (int i = 0; i < stats.size(); i++) {
+            sample(out, "melt_method_cache_entries", cacheLabels.get(i), stats.get(i).entries());
+        }
+    }
+
+    private static void header(Writer out, String name, String type, String help) throws IOException {
+        out.write("# HELP " + name + " " + help + "\n");
+        out.write("# TYPE " + name + " " + type + "\n");
+    }
+
+    private static void sample(Writer out, String name, String labels, long value) throws IOException {
+        out.write(name + "{" + labels + "} " + value + "\n");
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static double millis(double nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static String seconds(double nanos) {
+        return Double.toString(nanos / 1_000_000_000.0);
+    }
+}
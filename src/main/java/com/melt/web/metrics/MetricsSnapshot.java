@@ -0,0 +1,25 @@
+package com.melt.web.metrics;
+
+import java.util.List;
+
+/**
+ * /metrics/json 응답 (시간 단위는 밀리초)
+ */
+public record MetricsSnapshot(long uptimeSeconds, long unmatchedRequests, List<Route> routes,
+                              List<ResponseCache> responseCaches, List<MethodCache> methodCaches) {
+
+    public record Route(String method, String route, String handler,
+                        long requests, long errors, long inFlight, long rejected, int concurrencyLimit,
+                        double meanMillis, double p50Millis, double p90Millis,
+                        double p99Millis, double p999Millis, double maxMillis) {
+    }
+
+    public record ResponseCache(String method, String route, long hits, long misses, double hitRate,
+                                long evictions, long expirations, long entries, long bytes) {
+    }
+
+    // @Cacheable 캐시 (이름별)
+    public record MethodCache(String name, long hits, long misses, double hitRate,
+                              long evictions, long expirations, long entries) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.melt.web.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트(핸들러) 하나의 요청 수, 오류 수, 처리 중 요청 수, 지연 시간, 유입 제한으로 거절한 수
+ *
+ * 요청마다 begin()/end()만 호출하며 모두 LongAdder와 락 없는 히스토그램이라
+ * 여러 워커 스레드가 동시에 기록해도 서로 기다리지 않는다.
+ */
+public class RouteMetrics {
+    private final String httpMethod;
+    private final String route;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public RouteMetrics(String httpMethod, String route) {
+        this.httpMethod = httpMethod;
+        this.route = route;
+    }
+
+    /**
+     * 요청 시작 - 반환된 시각을 end()에 넘긴다
+     */
+    public long begin() {
+        inFlight.increment();
+        return System.nanoTime();
+    }
+
+    public void end(long startNanos, boolean error) {
+        latency.record(System.nanoTime() - startNanos);
+        inFlight.decrement();
+        requests.increment();
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    // 유입 제한(429/503)으로 핸들러를 실행하지 않은 요청 - requests에는 세지 않는다
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    public LatencyHistogram.Snapshot getLatency() {
+        return latency.snapshot();
+    }
+}
@@ -0,0 +1,58 @@
+package com.melt.web.resource;
+
+/**
+ * Range 요청의 단일 바이트 구간 (끝 포함)
+ *
+ * 여러 구간(bytes=0-1,5-6)은 multipart/byteranges 응답이 필요해 지원하지 않고 전체(200)로 응답한다 (RFC 9110 허용).
+ */
+final class ByteRange {
+    // 만족할 수 없는 범위 (416)
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    final long start;
+    final long end;
+
+    private ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * @return 구간, 무시해야 하면 null (형식 오류, 여러 구간), 범위 밖이면 UNSATISFIABLE
+     */
+    static ByteRange parse(String header, long size) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            if (dash == 0) {
+                // bytes=-N : 마지막 N바이트
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+            long start = Long.parseLong(spec.substring(0, dash));
+            long end = dash == spec.length() - 1 ? Long.MAX_VALUE : Long.parseLong(spec.substring(dash + 1));
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= size) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
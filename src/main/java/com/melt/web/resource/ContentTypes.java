@@ -0,0 +1,62 @@
+package com.melt.web.resource;
+
+import java.net.URLConnection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 파일 확장자 → Content-Type (텍스트 형식은 charset=UTF-8 포함)
+ */
+public final class ContentTypes {
+    public static final String DEFAULT = "application/octet-stream";
+
+    private static final Map<String, String> TYPES = new HashMap<>();
+
+    static {
+        TYPES.put("html", "text/html;charset=UTF-8");
+        TYPES.put("htm", "text/html;charset=UTF-8");
+        TYPES.put("css", "text/css;charset=UTF-8");
+        TYPES.put("js", "text/javascript;charset=UTF-8");
+        TYPES.put("mjs", "text/javascript;charset=UTF-8");
+        TYPES.put("json", "application/json;charset=UTF-8");
+        TYPES.put("map", "application/json;charset=UTF-8");
+        TYPES.put("txt", "text/plain;charset=UTF-8");
+        TYPES.put("csv", "text/csv;charset=UTF-8");
+        TYPES.put("xml", "application/xml;charset=UTF-8");
+        TYPES.put("svg", "image/svg+xml;charset=UTF-8");
+        TYPES.put("png", "image/png");
+        TYPES.put("jpg", "image/jpeg");
+        TYPES.put("jpeg", "image/jpeg");
+        TYPES.put("gif", "image/gif");
+        TYPES.put("webp", "image/webp");
+        TYPES.put("avif", "image/avif");
+        TYPES.put("ico", "image/x-icon");
+        TYPES.put("woff", "font/woff");
+        TYPES.put("woff2", "font/woff2");
+        TYPES.put("ttf", "font/ttf");
+        TYPES.put("otf", "font/otf");
+        TYPES.put("wasm", "application/wasm");
+        TYPES.put("pdf", "application/pdf");
+        TYPES.put("zip", "application/zip");
+        TYPES.put("gz", "application/gzip");
+        TYPES.put("mp4", "video/mp4");
+        TYPES.put("webm", "video/webm");
+        TYPES.put("mp3", "audio/mpeg");
+    }
+
+    private ContentTypes() {
+    }
+
+    public static String forFileName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot >= 0) {
+            String type = TYPES.get(fileName.substring(dot + 1).toLowerCase(Locale.ROOT));
+            if (type != null) {
+                return type;
+            }
+        }
+        String guessed = URLConnection.guessContentTypeFromName(fileName);
+        return guessed != null ? guessed : DEFAULT;
+    }
+}
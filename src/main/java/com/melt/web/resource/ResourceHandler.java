@@ -0,0 +1,432 @@
+package com.melt.web.resource;
+
+import com.melt.cache.BoundedCache;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import com.melt.web.cache.ETags;
+import org.eclipse.jetty.server.HttpOutput;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정적 파일 핸들러 - 매핑된 컨트롤러가 없는 GET/HEAD 요청을 디렉터리나 클래스패스에서 찾아 응답
+ *
+ * 작은 파일은 본문까지 캐시하고, 큰 파일은 메모리 매핑한 버퍼를 Jetty에 그대로 넘기거나(복사 없음)
+ * 매핑하기에도 큰 파일은 FileChannel을 Jetty에 넘겨 구간만큼 읽어 보내게 한다 (Jetty가 아니면 transferTo).
+ * Range(단일 구간), If-Range, If-None-Match, If-Modified-Since를 지원한다.
+ */
+public class ResourceHandler {
+    private static final Logger log = LoggerFactory.getLogger(ResourceHandler.class);
+
+    public static final String DEFAULT_LOCATIONS = "classpath:/static/";
+    public static final int DEFAULT_HOT_FILE_MAX_SIZE = 64 * 1024;
+    public static final long DEFAULT_CACHE_MAX_BYTES = 32 * 1024 * 1024;
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String FILE_PREFIX = "file:";
+    private static final int MAX_CACHED_FILES = 1024;
+    // 이보다 큰 파일은 매핑하지 않고 요청마다 FileChannel로
+    private static final long MAX_MAPPED_SIZE = 64L * 1024 * 1024;
+    // 캐시한 파일이 바뀌었는지 다시 확인하는 간격
+    private static final long REVALIDATE_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+    private static final boolean JETTY_OUTPUT = isPresent("org.eclipse.jetty.server.HttpOutput");
+
+    private final String pathPrefix;
+    private final List<Path> directories = new ArrayList<>();
+    private final List<String> classpathPrefixes = new ArrayList<>();
+    private final int hotFileMaxSize;
+    private final BoundedCache<String, StaticResource> cache;
+    private final ClassLoader classLoader = ResourceHandler.class.getClassLoader();
+
+    /**
+     * @param pathPrefix     정적 파일을 찾을 URL 접두사 ("/"면 모든 경로)
+     * @param locations      찾을 위치 (앞에서부터): "classpath:/static/", "file:./public/" 또는 디렉터리 경로
+     * @param hotFileMaxSize 이 크기 이하 파일은 본문까지 메모리에 캐시
+     * @param cacheMaxBytes  캐시한 본문 바이트 합계 상한
+     */
+    public ResourceHandler(String pathPrefix, List<String> locations, int hotFileMaxSize, long cacheMaxBytes) {
+        this.pathPrefix = pathPrefix.endsWith("/") ? pathPrefix : pathPrefix + "/";
+        this.hotFileMaxSize = hotFileMaxSize;
+        this.cache = new BoundedCache<>("static", MAX_CACHED_FILES, cacheMaxBytes, 0,
+                (path, resource) -> resource.heapBytes() + path.length() * 2L + 256);
+        for (String location : locations) {
+            addLocation(location.trim());
+        }
+    }
+
+    private void addLocation(String location) {
+        if (location.isEmpty()) {
+            return;
+        }
+        if (location.startsWith(CLASSPATH_PREFIX)) {
+            String prefix = location.substring(CLASSPATH_PREFIX.length());
+            while (prefix.startsWith("/")) {
+                prefix = prefix.substring(1);
+            }
+            classpathPrefixes.add(prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/");
+            return;
+        }
+        String directory = location.startsWith(FILE_PREFIX) ? location.substring(FILE_PREFIX.length()) : location;
+        Path path = Path.of(directory).toAbsolutePath().normalize();
+        if (!Files.isDirectory(path)) {
+            log.warn("⚠️ 정적 파일 디렉터리가 없습니다: " + path);
+        }
+        directories.add(path);
+    }
+
+    /**
+     * 정적 파일로 응답했으면 true (GET/HEAD가 아니거나 파일이 없으면 false - 호출한 쪽이 404 처리)
+     */
+    public boolean handle(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String method = req.getMethod();
+        boolean head = "HEAD".equals(method);
+        if (!head && !"GET".equals(method)) {
+            return false;
+        }
+        String path = relativePath(req);
+        if (path == null) {
+            return false;
+        }
+        StaticResource resource = lookup(path);
+        if (resource == null) {
+            return false;
+        }
+        write(req, resp, resource, head);
+        return true;
+    }
+
+    // 컨텍스트 안의 디코딩된 경로에서 접두사를 뗀 상대 경로 (디렉터리면 index.html, 위험한 경로면 null)
+    private String relativePath(HttpServletRequest req) {
+        String path = req.getServletPath() + (req.getPathInfo() != null ? req.getPathInfo() : "");
+        if (!path.startsWith(pathPrefix) && !(path + "/").equals(pathPrefix)) {
+            return null;
+        }
+        String relative = path.length() > pathPrefix.length() ? path.substring(pathPrefix.length()) : "";
+        if (relative.isEmpty() || relative.endsWith("/")) {
+            relative += "index.html";
+        }
+        if (relative.indexOf('\\') >= 0 || relative.indexOf('\0') >= 0 || relative.startsWith("/")) {
+            return null;
+        }
+        for (String segment : relative.split("/")) {
+            if (segment.isEmpty() || segment.equals(".") || segment.equals("..")) {
+                return null;
+            }
+        }
+        return relative;
+    }
+
+    private StaticResource lookup(String path) throws IOException {
+        StaticResource resource = cache.get(path);
+        if (resource != null) {
+            if (isFresh(resource)) {
+                return resource;
+            }
+            cache.invalidate(path);
+        }
+        resource = load(path);
+        if (resource != null) {
+            cache.put(path, resource);
+        }
+        return resource;
+    }
+
+    // 파일 시스템 파일은 REVALIDATE_NANOS마다 수정 시각과 크기를 다시 확인 (jar 안 리소스는 바뀌지 않음)
+    private static boolean isFresh(StaticResource resource) {
+        if (resource.path == null) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - resource.verifiedAt < REVALIDATE_NANOS) {
+            return true;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(resource.path, BasicFileAttributes.class);
+            if (attributes.lastModifiedTime().toMillis() != resource.lastModified || attributes.size() != resource.length) {
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        resource.verifiedAt = now;
+        return true;
+    }
+
+    private StaticResource load(String path) throws IOException {
+        for (Path directory : directories) {
+            Path file = directory.resolve(path).normalize();
+            if (file.startsWith(directory) && Files.isRegularFile(file)) {
+                return fromFile(file);
+            }
+        }
+        for (String prefix : classpathPrefixes) {
+            URL url = classLoader.getResource(prefix + path);
+            if (url == null) {
+                continue;
+            }
+            if ("file".equals(url.getProtocol())) {
+                try {
+                    Path file = Path.of(url.toURI());
+                    if (Files.isRegularFile(file)) {
+                        return fromFile(file);
+                    }
+                    continue;
+                } catch (URISyntaxException e) {
+                    // 아래에서 스트림으로 읽음
+                }
+            }
+            return fromUrl(url, path);
+        }
+        return null;
+    }
+
+    private StaticResource fromFile(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        long modified = attributes.lastModifiedTime().toMillis();
+        byte[] bytes = null;
+        MappedByteBuffer mapped = null;
+        if (size <= hotFileMaxSize) {
+            bytes = Files.readAllBytes(file);
+            size = bytes.length;
+        } else if (size <= MAX_MAPPED_SIZE) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                // 매핑은 채널을 닫아도 유지되고, 버퍼가 GC될 때 해제된다
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        }
+        log.debug(() -> "📄 정적 파일: " + file);
+        return new StaticResource(file, ContentTypes.forFileName(file.getFileName().toString()), size, modified,
+                HTTP_DATE.format(Instant.ofEpochMilli(modified)), ETags.forFile(modified, size), bytes, mapped);
+    }
+
+    // jar 안 리소스는 매핑할 수 없어 통째로 읽는다 (ETag는 내용 해시)
+    private StaticResource fromUrl(URL url, String path) throws IOException {
+        URLConnection connection = url.openConnection();
+        long modified = connection.getLastModified();
+        byte[] bytes;
+        try (InputStream in = connection.getInputStream()) {
+            bytes = in.readAllBytes();
+        }
+        return new StaticResource(null, ContentTypes.forFileName(path), bytes.length, modified,
+                HTTP_DATE.format(Instant.ofEpochMilli(modified)), ETags.strong(bytes), bytes, null);
+    }
+
+    private static void write(HttpServletRequest req, HttpServletResponse resp, StaticResource resource, boolean head)
+            throws IOException {
+        resp.setHeader("ETag", resource.etag);
+        resp.setHeader("Last-Modified", resource.lastModifiedHeader);
+        resp.setHeader("Accept-Ranges", "bytes");
+        if (isNotModified(req, resource)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long length = resource.length;
+        ByteRange range = requestedRange(req, resource);
+        if (range == ByteRange.UNSATISFIABLE) {
+            resp.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            resp.setHeader("Content-Range", "bytes */" + resource.length);
+            return;
+        }
+        if (range != null) {
+            resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            resp.setHeader("Content-Range", "bytes " + range.start + "-" + range.end + "/" + resource.length);
+            start = range.start;
+            length = range.length();
+        }
+        resp.setContentType(resource.contentType);
+        resp.setContentLengthLong(length);
+        if (!head) {
+            writeBody(resp.getOutputStream(), resource, start, length);
+        }
+    }
+
+    // If-None-Match가 있으면 그것만 보고, 없을 때만 If-Modified-Since (초 단위 비교)
+    private static boolean isNotModified(HttpServletRequest req, StaticResource resource) {
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            return ETags.matches(ifNoneMatch, resource.etag);
+        }
+        long ifModifiedSince = dateHeader(req, "If-Modified-Since");
+        return ifModifiedSince >= 0 && resource.lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    // If-Range가 현재 파일과 다르면 Range를 무시하고 전체를 보낸다 (ETag는 강한 비교)
+    private static ByteRange requestedRange(HttpServletRequest req, StaticResource resource) {
+        String rangeHeader = req.getHeader("Range");
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = req.getHeader("If-Range");
+        if (ifRange != null) {
+            String value = ifRange.trim();
+            boolean current = value.startsWith("\"") || value.startsWith("W/")
+                    ? value.equals(resource.etag)
+                    : dateHeader(req, "If-Range") / 1000 == resource.lastModified / 1000;
+            if (!current) {
+                return null;
+            }
+        }
+        return ByteRange.parse(rangeHeader, resource.length);
+    }
+
+    private static long dateHeader(HttpServletRequest req, String name) {
+        try {
+            return req.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static void writeBody(OutputStream out, StaticResource resource, long start, long length) throws IOException {
+        if (resource.bytes != null) {
+            out.write(resource.bytes, (int) start, (int) length);
+            return;
+        }
+        if (resource.mapped != null) {
+            ByteBuffer slice = resource.mapped.duplicate();
+            slice.position((int) start).limit((int) (start + length));
+            writeBuffer(out, slice);
+            return;
+        }
+        FileChannel channel = FileChannel.open(resource.path, StandardOpenOption.READ);
+        // Jetty면 채널을 넘겨 Jetty의 (direct) 버퍼로 읽어 바로 소켓에 쓰게 한다 - 힙 byte[]를 거치지 않음.
+        // Jetty 9.4에는 sendfile 경로가 없어 커널 zero-copy는 아니다 (파일 → direct 버퍼 복사 한 번)
+        try {
+            if (JETTY_OUTPUT && JettyOutput.sendContent(out, new FileRangeChannel(channel, start, length))) {
+                return;
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        // 다른 컨테이너: transferTo가 임시 버퍼를 거쳐 OutputStream에 쓴다
+        // (대상 채널을 닫으면 응답 스트림이 닫히므로 닫지 않음)
+        WritableByteChannel target = Channels.newChannel(out);
+        try (channel) {
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    throw new IOException("파일이 중간에 줄어들었습니다: " + resource.path);
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // Jetty면 매핑된 버퍼를 복사 없이 그대로 넘기고 (마지막 쓰기로 응답 완료), 아니면 채널로 쓴다
+    private static void writeBuffer(OutputStream out, ByteBuffer buffer) throws IOException {
+        if (JETTY_OUTPUT && JettyOutput.sendContent(out, buffer)) {
+            return;
+        }
+        WritableByteChannel channel = Channels.newChannel(out);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, ResourceHandler.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    // Jetty가 없는 컨테이너에서 HttpOutput을 로딩하지 않도록 따로 둔다
+    private static final class JettyOutput {
+        private static boolean sendContent(OutputStream out, ByteBuffer buffer) throws IOException {
+            if (out instanceof HttpOutput) {
+                ((HttpOutput) out).sendContent(buffer);
+                return true;
+            }
+            return false;
+        }
+
+        // 마지막 쓰기로 응답을 끝내고 채널도 닫는다 (Jetty가 다 보낸 뒤 close)
+        private static boolean sendContent(OutputStream out, ReadableByteChannel channel) throws IOException {
+            if (out instanceof HttpOutput) {
+                ((HttpOutput) out).sendContent(channel);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 파일의 [start, start + length) 구간만 읽는 채널 - Range 응답을 채널째 넘길 때 사용
+     */
+    private static final class FileRangeChannel implements ReadableByteChannel {
+        private final FileChannel channel;
+        private long position;
+        private long remaining;
+
+        private FileRangeChannel(FileChannel channel, long start, long length) {
+            this.channel = channel;
+            this.position = start;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            ByteBuffer window = dst;
+            if (dst.remaining() > remaining) {
+                window = dst.duplicate();
+                window.limit(window.position() + (int) remaining);
+            }
+            int read = channel.read(window, position);
+            if (read < 0) {
+                throw new IOException("파일이 중간에 줄어들었습니다");
+            }
+            if (window != dst) {
+                dst.position(window.position());
+            }
+            position += read;
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.melt.web.resource;
+
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * 처음 요청될 때 읽어 둔 정적 파일 정보 (Content-Type, ETag, Last-Modified는 여기서 한 번만 계산)
+ *
+ * 본문은 크기에 따라 셋 중 하나: 작은 파일은 bytes(힙), 중간 크기는 mapped(메모리 매핑),
+ * 둘 다 null이면 요청마다 FileChannel.transferTo로 보낸다.
+ */
+final class StaticResource {
+    // 파일 시스템 파일이면 경로 (변경 확인, transferTo용), jar 안 리소스면 null
+    final Path path;
+    final String contentType;
+    final long length;
+    final long lastModified;
+    final String lastModifiedHeader;
+    final String etag;
+    final byte[] bytes;
+    final MappedByteBuffer mapped;
+    // 마지막으로 파일이 바뀌지 않았음을 확인한 시각 (System.nanoTime)
+    volatile long verifiedAt;
+
+    StaticResource(Path path, String contentType, long length, long lastModified, String lastModifiedHeader,
+                   String etag, byte[] bytes, MappedByteBuffer mapped) {
+        this.path = path;
+        this.contentType = contentType;
+        this.length = length;
+        this.lastModified = lastModified;
+        this.lastModifiedHeader = lastModifiedHeader;
+        this.etag = etag;
+        this.bytes = bytes;
+        this.mapped = mapped;
+        this.verifiedAt = System.nanoTime();
+    }
+
+    // 캐시 가중치 - 힙에 올린 본문만 센다 (매핑은 힙 밖이고 항목 수 상한으로 묶임)
+    long heapBytes() {
+        return bytes != null ? bytes.length : 0;
+    }
+}
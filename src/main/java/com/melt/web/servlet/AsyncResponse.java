@@ -0,0 +1,91 @@
+package com.melt.web.servlet;
+
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * startAsync()로 시작한 요청의 마무리를 한 번만 하도록 감싼 것
+ *
+ * 핸들러 완료, 타임아웃, 연결 오류 중 먼저 도착한 쪽만 응답을 끝낸다.
+ * 타임아웃이면 503을 보내고, 늦게 끝난 핸들러의 결과는 버린다.
+ */
+final class AsyncResponse implements AsyncListener {
+    private static final Logger log = LoggerFactory.getLogger(AsyncResponse.class);
+
+    private final AsyncContext context;
+    private final AtomicBoolean done = new AtomicBoolean();
+    private volatile Runnable cleanup;
+
+    private AsyncResponse(AsyncContext context) {
+        this.context = context;
+    }
+
+    static AsyncResponse start(HttpServletRequest request, long timeoutMillis) {
+        AsyncContext context = request.startAsync();
+        context.setTimeout(timeoutMillis);
+        AsyncResponse response = new AsyncResponse(context);
+        context.addListener(response);
+        return response;
+    }
+
+    /**
+     * 정상 완료 시 실행할 정리 작업 (풀 버퍼 반납 등)
+     */
+    void setCleanup(Runnable cleanup) {
+        this.cleanup = cleanup;
+    }
+
+    boolean isDone() {
+        return done.get();
+    }
+
+    void complete() {
+        if (!done.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Runnable task = cleanup;
+            if (task != null) {
+                task.run();
+            }
+        } finally {
+            context.complete();
+        }
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) throws IOException {
+        // 핸들러가 아직 버퍼를 쓰고 있을 수 있으므로 cleanup은 하지 않는다 (GC에 맡김)
+        if (!done.compareAndSet(false, true)) {
+            return;
+        }
+        HttpServletResponse response = (HttpServletResponse) context.getResponse();
+        if (!response.isCommitted()) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.getWriter().write("Handler timed out after " + context.getTimeout() + "ms");
+        }
+        log.warn("⏰ 비동기 핸들러 타임아웃: " + ((HttpServletRequest) context.getRequest()).getRequestURI());
+        context.complete();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        complete();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+}
@@ -1,33 +1,139 @@
 package com.melt.web.servlet;
 
+import com.melt.context.ApplicationContext;
+import com.melt.json.Json;
+import com.melt.logging.Logger;
+import com.melt.logging.LoggerFactory;
+import com.melt.util.VirtualThreads;
+import com.melt.web.admission.Rejection;
+import com.melt.web.admission.RouteAdmission;
+import com.melt.web.batch.BatchHandler;
+import com.melt.web.body.AsyncBodyReader;
+import com.melt.web.body.ByteBufferPool;
+import com.melt.web.body.PayloadTooLargeException;
+import com.melt.web.body.RequestBody;
+import com.melt.web.cache.CachedResponse;
+import com.melt.web.cache.ETags;
+import com.melt.web.cache.ResponseCachePolicy;
+import com.melt.web.compress.ContentEncoding;
+import com.melt.web.compress.ResponseCompression;
 import com.melt.web.context.WebApplicationContext;
 import com.melt.web.mapping.HandlerMapping;
+import com.melt.web.mapping.RouteMatch;
 import com.melt.web.method.HandlerMethod;
+import com.melt.web.method.support.BadRequestException;
+import com.melt.web.metrics.MetricsRegistry;
+import com.melt.web.metrics.RouteMetrics;
+import com.melt.web.resource.ResourceHandler;
 import com.melt.controller.UserController;
 import com.melt.controller.TestController;
 
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 public class DispatcherServlet extends HttpServlet {
+    private static final Logger log = LoggerFactory.getLogger(DispatcherServlet.class);
+
+    private static final String JSON_CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    // 요청 본문 최대 크기 (init-param "maxRequestBodySize"로 변경 가능)
+    public static final long DEFAULT_MAX_REQUEST_BODY_SIZE = 2 * 1024 * 1024;
+
     private HandlerMapping handlerMapping;
+    private MetricsRegistry metricsRegistry;
     private WebApplicationContext webApplicationContext;
 
+    // 여러 서블릿이 같이 쓰는 루트 컨텍스트 (null이면 혼자 base package 전체를 스캔)
+    // 있으면 init-param "controllerPackage"의 컨트롤러만 만들고 "excludedControllerPackages"(쉼표 구분)는 뺀다
+    private final ApplicationContext rootContext;
+
+    public DispatcherServlet() {
+        this(null);
+    }
+
+    public DispatcherServlet(ApplicationContext rootContext) {
+        this.rootContext = rootContext;
+    }
+
+    // 비동기 요청(본문 읽기, CompletableFuture, 가상 스레드) 전체 제한 시간 (init-param "asyncTimeout")
+    public static final long DEFAULT_ASYNC_TIMEOUT = 30_000;
+
+    private long maxRequestBodySize = DEFAULT_MAX_REQUEST_BODY_SIZE;
+    private long asyncTimeout = DEFAULT_ASYNC_TIMEOUT;
+    private final ByteBufferPool bodyBufferPool = new ByteBufferPool(8 * 1024, 256);
+
+    // init-param "virtualThreads"=true 이면 @VirtualThread가 없어도 모든 핸들러를 가상 스레드에서 실행
+    // 가상 스레드가 없는 JVM에서는 최대 "handlerThreads"개 플랫폼 스레드 + 대기 "handlerQueueSize"개, 넘치면 503
+    public static final int DEFAULT_HANDLER_THREADS = 64;
+    public static final int DEFAULT_HANDLER_QUEUE_SIZE = 256;
+    private boolean virtualThreads;
+    private ExecutorService handlerExecutor;
+
+    // 응답 압축 (init-param "compression"=false면 null), 최소 크기 "compressionMinSize", 레벨 "compressionLevel",
+    // @ResponseCache에 압축본도 저장할지 "compressionCacheVariants"
+    private ResponseCompression compression;
+
+    // 매핑된 컨트롤러가 없는 GET/HEAD를 정적 파일로 응답 (init-param "staticLocations"가 빈 값이면 null)
+    // URL 접두사 "staticPathPrefix", 본문까지 캐시할 파일 크기 "staticHotFileMaxSize", 캐시 상한 "staticCacheMaxBytes"
+    private ResourceHandler resourceHandler;
+
+    // POST /_batch로 하위 요청 여러 개를 한 번에 처리 (init-param "batchPath"가 빈 값이면 null)
+    // 배치당 하위 요청 수 "batchMaxRequests", 배치당 동시 실행 수 "batchMaxConcurrency", 배치 스레드 수 "batchThreads"
+    private BatchHandler batchHandler;
+
     @Override
     public void init() throws ServletException {
-        System.out.println("🚀 DispatcherServlet 초기화 시작...");
+        log.info("🚀 DispatcherServlet 초기화 시작...");
+
+        String maxBodySize = getInitParameter("maxRequestBodySize");
+        if (maxBodySize != null) {
+            maxRequestBodySize = Long.parseLong(maxBodySize.trim());
+        }
+        String timeout = getInitParameter("asyncTimeout");
+        if (timeout != null) {
+            asyncTimeout = Long.parseLong(timeout.trim());
+        }
+        virtualThreads = Boolean.parseBoolean(getInitParameter("virtualThreads"));
+        int handlerThreads = intInitParameter("handlerThreads", DEFAULT_HANDLER_THREADS);
+        int handlerQueueSize = intInitParameter("handlerQueueSize", DEFAULT_HANDLER_QUEUE_SIZE);
+        handlerExecutor = VirtualThreads.newThreadPerTaskExecutor("melt-handler-", handlerThreads, handlerQueueSize);
+        compression = createCompression();
+        resourceHandler = createResourceHandler();
+        batchHandler = createBatchHandler();
+        if (VirtualThreads.isSupported()) {
+            log.info("🧵 핸들러 실행: " + (virtualThreads ? "모든 핸들러" : "@VirtualThread 핸들러만") + " 가상 스레드");
+        } else {
+            log.warn("⚠️ 이 JVM은 가상 스레드를 지원하지 않아 " + (virtualThreads ? "모든 핸들러" : "@VirtualThread 핸들러")
+                    + "를 최대 " + handlerThreads + "개 플랫폼 스레드(대기 " + handlerQueueSize + "개, 넘치면 503)에서 실행합니다");
+        }
 
         try {
             // WebApplicationContext 생성 및 초기화
-            webApplicationContext = new WebApplicationContext();
+            webApplicationContext = rootContext != null
+                    ? new WebApplicationContext(rootContext, getInitParameter("controllerPackage"),
+                            excludedControllerPackages())
+                    : new WebApplicationContext();
             webApplicationContext.refresh();
 
             // HandlerMapping 가져오기
             handlerMapping = webApplicationContext.getHandlerMapping();
+            metricsRegistry = webApplicationContext.getMetricsRegistry();
 
             // 등록된 매핑 정보 출력
             handlerMapping.printMappings();
@@ -36,6 +142,84 @@ public class DispatcherServlet extends HttpServlet {
         }
     }
 
+    private List<String> excludedControllerPackages() {
+        String packages = getInitParameter("excludedControllerPackages");
+        List<String> excluded = new ArrayList<>();
+        if (packages != null) {
+            for (String name : packages.split(",")) {
+                if (!name.isBlank()) {
+                    excluded.add(name.trim());
+                }
+            }
+        }
+        return excluded;
+    }
+
+    private ResponseCompression createCompression() {
+        if ("false".equalsIgnoreCase(getInitParameter("compression"))) {
+            log.info("🗜️ 응답 압축 사용 안 함");
+            return null;
+        }
+        int minSize = intInitParameter("compressionMinSize", ResponseCompression.DEFAULT_MIN_SIZE);
+        int level = intInitParameter("compressionLevel", ResponseCompression.DEFAULT_LEVEL);
+        boolean cacheVariants = !"false".equalsIgnoreCase(getInitParameter("compressionCacheVariants"));
+        log.info("🗜️ 응답 압축: gzip/deflate, " + minSize + "바이트 이상, 레벨 " + level
+                + (cacheVariants ? ", 캐시 응답은 압축본 저장" : ""));
+        return new ResponseCompression(minSize, level, cacheVariants);
+    }
+
+    private ResourceHandler createResourceHandler() {
+        String locations = getInitParameter("staticLocations");
+        if (locations == null) {
+            locations = ResourceHandler.DEFAULT_LOCATIONS;
+        }
+        if (locations.isBlank()) {
+            return null;
+        }
+        String pathPrefix = getInitParameter("staticPathPrefix");
+        log.info("📁 정적 파일: " + locations + (pathPrefix != null ? " (" + pathPrefix + ")" : ""));
+        return new ResourceHandler(pathPrefix != null ? pathPrefix : "/", Arrays.asList(locations.split(",")),
+                intInitParameter("staticHotFileMaxSize", ResourceHandler.DEFAULT_HOT_FILE_MAX_SIZE),
+                longInitParameter("staticCacheMaxBytes", ResourceHandler.DEFAULT_CACHE_MAX_BYTES));
+    }
+
+    private BatchHandler createBatchHandler() {
+        String path = getInitParameter("batchPath");
+        if (path == null) {
+            path = BatchHandler.DEFAULT_PATH;
+        }
+        if (path.isBlank()) {
+            return null;
+        }
+        int maxRequests = intInitParameter("batchMaxRequests", BatchHandler.DEFAULT_MAX_REQUESTS);
+        int maxConcurrency = intInitParameter("batchMaxConcurrency", BatchHandler.DEFAULT_MAX_CONCURRENCY);
+        int threads = intInitParameter("batchThreads", BatchHandler.DEFAULT_THREADS);
+        log.info("📦 배치 요청: POST " + path + " (하위 요청 최대 " + maxRequests + "개, 동시 " + maxConcurrency
+                + "개, 스레드 " + threads + "개)");
+        return new BatchHandler(path.trim(), maxRequests, maxConcurrency, threads,
+                (req, resp) -> handleRequest(req.getMethod(), req, resp));
+    }
+
+    private long longInitParameter(String name, long defaultValue) {
+        String value = getInitParameter(name);
+        return value != null ? Long.parseLong(value.trim()) : defaultValue;
+    }
+
+    private int intInitParameter(String name, int defaultValue) {
+        String value = getInitParameter(name);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    @Override
+    public void destroy() {
+        if (handlerExecutor != null) {
+            handlerExecutor.shutdown();
+        }
+        if (batchHandler != null) {
+            batchHandler.shutdown();
+        }
+    }
+
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp)
             throws ServletException, IOException {
@@ -83,34 +267,448 @@ public class DispatcherServlet extends HttpServlet {
         String uri = req.getRequestURI();
         String httpMethod = req.getMethod();
 
-        System.out.println("📥 요청: " + httpMethod + " " + uri);
+        log.debug(() -> "📥 요청: " + httpMethod + " " + uri);
+
+        if (batchHandler != null && batchHandler.matches(req)) {
+            handleBatch(req, resp);
+            return;
+        }
 
-        // HandlerMapping에서 적절한 핸들러 찾기
-        HandlerMethod handler = handlerMapping.getHandler(uri, httpMethod);
+        // HandlerMapping에서 적절한 핸들러 찾기 (PathVariable 값도 함께 추출됨)
+        RouteMatch match = handlerMapping.match(uri, httpMethod);
 
-        if (handler == null) {
+        if (match == null) {
+            if (resourceHandler != null && resourceHandler.handle(req, resp)) {
+                return;
+            }
+            metricsRegistry.recordUnmatched();
             resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
             resp.getWriter().write("Handler not found for: " + httpMethod + " " + uri);
             return;
         }
 
+        // 유입 제한 - 한도를 넘으면 본문 읽기/인자 변환 전에 바로 429/503
+        RouteMetrics metrics = match.getHandler().getMetrics();
+        RouteAdmission admission = match.getHandler().getAdmission();
+        if (admission != null) {
+            Rejection rejection = admission.tryAcquire();
+            if (rejection != null) {
+                metrics.recordRejected();
+                writeRejection(resp, rejection);
+                return;
+            }
+        }
+
+        // 라우트별 지표 기록 - 비동기로 넘어간 요청은 완료 시점에 기록 (유입 제한 반납도 같이)
+        long start = metrics.begin();
+        try {
+            dispatch(match, req, resp);
+        } finally {
+            if (req.isAsyncStarted()) {
+                req.getAsyncContext().addListener(new MetricsListener(metrics, admission, start));
+            } else {
+                boolean failed = resp.getStatus() >= 500;
+                metrics.end(start, failed);
+                if (admission != null) {
+                    admission.release(System.nanoTime() - start, failed);
+                }
+            }
+        }
+    }
+
+    private static void writeRejection(HttpServletResponse resp, Rejection rejection) throws IOException {
+        resp.setStatus(rejection.status());
+        resp.setHeader("Retry-After", Long.toString(rejection.retryAfterSeconds()));
+        resp.setContentType("text/plain; charset=UTF-8");
+        resp.getWriter().write(rejection.message());
+    }
+
+    private void dispatch(RouteMatch match, HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        HandlerMethod handler = match.getHandler();
+
+        // @ResponseCache: 캐시에 있으면 핸들러를 실행하지 않고 저장된 응답(또는 304)
+        ResponseCachePolicy responseCache = handler.getResponseCache();
+        if (responseCache != null) {
+            String key = responseCache.key(match, req);
+            CachedResponse cached = responseCache.get(key);
+            if (cached != null) {
+                writeCachedResponse(req, resp, cached);
+                return;
+            }
+            req.setAttribute(ResponseCachePolicy.KEY_ATTRIBUTE, responseCache.miss(key));
+        }
+
+        if (!req.isAsyncSupported()) {
+            invokeHandler(match, req, resp, null);
+            return;
+        }
+
+        // @RequestBody가 있으면 본문을 논블로킹으로 다 읽은 뒤에 핸들러 실행
+        if (handler.hasRequestBody()) {
+            readBodyAndInvoke(match, req, resp);
+            return;
+        }
+
+        // 가상 스레드 실행이면 워커 스레드는 바로 반납
+        if (runsOnVirtualThread(handler)) {
+            AsyncResponse async = AsyncResponse.start(req, asyncTimeout);
+            dispatchToExecutor(match, req, resp, async);
+            return;
+        }
+
+        invokeHandler(match, req, resp, null);
+    }
+
+    private boolean runsOnVirtualThread(HandlerMethod handler) {
+        return virtualThreads || handler.isVirtualThread();
+    }
+
+    private void dispatchToExecutor(RouteMatch match, HttpServletRequest req, HttpServletResponse resp,
+                                    AsyncResponse async) {
         try {
-            System.out.println("🎯 핸들러 실행: " + httpMethod + " " + handler);
+            handlerExecutor.execute(() -> invokeHandler(match, req, resp, async));
+        } catch (RejectedExecutionException e) {
+            // 플랫폼 스레드 풀과 대기열이 모두 찼거나 종료 중
+            try {
+                writeRejection(resp, new Rejection(Rejection.SERVICE_UNAVAILABLE, 1,
+                        "Service Unavailable: handler threads exhausted"));
+            } catch (IOException ignored) {
+                // 클라이언트 연결이 끊긴 경우
+            }
+            async.complete();
+        } catch (RuntimeException e) {
+            // 종료 중이라 작업을 받지 않는 경우
+            writeError(resp, e);
+            async.complete();
+        }
+    }
+
+    // 본문이 도착하는 동안 워커 스레드를 반납하고, 다 읽히면 핸들러 실행
+    private void readBodyAndInvoke(RouteMatch match, HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        // Content-Length만 보고 바로 거절할 수 있으면 본문을 읽지 않는다
+        if (req.getContentLengthLong() > maxRequestBodySize) {
+            rejectPayloadTooLarge(resp);
+            return;
+        }
+
+        AsyncResponse async = AsyncResponse.start(req, asyncTimeout);
+        req.getInputStream().setReadListener(new AsyncBodyReader(
+                req.getInputStream(), bodyBufferPool, maxRequestBodySize, new AsyncBodyReader.Callback() {
+            @Override
+            public void onBody(RequestBody body) {
+                req.setAttribute(RequestBody.ATTRIBUTE, body);
+                async.setCleanup(() -> {
+                    req.removeAttribute(RequestBody.ATTRIBUTE);
+                    body.release();
+                });
+                if (runsOnVirtualThread(match.getHandler())) {
+                    dispatchToExecutor(match, req, resp, async);
+                } else {
+                    invokeHandler(match, req, resp, async);
+                }
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                bodyReadFailed(resp, error, async);
+            }
+        }));
+    }
+
+    // 배치 요청: 본문을 다 읽은 뒤 하위 요청을 배치 스레드 풀에 넘기고, 응답을 다 쓰면 비동기 요청 완료
+    private void handleBatch(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (req.getContentLengthLong() > maxRequestBodySize) {
+            rejectPayloadTooLarge(resp);
+            return;
+        }
+        if (!req.isAsyncSupported()) {
+            try {
+                batchHandler.execute(req, resp, req.getInputStream()).get();
+            } catch (ExecutionException e) {
+                writeError(resp, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(resp, e);
+            }
+            return;
+        }
+
+        AsyncResponse async = AsyncResponse.start(req, asyncTimeout);
+        req.getInputStream().setReadListener(new AsyncBodyReader(
+                req.getInputStream(), bodyBufferPool, maxRequestBodySize, new AsyncBodyReader.Callback() {
+            @Override
+            public void onBody(RequestBody body) {
+                async.setCleanup(body::release);
+                try {
+                    batchHandler.execute(req, resp, body.asInputStream())
+                            .whenComplete((ignored, error) -> async.complete());
+                } catch (IOException | RuntimeException e) {
+                    writeError(resp, e);
+                    async.complete();
+                }
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                bodyReadFailed(resp, error, async);
+            }
+        }));
+    }
+
+    // 본문 읽기 실패: 크기 초과는 413, 그 외(연결 끊김 등)는 400
+    private void bodyReadFailed(HttpServletResponse resp, Throwable error, AsyncResponse async) {
+        try {
+            if (error instanceof PayloadTooLargeException) {
+                rejectPayloadTooLarge(resp);
+            } else if (!resp.isCommitted()) {
+                log.warn("❌ 요청 본문 읽기 오류: " + error.getMessage());
+                resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            }
+        } catch (IOException e) {
+            log.warn("❌ 응답 쓰기 오류: " + e.getMessage());
+        } finally {
+            async.complete();
+        }
+    }
+
+    // 413 응답 - 남은 본문을 받지 않도록 연결을 닫는다
+    private void rejectPayloadTooLarge(HttpServletResponse resp) throws IOException {
+        resp.setStatus(413);
+        resp.setHeader("Connection", "close");
+        resp.getWriter().write("Payload Too Large: max " + maxRequestBodySize + " bytes");
+    }
+
+    /**
+     * 핸들러 실행 후 응답 쓰기
+     * async가 null이면 현재 워커 스레드에서 끝내고, 아니면 응답을 쓴 뒤 비동기 요청을 완료한다.
+     * CompletionStage를 반환하면 (필요하면 startAsync 후) 완료 시점에 결과를 쓴다.
+     */
+    private void invokeHandler(RouteMatch match, HttpServletRequest req, HttpServletResponse resp,
+                               AsyncResponse async) {
+        HandlerMethod handler = match.getHandler();
+        Object result;
+        try {
+            log.debug(() -> "🎯 핸들러 실행: " + req.getMethod() + " " + handler);
 
             // HandlerMapping에게 파라미터 준비 위임
-            Object[] methodArgs = handlerMapping.prepareMethodArguments(handler, req, uri);
+            Object[] methodArgs = handlerMapping.prepareMethodArguments(match, req, resp);
+
+            // 컨트롤러 메소드 실행 (등록 시점에 만든 호출기 사용)
+            result = handler.invoke(methodArgs);
+        } catch (Exception e) {
+            handler.invalidateResponseCaches(); // 실패해도 일부는 바뀌었을 수 있다
+            writeError(resp, e);
+            complete(async);
+            return;
+        }
+
+        if (result instanceof CompletionStage) {
+            CompletionStage<?> stage = (CompletionStage<?>) result;
+            if (async == null && !req.isAsyncSupported()) {
+                // 비동기 미지원 서블릿이면 완료될 때까지 기다린다
+                try {
+                    Object value = stage.toCompletableFuture().get();
+                    handler.invalidateResponseCaches();
+                    writeResponse(req, resp, handler, value);
+                } catch (ExecutionException e) {
+                    handler.invalidateResponseCaches();
+                    writeError(resp, e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    writeError(resp, e);
+                }
+                return;
+            }
+
+            AsyncResponse context = async != null ? async : AsyncResponse.start(req, asyncTimeout);
+            stage.whenComplete((value, error) -> {
+                handler.invalidateResponseCaches();
+                if (context.isDone()) {
+                    return; // 이미 타임아웃으로 응답이 나감
+                }
+                if (error != null) {
+                    writeError(resp, error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                } else {
+                    writeResponse(req, resp, handler, value);
+                }
+                context.complete();
+            });
+            return;
+        }
 
-            // 컨트롤러 메소드 실행
-            Object result = handler.getMethod().invoke(handler.getController(), methodArgs);
+        // 쓰기 핸들러면 같은 자원의 응답 캐시를 응답보다 먼저 비운다 (응답을 받은 클라이언트가 바로 읽어도 새 값)
+        handler.invalidateResponseCaches();
+        if (!handler.isVoid()) {
+            writeResponse(req, resp, handler, result);
+        }
+        complete(async);
+    }
+
+    private static void complete(AsyncResponse async) {
+        if (async != null) {
+            async.complete();
+        }
+    }
+
+    private void writeResponse(HttpServletRequest req, HttpServletResponse resp, HandlerMethod handler,
+                               Object result) {
+        try {
+            // 캐시 미스였던 @ResponseCache 요청이면 인코딩한 바이트를 저장하고 ETag와 함께 응답
+            ResponseCachePolicy.Miss miss = handler.getResponseCache() != null
+                    ? (ResponseCachePolicy.Miss) req.getAttribute(ResponseCachePolicy.KEY_ATTRIBUTE) : null;
+            if (miss != null && resp.getStatus() == HttpServletResponse.SC_OK) {
+                byte[] body = encodeResult(result);
+                CachedResponse cached = handler.getResponseCache().put(miss, compression != null
+                        ? new CachedResponse(body, JSON_CONTENT_TYPE, compression.compressedVariants(body))
+                        : new CachedResponse(body, JSON_CONTENT_TYPE));
+                writeCachedResponse(req, resp, cached);
+                return;
+            }
 
             // JSON 응답으로 설정
-            resp.setContentType("application/json;charset=UTF-8");
-            resp.getWriter().write(String.valueOf(result));
+            resp.setContentType(JSON_CONTENT_TYPE);
+            writeResult(result, req, resp);
+        } catch (IOException e) {
+            log.warn("❌ 응답 쓰기 오류: " + e.getMessage());
+        }
+    }
 
-        } catch (Exception e) {
-            System.err.println("❌ 핸들러 실행 오류: " + e.getMessage());
+    // 저장된 응답 쓰기 - If-None-Match가 맞으면 본문 없이 304
+    // 인코딩과 ETag는 실제로 보낼 표현으로 정한다: 미리 압축해 둔 본문이 있으면 그것,
+    // 압축본을 만들지 않는 설정이면 스트리밍 압축(minSize 이상이라 반드시 압축됨), 압축해도 줄지 않아 버렸으면 원본
+    private void writeCachedResponse(HttpServletRequest req, HttpServletResponse resp, CachedResponse cached)
+            throws IOException {
+        byte[] body = cached.getBody();
+        ContentEncoding encoding = null;
+        byte[] compressed = null;
+        if (compression != null && body.length >= compression.getMinSize()) {
+            resp.setHeader("Vary", "Accept-Encoding");
+            ContentEncoding accepted = compression.negotiate(req);
+            if (accepted != null) {
+                compressed = cached.getBody(accepted);
+                if (compressed != null || !compression.isCacheVariants()) {
+                    encoding = accepted;
+                }
+            }
+        }
+        String etag = encoding != null ? cached.getETag(encoding) : cached.getETag();
+        resp.setHeader("ETag", etag);
+        if (ETags.matches(req.getHeader("If-None-Match"), etag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        resp.setContentType(cached.getContentType());
+        if (encoding == null) {
+            resp.setContentLength(body.length);
+            resp.getOutputStream().write(body);
+            return;
+        }
+        if (compressed != null) {
+            resp.setHeader("Content-Encoding", encoding.token());
+            resp.setContentLength(compressed.length);
+            resp.getOutputStream().write(compressed);
+            return;
+        }
+        try (OutputStream out = compression.responseStream(resp, encoding)) {
+            out.write(body);
+        }
+    }
+
+    // writeResult와 같은 규칙으로 바이트 배열에 인코딩 (캐시에 저장할 본문)
+    private static byte[] encodeResult(Object result) throws IOException {
+        if (result == null || result instanceof CharSequence) {
+            return String.valueOf(result).getBytes(StandardCharsets.UTF_8);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        Json.write(out, result);
+        return out.toByteArray();
+    }
+
+    // 잘못된 요청 값(BadRequestException)은 400, 그 외는 500
+    private void writeError(HttpServletResponse resp, Throwable e) {
+        boolean badRequest = e instanceof BadRequestException;
+        if (badRequest) {
+            log.debug(() -> "⚠️ 잘못된 요청: " + e.getMessage());
+        } else {
+            log.error("❌ 핸들러 실행 오류: " + e.getMessage(), e);
+        }
+        if (resp.isCommitted()) {
+            return;
+        }
+        try {
+            resp.setContentType("text/plain; charset=UTF-8");
+            if (badRequest) {
+                resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                resp.getWriter().write("Bad Request: " + e.getMessage());
+                return;
+            }
             resp.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             resp.getWriter().write("Internal Server Error: " + e.getMessage());
+        } catch (IOException | IllegalStateException ex) {
+            log.warn("❌ 응답 쓰기 오류: " + ex.getMessage());
+        }
+    }
+
+    // 반환값 쓰기: 문자열은 그대로(핸들러가 만든 JSON), 객체는 내장 JSON 코덱으로 출력 스트림에 바로 직렬화
+    // 클라이언트가 압축을 받으면 압축 스트림을 거친다 (minSize에 닿는 순간부터 압축)
+    private void writeResult(Object result, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        ContentEncoding encoding = null;
+        if (compression != null) {
+            resp.setHeader("Vary", "Accept-Encoding");
+            encoding = compression.negotiate(req);
+        }
+        if (encoding != null) {
+            try (OutputStream out = compression.responseStream(resp, encoding)) {
+                if (result == null || result instanceof CharSequence) {
+                    out.write(String.valueOf(result).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    Json.write(out, result);
+                }
+            }
+            return;
+        }
+        if (result == null || result instanceof CharSequence) {
+            resp.getWriter().write(String.valueOf(result));
+            return;
+        }
+        Json.write(resp.getOutputStream(), result);
+    }
+
+    // 비동기 요청이 끝났을 때(정상, 타임아웃, 오류 모두) 지표 기록 + 유입 제한 반납
+    private static final class MetricsListener implements AsyncListener {
+        private final RouteMetrics metrics;
+        private final RouteAdmission admission;
+        private final long start;
+
+        private MetricsListener(RouteMetrics metrics, RouteAdmission admission, long start) {
+            this.metrics = metrics;
+            this.admission = admission;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            boolean failed = response.getStatus() >= 500;
+            metrics.end(start, failed);
+            if (admission != null) {
+                admission.release(System.nanoTime() - start, failed);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
         }
     }
-}
\ No newline at end of file
+}